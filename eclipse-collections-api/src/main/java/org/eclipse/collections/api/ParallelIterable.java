@@ -234,4 +234,36 @@ public interface ParallelIterable<T>
     <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator);
 
     <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator);
+
+    /**
+     * Same as {@link #aggregateInPlaceBy(Function, Function0, Procedure2)}, but each batch aggregates into a map of its
+     * own, and the values the batches computed for the same key are then merged with {@code mutatingCombiner}, which
+     * adds the second value into the first. No map or value is shared between threads while the batches run.
+     *
+     * @since 12.0
+     */
+    default <K, V> MapIterable<K, V> aggregateInPlaceBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            Procedure2<? super V, ? super V> mutatingCombiner)
+    {
+        return this.aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator);
+    }
+
+    /**
+     * Same as {@link #aggregateBy(Function, Function0, Function2)}, but each batch aggregates into a map of its own, and
+     * the values the batches computed for the same key are then merged with {@code combiner}. No map is shared between
+     * threads while the batches run.
+     *
+     * @since 12.0
+     */
+    default <K, V> MapIterable<K, V> aggregateBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> combiner)
+    {
+        return this.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator);
+    }
 }
@@ -67,6 +67,7 @@ import org.eclipse.collections.api.factory.Bags;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.factory.Sketches;
 import org.eclipse.collections.api.factory.SortedBags;
 import org.eclipse.collections.api.factory.SortedSets;
 import org.eclipse.collections.api.list.ImmutableList;
@@ -87,6 +88,7 @@ import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.api.sketch.CardinalitySketch;
 import org.eclipse.collections.api.tuple.Pair;
 
 /**
@@ -271,6 +273,21 @@ public interface RichIterable<T>
      */
     <P> int countWith(Predicate2<? super T, ? super P> predicate, P parameter);
 
+    /**
+     * Returns an estimate of the number of distinct elements, computed with a {@link CardinalitySketch} of the default
+     * precision, a HyperLogLog sketch in 16KB of memory however large the collection. The estimate is typically within
+     * 1% of {@code toSet().size()}. Use {@link org.eclipse.collections.api.factory.Sketches#cardinality} directly for
+     * another precision or to merge the counts of several collections.
+     *
+     * @since 12.0
+     */
+    default long approximateDistinct()
+    {
+        CardinalitySketch sketch = Sketches.cardinality.empty();
+        this.each(sketch::add);
+        return sketch.estimate();
+    }
+
     /**
      * This method will count the number of occurrences of each value calculated by applying the
      * function to each element of the collection.
@@ -2159,6 +2176,56 @@ public interface RichIterable<T>
         return this.toSortedList(SerializableComparators.byFunction(function));
     }
 
+    /**
+     * Returns the {@code n} greatest elements of the collection according to the specified comparator, greatest first.
+     * The result is equal to the first {@code n} elements of {@code toSortedList(comparator.reversed())}, including
+     * the order of equal elements, but at most {@code 2 * n} elements are held and sorted at a time, so the whole
+     * collection is never copied or sorted.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @since 12.0
+     */
+    default MutableList<T> topN(int n, Comparator<? super T> comparator)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        MutableList<T> result = Lists.mutable.empty();
+        if (n == 0)
+        {
+            return result;
+        }
+        Comparator<? super T> reversed = comparator.reversed();
+        int capacity = n > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : n * 2;
+        this.each(each ->
+        {
+            result.add(each);
+            if (result.size() == capacity)
+            {
+                result.sortThis(reversed).subList(n, capacity).clear();
+            }
+        });
+        result.sortThis(reversed);
+        if (result.size() > n)
+        {
+            result.subList(n, result.size()).clear();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code n} elements of the collection with the greatest values of the attribute returned by
+     * {@code function}, greatest first.
+     *
+     * @see #topN(int, Comparator)
+     * @since 12.0
+     */
+    default <V extends Comparable<? super V>> MutableList<T> topNBy(int n, Function<? super T, ? extends V> function)
+    {
+        return this.topN(n, SerializableComparators.byFunction(function));
+    }
+
     /**
      * Converts the collection to a MutableSet implementation.
      *
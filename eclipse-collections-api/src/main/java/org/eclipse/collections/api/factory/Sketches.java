@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.factory;
+
+import org.eclipse.collections.api.factory.sketch.CardinalitySketchFactory;
+
+/**
+ * This class should be used to create instances of CardinalitySketch
+ * <p>
+ * Examples:
+ *
+ * <pre>
+ * CardinalitySketch sketch = Sketches.cardinality.empty();
+ * CardinalitySketch smallSketch = Sketches.cardinality.withPrecision(10);
+ * </pre>
+ *
+ * @since 12.0
+ */
+@SuppressWarnings("ConstantNamingConvention")
+@aQute.bnd.annotation.spi.ServiceConsumer(value = CardinalitySketchFactory.class)
+public final class Sketches
+{
+    public static final CardinalitySketchFactory cardinality = ServiceLoaderUtils.loadServiceClass(CardinalitySketchFactory.class);
+
+    private Sketches()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+}
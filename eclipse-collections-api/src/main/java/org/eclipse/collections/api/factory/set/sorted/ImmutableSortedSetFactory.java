@@ -72,6 +72,28 @@ public interface ImmutableSortedSetFactory
 
     <T> ImmutableSortedSet<T> withAll(Comparator<? super T> comparator, Iterable<? extends T> items);
 
+    /**
+     * Same as {@link #withAllPersistent(Comparator, Iterable)} with the natural order of the elements.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableSortedSet<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return this.withAllPersistent(null, items);
+    }
+
+    /**
+     * Returns an ImmutableSortedSet which shares structure with the sets derived from it. newWith and newWithout on
+     * the returned set, and on the sets they return, take O(log n) time instead of copying the whole set, as do
+     * subSet, headSet, tailSet, take and drop. Prefer it for large sorted sets that are repeatedly updated or sliced.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableSortedSet<T> withAllPersistent(Comparator<? super T> comparator, Iterable<? extends T> items)
+    {
+        return this.withAll(comparator, items);
+    }
+
     /**
      * Same as {@link #withSortedSet(SortedSet)}.
      */
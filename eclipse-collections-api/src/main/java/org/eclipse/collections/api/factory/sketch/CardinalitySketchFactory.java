@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.factory.sketch;
+
+import org.eclipse.collections.api.sketch.CardinalitySketch;
+
+/**
+ * A factory which creates instances of type {@link CardinalitySketch}.
+ *
+ * @since 12.0
+ */
+public interface CardinalitySketchFactory
+{
+    /**
+     * Returns an empty sketch of the default precision.
+     */
+    CardinalitySketch empty();
+
+    /**
+     * Returns an empty sketch of the given precision, which uses {@code 2^precision} registers.
+     *
+     * @throws IllegalArgumentException if the implementation does not support the precision
+     */
+    CardinalitySketch withPrecision(int precision);
+}
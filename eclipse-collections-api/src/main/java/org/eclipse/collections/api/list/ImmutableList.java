@@ -62,6 +62,34 @@ public interface ImmutableList<T>
     @Override
     ImmutableList<T> newWithoutAll(Iterable<? extends T> elements);
 
+    /**
+     * Returns a copy of this list with the element at the specified index replaced by {@code element}, like
+     * {@link List#set(int, Object)} applied to a copy.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 12.0
+     */
+    default ImmutableList<T> newWithIndexValue(int index, T element)
+    {
+        MutableList<T> list = this.toList();
+        list.set(index, element);
+        return list.toImmutable();
+    }
+
+    /**
+     * Returns a copy of this list without the element at the specified index, like {@link List#remove(int)} applied
+     * to a copy.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 12.0
+     */
+    default ImmutableList<T> newWithoutIndex(int index)
+    {
+        MutableList<T> list = this.toList();
+        list.remove(index);
+        return list.toImmutable();
+    }
+
     @Override
     ImmutableList<T> tap(Procedure<? super T> procedure);
 
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.sketch;
+
+/**
+ * A sketch which estimates the number of distinct elements added to it in a fixed amount of memory, however many
+ * elements are added. Sketches of the same kind can be merged, which allows the elements to be counted in parallel.
+ *
+ * @see org.eclipse.collections.api.factory.Sketches#cardinality
+ * @see org.eclipse.collections.api.RichIterable#approximateDistinct()
+ * @since 12.0
+ */
+public interface CardinalitySketch
+{
+    void add(Object item);
+
+    /**
+     * Adds the elements counted by {@code other} to this sketch, which is then the sketch of the union of both sets of
+     * elements.
+     *
+     * @throws IllegalArgumentException if the sketches are of different kinds or sizes
+     */
+    CardinalitySketch merge(CardinalitySketch other);
+
+    /**
+     * Returns the estimated number of distinct elements added to this sketch.
+     */
+    long estimate();
+}
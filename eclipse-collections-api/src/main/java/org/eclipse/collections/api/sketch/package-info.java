@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains sketches, which summarize large streams of elements approximately in a fixed amount of memory.
+ * <p>
+ *     This package contains one sketch interface:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.api.sketch.CardinalitySketch} - estimates the number of distinct elements.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.api.sketch;
@@ -74,6 +74,7 @@ import org.eclipse.collections.impl.AbstractRichIterable;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.primitive.BoundedIntHeap;
 
 /**
  * @since 7.0
@@ -943,6 +944,12 @@ public abstract class AbstractBag<T>
         return result;
     }
 
+    /**
+     * Returns the {@code n} pairs of elements and occurrences with the smallest values of {@code function}, plus any
+     * further pairs tied with the last of them, sorted by {@code function}. The {@code n}-th smallest value is found
+     * with a heap of {@code n} ints in a first pass, and only the pairs up to it are collected and sorted in a second
+     * pass, so the distinct elements are never all sorted.
+     */
     protected MutableList<ObjectIntPair<T>> occurrencesSortingBy(int n, IntFunction<ObjectIntPair<T>> function, MutableList<ObjectIntPair<T>> returnWhenEmpty)
     {
         if (n < 0)
@@ -954,13 +961,22 @@ public abstract class AbstractBag<T>
             return returnWhenEmpty;
         }
         int keySize = Math.min(n, this.sizeDistinct());
-        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
-        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
-        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
+        MutableList<ObjectIntPair<T>> results = Lists.mutable.empty();
+        if (keySize == 0)
         {
-            results.add(sorted.get(keySize));
-            keySize++;
+            return results;
         }
-        return results;
+        BoundedIntHeap heap = new BoundedIntHeap(keySize);
+        this.forEachWithOccurrences((each, occurrences) -> heap.offer(function.intValueOf(PrimitiveTuples.pair(each, occurrences))));
+        int threshold = heap.max();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            ObjectIntPair<T> pair = PrimitiveTuples.pair(each, occurrences);
+            if (function.intValueOf(pair) <= threshold)
+            {
+                results.add(pair);
+            }
+        });
+        return results.sortThisByInt(function);
     }
 }
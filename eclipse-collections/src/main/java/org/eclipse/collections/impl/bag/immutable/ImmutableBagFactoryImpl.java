@@ -106,4 +106,10 @@ public class ImmutableBagFactoryImpl implements ImmutableBagFactory
         }
         return this.of((T[]) Iterate.toArray(items));
     }
+
+    @Override
+    public <T> ImmutableBag<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableHashTrieBag.newBag(items);
+    }
 }
@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.immutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.map.immutable.ImmutableHashTrieMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * An ImmutableBag stored as a map from each distinct item to its occurrences in an {@link ImmutableHashTrieMap}.
+ * newWith and newWithout copy O(log32 n) nodes and share the rest with the original bag, and equals between bags
+ * derived from one another skips the subtrees they share.
+ *
+ * @since 12.0
+ */
+final class ImmutableHashTrieBag<T>
+        extends AbstractImmutableBag<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableHashTrieBag<?> EMPTY = new ImmutableHashTrieBag<>(ImmutableHashTrieMap.empty(), 0);
+
+    private final ImmutableHashTrieMap<T, Integer> occurrences;
+    private final int size;
+
+    private ImmutableHashTrieBag(ImmutableHashTrieMap<T, Integer> occurrences, int size)
+    {
+        this.occurrences = occurrences;
+        this.size = size;
+    }
+
+    public static <T> ImmutableHashTrieBag<T> empty()
+    {
+        return (ImmutableHashTrieBag<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieBag<T> newBag(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableHashTrieBag<?>)
+        {
+            return (ImmutableHashTrieBag<T>) iterable;
+        }
+        return ImmutableHashTrieBag.<T>empty().newWithAll(iterable);
+    }
+
+    public static <T> ImmutableHashTrieBag<T> newBagWith(T... elements)
+    {
+        return ImmutableHashTrieBag.<T>empty().newWithAll(HashBag.newBagWith(elements));
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.occurrences.forEachKeyValue(objectIntProcedure::value);
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.occurrences.keyValuesView().anySatisfy(each -> predicate.accept(each.getOne(), each.getTwo()));
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.occurrences.keyValuesView().allSatisfy(each -> predicate.accept(each.getOne(), each.getTwo()));
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.occurrences.keyValuesView().noneSatisfy(each -> predicate.accept(each.getOne(), each.getTwo()));
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        Pair<T, Integer> result =
+                this.occurrences.keyValuesView().detect(each -> predicate.accept(each.getOne(), each.getTwo()));
+        return result == null ? null : result.getOne();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.occurrences.size();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        Integer count = this.occurrences.get(item);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public ImmutableBag<T> newWith(T element)
+    {
+        int count = this.occurrencesOf(element);
+        return new ImmutableHashTrieBag<>(this.occurrences.newWithKeyValue(element, count + 1), this.size + 1);
+    }
+
+    @Override
+    public ImmutableBag<T> newWithout(T element)
+    {
+        int count = this.occurrencesOf(element);
+        if (count == 0)
+        {
+            return this;
+        }
+        if (this.size == 1)
+        {
+            return ImmutableHashTrieBag.empty();
+        }
+        ImmutableHashTrieMap<T, Integer> newOccurrences = count == 1
+                ? this.occurrences.newWithoutKey(element)
+                : this.occurrences.newWithKeyValue(element, count - 1);
+        return new ImmutableHashTrieBag<>(newOccurrences, this.size - 1);
+    }
+
+    @Override
+    public ImmutableHashTrieBag<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieMap.Builder<T, Integer> builder = this.occurrences.toBuilder();
+        int[] newSize = {this.size};
+        if (elements instanceof Bag<?>)
+        {
+            ((Bag<? extends T>) elements).forEachWithOccurrences((each, count) ->
+            {
+                Integer current = builder.get(each);
+                builder.put(each, current == null ? count : current + count);
+                newSize[0] += count;
+            });
+        }
+        else
+        {
+            Iterate.forEach(elements, each ->
+            {
+                Integer current = builder.get(each);
+                builder.put(each, current == null ? 1 : current + 1);
+                newSize[0]++;
+            });
+        }
+        if (newSize[0] == this.size)
+        {
+            return this;
+        }
+        return new ImmutableHashTrieBag<>(builder.build(), newSize[0]);
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        return UnifiedMap.newMap(this.occurrences);
+    }
+
+    @Override
+    public ImmutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result.toImmutable();
+    }
+
+    @Override
+    public <S> ImmutableBag<S> selectInstancesOf(Class<S> clazz)
+    {
+        MutableBag<S> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (clazz.isInstance(each))
+            {
+                result.addOccurrences((S) each, occurrences);
+            }
+        });
+        return result.toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap()).toImmutable();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.occurrences.keysView().getFirst();
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.occurrences.keysView().getLast();
+    }
+
+    @Override
+    public T getOnly()
+    {
+        if (this.size != 1)
+        {
+            throw new IllegalStateException("Size must be 1 but was " + this.size);
+        }
+        return this.getFirst();
+    }
+
+    @Override
+    public ImmutableBag<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, HashBag.newBag()).toImmutable();
+    }
+
+    @Override
+    public ImmutableBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.reject(predicate, HashBag.newBag()).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBag<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.collect(function, HashBag.newBag()).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBag<V> collectIf(
+            Predicate<? super T> predicate,
+            Function<? super T, ? extends V> function)
+    {
+        return this.collectIf(predicate, function, HashBag.newBag()).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.flatCollect(function, HashBag.newBag()).toImmutable();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (other instanceof ImmutableHashTrieBag<?>)
+        {
+            ImmutableHashTrieBag<?> bag = (ImmutableHashTrieBag<?>) other;
+            return this.size == bag.size && this.occurrences.equals(bag.occurrences);
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.size != bag.size() || this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, count) -> count == bag.occurrencesOf(each));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.occurrences.hashCode();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new TrieBagIterator();
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Override
+    @Deprecated
+    public <S> ImmutableBag<Pair<T, S>> zip(Iterable<S> that)
+    {
+        if (that instanceof Collection || that instanceof RichIterable)
+        {
+            int thatSize = Iterate.sizeOf(that);
+            MutableBag<Pair<T, S>> target = HashBag.newBag(Math.min(this.size(), thatSize));
+            return this.zip(that, target).toImmutable();
+        }
+        return this.zip(that, HashBag.newBag()).toImmutable();
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Override
+    @Deprecated
+    public ImmutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(Sets.mutable.withInitialCapacity(this.size())).toImmutable();
+    }
+
+    @Override
+    public RichIterable<T> distinctView()
+    {
+        return this.occurrences.keysView();
+    }
+
+    private final class TrieBagIterator
+            implements Iterator<T>
+    {
+        private final Iterator<Pair<T, Integer>> entries = ImmutableHashTrieBag.this.occurrences.keyValuesView().iterator();
+        private T current;
+        private int remainingOccurrences;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.remainingOccurrences > 0 || this.entries.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.remainingOccurrences == 0)
+            {
+                if (!this.entries.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                Pair<T, Integer> entry = this.entries.next();
+                this.current = entry.getOne();
+                this.remainingOccurrences = entry.getTwo();
+            }
+            this.remainingOccurrences--;
+            return this.current;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableHashTrieBag");
+        }
+    }
+}
@@ -0,0 +1,788 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentHashBag is a thread-safe MutableBag built for counting under heavy contention. Each distinct item is
+ * mapped in a {@link ConcurrentHashMap} to a counter which, like {@link LongAdder}, spreads concurrent increments over
+ * a set of cells that are only summed when the count is read, so {@link #add(Object)} and
+ * {@link #addOccurrences(Object, int)} from many threads do not serialize on a single lock or memory location.
+ * <p>
+ * Reads such as {@link #occurrencesOf(Object)}, {@link #forEachWithOccurrences(ObjectIntProcedure)},
+ * {@link #topOccurrences(int)} and {@link #toImmutable()} sum the cells of each item they visit. Removing occurrences
+ * briefly locks the counter of that single item so that counts never become negative. Iteration is weakly consistent:
+ * it never throws {@link java.util.ConcurrentModificationException}, and the count reported for an item is its count at
+ * some point during the iteration.
+ *
+ * @since 12.0
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_ITEM = new Object();
+    private static final Function0<Cell> NEW_CELL = Cell::new;
+
+    private ConcurrentHashMap<Object, Cell> items;
+    private LongAdder size = new LongAdder();
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int initialCapacity)
+    {
+        this.items = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int initialCapacity)
+    {
+        return new ConcurrentHashBag<>(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(((Bag<?>) source).sizeDistinct());
+            result.addAllBag((Bag<? extends E>) source);
+            return result;
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object maskNull(Object item)
+    {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    private static <T> T unmaskNull(Object key)
+    {
+        return key == NULL_ITEM ? null : (T) key;
+    }
+
+    private Cell getOrCreateCell(Object key)
+    {
+        Cell cell = this.items.get(key);
+        return cell == null ? this.items.getIfAbsentPut(key, NEW_CELL) : cell;
+    }
+
+    private void addToCell(Object key, int occurrences)
+    {
+        while (true)
+        {
+            Cell cell = this.getOrCreateCell(key);
+            if (cell.add(occurrences))
+            {
+                this.size.add(occurrences);
+                return;
+            }
+            if (cell.awaitRemoved())
+            {
+                this.items.remove(key, cell);
+            }
+        }
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addToCell(ConcurrentHashBag.maskNull(item), 1);
+        return true;
+    }
+
+    /**
+     * Adds the occurrences without contending with other writers of the same item. The returned count is read by summing
+     * the cells of the item afterwards, so it may already include concurrent updates by other threads.
+     */
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.addToCell(ConcurrentHashBag.maskNull(item), occurrences);
+        }
+        return this.occurrencesOf(item);
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        return this.removeFromCell(ConcurrentHashBag.maskNull(item), occurrences) > 0;
+    }
+
+    private long removeFromCell(Object key, long occurrences)
+    {
+        Cell cell = this.items.get(key);
+        if (cell == null)
+        {
+            return 0L;
+        }
+        long removed = cell.remove(occurrences);
+        if (removed > 0L)
+        {
+            this.size.add(-removed);
+        }
+        if (cell.isRemoved())
+        {
+            this.items.remove(key, cell);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.maskNull(item);
+        if (occurrences == 0)
+        {
+            return this.removeFromCell(key, Long.MAX_VALUE) > 0L;
+        }
+        while (true)
+        {
+            Cell cell = this.getOrCreateCell(key);
+            long previous = cell.set(occurrences);
+            if (previous >= 0L)
+            {
+                this.size.add(occurrences - previous);
+                return previous != occurrences;
+            }
+            this.items.remove(key, cell);
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        this.items.forEachKeyValue((key, cell) -> this.removeFromCell(key, Long.MAX_VALUE));
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.size.sum();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size.sum() == 0L;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.count(cell -> cell.count() > 0);
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        Cell cell = this.items.get(ConcurrentHashBag.maskNull(item));
+        return cell == null ? 0 : (int) cell.count();
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue((key, cell) ->
+        {
+            int count = (int) cell.count();
+            if (count > 0)
+            {
+                objectIntProcedure.value(ConcurrentHashBag.unmaskNull(key), count);
+            }
+        });
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) != null;
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences((each, occurrences) -> !predicate.accept(each, occurrences)) == null;
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) == null;
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        Map.Entry<Object, Cell> entry = this.detectEntryWithOccurrences(predicate);
+        return entry == null ? null : ConcurrentHashBag.unmaskNull(entry.getKey());
+    }
+
+    private Map.Entry<Object, Cell> detectEntryWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        for (Map.Entry<Object, Cell> entry : this.items.entrySet())
+        {
+            int count = (int) entry.getValue().count();
+            if (count > 0 && predicate.accept(ConcurrentHashBag.unmaskNull(entry.getKey()), count))
+            {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keyValuesView()
+                .select(pair -> pair.getTwo().count() > 0)
+                .collect(pair -> ConcurrentHashBag.<T>unmaskNull(pair.getOne()));
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.unmaskNull(key)))
+            {
+                changed |= this.removeFromCell(key, Long.MAX_VALUE) > 0L;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.unmaskNull(key), parameter))
+            {
+                changed |= this.removeFromCell(key, Long.MAX_VALUE) > 0L;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        Iterable<?> distinct = iterable instanceof Bag ? ((Bag<?>) iterable).distinctView() : iterable;
+        for (Object each : distinct)
+        {
+            changed |= this.removeFromCell(ConcurrentHashBag.maskNull(each), Long.MAX_VALUE) > 0L;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, count) -> bag.occurrencesOf(each) == count);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, count) -> counter.add((each == null ? 0 : each.hashCode()) ^ count));
+        return counter.getCount();
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        RichIterable<ObjectIntPair<T>> itemsWithOccurrences = this.toListWithOccurrences();
+        out.writeInt(itemsWithOccurrences.size());
+        for (ObjectIntPair<T> each : itemsWithOccurrences)
+        {
+            out.writeObject(each.getOne());
+            out.writeInt(each.getTwo());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        this.size = new LongAdder();
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, Cell>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private Object nextKey;
+        private int remaining;
+        private Object currentKey;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.remaining == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<Object, Cell> entry = this.iterator.next();
+                this.nextKey = entry.getKey();
+                this.remaining = (int) entry.getValue().count();
+            }
+            return this.remaining > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            this.currentKey = this.nextKey;
+            this.canRemove = true;
+            return ConcurrentHashBag.unmaskNull(this.currentKey);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.removeFromCell(this.currentKey, 1L);
+            this.canRemove = false;
+        }
+    }
+
+    /**
+     * The count of one item. Increments go to the base field until two threads collide on it, after which each thread
+     * adds to one of a fixed set of cells, padded so that they sit on different cache lines. Anything which has to see
+     * an exact count before changing it, such as a removal, holds the monitor of the cell and freezes every slot, which
+     * makes concurrent increments of this item retry until the slots are thawed. A cell whose count drops to zero stays
+     * frozen for good and is removed from the map.
+     */
+    private static final class Cell
+    {
+        private static final long FROZEN = Long.MIN_VALUE;
+        private static final int PADDING = 8; // 64 bytes per cell, long is 8 bytes
+        private static final int STRIPES = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 1);
+        private static final AtomicLongFieldUpdater<Cell> BASE_UPDATER = AtomicLongFieldUpdater.newUpdater(Cell.class, "base");
+        /**
+         * The slot of the current thread, picked at random and moved to another random slot whenever a compare-and-set
+         * on it fails, so that threads which collide spread out over the slots.
+         */
+        private static final ThreadLocal<int[]> STRIPE_INDEX = ThreadLocal.withInitial(() -> new int[]{Cell.randomStripeIndex()});
+
+        @SuppressWarnings("UnusedDeclaration")
+        private volatile long base; // updated via atomic field updater
+        private volatile AtomicLongArray stripes;
+        private boolean removed; // guarded by this
+
+        private static int randomStripeIndex()
+        {
+            return ThreadLocalRandom.current().nextInt(STRIPES) * PADDING;
+        }
+
+        private static int stripeIndex()
+        {
+            return STRIPE_INDEX.get()[0];
+        }
+
+        private static int advanceStripeIndex()
+        {
+            int index = Cell.randomStripeIndex();
+            STRIPE_INDEX.get()[0] = index;
+            return index;
+        }
+
+        /**
+         * Returns false if the cell is frozen, in which case the caller must call {@link #awaitRemoved()} and retry.
+         */
+        private boolean add(long occurrences)
+        {
+            AtomicLongArray localStripes = this.stripes;
+            if (localStripes == null)
+            {
+                long localBase = this.base;
+                if (localBase == FROZEN)
+                {
+                    return false;
+                }
+                if (BASE_UPDATER.compareAndSet(this, localBase, localBase + occurrences))
+                {
+                    return true;
+                }
+                localStripes = this.inflate();
+                if (localStripes == null)
+                {
+                    return false;
+                }
+            }
+            int index = Cell.stripeIndex();
+            while (true)
+            {
+                long value = localStripes.get(index);
+                if (value == FROZEN)
+                {
+                    return false;
+                }
+                if (localStripes.compareAndSet(index, value, value + occurrences))
+                {
+                    return true;
+                }
+                index = Cell.advanceStripeIndex();
+            }
+        }
+
+        private synchronized AtomicLongArray inflate()
+        {
+            if (this.removed)
+            {
+                return null;
+            }
+            if (this.stripes == null)
+            {
+                this.stripes = new AtomicLongArray(STRIPES * PADDING);
+            }
+            return this.stripes;
+        }
+
+        /**
+         * Waits for the thread which froze the cell to finish, and returns whether the cell was removed.
+         */
+        private synchronized boolean awaitRemoved()
+        {
+            return this.removed;
+        }
+
+        private synchronized boolean isRemoved()
+        {
+            return this.removed;
+        }
+
+        /**
+         * Returns the sum of the slots, or -1 if one of them is frozen.
+         */
+        private long sum()
+        {
+            long sum = this.base;
+            if (sum == FROZEN)
+            {
+                return -1L;
+            }
+            AtomicLongArray localStripes = this.stripes;
+            if (localStripes != null)
+            {
+                for (int i = 0; i < localStripes.length(); i += PADDING)
+                {
+                    long value = localStripes.get(i);
+                    if (value == FROZEN)
+                    {
+                        return -1L;
+                    }
+                    sum += value;
+                }
+            }
+            return sum;
+        }
+
+        private long count()
+        {
+            long sum = this.sum();
+            if (sum >= 0L)
+            {
+                return sum;
+            }
+            synchronized (this)
+            {
+                return this.removed ? 0L : this.sum();
+            }
+        }
+
+        // must hold the monitor
+        private long freeze()
+        {
+            long total = BASE_UPDATER.getAndSet(this, FROZEN);
+            AtomicLongArray localStripes = this.stripes;
+            if (localStripes != null)
+            {
+                for (int i = 0; i < localStripes.length(); i += PADDING)
+                {
+                    total += localStripes.getAndSet(i, FROZEN);
+                }
+            }
+            return total;
+        }
+
+        // must hold the monitor
+        private void thaw(long total)
+        {
+            AtomicLongArray localStripes = this.stripes;
+            if (localStripes != null)
+            {
+                for (int i = 0; i < localStripes.length(); i += PADDING)
+                {
+                    localStripes.set(i, 0L);
+                }
+            }
+            this.base = total;
+        }
+
+        /**
+         * Removes up to {@code occurrences} and returns how many were removed. Marks the cell removed if its count drops
+         * to zero.
+         */
+        private synchronized long remove(long occurrences)
+        {
+            if (this.removed)
+            {
+                return 0L;
+            }
+            long total = this.freeze();
+            long removedOccurrences = Math.min(total, occurrences);
+            if (total == removedOccurrences)
+            {
+                this.removed = true;
+            }
+            else
+            {
+                this.thaw(total - removedOccurrences);
+            }
+            return removedOccurrences;
+        }
+
+        /**
+         * Sets the count and returns the previous one, or -1 if the cell was already removed.
+         */
+        private synchronized long set(long occurrences)
+        {
+            if (this.removed)
+            {
+                return -1L;
+            }
+            long total = this.freeze();
+            this.thaw(occurrences);
+            return total;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sketch;
+
+import org.eclipse.collections.api.block.procedure.primitive.ObjectLongProcedure;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.primitive.ObjectLongPair;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * A bag which counts the most frequent elements of a stream in a fixed amount of memory, using the Space-Saving
+ * algorithm of Metwally, Agrawal and El Abbadi. At most {@code capacity} elements are counted at a time. When an
+ * element which is not counted is added to a full bag, it replaces the counted element with the fewest occurrences,
+ * and inherits its count.
+ * <p>
+ * The counts are therefore upper bounds: an element counted as {@code c} occurrences occurred at most {@code c} times
+ * and at least {@link #guaranteedOccurrencesOf(Object)} times. Every element which occurred more than
+ * {@code totalOccurrences() / capacity} times is counted, and elements which are not counted have no more occurrences
+ * than the smallest count.
+ * <p>
+ * This class provides the read side of {@link org.eclipse.collections.api.bag.Bag} which remains meaningful for an
+ * approximate count, {@link #occurrencesOf(Object)} and {@link #topOccurrences(int)}. Bags can be merged, so that a
+ * stream can be counted in parallel with one bag per thread. The counts are {@code long}s, like
+ * {@link #totalOccurrences()}, so that a long stream of a single element cannot overflow them. This class is not
+ * thread-safe.
+ *
+ * @since 12.0
+ */
+public class HeavyHitterBag<T>
+{
+    private final int capacity;
+    private final ObjectIntHashMap<T> indices;
+    private final Object[] items;
+    private final long[] counts;
+    private final long[] errors;
+    private int size;
+    private long totalOccurrences;
+
+    public HeavyHitterBag(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.indices = ObjectIntHashMap.newMap();
+        this.items = new Object[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+    }
+
+    public static <E> HeavyHitterBag<E> newBag(int capacity)
+    {
+        return new HeavyHitterBag<>(capacity);
+    }
+
+    public int capacity()
+    {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of elements currently counted, which is at most {@link #capacity()}.
+     */
+    public int sizeDistinct()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the exact number of occurrences added to this bag.
+     */
+    public long totalOccurrences()
+    {
+        return this.totalOccurrences;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.totalOccurrences == 0L;
+    }
+
+    public void add(T item)
+    {
+        this.addOccurrences(item, 1);
+    }
+
+    /**
+     * Adds {@code occurrences} of {@code item} and returns its new count.
+     */
+    public long addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return this.occurrencesOf(item);
+        }
+        this.totalOccurrences += occurrences;
+        int index = this.indices.getIfAbsent(item, -1);
+        if (index >= 0)
+        {
+            long count = this.counts[index] + occurrences;
+            this.siftDown(index, item, count, this.errors[index]);
+            return count;
+        }
+        if (this.size < this.capacity)
+        {
+            this.siftUp(this.size++, item, occurrences, 0);
+            return occurrences;
+        }
+        long minimum = this.counts[0];
+        this.indices.remove(this.items[0]);
+        this.siftDown(0, item, minimum + occurrences, minimum);
+        return minimum + occurrences;
+    }
+
+    /**
+     * Returns the estimated number of occurrences of {@code item}, which is at least the exact number if the item is
+     * counted, and {@code 0} if it is not.
+     */
+    public long occurrencesOf(Object item)
+    {
+        int index = this.indices.getIfAbsent(item, -1);
+        return index < 0 ? 0 : this.counts[index];
+    }
+
+    /**
+     * Returns the number of occurrences of {@code item} which are certain, which is at most the exact number.
+     */
+    public long guaranteedOccurrencesOf(Object item)
+    {
+        int index = this.indices.getIfAbsent(item, -1);
+        return index < 0 ? 0 : this.counts[index] - this.errors[index];
+    }
+
+    public void forEachWithOccurrences(ObjectLongProcedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            procedure.value((T) this.items[i], this.counts[i]);
+        }
+    }
+
+    /**
+     * Returns the {@code n} counted elements with the most occurrences, plus any further elements tied with the last of
+     * them, sorted by their estimated number of occurrences, as {@link org.eclipse.collections.api.bag.Bag#topOccurrences(int)}.
+     */
+    public MutableList<ObjectLongPair<T>> topOccurrences(int n)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        MutableList<ObjectLongPair<T>> sorted = Lists.mutable.withInitialCapacity(this.size);
+        this.forEachWithOccurrences((each, count) -> sorted.add(PrimitiveTuples.pair(each, count)));
+        sorted.sortThisByLong(pair -> -pair.getTwo());
+        int keySize = Math.min(n, this.size);
+        while (keySize > 0 && keySize < this.size && sorted.get(keySize - 1).getTwo() == sorted.get(keySize).getTwo())
+        {
+            keySize++;
+        }
+        sorted.subList(keySize, this.size).clear();
+        return sorted;
+    }
+
+    /**
+     * Adds the occurrences counted by {@code other} to this bag, which then estimates the counts of both streams with
+     * the same guarantees. An element counted by only one of the bags is assumed to have the smallest count of the other
+     * bag, or none if that bag is not full, and the {@link #capacity()} elements with the most occurrences are kept.
+     */
+    public HeavyHitterBag<T> merge(HeavyHitterBag<? extends T> other)
+    {
+        long thisMinimum = this.size == this.capacity ? this.counts[0] : 0L;
+        long otherMinimum = other.size == other.capacity ? other.counts[0] : 0L;
+        int candidateCount = this.size + other.size;
+        Object[] candidates = new Object[candidateCount];
+        long[] candidateCounts = new long[candidateCount];
+        long[] candidateErrors = new long[candidateCount];
+        int candidateSize = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            int otherIndex = other.indices.getIfAbsent(this.items[i], -1);
+            candidates[candidateSize] = this.items[i];
+            candidateCounts[candidateSize] = this.counts[i] + (otherIndex < 0 ? otherMinimum : other.counts[otherIndex]);
+            candidateErrors[candidateSize] = this.errors[i] + (otherIndex < 0 ? otherMinimum : other.errors[otherIndex]);
+            candidateSize++;
+        }
+        for (int i = 0; i < other.size; i++)
+        {
+            if (!this.indices.containsKey(other.items[i]))
+            {
+                candidates[candidateSize] = other.items[i];
+                candidateCounts[candidateSize] = other.counts[i] + thisMinimum;
+                candidateErrors[candidateSize] = other.errors[i] + thisMinimum;
+                candidateSize++;
+            }
+        }
+
+        this.indices.clear();
+        this.size = 0;
+        for (int i = 0; i < candidateSize; i++)
+        {
+            if (this.size < this.capacity)
+            {
+                this.siftUp(this.size++, (T) candidates[i], candidateCounts[i], candidateErrors[i]);
+            }
+            else if (candidateCounts[i] > this.counts[0])
+            {
+                this.indices.remove(this.items[0]);
+                this.siftDown(0, (T) candidates[i], candidateCounts[i], candidateErrors[i]);
+            }
+        }
+        this.totalOccurrences += other.totalOccurrences;
+        return this;
+    }
+
+    /**
+     * Places an entry at {@code index} or above it in the min-heap of counts, moving its ancestors down as needed.
+     */
+    private void siftUp(int index, T item, long count, long error)
+    {
+        int child = index;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (this.counts[parent] <= count)
+            {
+                break;
+            }
+            this.move(parent, child);
+            child = parent;
+        }
+        this.set(child, item, count, error);
+    }
+
+    /**
+     * Places an entry at {@code index} or below it in the min-heap of counts, moving its descendants up as needed.
+     */
+    private void siftDown(int index, T item, long count, long error)
+    {
+        int parent = index;
+        int half = this.size >>> 1;
+        while (parent < half)
+        {
+            int child = (parent << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && this.counts[right] < this.counts[child])
+            {
+                child = right;
+            }
+            if (count <= this.counts[child])
+            {
+                break;
+            }
+            this.move(child, parent);
+            parent = child;
+        }
+        this.set(parent, item, count, error);
+    }
+
+    private void move(int from, int to)
+    {
+        this.set(to, (T) this.items[from], this.counts[from], this.errors[from]);
+    }
+
+    private void set(int index, T item, long count, long error)
+    {
+        this.items[index] = item;
+        this.counts[index] = count;
+        this.errors[index] = error;
+        this.indices.put(item, index);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.topOccurrences(this.size).toString();
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains bags which count the occurrences of elements approximately, in a fixed amount of memory.
+ * <p>
+ *     This package contains one bag implementation:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.bag.sketch.HeavyHitterBag} - counts the most frequent elements of a stream.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.bag.sketch;
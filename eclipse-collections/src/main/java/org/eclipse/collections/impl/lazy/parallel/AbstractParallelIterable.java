@@ -14,12 +14,14 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -73,6 +75,19 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 {
     protected static <T> void forEach(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Procedure<? super T> procedure)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            AbstractParallelIterable.forkJoin(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    chunk ->
+                    {
+                        chunk.forEach(procedure);
+                        return null;
+                    },
+                    null);
+            return;
+        }
         LazyIterable<Future<?>> futures =
                 parallelIterable.split().collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.forEach(procedure)));
         // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
@@ -97,6 +112,14 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            return AbstractParallelIterable.forkJoin(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    batch -> batch.anySatisfy(predicate),
+                    Boolean.TRUE::equals).contains(Boolean.TRUE);
+        }
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures =
                 parallelIterable.split().collect(batch -> completionService.submit(() -> batch.anySatisfy(predicate)), Sets.mutable.empty());
@@ -131,6 +154,14 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            return !AbstractParallelIterable.forkJoin(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    batch -> batch.allSatisfy(predicate),
+                    Boolean.FALSE::equals).contains(Boolean.FALSE);
+        }
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures =
                 parallelIterable.split().collect(batch -> completionService.submit(() -> batch.allSatisfy(predicate)), Sets.mutable.empty());
@@ -165,6 +196,14 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            return AbstractParallelIterable.forkJoin(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    chunk -> chunk.detect(predicate),
+                    Objects::nonNull).detect(Objects::nonNull);
+        }
         LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
         LazyIterable<Future<T>> futures =
                 chunks.collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.detect(predicate)));
@@ -197,6 +236,32 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return null;
     }
 
+    /**
+     * Evaluates the function for every batch on the pool, splitting the batches between workers on demand.
+     *
+     * @see ForkJoinBatchTask
+     */
+    private static <B extends Batch<?>, V> MutableList<V> forkJoin(
+            ForkJoinPool pool,
+            LazyIterable<B> batches,
+            Function<? super B, ? extends V> function,
+            Predicate<? super V> shortCircuit)
+    {
+        try
+        {
+            return ForkJoinBatchTask.invoke(pool, batches, function, shortCircuit);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The executor batches are run on. If it is a {@link ForkJoinPool}, batches are distributed between its workers
+     * by work stealing rather than submitted as one task each, which keeps all workers busy when some batches are much
+     * more expensive than others.
+     */
     public abstract ExecutorService getExecutorService();
 
     public abstract int getBatchSize();
@@ -207,7 +272,15 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected <S, V> void collectCombine(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        if (this.isOrdered())
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<V> results = AbstractParallelIterable.forkJoin((ForkJoinPool) this.getExecutorService(), this.split(), function, null);
+            for (V result : results)
+            {
+                combineProcedure.value(state, result);
+            }
+        }
+        else if (this.isOrdered())
         {
             this.collectCombineOrdered(function, combineProcedure, state);
         }
@@ -273,11 +346,44 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private T collectReduce(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            return this.collectReduceForkJoin(map, function2);
+        }
         return this.isOrdered()
                 ? this.collectReduceOrdered(map, function2)
                 : this.collectReduceUnordered(map, function2);
     }
 
+    private T collectReduceForkJoin(Function<Batch<T>, T> map, Function2<T, T, T> function2)
+    {
+        try
+        {
+            MutableList<T> results = ForkJoinBatchTask.invoke((ForkJoinPool) this.getExecutorService(), this.split(), map, null);
+            T result = null;
+            for (T next : results)
+            {
+                if (next != null)
+                {
+                    result = result == null ? next : function2.value(result, next);
+                }
+            }
+            if (result == null)
+            {
+                throw new NoSuchElementException();
+            }
+            return result;
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof NullPointerException)
+            {
+                throw (NullPointerException) e.getCause();
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
     private T collectReduceOrdered(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
@@ -613,6 +719,53 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return map;
     }
 
+    @Override
+    public <K, V> MapIterable<K, V> aggregateBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> combiner)
+    {
+        Function<Batch<T>, MutableMap<K, V>> map = batch ->
+        {
+            MutableMap<K, V> result = UnifiedMap.newMap();
+            batch.forEach(each -> result.updateValueWith(groupBy.valueOf(each), zeroValueFactory, nonMutatingAggregator, each));
+            return result;
+        };
+        MutableMap<K, V> state = UnifiedMap.newMap();
+        this.collectCombine(map, (result, batchResult) -> batchResult.forEachKeyValue((key, value) ->
+                result.put(key, result.containsKey(key) ? combiner.value(result.get(key), value) : value)), state);
+        return state;
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            Procedure2<? super V, ? super V> mutatingCombiner)
+    {
+        Function<Batch<T>, MutableMap<K, V>> map = batch ->
+        {
+            MutableMap<K, V> result = UnifiedMap.newMap();
+            batch.forEach(each -> mutatingAggregator.value(result.getIfAbsentPut(groupBy.valueOf(each), zeroValueFactory), each));
+            return result;
+        };
+        MutableMap<K, V> state = UnifiedMap.newMap();
+        this.collectCombine(map, (result, batchResult) -> batchResult.forEachKeyValue((key, value) ->
+        {
+            if (result.containsKey(key))
+            {
+                mutatingCombiner.value(result.get(key), value);
+            }
+            else
+            {
+                result.put(key, value);
+            }
+        }), state);
+        return state;
+    }
+
     @Override
     public int count(Predicate<? super T> predicate)
     {
@@ -695,6 +848,17 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private long sumOfLongOrdered(LongFunction<Batch<T>> map)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<Long> results =
+                    AbstractParallelIterable.forkJoin((ForkJoinPool) this.getExecutorService(), this.split(), map::longValueOf, null);
+            long result = 0;
+            for (int i = 0; i < results.size(); i++)
+            {
+                result += results.get(i);
+            }
+            return result;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<Long>> futures =
                 chunks.collect(chunk -> this.getExecutorService().submit(() -> map.longValueOf(chunk)));
@@ -722,6 +886,22 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private double sumOfDoubleOrdered(Function<Batch<T>, DoubleSumResultHolder> map)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<DoubleSumResultHolder> results =
+                    AbstractParallelIterable.forkJoin((ForkJoinPool) this.getExecutorService(), this.split(), map, null);
+            double sum = 0.0d;
+            double compensation = 0.0d;
+            for (int i = 0; i < results.size(); i++)
+            {
+                compensation += results.get(i).getCompensation();
+                double adjustedValue = results.get(i).getResult() - compensation;
+                double nextSum = sum + adjustedValue;
+                compensation = nextSum - sum - adjustedValue;
+                sum = nextSum;
+            }
+            return sum;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<DoubleSumResultHolder>> futures =
                 chunks.collect(chunk -> this.getExecutorService().submit(() -> map.valueOf(chunk)));
@@ -23,6 +23,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.set.ParallelCollectIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.ParallelFlatCollectIterable;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
 
 @Beta
@@ -97,12 +98,15 @@ public abstract class AbstractParallelIterableImpl<T, B extends Batch<T>> extend
     @Override
     public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEach(each -> {
-            V key = function.valueOf(each);
-            result.put(key, each);
-        });
-        return result;
+        Function<Batch<T>, MutableBagMultimap<V, T>> map = batch ->
+        {
+            MutableBagMultimap<V, T> result = HashBagMultimap.newMultimap();
+            batch.forEach(each -> result.put(function.valueOf(each), each));
+            return result;
+        };
+        MutableBagMultimap<V, T> state = HashBagMultimap.newMultimap();
+        this.collectCombine(map, MutableBagMultimap::putAll, state);
+        return state;
     }
 
     @Override
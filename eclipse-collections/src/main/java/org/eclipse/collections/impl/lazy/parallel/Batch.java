@@ -20,6 +20,7 @@ import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.block.procedure.DoubleSumResultHolder;
 
 @Beta
@@ -52,4 +53,16 @@ public interface Batch<T>
     DoubleSumResultHolder sumOfFloat(FloatFunction<? super T> function);
 
     DoubleSumResultHolder sumOfDouble(DoubleFunction<? super T> function);
+
+    /**
+     * Splits this batch into two batches of the same class that together hold its elements in the same order, so that
+     * they can be evaluated by different tasks. Returns null if either half would cover fewer than {@code minSize}
+     * elements of the underlying collection, or if this kind of batch cannot be split.
+     *
+     * @since 12.0
+     */
+    default Twin<? extends Batch<T>> split(int minSize)
+    {
+        return null;
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Twin;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * Applies a function to every batch of a parallel iterable on a {@link ForkJoinPool}. The range of batches is halved
+ * recursively and one half is forked, so a worker that runs out of work steals the untouched half of a busy worker's
+ * range. Once a task is down to a single batch, the batch itself is split with {@link Batch#split(int)} for as long as
+ * the worker has few queued tasks left for others to steal, and as long as each half keeps at least
+ * {@link #MIN_FORK_SIZE} elements. A batch holding a few expensive elements is therefore spread over the idle workers
+ * instead of running on the one worker that picked it up.
+ * <p>
+ * Results are returned in iteration order, one per evaluated piece of a batch. Once the short-circuit predicate accepts
+ * a result, no batch after the one it came from is started, so the first accepted result is the same as in a serial
+ * iteration.
+ */
+final class ForkJoinBatchTask<B extends Batch<?>, V> extends RecursiveAction
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The smallest number of elements a batch is split into, so that the cost of a task stays small next to the work
+     * it does.
+     */
+    private static final int MIN_FORK_SIZE = 16;
+
+    /**
+     * Batches are split while the worker has at most this many queued tasks more than other workers could steal, the
+     * threshold suggested by {@link ForkJoinTask#getSurplusQueuedTaskCount()}.
+     */
+    private static final int MAX_SURPLUS_QUEUED_TASKS = 3;
+
+    private final MutableList<B> batches;
+    private final Function<? super B, ? extends V> function;
+    private final Predicate<? super V> shortCircuit;
+    private final AtomicInteger stopIndex;
+    private final AtomicReference<Throwable> failure;
+    private final int low;
+    private final int high;
+    private final B batch;
+
+    private ForkJoinBatchTask<B, V> left;
+    private ForkJoinBatchTask<B, V> right;
+    private boolean evaluated;
+    private V result;
+
+    private ForkJoinBatchTask(
+            MutableList<B> batches,
+            Function<? super B, ? extends V> function,
+            Predicate<? super V> shortCircuit,
+            AtomicInteger stopIndex,
+            AtomicReference<Throwable> failure,
+            int low,
+            int high,
+            B batch)
+    {
+        this.batches = batches;
+        this.function = function;
+        this.shortCircuit = shortCircuit;
+        this.stopIndex = stopIndex;
+        this.failure = failure;
+        this.low = low;
+        this.high = high;
+        this.batch = batch;
+    }
+
+    /**
+     * Runs the task in the calling worker if it already belongs to {@code pool}, and submits it to {@code pool}
+     * otherwise. Either way the calling thread helps with the work rather than blocking on a future.
+     *
+     * @param shortCircuit may be null if every batch must be evaluated
+     * @throws ExecutionException if the function threw for any batch, with the first failure as its cause
+     */
+    static <B extends Batch<?>, V> MutableList<V> invoke(
+            ForkJoinPool pool,
+            LazyIterable<B> batches,
+            Function<? super B, ? extends V> function,
+            Predicate<? super V> shortCircuit) throws ExecutionException
+    {
+        MutableList<B> batchList = batches.toList();
+        MutableList<V> results = FastList.newList();
+        if (batchList.notEmpty())
+        {
+            AtomicInteger stopIndex = new AtomicInteger(Integer.MAX_VALUE);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            ForkJoinBatchTask<B, V> task =
+                    new ForkJoinBatchTask<>(batchList, function, shortCircuit, stopIndex, failure, 0, batchList.size(), null);
+            if (ForkJoinTask.getPool() == pool)
+            {
+                task.invoke();
+            }
+            else
+            {
+                pool.invoke(task);
+            }
+            if (failure.get() != null)
+            {
+                throw new ExecutionException(failure.get());
+            }
+            task.collectResults(results);
+        }
+        return results;
+    }
+
+    @Override
+    protected void compute()
+    {
+        if (this.high - this.low > 1)
+        {
+            int mid = (this.low + this.high) >>> 1;
+            this.fork(this.subTask(this.low, mid, null), this.subTask(mid, this.high, null));
+        }
+        else if (this.low <= this.stopIndex.get())
+        {
+            B current = this.batch == null ? this.batches.get(this.low) : this.batch;
+            Twin<B> halves = ForkJoinTask.getSurplusQueuedTaskCount() <= MAX_SURPLUS_QUEUED_TASKS
+                    ? ForkJoinBatchTask.split(current)
+                    : null;
+            if (halves == null)
+            {
+                this.evaluate(current);
+            }
+            else
+            {
+                this.fork(this.subTask(this.low, this.high, halves.getOne()), this.subTask(this.low, this.high, halves.getTwo()));
+            }
+        }
+    }
+
+    /**
+     * The halves of a batch are of the same class as the batch, see {@link Batch#split(int)}.
+     */
+    private static <B extends Batch<?>> Twin<B> split(B batch)
+    {
+        return (Twin<B>) batch.split(MIN_FORK_SIZE);
+    }
+
+    private void fork(ForkJoinBatchTask<B, V> first, ForkJoinBatchTask<B, V> second)
+    {
+        this.left = first;
+        this.right = second;
+        ForkJoinTask.invokeAll(first, second);
+    }
+
+    private ForkJoinBatchTask<B, V> subTask(int subLow, int subHigh, B subBatch)
+    {
+        return new ForkJoinBatchTask<>(
+                this.batches,
+                this.function,
+                this.shortCircuit,
+                this.stopIndex,
+                this.failure,
+                subLow,
+                subHigh,
+                subBatch);
+    }
+
+    private void evaluate(B current)
+    {
+        try
+        {
+            this.result = this.function.valueOf(current);
+            this.evaluated = true;
+            if (this.shortCircuit != null && this.shortCircuit.accept(this.result))
+            {
+                this.stopIndex.accumulateAndGet(this.low, Math::min);
+            }
+        }
+        catch (Throwable t)
+        {
+            this.failure.compareAndSet(null, t);
+            this.stopIndex.set(-1);
+        }
+    }
+
+    private void collectResults(MutableList<V> results)
+    {
+        if (this.left != null)
+        {
+            this.left.collectResults(results);
+            this.right.collectResults(results);
+        }
+        else if (this.evaluated)
+        {
+            results.add(this.result);
+        }
+    }
+}
@@ -25,6 +25,8 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.BagAddOccurrencesProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.Batch;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
 
 @Beta
@@ -107,15 +109,15 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
     @Override
     public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEachWithOccurrences((each, occurrences) -> {
-            V key = function.valueOf(each);
-            for (int i = 0; i < occurrences; i++)
-            {
-                result.put(key, each);
-            }
-        });
-        return result;
+        Function<Batch<T>, MutableBagMultimap<V, T>> map = batch ->
+        {
+            MutableBagMultimap<V, T> result = HashBagMultimap.newMultimap();
+            ((UnsortedBagBatch<T>) batch).forEachWithOccurrences((each, occurrences) -> result.putOccurrences(function.valueOf(each), each, occurrences));
+            return result;
+        };
+        MutableBagMultimap<V, T> state = HashBagMultimap.newMultimap();
+        this.collectCombine(map, MutableBagMultimap::putAll, state);
+        return state;
     }
 
     @Override
@@ -18,10 +18,13 @@ import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.Batch;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -95,8 +98,15 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
     @Override
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupBy(function);
+        Function<Batch<T>, MutableListMultimap<V, T>> map = batch ->
+        {
+            MutableListMultimap<V, T> result = FastListMultimap.newMultimap();
+            batch.forEach(each -> result.put(function.valueOf(each), each));
+            return result;
+        };
+        MutableListMultimap<V, T> state = FastListMultimap.newMultimap();
+        this.collectCombine(map, MutableListMultimap::putAll, state);
+        return state;
     }
 
     @Override
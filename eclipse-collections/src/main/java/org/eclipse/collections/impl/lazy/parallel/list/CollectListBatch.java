@@ -14,11 +14,13 @@ import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.Batch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.tuple.Tuples;
 
 @Beta
 public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatch<V>
@@ -38,6 +40,19 @@ public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatc
         this.batch.forEach(Functions.bind(procedure, this.function));
     }
 
+    @Override
+    public Twin<CollectListBatch<T, V>> split(int minSize)
+    {
+        Twin<? extends Batch<T>> halves = this.batch.split(minSize);
+        if (halves == null)
+        {
+            return null;
+        }
+        return Tuples.twin(
+                new CollectListBatch<>(halves.getOne(), this.function),
+                new CollectListBatch<>(halves.getTwo(), this.function));
+    }
+
     @Override
     public ListBatch<V> select(Predicate<? super V> predicate)
     {
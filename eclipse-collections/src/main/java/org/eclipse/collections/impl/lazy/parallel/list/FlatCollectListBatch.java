@@ -14,10 +14,12 @@ import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.Batch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
 
 @Beta
@@ -38,6 +40,19 @@ public class FlatCollectListBatch<T, V> extends AbstractBatch<V> implements List
         this.batch.forEach(each -> Iterate.forEach(this.function.valueOf(each), procedure));
     }
 
+    @Override
+    public Twin<FlatCollectListBatch<T, V>> split(int minSize)
+    {
+        Twin<? extends Batch<T>> halves = this.batch.split(minSize);
+        if (halves == null)
+        {
+            return null;
+        }
+        return Tuples.twin(
+                new FlatCollectListBatch<>(halves.getOne(), this.function),
+                new FlatCollectListBatch<>(halves.getTwo(), this.function));
+    }
+
     @Override
     public ListBatch<V> select(Predicate<? super V> predicate)
     {
@@ -12,6 +12,7 @@ package org.eclipse.collections.impl.lazy.parallel.list;
 
 import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.lazy.parallel.OrderedBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
@@ -24,4 +25,10 @@ public interface ListBatch<T> extends OrderedBatch<T>
 
     @Override
     UnsortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct);
+
+    @Override
+    default Twin<? extends ListBatch<T>> split(int minSize)
+    {
+        return null;
+    }
 }
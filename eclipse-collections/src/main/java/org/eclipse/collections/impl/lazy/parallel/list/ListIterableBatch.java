@@ -15,9 +15,11 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.tuple.Tuples;
 
 @Beta
 public class ListIterableBatch<T> extends AbstractBatch<T> implements RootListBatch<T>
@@ -95,6 +97,19 @@ public class ListIterableBatch<T> extends AbstractBatch<T> implements RootListBa
         return null;
     }
 
+    @Override
+    public Twin<ListIterableBatch<T>> split(int minSize)
+    {
+        if (this.chunkEndIndex - this.chunkStartIndex < 2 * minSize)
+        {
+            return null;
+        }
+        int middle = (this.chunkStartIndex + this.chunkEndIndex) >>> 1;
+        return Tuples.twin(
+                new ListIterableBatch<>(this.list, this.chunkStartIndex, middle),
+                new ListIterableBatch<>(this.list, middle, this.chunkEndIndex));
+    }
+
     @Override
     public ListBatch<T> select(Predicate<? super T> predicate)
     {
@@ -11,9 +11,15 @@
 package org.eclipse.collections.impl.lazy.parallel.list;
 
 import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.lazy.parallel.RootBatch;
 
 @Beta
 public interface RootListBatch<T> extends ListBatch<T>, RootBatch<T>
 {
+    @Override
+    default Twin<? extends RootListBatch<T>> split(int minSize)
+    {
+        return null;
+    }
 }
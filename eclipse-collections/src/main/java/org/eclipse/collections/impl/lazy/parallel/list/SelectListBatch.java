@@ -14,10 +14,12 @@ import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.block.procedure.IfProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.tuple.Tuples;
 
 @Beta
 public class SelectListBatch<T> extends AbstractBatch<T> implements ListBatch<T>
@@ -37,6 +39,19 @@ public class SelectListBatch<T> extends AbstractBatch<T> implements ListBatch<T>
         this.listBatch.forEach(new IfProcedure<>(this.predicate, procedure));
     }
 
+    @Override
+    public Twin<SelectListBatch<T>> split(int minSize)
+    {
+        Twin<? extends ListBatch<T>> halves = this.listBatch.split(minSize);
+        if (halves == null)
+        {
+            return null;
+        }
+        return Tuples.twin(
+                new SelectListBatch<>(halves.getOne(), this.predicate),
+                new SelectListBatch<>(halves.getTwo(), this.predicate));
+    }
+
     @Override
     public ListBatch<T> select(Predicate<? super T> predicate)
     {
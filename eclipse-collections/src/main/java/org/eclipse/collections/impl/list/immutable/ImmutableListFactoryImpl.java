@@ -292,4 +292,10 @@ public class ImmutableListFactoryImpl implements ImmutableListFactory
         Arrays.sort(array, comparator);
         return new ImmutableArrayList<>(array);
     }
+
+    @Override
+    public <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableTrieList.newList(items);
+    }
 }
@@ -0,0 +1,806 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A persistent ImmutableList. The elements are held in the leaves of a relaxed radix balanced tree whose nodes have
+ * between 16 and 32 children, except for the root, and record the cumulative sizes of their children. Appended
+ * elements are first collected in a tail array of up to 32 elements, which is pushed into the tree when it is full.
+ * <p>
+ * Every update copies only the path from the root to the leaf it touches, so newWith, newWithIndexValue and
+ * newWithoutIndex take O(log n) time, and the new list shares all other nodes with this one. newWithAll, subList, take
+ * and drop join and split trees along their edges in O(log n) time as well. get is O(log n), with the logarithm in base
+ * 16 to 32.
+ *
+ * @since 12.0
+ */
+final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_WIDTH = 32;
+    private static final int MIN_WIDTH = MAX_WIDTH / 2;
+    private static final Object[] EMPTY_ARRAY = {};
+    private static final ImmutableTrieList<?> EMPTY = new ImmutableTrieList<>(EMPTY_ARRAY, 0, 0, EMPTY_ARRAY);
+
+    /**
+     * The root of the tree: an Object[] of elements if height is 0, a Branch otherwise.
+     */
+    private final Object root;
+    private final int height;
+    private final int rootSize;
+    private final Object[] tail;
+
+    private ImmutableTrieList(Object root, int height, int rootSize, Object[] tail)
+    {
+        this.root = root;
+        this.height = height;
+        this.rootSize = rootSize;
+        this.tail = tail;
+    }
+
+    private ImmutableTrieList(Object root, int height)
+    {
+        this(root, height, ImmutableTrieList.sizeOf(root, height), EMPTY_ARRAY);
+    }
+
+    public static <E> ImmutableTrieList<E> empty()
+    {
+        return (ImmutableTrieList<E>) EMPTY;
+    }
+
+    public static <E> ImmutableTrieList<E> newList(Iterable<? extends E> iterable)
+    {
+        if (iterable instanceof ImmutableTrieList<?>)
+        {
+            return (ImmutableTrieList<E>) iterable;
+        }
+        if (iterable instanceof ImmutableTrieSubList<?>)
+        {
+            return ((ImmutableTrieSubList<E>) iterable).slice;
+        }
+        return ImmutableTrieList.newListFromArray(Iterate.toArray(iterable));
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        return ImmutableTrieList.newListFromArray(elements);
+    }
+
+    /**
+     * Builds a tree bottom up, spreading the elements evenly over the fewest nodes of at most 32 elements or children.
+     * The array is copied.
+     */
+    private static <E> ImmutableTrieList<E> newListFromArray(Object[] elements)
+    {
+        if (elements.length == 0)
+        {
+            return ImmutableTrieList.empty();
+        }
+        if (elements.length <= MAX_WIDTH)
+        {
+            return new ImmutableTrieList<>(EMPTY_ARRAY, 0, 0, Arrays.copyOf(elements, elements.length, Object[].class));
+        }
+        int height = 0;
+        Object[] level = ImmutableTrieList.group(elements, height);
+        while (level.length > 1)
+        {
+            height++;
+            level = ImmutableTrieList.group(level, height);
+        }
+        return new ImmutableTrieList<>(level[0], height);
+    }
+
+    private static Object[] group(Object[] contents, int height)
+    {
+        int count = (contents.length + MAX_WIDTH - 1) / MAX_WIDTH;
+        Object[] nodes = new Object[count];
+        int start = 0;
+        for (int i = 0; i < count; i++)
+        {
+            int end = (int) ((long) contents.length * (i + 1) / count);
+            nodes[i] = ImmutableTrieList.newNode(Arrays.copyOfRange(contents, start, end, Object[].class), height);
+            start = end;
+        }
+        return nodes;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.rootSize + this.tail.length;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        this.checkIndex(index);
+        if (index >= this.rootSize)
+        {
+            return (T) this.tail[index - this.rootSize];
+        }
+        Object node = this.root;
+        int localIndex = index;
+        for (int h = this.height; h > 0; h--)
+        {
+            Branch branch = (Branch) node;
+            int childIndex = branch.childIndex(localIndex);
+            localIndex -= branch.offset(childIndex);
+            node = branch.children[childIndex];
+        }
+        return (T) ((Object[]) node)[localIndex];
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.get(0);
+    }
+
+    @Override
+    public T getLast()
+    {
+        if (this.tail.length > 0)
+        {
+            return (T) this.tail[this.tail.length - 1];
+        }
+        return this.isEmpty() ? null : this.get(this.rootSize - 1);
+    }
+
+    @Override
+    public ImmutableList<T> newWith(T newItem)
+    {
+        if (this.tail.length < MAX_WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = newItem;
+            return new ImmutableTrieList<>(this.root, this.height, this.rootSize, newTail);
+        }
+        ImmutableTrieList<T> pushed = this.withoutTail();
+        return new ImmutableTrieList<>(pushed.root, pushed.height, pushed.rootSize, new Object[]{newItem});
+    }
+
+    @Override
+    public ImmutableList<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        return index < 0 ? this : this.newWithoutIndex(index);
+    }
+
+    @Override
+    public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableTrieList<T> other = ImmutableTrieList.newList(elements);
+        if (other.isEmpty())
+        {
+            return this;
+        }
+        if (this.isEmpty())
+        {
+            return other;
+        }
+        if (this.rootSize == 0 && other.rootSize == 0 && this.tail.length + other.tail.length <= MAX_WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + other.tail.length);
+            System.arraycopy(other.tail, 0, newTail, this.tail.length, other.tail.length);
+            return new ImmutableTrieList<>(EMPTY_ARRAY, 0, 0, newTail);
+        }
+        ImmutableTrieList<T> left = this.withoutTail();
+        ImmutableTrieList<T> right = other.withoutTail();
+        return ImmutableTrieList.join(left.root, left.height, right.root, right.height);
+    }
+
+    @Override
+    public ImmutableList<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        MutableList<T> result = this.toList();
+        this.removeAllFrom(elements, result);
+        return ImmutableTrieList.newList(result);
+    }
+
+    @Override
+    public ImmutableList<T> newWithIndexValue(int index, T element)
+    {
+        this.checkIndex(index);
+        if (index >= this.rootSize)
+        {
+            Object[] newTail = this.tail.clone();
+            newTail[index - this.rootSize] = element;
+            return new ImmutableTrieList<>(this.root, this.height, this.rootSize, newTail);
+        }
+        Object newRoot = ImmutableTrieList.set(this.root, this.height, index, element);
+        return new ImmutableTrieList<>(newRoot, this.height, this.rootSize, this.tail);
+    }
+
+    @Override
+    public ImmutableList<T> newWithoutIndex(int index)
+    {
+        this.checkIndex(index);
+        if (index >= this.rootSize)
+        {
+            int tailIndex = index - this.rootSize;
+            Object[] newTail = new Object[this.tail.length - 1];
+            System.arraycopy(this.tail, 0, newTail, 0, tailIndex);
+            System.arraycopy(this.tail, tailIndex + 1, newTail, tailIndex, newTail.length - tailIndex);
+            return new ImmutableTrieList<>(this.root, this.height, this.rootSize, newTail);
+        }
+        Object newRoot = ImmutableTrieList.remove(this.root, this.height, index);
+        int newHeight = this.height;
+        while (newHeight > 0 && ((Branch) newRoot).children.length == 1)
+        {
+            newRoot = ((Branch) newRoot).children[0];
+            newHeight--;
+        }
+        return new ImmutableTrieList<>(newRoot, newHeight, this.rootSize - 1, this.tail);
+    }
+
+    @Override
+    public ImmutableSubList<T> subList(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0)
+        {
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        }
+        if (toIndex > this.size())
+        {
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        }
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ')');
+        }
+        return new ImmutableTrieSubList<>(this.slice(fromIndex, toIndex));
+    }
+
+    @Override
+    public ImmutableList<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return count >= this.size() ? this : this.slice(0, count);
+    }
+
+    @Override
+    public ImmutableList<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return count == 0 ? this : this.slice(Math.min(count, this.size()), this.size());
+    }
+
+    @Override
+    public ImmutableList<T> toReversed()
+    {
+        return ImmutableTrieList.newList(this.asReversed());
+    }
+
+    private ImmutableTrieList<T> slice(int fromIndex, int toIndex)
+    {
+        if (fromIndex == 0 && toIndex == this.size())
+        {
+            return this;
+        }
+        ImmutableTrieList<T> flattened = this.withoutTail();
+        ImmutableTrieList<T> prefix = ImmutableTrieList.prefix(flattened.root, flattened.height, toIndex);
+        return ImmutableTrieList.suffix(prefix.root, prefix.height, fromIndex);
+    }
+
+    /**
+     * Returns an equal list whose elements are all in the tree.
+     */
+    private ImmutableTrieList<T> withoutTail()
+    {
+        if (this.tail.length == 0)
+        {
+            return this;
+        }
+        return ImmutableTrieList.join(this.root, this.height, this.tail, 0);
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        ImmutableTrieList.each(this.root, this.height, procedure);
+        for (Object each : this.tail)
+        {
+            procedure.value((T) each);
+        }
+    }
+
+    private static <T> void each(Object node, int height, Procedure<? super T> procedure)
+    {
+        if (height == 0)
+        {
+            for (Object each : (Object[]) node)
+            {
+                procedure.value((T) each);
+            }
+        }
+        else
+        {
+            for (Object child : ((Branch) node).children)
+            {
+                ImmutableTrieList.each(child, height - 1, procedure);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int[] index = new int[1];
+        this.each(each -> objectIntProcedure.value(each, index[0]++));
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new TrieIterator();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableTrieListSerializationProxy<>(this);
+    }
+
+    private static Object set(Object node, int height, int index, Object element)
+    {
+        if (height == 0)
+        {
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = element;
+            return leaf;
+        }
+        Branch branch = (Branch) node;
+        int childIndex = branch.childIndex(index);
+        Object[] children = branch.children.clone();
+        children[childIndex] = ImmutableTrieList.set(children[childIndex], height - 1, index - branch.offset(childIndex), element);
+        return new Branch(children, branch.sizes);
+    }
+
+    /**
+     * Removes the element at the index. The returned node may have fewer than {@link #MIN_WIDTH} children, which the
+     * parent corrects by merging it with a sibling.
+     */
+    private static Object remove(Object node, int height, int index)
+    {
+        if (height == 0)
+        {
+            Object[] leaf = (Object[]) node;
+            Object[] result = new Object[leaf.length - 1];
+            System.arraycopy(leaf, 0, result, 0, index);
+            System.arraycopy(leaf, index + 1, result, index, result.length - index);
+            return result;
+        }
+        Branch branch = (Branch) node;
+        int childIndex = branch.childIndex(index);
+        Object child = ImmutableTrieList.remove(branch.children[childIndex], height - 1, index - branch.offset(childIndex));
+        if (ImmutableTrieList.contentsOf(child, height - 1).length >= MIN_WIDTH || branch.children.length == 1)
+        {
+            return ImmutableTrieList.replace(branch, height, childIndex, 1, new Object[]{child})[0];
+        }
+        if (childIndex > 0)
+        {
+            Object[] merged = ImmutableTrieList.merge(branch.children[childIndex - 1], child, height - 1);
+            return ImmutableTrieList.replace(branch, height, childIndex - 1, 2, merged)[0];
+        }
+        Object[] merged = ImmutableTrieList.merge(child, branch.children[1], height - 1);
+        return ImmutableTrieList.replace(branch, height, 0, 2, merged)[0];
+    }
+
+    /**
+     * Returns the first {@code count} elements of the tree rooted at the node.
+     */
+    private static <T> ImmutableTrieList<T> prefix(Object node, int height, int count)
+    {
+        if (count == ImmutableTrieList.sizeOf(node, height))
+        {
+            return new ImmutableTrieList<>(node, height);
+        }
+        if (count == 0)
+        {
+            return ImmutableTrieList.empty();
+        }
+        if (height == 0)
+        {
+            return new ImmutableTrieList<>(Arrays.copyOf((Object[]) node, count), 0);
+        }
+        Branch branch = (Branch) node;
+        int childIndex = branch.childIndex(count - 1);
+        ImmutableTrieList<T> piece =
+                ImmutableTrieList.prefix(branch.children[childIndex], height - 1, count - branch.offset(childIndex));
+        if (childIndex == 0)
+        {
+            return piece;
+        }
+        if (childIndex == 1)
+        {
+            return ImmutableTrieList.join(branch.children[0], height - 1, piece.root, piece.height);
+        }
+        Branch front = new Branch(Arrays.copyOf(branch.children, childIndex), height - 1);
+        return ImmutableTrieList.join(front, height, piece.root, piece.height);
+    }
+
+    /**
+     * Returns the elements of the tree rooted at the node from index {@code start} on.
+     */
+    private static <T> ImmutableTrieList<T> suffix(Object node, int height, int start)
+    {
+        int size = ImmutableTrieList.sizeOf(node, height);
+        if (start == 0)
+        {
+            return new ImmutableTrieList<>(node, height);
+        }
+        if (start == size)
+        {
+            return ImmutableTrieList.empty();
+        }
+        if (height == 0)
+        {
+            return new ImmutableTrieList<>(Arrays.copyOfRange((Object[]) node, start, size), 0);
+        }
+        Branch branch = (Branch) node;
+        int childIndex = branch.childIndex(start);
+        ImmutableTrieList<T> piece =
+                ImmutableTrieList.suffix(branch.children[childIndex], height - 1, start - branch.offset(childIndex));
+        int last = branch.children.length - 1;
+        if (childIndex == last)
+        {
+            return piece;
+        }
+        if (childIndex == last - 1)
+        {
+            return ImmutableTrieList.join(piece.root, piece.height, branch.children[last], height - 1);
+        }
+        Branch back = new Branch(Arrays.copyOfRange(branch.children, childIndex + 1, branch.children.length), height - 1);
+        return ImmutableTrieList.join(piece.root, piece.height, back, height);
+    }
+
+    /**
+     * Concatenates two trees. The shorter tree is merged into the edge of the taller one at its own height, so only
+     * the nodes along that edge are copied.
+     */
+    private static <T> ImmutableTrieList<T> join(Object left, int leftHeight, Object right, int rightHeight)
+    {
+        if (ImmutableTrieList.sizeOf(right, rightHeight) == 0)
+        {
+            return new ImmutableTrieList<>(left, leftHeight);
+        }
+        if (ImmutableTrieList.sizeOf(left, leftHeight) == 0)
+        {
+            return new ImmutableTrieList<>(right, rightHeight);
+        }
+        int height = Math.max(leftHeight, rightHeight);
+        Object[] nodes = leftHeight >= rightHeight
+                ? ImmutableTrieList.joinRight(left, leftHeight, right, rightHeight)
+                : ImmutableTrieList.joinLeft(left, leftHeight, right, rightHeight);
+        if (nodes.length == 1)
+        {
+            return new ImmutableTrieList<>(nodes[0], height);
+        }
+        return new ImmutableTrieList<>(new Branch(nodes, height), height + 1);
+    }
+
+    private static Object[] joinRight(Object left, int leftHeight, Object right, int rightHeight)
+    {
+        if (leftHeight == rightHeight)
+        {
+            return ImmutableTrieList.merge(left, right, leftHeight);
+        }
+        Branch branch = (Branch) left;
+        int last = branch.children.length - 1;
+        Object[] nodes = ImmutableTrieList.joinRight(branch.children[last], leftHeight - 1, right, rightHeight);
+        return ImmutableTrieList.replace(branch, leftHeight, last, 1, nodes);
+    }
+
+    private static Object[] joinLeft(Object left, int leftHeight, Object right, int rightHeight)
+    {
+        if (leftHeight == rightHeight)
+        {
+            return ImmutableTrieList.merge(left, right, rightHeight);
+        }
+        Branch branch = (Branch) right;
+        Object[] nodes = ImmutableTrieList.joinLeft(left, leftHeight, branch.children[0], rightHeight - 1);
+        return ImmutableTrieList.replace(branch, rightHeight, 0, 1, nodes);
+    }
+
+    /**
+     * Merges two adjacent nodes of the same height into one node, or returns two nodes of at least
+     * {@link #MIN_WIDTH} children each. Nodes which are already wide enough are returned as they are.
+     */
+    private static Object[] merge(Object left, Object right, int height)
+    {
+        Object[] leftContents = ImmutableTrieList.contentsOf(left, height);
+        Object[] rightContents = ImmutableTrieList.contentsOf(right, height);
+        int total = leftContents.length + rightContents.length;
+        if (total > MAX_WIDTH && leftContents.length >= MIN_WIDTH && rightContents.length >= MIN_WIDTH)
+        {
+            return new Object[]{left, right};
+        }
+        Object[] contents = Arrays.copyOf(leftContents, total);
+        System.arraycopy(rightContents, 0, contents, leftContents.length, rightContents.length);
+        return ImmutableTrieList.split(contents, height);
+    }
+
+    /**
+     * Returns a copy of the branch with {@code count} children from {@code index} on replaced, split in two if it
+     * would have more than {@link #MAX_WIDTH} children.
+     */
+    private static Object[] replace(Branch branch, int height, int index, int count, Object[] replacements)
+    {
+        Object[] children = branch.children;
+        Object[] contents = new Object[children.length - count + replacements.length];
+        System.arraycopy(children, 0, contents, 0, index);
+        System.arraycopy(replacements, 0, contents, index, replacements.length);
+        System.arraycopy(children, index + count, contents, index + replacements.length, children.length - index - count);
+        return ImmutableTrieList.split(contents, height);
+    }
+
+    private static Object[] split(Object[] contents, int height)
+    {
+        if (contents.length <= MAX_WIDTH)
+        {
+            return new Object[]{ImmutableTrieList.newNode(contents, height)};
+        }
+        int half = contents.length / 2;
+        return new Object[]{
+                ImmutableTrieList.newNode(Arrays.copyOf(contents, half), height),
+                ImmutableTrieList.newNode(Arrays.copyOfRange(contents, half, contents.length), height)};
+    }
+
+    private static Object newNode(Object[] contents, int height)
+    {
+        return height == 0 ? contents : new Branch(contents, height - 1);
+    }
+
+    private static Object[] contentsOf(Object node, int height)
+    {
+        return height == 0 ? (Object[]) node : ((Branch) node).children;
+    }
+
+    private static int sizeOf(Object node, int height)
+    {
+        return height == 0 ? ((Object[]) node).length : ((Branch) node).size();
+    }
+
+    private static final class Branch
+    {
+        private final Object[] children;
+        private final int[] sizes;
+
+        private Branch(Object[] children, int childHeight)
+        {
+            this.children = children;
+            this.sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++)
+            {
+                total += ImmutableTrieList.sizeOf(children[i], childHeight);
+                this.sizes[i] = total;
+            }
+        }
+
+        private Branch(Object[] children, int[] sizes)
+        {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        private int size()
+        {
+            return this.sizes[this.sizes.length - 1];
+        }
+
+        private int offset(int childIndex)
+        {
+            return childIndex == 0 ? 0 : this.sizes[childIndex - 1];
+        }
+
+        /**
+         * Returns the index of the child holding the element at the index, or of the last child if the index is the
+         * size of the branch.
+         */
+        private int childIndex(int index)
+        {
+            int low = 0;
+            int high = this.sizes.length - 1;
+            while (low < high)
+            {
+                int mid = (low + high) >>> 1;
+                if (this.sizes[mid] > index)
+                {
+                    high = mid;
+                }
+                else
+                {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Iterates a leaf at a time, descending from the root only when a leaf is exhausted.
+     */
+    private final class TrieIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = EMPTY_ARRAY;
+        private int leafStart;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableTrieList.this.size();
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if (this.index - this.leafStart >= this.leaf.length)
+            {
+                this.seek();
+            }
+            T result = (T) this.leaf[this.index - this.leafStart];
+            this.index++;
+            return result;
+        }
+
+        private void seek()
+        {
+            ImmutableTrieList<T> list = ImmutableTrieList.this;
+            if (this.index >= list.rootSize)
+            {
+                this.leaf = list.tail;
+                this.leafStart = list.rootSize;
+                return;
+            }
+            Object node = list.root;
+            int localIndex = this.index;
+            for (int h = list.height; h > 0; h--)
+            {
+                Branch branch = (Branch) node;
+                int childIndex = branch.childIndex(localIndex);
+                localIndex -= branch.offset(childIndex);
+                node = branch.children[childIndex];
+            }
+            this.leaf = (Object[]) node;
+            this.leafStart = this.index - localIndex;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an immutable list");
+        }
+    }
+
+    /**
+     * A subList of an ImmutableTrieList. The elements are sliced into a list of their own, so further updates stay
+     * persistent.
+     */
+    private static final class ImmutableTrieSubList<T>
+            extends ImmutableSubList<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ImmutableTrieList<T> slice;
+
+        private ImmutableTrieSubList(ImmutableTrieList<T> slice)
+        {
+            super(slice, 0, slice.size());
+            this.slice = slice;
+        }
+
+        @Override
+        public ImmutableList<T> newWith(T newItem)
+        {
+            return this.slice.newWith(newItem);
+        }
+
+        @Override
+        public ImmutableList<T> newWithout(T element)
+        {
+            return this.slice.newWithout(element);
+        }
+
+        @Override
+        public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+        {
+            return this.slice.newWithAll(elements);
+        }
+
+        @Override
+        public ImmutableList<T> newWithoutAll(Iterable<? extends T> elements)
+        {
+            return this.slice.newWithoutAll(elements);
+        }
+
+        @Override
+        public ImmutableList<T> newWithIndexValue(int index, T element)
+        {
+            return this.slice.newWithIndexValue(index, element);
+        }
+
+        @Override
+        public ImmutableList<T> newWithoutIndex(int index)
+        {
+            return this.slice.newWithoutIndex(index);
+        }
+
+        @Override
+        public ImmutableSubList<T> subList(int fromIndex, int toIndex)
+        {
+            return this.slice.subList(fromIndex, toIndex);
+        }
+
+        @Override
+        public ImmutableList<T> take(int count)
+        {
+            return this.slice.take(count);
+        }
+
+        @Override
+        public ImmutableList<T> drop(int count)
+        {
+            return this.slice.drop(count);
+        }
+
+        @Override
+        public void each(Procedure<? super T> procedure)
+        {
+            this.slice.each(procedure);
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return this.slice.iterator();
+        }
+
+        @Override
+        protected Object writeReplace()
+        {
+            return this.slice;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure;
+
+class ImmutableTrieListSerializationProxy<T> implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ImmutableTrieList<T> list;
+
+    @SuppressWarnings("UnusedDeclaration")
+    public ImmutableTrieListSerializationProxy()
+    {
+        // Empty constructor for Externalizable class
+    }
+
+    ImmutableTrieListSerializationProxy(ImmutableTrieList<T> list)
+    {
+        this.list = list;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.list.size());
+        try
+        {
+            this.list.forEach(new CheckedProcedure<T>()
+            {
+                @Override
+                public void safeValue(T value) throws IOException
+                {
+                    out.writeObject(value);
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            elements[i] = in.readObject();
+        }
+        this.list = ImmutableTrieList.newListWith((T[]) elements);
+    }
+
+    protected Object readResolve()
+    {
+        return this.list;
+    }
+}
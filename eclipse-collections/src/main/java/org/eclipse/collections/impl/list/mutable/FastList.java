@@ -95,6 +95,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
 import org.eclipse.collections.impl.utility.internal.RandomAccessListIterate;
+import org.eclipse.collections.impl.utility.primitive.PrimitiveRadixSort;
 
 /**
  * FastList is an attempt to provide the same functionality as ArrayList without the support for concurrent
@@ -300,6 +301,91 @@ public class FastList<T>
         return (FastList<T>) super.sortThis();
     }
 
+    /**
+     * Sorts lists of at least {@link PrimitiveRadixSort#RADIX_THRESHOLD} elements with a stable radix sort of the
+     * keys, which calls {@code function} once per element instead of twice per comparison.
+     *
+     * @since 12.0 - Overridden for efficiency
+     */
+    @Override
+    public FastList<T> sortThisByInt(IntFunction<? super T> function)
+    {
+        if (this.size < PrimitiveRadixSort.RADIX_THRESHOLD)
+        {
+            return (FastList<T>) super.sortThisByInt(function);
+        }
+        int[] keys = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.intValueOf(this.items[i]);
+        }
+        PrimitiveRadixSort.sortBy(keys, this.items, 0, this.size);
+        return this;
+    }
+
+    /**
+     * Sorts large lists with a radix sort of the keys, like {@link #sortThisByInt(IntFunction)}.
+     *
+     * @since 12.0 - Overridden for efficiency
+     */
+    @Override
+    public FastList<T> sortThisByLong(LongFunction<? super T> function)
+    {
+        if (this.size < PrimitiveRadixSort.RADIX_THRESHOLD)
+        {
+            return (FastList<T>) super.sortThisByLong(function);
+        }
+        long[] keys = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = function.longValueOf(this.items[i]);
+        }
+        PrimitiveRadixSort.sortBy(keys, this.items, 0, this.size);
+        return this;
+    }
+
+    /**
+     * Sorts large lists with a radix sort of the keys, like {@link #sortThisByInt(IntFunction)}.
+     *
+     * @since 12.0 - Overridden for efficiency
+     */
+    @Override
+    public FastList<T> sortThisByFloat(FloatFunction<? super T> function)
+    {
+        if (this.size < PrimitiveRadixSort.RADIX_THRESHOLD)
+        {
+            return (FastList<T>) super.sortThisByFloat(function);
+        }
+        int[] keys = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = PrimitiveRadixSort.sortableKey(function.floatValueOf(this.items[i]));
+        }
+        PrimitiveRadixSort.sortBy(keys, this.items, 0, this.size);
+        return this;
+    }
+
+    /**
+     * Sorts large lists with a radix sort of the keys, like {@link #sortThisByInt(IntFunction)}.
+     *
+     * @since 12.0 - Overridden for efficiency
+     */
+    @Override
+    public FastList<T> sortThisByDouble(DoubleFunction<? super T> function)
+    {
+        if (this.size < PrimitiveRadixSort.RADIX_THRESHOLD)
+        {
+            return (FastList<T>) super.sortThisByDouble(function);
+        }
+        long[] keys = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            keys[i] = PrimitiveRadixSort.sortableKey(function.doubleValueOf(this.items[i]));
+        }
+        PrimitiveRadixSort.sortBy(keys, this.items, 0, this.size);
+        return this;
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
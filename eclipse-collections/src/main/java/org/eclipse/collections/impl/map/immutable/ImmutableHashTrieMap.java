@@ -0,0 +1,1174 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * An ImmutableMap stored in a compressed hash array mapped prefix tree. Each node of the trie holds up to 32 entries and
+ * sub-nodes, selected by five bits of the key's hash code. newWithKeyValue and newWithoutKey copy only the nodes on the
+ * path to the key, O(log32 n) of them, and share every other node with the original map.
+ * <p>
+ * Removals compact the trie so that its shape depends only on the keys it holds, which lets equals between maps derived
+ * from one another skip every subtree they share. A {@link Builder} creates or updates a map one entry at a time
+ * without copying a path per entry.
+ *
+ * @since 12.0
+ */
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V> implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = 31;
+    private static final int HASH_CODE_LENGTH = 32;
+    private static final int MAX_DEPTH = 8;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY = new ImmutableHashTrieMap<>(BitmapNode.EMPTY_NODE, 0);
+
+    private final TrieNode root;
+    private final int size;
+
+    private ImmutableHashTrieMap(TrieNode root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> empty()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            return (ImmutableHashTrieMap<K, V>) map;
+        }
+        return ImmutableHashTrieMap.<K, V>builder().putAll(map).build();
+    }
+
+    public static <K, V> Builder<K, V> builder()
+    {
+        return new Builder<>(BitmapNode.EMPTY_NODE, 0);
+    }
+
+    /**
+     * Returns a builder initialized with the entries of this map. The builder shares the nodes of this map until it
+     * changes them, and never changes this map.
+     */
+    public Builder<K, V> toBuilder()
+    {
+        return new Builder<>(this.root, this.size);
+    }
+
+    private static int hash(Object key)
+    {
+        int hashCode = key == null ? 0 : key.hashCode();
+        return hashCode ^ hashCode >>> 16;
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return hash >>> shift & LEVEL_MASK;
+    }
+
+    private static int bitPosition(int hash, int shift)
+    {
+        return 1 << ImmutableHashTrieMap.mask(hash, shift);
+    }
+
+    private static int keyValueHashCode(Object key, Object value)
+    {
+        return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root.find(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.root.anySatisfy((eachKey, eachValue) -> Objects.equals(value, eachValue));
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public V getIfAbsent(K key, Function0<? extends V> function)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? function.value() : (V) result;
+    }
+
+    @Override
+    public V getIfAbsentValue(K key, V value)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? value : (V) result;
+    }
+
+    @Override
+    public <P> V getIfAbsentWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? function.valueOf(parameter) : (V) result;
+    }
+
+    @Override
+    public <A> A ifPresentApply(K key, Function<? super V, ? extends A> function)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : function.valueOf((V) result);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Modification modification = new Modification();
+        TrieNode newRoot = this.root.put(null, key, ImmutableHashTrieMap.hash(key), value, 0, modification);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        return new ImmutableHashTrieMap<>(newRoot, modification.added ? this.size + 1 : this.size);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutKey(K key)
+    {
+        Modification modification = new Modification();
+        TrieNode newRoot = this.root.remove(null, key, ImmutableHashTrieMap.hash(key), 0, modification);
+        if (!modification.modified)
+        {
+            return this;
+        }
+        if (this.size == 1)
+        {
+            return ImmutableHashTrieMap.empty();
+        }
+        return new ImmutableHashTrieMap<>(newRoot, this.size - 1);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            builder.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        return this.toBuilder().putAll(map).build();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        mapIterable.forEachKeyValue(builder::put);
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            builder.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        for (K key : keys)
+        {
+            builder.remove(key);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEach((Procedure2<Object, Object>) procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.root.forEach((key, value) -> procedure.value((K) key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.root.forEach((key, value) -> procedure.value((V) value));
+    }
+
+    @Override
+    public void each(Procedure<? super V> procedure)
+    {
+        this.forEachValue(procedure);
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new TrieIterator<V>(this.root)
+        {
+            @Override
+            protected V entry(Object key, Object value)
+            {
+                return (V) value;
+            }
+        };
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return new KeysView();
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return new ValuesView();
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return new KeyValuesView();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return Sets.immutable.withAll(this.keysView()).castToSet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return Lists.immutable.withAll(this.valuesView()).castToList();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (object instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            ImmutableHashTrieMap<?, ?> other = (ImmutableHashTrieMap<?, ?>) object;
+            return this.size == other.size && this.root.equivalent(other.root);
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        return this.size == other.size()
+                && !this.root.anySatisfy((key, value) -> !this.keyAndValueEquals((K) key, (V) value, other));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.root.entryHashCodeSum();
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder().append('{');
+        Iterator<Pair<K, V>> iterator = this.keyValuesView().iterator();
+        while (iterator.hasNext())
+        {
+            Pair<K, V> pair = iterator.next();
+            builder.append(pair.getOne() == this ? "(this Map)" : pair.getOne())
+                    .append('=')
+                    .append(pair.getTwo() == this ? "(this Map)" : pair.getTwo());
+            if (iterator.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableHashTrieMapSerializationProxy<>(this);
+    }
+
+    /**
+     * Accumulates the entries of an {@link ImmutableHashTrieMap}. The nodes created by a builder are changed in place
+     * until {@link #build()} publishes them, after which the builder copies them again before changing them, so the
+     * maps it has built stay immutable.
+     */
+    public static final class Builder<K, V>
+    {
+        private final Modification modification = new Modification();
+        private Object owner = new Object();
+        private TrieNode root;
+        private int size;
+
+        private Builder(TrieNode root, int size)
+        {
+            this.root = root;
+            this.size = size;
+        }
+
+        public Builder<K, V> put(K key, V value)
+        {
+            this.modification.reset();
+            this.root = this.root.put(this.owner, key, ImmutableHashTrieMap.hash(key), value, 0, this.modification);
+            if (this.modification.added)
+            {
+                this.size++;
+            }
+            return this;
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map)
+        {
+            if (map instanceof MapIterable<?, ?>)
+            {
+                ((MapIterable<? extends K, ? extends V>) map).forEachKeyValue(this::put);
+            }
+            else
+            {
+                map.forEach(this::put);
+            }
+            return this;
+        }
+
+        public Builder<K, V> remove(K key)
+        {
+            this.modification.reset();
+            this.root = this.root.remove(this.owner, key, ImmutableHashTrieMap.hash(key), 0, this.modification);
+            if (this.modification.modified)
+            {
+                this.size--;
+            }
+            return this;
+        }
+
+        public V get(K key)
+        {
+            Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+            return result == NOT_FOUND ? null : (V) result;
+        }
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        public ImmutableHashTrieMap<K, V> build()
+        {
+            this.owner = new Object();
+            if (this.size == 0)
+            {
+                return ImmutableHashTrieMap.empty();
+            }
+            return new ImmutableHashTrieMap<>(this.root, this.size);
+        }
+    }
+
+    private static final class Modification
+    {
+        private boolean modified;
+        private boolean added;
+
+        private void reset()
+        {
+            this.modified = false;
+            this.added = false;
+        }
+
+        private void added()
+        {
+            this.modified = true;
+            this.added = true;
+        }
+
+        private void changed()
+        {
+            this.modified = true;
+        }
+    }
+
+    private abstract static class TrieNode
+    {
+        /**
+         * The builder which may change this node in place, or null.
+         */
+        protected final Object owner;
+
+        protected TrieNode(Object owner)
+        {
+            this.owner = owner;
+        }
+
+        protected boolean isOwnedBy(Object owner)
+        {
+            return owner != null && this.owner == owner;
+        }
+
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract TrieNode put(Object owner, Object key, int hash, Object value, int shift, Modification modification);
+
+        abstract TrieNode remove(Object owner, Object key, int hash, int shift, Modification modification);
+
+        /**
+         * Whether this node holds exactly one entry and no sub-nodes, in which case its parent inlines the entry.
+         */
+        abstract boolean isSingleton();
+
+        abstract int payloadArity();
+
+        abstract Object keyAt(int index);
+
+        abstract Object valueAt(int index);
+
+        abstract int nodeArity();
+
+        abstract TrieNode nodeAtIndex(int index);
+
+        abstract boolean equivalent(TrieNode other);
+
+        void forEach(Procedure2<Object, Object> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.keyAt(i), this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAtIndex(i).forEach(procedure);
+            }
+        }
+
+        boolean anySatisfy(Predicate2<Object, Object> predicate)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                if (predicate.accept(this.keyAt(i), this.valueAt(i)))
+                {
+                    return true;
+                }
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                if (this.nodeAtIndex(i).anySatisfy(predicate))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int entryHashCodeSum()
+        {
+            int sum = 0;
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                sum += ImmutableHashTrieMap.keyValueHashCode(this.keyAt(i), this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                sum += this.nodeAtIndex(i).entryHashCodeSum();
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * A node which stores its entries inline as alternating keys and values at the front of content, and its sub-nodes
+     * in reverse order at the back of content. dataMap and nodeMap mark which of the 32 hash slots hold an entry and
+     * which hold a sub-node.
+     */
+    private static final class BitmapNode extends TrieNode
+    {
+        private static final BitmapNode EMPTY_NODE = new BitmapNode(null, 0, 0, new Object[0]);
+
+        private int dataMap;
+        private int nodeMap;
+        private Object[] content;
+
+        private BitmapNode(Object owner, int dataMap, int nodeMap, Object[] content)
+        {
+            super(owner);
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static TrieNode mergeTwoEntries(
+                Object owner,
+                Object key0, int hash0, Object value0,
+                Object key1, int hash1, Object value1,
+                int shift)
+        {
+            if (shift >= HASH_CODE_LENGTH)
+            {
+                return new CollisionNode(owner, hash0, new Object[]{key0, value0, key1, value1});
+            }
+            int mask0 = ImmutableHashTrieMap.mask(hash0, shift);
+            int mask1 = ImmutableHashTrieMap.mask(hash1, shift);
+            if (mask0 != mask1)
+            {
+                int dataMap = 1 << mask0 | 1 << mask1;
+                Object[] content = mask0 < mask1
+                        ? new Object[]{key0, value0, key1, value1}
+                        : new Object[]{key1, value1, key0, value0};
+                return new BitmapNode(owner, dataMap, 0, content);
+            }
+            TrieNode node = BitmapNode.mergeTwoEntries(owner, key0, hash0, value0, key1, hash1, value1, shift + BITS_PER_LEVEL);
+            return new BitmapNode(owner, 0, 1 << mask0, new Object[]{node});
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & bit - 1);
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return Integer.bitCount(this.nodeMap & bit - 1);
+        }
+
+        private TrieNode nodeForBit(int bit)
+        {
+            return (TrieNode) this.content[this.content.length - 1 - this.nodeIndex(bit)];
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieMap.bitPosition(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit) << 1;
+                return Objects.equals(key, this.content[index]) ? this.content[index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.nodeForBit(bit).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        TrieNode put(Object owner, Object key, int hash, Object value, int shift, Modification modification)
+        {
+            int bit = ImmutableHashTrieMap.bitPosition(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit) << 1;
+                Object currentKey = this.content[index];
+                if (Objects.equals(key, currentKey))
+                {
+                    if (this.content[index + 1] == value)
+                    {
+                        return this;
+                    }
+                    modification.changed();
+                    return this.copyAndSet(owner, index + 1, value);
+                }
+                modification.added();
+                TrieNode node = BitmapNode.mergeTwoEntries(
+                        owner,
+                        currentKey, ImmutableHashTrieMap.hash(currentKey), this.content[index + 1],
+                        key, hash, value,
+                        shift + BITS_PER_LEVEL);
+                return this.copyAndMigrateFromInlineToNode(owner, bit, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                TrieNode node = this.nodeForBit(bit);
+                TrieNode newNode = node.put(owner, key, hash, value, shift + BITS_PER_LEVEL, modification);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                return this.copyAndSet(owner, this.content.length - 1 - this.nodeIndex(bit), newNode);
+            }
+            modification.added();
+            return this.copyAndInsertEntry(owner, bit, key, value);
+        }
+
+        @Override
+        TrieNode remove(Object owner, Object key, int hash, int shift, Modification modification)
+        {
+            int bit = ImmutableHashTrieMap.bitPosition(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int dataIndex = this.dataIndex(bit);
+                if (!Objects.equals(key, this.content[dataIndex << 1]))
+                {
+                    return this;
+                }
+                modification.changed();
+                if (shift != 0 && this.nodeMap == 0 && Integer.bitCount(this.dataMap) == 2)
+                {
+                    // The remaining entry moves up to the parent, which finds it at the root position of its hash.
+                    int remaining = (dataIndex ^ 1) << 1;
+                    return new BitmapNode(
+                            owner,
+                            ImmutableHashTrieMap.bitPosition(hash, 0),
+                            0,
+                            new Object[]{this.content[remaining], this.content[remaining + 1]});
+                }
+                return this.copyAndRemoveEntry(owner, bit);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                TrieNode node = this.nodeForBit(bit);
+                TrieNode newNode = node.remove(owner, key, hash, shift + BITS_PER_LEVEL, modification);
+                if (!modification.modified)
+                {
+                    return this;
+                }
+                if (newNode.isSingleton())
+                {
+                    if (this.dataMap == 0 && Integer.bitCount(this.nodeMap) == 1)
+                    {
+                        return newNode;
+                    }
+                    return this.copyAndMigrateFromNodeToInline(owner, bit, newNode);
+                }
+                if (newNode == node)
+                {
+                    return this;
+                }
+                return this.copyAndSet(owner, this.content.length - 1 - this.nodeIndex(bit), newNode);
+            }
+            return this;
+        }
+
+        private TrieNode copyAndSet(Object owner, int index, Object object)
+        {
+            if (this.isOwnedBy(owner))
+            {
+                this.content[index] = object;
+                return this;
+            }
+            Object[] newContent = this.content.clone();
+            newContent[index] = object;
+            return new BitmapNode(owner, this.dataMap, this.nodeMap, newContent);
+        }
+
+        private TrieNode copyAndInsertEntry(Object owner, int bit, Object key, Object value)
+        {
+            int index = this.dataIndex(bit) << 1;
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return this.update(owner, this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private TrieNode copyAndRemoveEntry(Object owner, int bit)
+        {
+            int index = this.dataIndex(bit) << 1;
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return this.update(owner, this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private TrieNode copyAndMigrateFromInlineToNode(Object owner, int bit, TrieNode node)
+        {
+            int oldIndex = this.dataIndex(bit) << 1;
+            int newIndex = this.content.length - 2 - this.nodeIndex(bit);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, oldIndex);
+            System.arraycopy(this.content, oldIndex + 2, newContent, oldIndex, newIndex - oldIndex);
+            newContent[newIndex] = node;
+            System.arraycopy(this.content, newIndex + 2, newContent, newIndex + 1, this.content.length - newIndex - 2);
+            return this.update(owner, this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private TrieNode copyAndMigrateFromNodeToInline(Object owner, int bit, TrieNode node)
+        {
+            int oldIndex = this.content.length - 1 - this.nodeIndex(bit);
+            int newIndex = this.dataIndex(bit) << 1;
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = node.keyAt(0);
+            newContent[newIndex + 1] = node.valueAt(0);
+            System.arraycopy(this.content, newIndex, newContent, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(this.content, oldIndex + 1, newContent, oldIndex + 2, this.content.length - oldIndex - 1);
+            return this.update(owner, this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+
+        private TrieNode update(Object owner, int newDataMap, int newNodeMap, Object[] newContent)
+        {
+            if (this.isOwnedBy(owner))
+            {
+                this.dataMap = newDataMap;
+                this.nodeMap = newNodeMap;
+                this.content = newContent;
+                return this;
+            }
+            return new BitmapNode(owner, newDataMap, newNodeMap, newContent);
+        }
+
+        @Override
+        boolean isSingleton()
+        {
+            return this.nodeMap == 0 && Integer.bitCount(this.dataMap) == 1;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        Object keyAt(int index)
+        {
+            return this.content[index << 1];
+        }
+
+        @Override
+        Object valueAt(int index)
+        {
+            return this.content[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        TrieNode nodeAtIndex(int index)
+        {
+            return (TrieNode) this.content[this.content.length - 1 - index];
+        }
+
+        @Override
+        boolean equivalent(TrieNode other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof BitmapNode))
+            {
+                return false;
+            }
+            BitmapNode that = (BitmapNode) other;
+            if (this.dataMap != that.dataMap || this.nodeMap != that.nodeMap)
+            {
+                return false;
+            }
+            int dataLength = Integer.bitCount(this.dataMap) << 1;
+            for (int i = 0; i < dataLength; i++)
+            {
+                if (!Objects.equals(this.content[i], that.content[i]))
+                {
+                    return false;
+                }
+            }
+            for (int i = dataLength; i < this.content.length; i++)
+            {
+                if (!((TrieNode) this.content[i]).equivalent((TrieNode) that.content[i]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A node below the last level of the trie which holds entries whose keys have the same hash code.
+     */
+    private static final class CollisionNode extends TrieNode
+    {
+        private final int hash;
+        private Object[] content;
+
+        private CollisionNode(Object owner, int hash, Object[] content)
+        {
+            super(owner);
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (Objects.equals(key, this.content[i]))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index == -1 ? NOT_FOUND : this.content[index + 1];
+        }
+
+        @Override
+        TrieNode put(Object owner, Object key, int hash, Object value, int shift, Modification modification)
+        {
+            int index = this.indexOf(key);
+            if (index != -1)
+            {
+                if (this.content[index + 1] == value)
+                {
+                    return this;
+                }
+                modification.changed();
+                if (this.isOwnedBy(owner))
+                {
+                    this.content[index + 1] = value;
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index + 1] = value;
+                return new CollisionNode(owner, this.hash, newContent);
+            }
+            modification.added();
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = key;
+            newContent[this.content.length + 1] = value;
+            return this.update(owner, newContent);
+        }
+
+        @Override
+        TrieNode remove(Object owner, Object key, int hash, int shift, Modification modification)
+        {
+            int index = this.indexOf(key);
+            if (index == -1)
+            {
+                return this;
+            }
+            modification.changed();
+            if (this.content.length == 4)
+            {
+                int remaining = index ^ 2;
+                return new BitmapNode(
+                        owner,
+                        ImmutableHashTrieMap.bitPosition(this.hash, 0),
+                        0,
+                        new Object[]{this.content[remaining], this.content[remaining + 1]});
+            }
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return this.update(owner, newContent);
+        }
+
+        private TrieNode update(Object owner, Object[] newContent)
+        {
+            if (this.isOwnedBy(owner))
+            {
+                this.content = newContent;
+                return this;
+            }
+            return new CollisionNode(owner, this.hash, newContent);
+        }
+
+        @Override
+        boolean isSingleton()
+        {
+            return false;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.content.length >> 1;
+        }
+
+        @Override
+        Object keyAt(int index)
+        {
+            return this.content[index << 1];
+        }
+
+        @Override
+        Object valueAt(int index)
+        {
+            return this.content[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        TrieNode nodeAtIndex(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+
+        @Override
+        boolean equivalent(TrieNode other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof CollisionNode))
+            {
+                return false;
+            }
+            CollisionNode that = (CollisionNode) other;
+            if (this.hash != that.hash || this.content.length != that.content.length)
+            {
+                return false;
+            }
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                int index = that.indexOf(this.content[i]);
+                if (index == -1 || !Objects.equals(this.content[i + 1], that.content[index + 1]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Walks the trie depth first, visiting the entries of each node before those of its sub-nodes, which is the order
+     * of {@link TrieNode#forEach(Procedure2)}.
+     */
+    private abstract static class TrieIterator<R> implements Iterator<R>
+    {
+        private final TrieNode[] nodes = new TrieNode[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth = -1;
+        private TrieNode dataNode;
+        private int dataCursor;
+        private int dataLength;
+
+        protected TrieIterator(TrieNode root)
+        {
+            this.visit(root);
+        }
+
+        private void visit(TrieNode node)
+        {
+            if (node.nodeArity() > 0)
+            {
+                this.depth++;
+                this.nodes[this.depth] = node;
+                this.nodeCursors[this.depth] = 0;
+            }
+            this.dataNode = node;
+            this.dataCursor = 0;
+            this.dataLength = node.payloadArity();
+        }
+
+        protected abstract R entry(Object key, Object value);
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.dataCursor >= this.dataLength)
+            {
+                if (this.depth < 0)
+                {
+                    return false;
+                }
+                TrieNode node = this.nodes[this.depth];
+                if (this.nodeCursors[this.depth] < node.nodeArity())
+                {
+                    this.visit(node.nodeAtIndex(this.nodeCursors[this.depth]++));
+                }
+                else
+                {
+                    this.nodes[this.depth] = null;
+                    this.depth--;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public R next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int index = this.dataCursor++;
+            return this.entry(this.dataNode.keyAt(index), this.dataNode.valueAt(index));
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableHashTrieMap");
+        }
+    }
+
+    private class KeysView extends AbstractLazyIterable<K>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public void each(Procedure<? super K> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachKey(procedure);
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new TrieIterator<K>(ImmutableHashTrieMap.this.root)
+            {
+                @Override
+                protected K entry(Object key, Object value)
+                {
+                    return (K) key;
+                }
+            };
+        }
+    }
+
+    private class ValuesView extends AbstractLazyIterable<V>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public void each(Procedure<? super V> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachValue(procedure);
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return ImmutableHashTrieMap.this.iterator();
+        }
+    }
+
+    private class KeyValuesView extends AbstractLazyIterable<Pair<K, V>>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public void each(Procedure<? super Pair<K, V>> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachKeyValue((key, value) -> procedure.value(Tuples.pair(key, value)));
+        }
+
+        @Override
+        public Iterator<Pair<K, V>> iterator()
+        {
+            return new TrieIterator<Pair<K, V>>(ImmutableHashTrieMap.this.root)
+            {
+                @Override
+                protected Pair<K, V> entry(Object key, Object value)
+                {
+                    return Tuples.pair((K) key, (V) value);
+                }
+            };
+        }
+    }
+}
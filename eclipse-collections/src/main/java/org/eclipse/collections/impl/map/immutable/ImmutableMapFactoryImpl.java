@@ -185,4 +185,10 @@ public class ImmutableMapFactoryImpl implements ImmutableMapFactory
                 throw new AssertionError();
         }
     }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> withAllPersistent(Map<? extends K, ? extends V> map)
+    {
+        return ImmutableHashTrieMap.newMap(map);
+    }
 }
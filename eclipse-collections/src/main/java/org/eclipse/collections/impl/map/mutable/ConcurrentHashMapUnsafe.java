@@ -14,10 +14,8 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
-import java.lang.reflect.Field;
-import java.security.AccessController;
-import java.security.PrivilegedActionException;
-import java.security.PrivilegedExceptionAction;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
 import java.util.Collection;
@@ -52,9 +50,7 @@ import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.MapIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
-import sun.misc.Unsafe;
 
-@SuppressWarnings("UseOfSunClasses")
 public class ConcurrentHashMapUnsafe<K, V>
         extends AbstractMutableMap<K, V>
         implements ConcurrentMutableMap<K, V>, Externalizable
@@ -77,43 +73,20 @@ public class ConcurrentHashMapUnsafe<K, V>
     private static final Object RESIZING = new Object();
     private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
 
-    private static final Unsafe UNSAFE;
-    private static final long OBJECT_ARRAY_BASE;
-    private static final int OBJECT_ARRAY_SHIFT;
-    private static final long INT_ARRAY_BASE;
-    private static final int INT_ARRAY_SHIFT;
-    private static final long SIZE_OFFSET;
+    private static final VarHandle OBJECT_ARRAY = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle SIZE;
     private static final int SIZE_BUCKETS = 7;
 
     static
     {
         try
         {
-            UNSAFE = ConcurrentHashMapUnsafe.getUnsafe();
-            Class<?> objectArrayClass = Object[].class;
-            OBJECT_ARRAY_BASE = UNSAFE.arrayBaseOffset(objectArrayClass);
-            int objectArrayScale = UNSAFE.arrayIndexScale(objectArrayClass);
-            if ((objectArrayScale & (objectArrayScale - 1)) != 0)
-            {
-                throw new AssertionError("data type scale not a power of two");
-            }
-            OBJECT_ARRAY_SHIFT = 31 - Integer.numberOfLeadingZeros(objectArrayScale);
-
-            Class<?> intArrayClass = int[].class;
-            INT_ARRAY_BASE = UNSAFE.arrayBaseOffset(intArrayClass);
-            int intArrayScale = UNSAFE.arrayIndexScale(intArrayClass);
-            if ((intArrayScale & (intArrayScale - 1)) != 0)
-            {
-                throw new AssertionError("data type scale not a power of two");
-            }
-            INT_ARRAY_SHIFT = 31 - Integer.numberOfLeadingZeros(intArrayScale);
-
-            Class<?> mapClass = ConcurrentHashMapUnsafe.class;
-            SIZE_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("size"));
+            SIZE = MethodHandles.lookup().findVarHandle(ConcurrentHashMapUnsafe.class, "size", int.class);
         }
-        catch (NoSuchFieldException | SecurityException e)
+        catch (NoSuchFieldException | IllegalAccessException e)
         {
-            throw new AssertionError(e);
+            throw new ExceptionInInitializerError(e);
         }
     }
 
@@ -170,17 +143,17 @@ public class ConcurrentHashMapUnsafe<K, V>
 
     private static Object arrayAt(Object[] array, int index)
     {
-        return UNSAFE.getObjectVolatile(array, ((long) index << OBJECT_ARRAY_SHIFT) + OBJECT_ARRAY_BASE);
+        return OBJECT_ARRAY.getVolatile(array, index);
     }
 
     private static boolean casArrayAt(Object[] array, int index, Object expected, Object newValue)
     {
-        return UNSAFE.compareAndSwapObject(array, ((long) index << OBJECT_ARRAY_SHIFT) + OBJECT_ARRAY_BASE, expected, newValue);
+        return OBJECT_ARRAY.compareAndSet(array, index, expected, newValue);
     }
 
     private static void setArrayAt(Object[] array, int index, Object newValue)
     {
-        UNSAFE.putObjectVolatile(array, ((long) index << OBJECT_ARRAY_SHIFT) + OBJECT_ARRAY_BASE, newValue);
+        OBJECT_ARRAY.setVolatile(array, index, newValue);
     }
 
     private static int indexFor(int h, int length)
@@ -719,11 +692,10 @@ public class ConcurrentHashMapUnsafe<K, V>
         if (h != 0)
         {
             h = (h - 1) << 4;
-            long address = ((long) h << INT_ARRAY_SHIFT) + INT_ARRAY_BASE;
             while (true)
             {
-                int localSize = UNSAFE.getIntVolatile(this.partitionedSize, address);
-                if (UNSAFE.compareAndSwapInt(this.partitionedSize, address, localSize, localSize + value))
+                int localSize = (int) INT_ARRAY.getVolatile(this.partitionedSize, h);
+                if (INT_ARRAY.compareAndSet(this.partitionedSize, h, localSize, localSize + value))
                 {
                     return true;
                 }
@@ -737,7 +709,7 @@ public class ConcurrentHashMapUnsafe<K, V>
         while (true)
         {
             int localSize = this.size;
-            if (UNSAFE.compareAndSwapInt(this, SIZE_OFFSET, localSize, localSize + value))
+            if (SIZE.compareAndSet(this, localSize, localSize + value))
             {
                 break;
             }
@@ -2273,33 +2245,6 @@ public class ConcurrentHashMapUnsafe<K, V>
         Iterate.forEachWith(this.values(), procedure, parameter);
     }
 
-    private static Unsafe getUnsafe()
-    {
-        try
-        {
-            return Unsafe.getUnsafe();
-        }
-        catch (SecurityException ignored)
-        {
-            try
-            {
-                return AccessController.doPrivileged(new PrivilegedExceptionAction<Unsafe>()
-                {
-                    public Unsafe run() throws Exception
-                    {
-                        Field f = Unsafe.class.getDeclaredField("theUnsafe");
-                        f.setAccessible(true);
-                        return (Unsafe) f.get(null);
-                    }
-                });
-            }
-            catch (PrivilegedActionException e)
-            {
-                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
-            }
-        }
-    }
-
     @Override
     public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
     {
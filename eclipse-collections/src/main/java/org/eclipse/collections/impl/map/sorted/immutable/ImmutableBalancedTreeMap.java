@@ -0,0 +1,1050 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.MapIterate;
+
+/**
+ * An ImmutableSortedMap stored in a weight-balanced binary search tree. newWithKeyValue and newWithoutKey copy only
+ * the O(log n) nodes on the path to the key and share every other node with the original map, where
+ * {@link ImmutableTreeMap} copies both of its arrays.
+ * <p>
+ * headMap, tailMap, subMap, take and drop split the tree along the path to their bounds and return
+ * ImmutableBalancedTreeMaps in O(log n) time. Lookups are O(log n), like a binary search of ImmutableTreeMap, but
+ * follow a pointer per comparison.
+ *
+ * @since 12.0
+ */
+public final class ImmutableBalancedTreeMap<K, V>
+        extends AbstractImmutableSortedMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A node is rebalanced when the size of one of its subtrees exceeds DELTA times the size of the other, by a single
+     * rotation when the inner grandchild is smaller than RATIO times the outer one, or a double rotation otherwise.
+     * (3, 2) is the only integer pair for which insertion, deletion and concatenation all preserve the balance.
+     */
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private static final ImmutableBalancedTreeMap<?, ?> EMPTY = new ImmutableBalancedTreeMap<>(null, null);
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private ImmutableBalancedTreeMap(Comparator<? super K> comparator, Node<K, V> root)
+    {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    public static <K, V> ImmutableBalancedTreeMap<K, V> empty()
+    {
+        return (ImmutableBalancedTreeMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableBalancedTreeMap<K, V> empty(Comparator<? super K> comparator)
+    {
+        return comparator == null ? ImmutableBalancedTreeMap.empty() : new ImmutableBalancedTreeMap<>(comparator, null);
+    }
+
+    public static <K, V> ImmutableBalancedTreeMap<K, V> newMap(SortedMap<K, ? extends V> sortedMap)
+    {
+        if (sortedMap == null)
+        {
+            throw new NullPointerException("Cannot convert null to ImmutableSortedMap");
+        }
+        if (sortedMap instanceof ImmutableBalancedTreeMap<?, ?>)
+        {
+            return (ImmutableBalancedTreeMap<K, V>) sortedMap;
+        }
+        int size = sortedMap.size();
+        K[] keys = (K[]) new Object[size];
+        V[] values = (V[]) new Object[size];
+        int index = 0;
+        for (Entry<K, ? extends V> entry : sortedMap.entrySet())
+        {
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
+        return ImmutableBalancedTreeMap.newMapFromSorted(sortedMap.comparator(), keys, values, size);
+    }
+
+    /**
+     * Builds a map from keys which are already in ascending order and distinct, in O(n) time.
+     */
+    static <K, V> ImmutableBalancedTreeMap<K, V> newMapFromSorted(Comparator<? super K> comparator, K[] keys, V[] values, int size)
+    {
+        if (size == 0)
+        {
+            return ImmutableBalancedTreeMap.empty(comparator);
+        }
+        return new ImmutableBalancedTreeMap<>(comparator, Node.build(keys, values, 0, size));
+    }
+
+    private ImmutableBalancedTreeMap<K, V> newMapWithRoot(Node<K, V> newRoot)
+    {
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        if (newRoot == null)
+        {
+            return ImmutableBalancedTreeMap.empty(this.comparator);
+        }
+        return new ImmutableBalancedTreeMap<>(this.comparator, newRoot);
+    }
+
+    private int compare(Object key1, K key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) key1).compareTo(key2)
+                : this.comparator.compare((K) key1, key2);
+    }
+
+    private Node<K, V> find(Object key)
+    {
+        Node<K, V> node = this.root;
+        while (node != null)
+        {
+            int comparison = this.compare(key, node.key);
+            if (comparison == 0)
+            {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    @Override
+    public int size()
+    {
+        return Node.size(this.root);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.root == null;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.root != null;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.find(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.valuesView().contains(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Node<K, V> node = this.find(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    @Override
+    public K firstKey()
+    {
+        if (this.root == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.root.first().key;
+    }
+
+    @Override
+    public K lastKey()
+    {
+        if (this.root == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.root.last().key;
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithKeyValue(K key, V value)
+    {
+        return this.newMapWithRoot(this.put(this.root, key, value));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithoutKey(K key)
+    {
+        return this.newMapWithRoot(this.remove(this.root, key));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        if (this.root == null)
+        {
+            return this.newMapFromUnsorted(Iterate.toArray(keyValues));
+        }
+        Node<K, V> newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            newRoot = this.put(newRoot, keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return this.newMapWithRoot(newRoot);
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        Node<K, V> newRoot = this.root;
+        for (Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            newRoot = this.put(newRoot, entry.getKey(), entry.getValue());
+        }
+        return this.newMapWithRoot(newRoot);
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        Node<K, V>[] newRoot = new Node[]{this.root};
+        mapIterable.forEachKeyValue((key, value) -> newRoot[0] = this.put(newRoot[0], key, value));
+        return this.newMapWithRoot(newRoot[0]);
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        return this.newWithAllKeyValues(Arrays.asList(keyValuePairs));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        Node<K, V> newRoot = this.root;
+        for (K key : keys)
+        {
+            newRoot = this.remove(newRoot, key);
+        }
+        return this.newMapWithRoot(newRoot);
+    }
+
+    /**
+     * Sorts the pairs, keeping the first key and the last value of each run of equal keys as successive calls of
+     * newWithKeyValue would, and builds the tree bottom up.
+     */
+    private ImmutableBalancedTreeMap<K, V> newMapFromUnsorted(Object[] pairs)
+    {
+        if (pairs.length == 0)
+        {
+            return this;
+        }
+        if (pairs.length == 1)
+        {
+            Pair<K, V> pair = (Pair<K, V>) pairs[0];
+            return this.newWithKeyValue(pair.getOne(), pair.getTwo());
+        }
+        Arrays.sort(pairs, (pair1, pair2) -> this.compare(((Pair<K, V>) pair1).getOne(), ((Pair<K, V>) pair2).getOne()));
+        K[] keys = (K[]) new Object[pairs.length];
+        V[] values = (V[]) new Object[pairs.length];
+        int size = 0;
+        for (Object each : pairs)
+        {
+            Pair<K, V> pair = (Pair<K, V>) each;
+            if (size > 0 && this.compare(pair.getOne(), keys[size - 1]) == 0)
+            {
+                values[size - 1] = pair.getTwo();
+            }
+            else
+            {
+                keys[size] = pair.getOne();
+                values[size] = pair.getTwo();
+                size++;
+            }
+        }
+        return ImmutableBalancedTreeMap.newMapFromSorted(this.comparator, keys, values, size);
+    }
+
+    /**
+     * Returns the entries of this map whose keys are less than toKey. The returned map shares all but O(log n) of its
+     * nodes with this map.
+     */
+    @Override
+    public ImmutableBalancedTreeMap<K, V> headMap(K toKey)
+    {
+        return this.newMapWithRoot(this.lessThan(this.root, toKey));
+    }
+
+    /**
+     * Returns the entries of this map whose keys are greater than or equal to fromKey. The returned map shares all but
+     * O(log n) of its nodes with this map.
+     */
+    @Override
+    public ImmutableBalancedTreeMap<K, V> tailMap(K fromKey)
+    {
+        return this.newMapWithRoot(this.greaterOrEqual(this.root, fromKey));
+    }
+
+    /**
+     * Returns the entries of this map whose keys range from fromKey, inclusive, to toKey, exclusive. The returned map
+     * shares all but O(log n) of its nodes with this map.
+     */
+    @Override
+    public ImmutableBalancedTreeMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return this.newMapWithRoot(this.lessThan(this.greaterOrEqual(this.root, fromKey), toKey));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.newMapWithRoot(Node.take(this.root, count));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.newMapWithRoot(Node.drop(this.root, count));
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.filter(predicate, true);
+    }
+
+    @Override
+    public ImmutableBalancedTreeMap<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.filter(predicate, false);
+    }
+
+    private ImmutableBalancedTreeMap<K, V> filter(Predicate2<? super K, ? super V> predicate, boolean expected)
+    {
+        int size = this.size();
+        K[] keys = (K[]) new Object[size];
+        V[] values = (V[]) new Object[size];
+        int[] count = {0};
+        this.forEachKeyValue((key, value) ->
+        {
+            if (predicate.accept(key, value) == expected)
+            {
+                keys[count[0]] = key;
+                values[count[0]] = value;
+                count[0]++;
+            }
+        });
+        if (count[0] == size)
+        {
+            return this;
+        }
+        return ImmutableBalancedTreeMap.newMapFromSorted(this.comparator, keys, values, count[0]);
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        if (this.root != null)
+        {
+            this.root.forEach(procedure);
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public void each(Procedure<? super V> procedure)
+    {
+        this.forEachValue(procedure);
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new TreeIterator<K, V, V>(this.root)
+        {
+            @Override
+            protected V entry(Node<K, V> node)
+            {
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public ImmutableMap<V, K> flipUniqueValues()
+    {
+        return MapIterate.flipUniqueValues(this).toImmutable();
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return new KeysView();
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return new ValuesView();
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return new KeyValuesView();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return SortedSets.immutable.withAll(this.comparator, this.keysView()).castToSortedSet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return Lists.immutable.withAll(this.valuesView()).castToList();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        Comparator<K> keyComparator = this.comparator == null ? Comparators.naturalOrder() : (Comparator<K>) this.comparator;
+        return SortedSets.immutable.withAll(
+                Comparators.byFunction(Entry<K, V>::getKey, keyComparator),
+                this.keyValuesView().collect(pair -> ImmutableEntry.of(pair.getOne(), pair.getTwo()))).castToSortedSet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        if (object instanceof ImmutableBalancedTreeMap<?, ?>
+                && Objects.equals(this.comparator, ((ImmutableBalancedTreeMap<?, ?>) object).comparator))
+        {
+            return this.equalsInOrder((ImmutableBalancedTreeMap<K, V>) object);
+        }
+        return this.keyValuesView().allSatisfy(pair -> this.keyAndValueEquals(pair.getOne(), pair.getTwo(), other));
+    }
+
+    private boolean equalsInOrder(ImmutableBalancedTreeMap<K, V> other)
+    {
+        Iterator<Node<K, V>> iterator = other.nodeIterator();
+        Iterator<Node<K, V>> thisIterator = this.nodeIterator();
+        while (thisIterator.hasNext())
+        {
+            Node<K, V> node = thisIterator.next();
+            Node<K, V> otherNode = iterator.next();
+            if (node != otherNode
+                    && (this.compare(node.key, otherNode.key) != 0 || !Objects.equals(node.value, otherNode.value)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Iterator<Node<K, V>> nodeIterator()
+    {
+        return new TreeIterator<K, V, Node<K, V>>(this.root)
+        {
+            @Override
+            protected Node<K, V> entry(Node<K, V> node)
+            {
+                return node;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.forEachKeyValue((key, value) -> hashCode[0] += this.keyAndValueHashCode(key, value));
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder().append('{');
+        Iterator<Node<K, V>> iterator = this.nodeIterator();
+        while (iterator.hasNext())
+        {
+            Node<K, V> node = iterator.next();
+            builder.append(node.key).append('=').append(node.value);
+            if (iterator.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableBalancedTreeMapSerializationProxy<>(this);
+    }
+
+    private Node<K, V> put(Node<K, V> root, K key, V value)
+    {
+        if (root == null)
+        {
+            // Fails fast on keys the comparator cannot compare, like TreeMap.put
+            this.compare(key, key);
+        }
+        return this.insert(root, key, value);
+    }
+
+    private Node<K, V> insert(Node<K, V> node, K key, V value)
+    {
+        if (node == null)
+        {
+            return new Node<>(key, value, null, null);
+        }
+        int comparison = this.compare(key, node.key);
+        if (comparison < 0)
+        {
+            Node<K, V> left = this.insert(node.left, key, value);
+            return left == node.left ? node : Node.balance(node.key, node.value, left, node.right);
+        }
+        if (comparison > 0)
+        {
+            Node<K, V> right = this.insert(node.right, key, value);
+            return right == node.right ? node : Node.balance(node.key, node.value, node.left, right);
+        }
+        return node.value == value ? node : new Node<>(node.key, value, node.left, node.right);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, Object key)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        int comparison = this.compare(key, node.key);
+        if (comparison < 0)
+        {
+            Node<K, V> left = this.remove(node.left, key);
+            return left == node.left ? node : Node.balance(node.key, node.value, left, node.right);
+        }
+        if (comparison > 0)
+        {
+            Node<K, V> right = this.remove(node.right, key);
+            return right == node.right ? node : Node.balance(node.key, node.value, node.left, right);
+        }
+        return Node.glue(node.left, node.right);
+    }
+
+    private Node<K, V> lessThan(Node<K, V> node, K key)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        if (this.compare(key, node.key) <= 0)
+        {
+            return this.lessThan(node.left, key);
+        }
+        Node<K, V> right = this.lessThan(node.right, key);
+        return right == node.right ? node : Node.link(node.key, node.value, node.left, right);
+    }
+
+    private Node<K, V> greaterOrEqual(Node<K, V> node, K key)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        if (this.compare(key, node.key) > 0)
+        {
+            return this.greaterOrEqual(node.right, key);
+        }
+        Node<K, V> left = this.greaterOrEqual(node.left, key);
+        return left == node.left ? node : Node.link(node.key, node.value, left, node.right);
+    }
+
+    private static final class Node<K, V>
+    {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int size;
+
+        private Node(K key, V value, Node<K, V> left, Node<K, V> right)
+        {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = Node.size(left) + Node.size(right) + 1;
+        }
+
+        private static int size(Node<?, ?> node)
+        {
+            return node == null ? 0 : node.size;
+        }
+
+        /**
+         * Bounds the height of a tree of the given size. Each subtree holds at most three quarters of the entries of
+         * its parent, so the height is at most log4/3(size) + 2, which three times the bit length of the size exceeds.
+         */
+        private static int maxHeight(int size)
+        {
+            return 3 * (Integer.SIZE - Integer.numberOfLeadingZeros(size)) + 2;
+        }
+
+        private static <K, V> Node<K, V> build(K[] keys, V[] values, int from, int to)
+        {
+            if (from >= to)
+            {
+                return null;
+            }
+            int middle = (from + to) >>> 1;
+            return new Node<>(
+                    keys[middle],
+                    values[middle],
+                    Node.build(keys, values, from, middle),
+                    Node.build(keys, values, middle + 1, to));
+        }
+
+        /**
+         * Restores the balance of a node after one of its subtrees gained or lost a single entry, or after
+         * {@link #link} or {@link #merge} joined two balanced subtrees.
+         */
+        private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right)
+        {
+            int leftSize = Node.size(left);
+            int rightSize = Node.size(right);
+            if (leftSize + rightSize > 1)
+            {
+                if (rightSize > DELTA * leftSize)
+                {
+                    return Node.rotateLeft(key, value, left, right);
+                }
+                if (leftSize > DELTA * rightSize)
+                {
+                    return Node.rotateRight(key, value, left, right);
+                }
+            }
+            return new Node<>(key, value, left, right);
+        }
+
+        private static <K, V> Node<K, V> rotateLeft(K key, V value, Node<K, V> left, Node<K, V> right)
+        {
+            Node<K, V> inner = right.left;
+            if (Node.size(inner) < RATIO * Node.size(right.right))
+            {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, inner), right.right);
+            }
+            return new Node<>(
+                    inner.key,
+                    inner.value,
+                    new Node<>(key, value, left, inner.left),
+                    new Node<>(right.key, right.value, inner.right, right.right));
+        }
+
+        private static <K, V> Node<K, V> rotateRight(K key, V value, Node<K, V> left, Node<K, V> right)
+        {
+            Node<K, V> inner = left.right;
+            if (Node.size(inner) < RATIO * Node.size(left.left))
+            {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, inner, right));
+            }
+            return new Node<>(
+                    inner.key,
+                    inner.value,
+                    new Node<>(left.key, left.value, left.left, inner.left),
+                    new Node<>(key, value, inner.right, right));
+        }
+
+        /**
+         * Joins two trees and an entry ordered between them, descending the larger tree until the sizes match. Takes
+         * O(|log(left.size) - log(right.size)|) time.
+         */
+        private static <K, V> Node<K, V> link(K key, V value, Node<K, V> left, Node<K, V> right)
+        {
+            if (left == null)
+            {
+                return Node.insertFirst(key, value, right);
+            }
+            if (right == null)
+            {
+                return Node.insertLast(key, value, left);
+            }
+            if (DELTA * left.size < right.size)
+            {
+                return Node.balance(right.key, right.value, Node.link(key, value, left, right.left), right.right);
+            }
+            if (DELTA * right.size < left.size)
+            {
+                return Node.balance(left.key, left.value, left.left, Node.link(key, value, left.right, right));
+            }
+            return new Node<>(key, value, left, right);
+        }
+
+        /**
+         * Joins two trees whose keys are ordered one after the other.
+         */
+        private static <K, V> Node<K, V> merge(Node<K, V> left, Node<K, V> right)
+        {
+            if (left == null)
+            {
+                return right;
+            }
+            if (right == null)
+            {
+                return left;
+            }
+            if (DELTA * left.size < right.size)
+            {
+                return Node.balance(right.key, right.value, Node.merge(left, right.left), right.right);
+            }
+            if (DELTA * right.size < left.size)
+            {
+                return Node.balance(left.key, left.value, left.left, Node.merge(left.right, right));
+            }
+            return Node.glue(left, right);
+        }
+
+        /**
+         * Joins the two balanced subtrees of a removed node by promoting the neighbouring entry of the larger one.
+         */
+        private static <K, V> Node<K, V> glue(Node<K, V> left, Node<K, V> right)
+        {
+            if (left == null)
+            {
+                return right;
+            }
+            if (right == null)
+            {
+                return left;
+            }
+            if (left.size > right.size)
+            {
+                Node<K, V> last = left.last();
+                return Node.balance(last.key, last.value, Node.removeLast(left), right);
+            }
+            Node<K, V> first = right.first();
+            return Node.balance(first.key, first.value, left, Node.removeFirst(right));
+        }
+
+        private static <K, V> Node<K, V> insertFirst(K key, V value, Node<K, V> node)
+        {
+            if (node == null)
+            {
+                return new Node<>(key, value, null, null);
+            }
+            return Node.balance(node.key, node.value, Node.insertFirst(key, value, node.left), node.right);
+        }
+
+        private static <K, V> Node<K, V> insertLast(K key, V value, Node<K, V> node)
+        {
+            if (node == null)
+            {
+                return new Node<>(key, value, null, null);
+            }
+            return Node.balance(node.key, node.value, node.left, Node.insertLast(key, value, node.right));
+        }
+
+        private static <K, V> Node<K, V> removeFirst(Node<K, V> node)
+        {
+            if (node.left == null)
+            {
+                return node.right;
+            }
+            return Node.balance(node.key, node.value, Node.removeFirst(node.left), node.right);
+        }
+
+        private static <K, V> Node<K, V> removeLast(Node<K, V> node)
+        {
+            if (node.right == null)
+            {
+                return node.left;
+            }
+            return Node.balance(node.key, node.value, node.left, Node.removeLast(node.right));
+        }
+
+        private static <K, V> Node<K, V> take(Node<K, V> node, int count)
+        {
+            if (count <= 0)
+            {
+                return null;
+            }
+            if (count >= Node.size(node))
+            {
+                return node;
+            }
+            int leftSize = Node.size(node.left);
+            if (count <= leftSize)
+            {
+                return Node.take(node.left, count);
+            }
+            return Node.link(node.key, node.value, node.left, Node.take(node.right, count - leftSize - 1));
+        }
+
+        private static <K, V> Node<K, V> drop(Node<K, V> node, int count)
+        {
+            if (count <= 0)
+            {
+                return node;
+            }
+            if (count >= Node.size(node))
+            {
+                return null;
+            }
+            int leftSize = Node.size(node.left);
+            if (count > leftSize)
+            {
+                return Node.drop(node.right, count - leftSize - 1);
+            }
+            return Node.link(node.key, node.value, Node.drop(node.left, count), node.right);
+        }
+
+        private Node<K, V> first()
+        {
+            Node<K, V> node = this;
+            while (node.left != null)
+            {
+                node = node.left;
+            }
+            return node;
+        }
+
+        private Node<K, V> last()
+        {
+            Node<K, V> node = this;
+            while (node.right != null)
+            {
+                node = node.right;
+            }
+            return node;
+        }
+
+        private void forEach(Procedure2<? super K, ? super V> procedure)
+        {
+            if (this.left != null)
+            {
+                this.left.forEach(procedure);
+            }
+            procedure.value(this.key, this.value);
+            if (this.right != null)
+            {
+                this.right.forEach(procedure);
+            }
+        }
+    }
+
+    /**
+     * Walks the tree in key order, keeping the path of nodes whose right subtrees are still to be visited.
+     */
+    private abstract static class TreeIterator<K, V, R> implements Iterator<R>
+    {
+        private final Node<K, V>[] path;
+        private int depth;
+
+        protected TreeIterator(Node<K, V> root)
+        {
+            this.path = new Node[Node.maxHeight(Node.size(root))];
+            this.descendLeft(root);
+        }
+
+        private void descendLeft(Node<K, V> node)
+        {
+            for (Node<K, V> each = node; each != null; each = each.left)
+            {
+                this.path[this.depth++] = each;
+            }
+        }
+
+        protected abstract R entry(Node<K, V> node);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.depth > 0;
+        }
+
+        @Override
+        public R next()
+        {
+            if (this.depth == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = this.path[--this.depth];
+            this.path[this.depth] = null;
+            this.descendLeft(node.right);
+            return this.entry(node);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableBalancedTreeMap");
+        }
+    }
+
+    private class KeysView extends AbstractLazyIterable<K>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableBalancedTreeMap.this.size();
+        }
+
+        @Override
+        public void each(Procedure<? super K> procedure)
+        {
+            ImmutableBalancedTreeMap.this.forEachKey(procedure);
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new TreeIterator<K, V, K>(ImmutableBalancedTreeMap.this.root)
+            {
+                @Override
+                protected K entry(Node<K, V> node)
+                {
+                    return node.key;
+                }
+            };
+        }
+    }
+
+    private class ValuesView extends AbstractLazyIterable<V>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableBalancedTreeMap.this.size();
+        }
+
+        @Override
+        public void each(Procedure<? super V> procedure)
+        {
+            ImmutableBalancedTreeMap.this.forEachValue(procedure);
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return ImmutableBalancedTreeMap.this.iterator();
+        }
+    }
+
+    private class KeyValuesView extends AbstractLazyIterable<Pair<K, V>>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableBalancedTreeMap.this.size();
+        }
+
+        @Override
+        public void each(Procedure<? super Pair<K, V>> procedure)
+        {
+            ImmutableBalancedTreeMap.this.forEachKeyValue((key, value) -> procedure.value(Tuples.pair(key, value)));
+        }
+
+        @Override
+        public Iterator<Pair<K, V>> iterator()
+        {
+            return new TreeIterator<K, V, Pair<K, V>>(ImmutableBalancedTreeMap.this.root)
+            {
+                @Override
+                protected Pair<K, V> entry(Node<K, V> node)
+                {
+                    return Tuples.pair(node.key, node.value);
+                }
+            };
+        }
+    }
+}
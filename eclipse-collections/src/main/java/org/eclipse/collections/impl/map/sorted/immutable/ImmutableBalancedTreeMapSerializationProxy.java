@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Comparator;
+
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+
+class ImmutableBalancedTreeMapSerializationProxy<K, V> implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ImmutableBalancedTreeMap<K, V> map;
+
+    @SuppressWarnings("UnusedDeclaration")
+    public ImmutableBalancedTreeMapSerializationProxy()
+    {
+        // Empty constructor for Externalizable class
+    }
+
+    ImmutableBalancedTreeMapSerializationProxy(ImmutableBalancedTreeMap<K, V> map)
+    {
+        this.map = map;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.map.comparator());
+        out.writeInt(this.map.size());
+        try
+        {
+            this.map.forEachKeyValue(new CheckedProcedure2<K, V>()
+            {
+                public void safeValue(K key, V value) throws IOException
+                {
+                    out.writeObject(key);
+                    out.writeObject(value);
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the entries in the ascending order they were written in, which lets the tree be built without comparing
+     * keys other than to check that order.
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        Comparator<? super K> comparator = (Comparator<? super K>) in.readObject();
+        Comparator<? super K> keyComparator = comparator == null ? Comparators.naturalOrder() : comparator;
+        int size = in.readInt();
+        K[] keys = (K[]) new Object[size];
+        V[] values = (V[]) new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            keys[i] = (K) in.readObject();
+            values[i] = (V) in.readObject();
+            if (i > 0 && keyComparator.compare(keys[i - 1], keys[i]) >= 0)
+            {
+                throw new IllegalStateException("Keys are not in ascending order");
+            }
+        }
+        this.map = ImmutableBalancedTreeMap.newMapFromSorted(comparator, keys, values, size);
+    }
+
+    protected Object readResolve()
+    {
+        return this.map;
+    }
+}
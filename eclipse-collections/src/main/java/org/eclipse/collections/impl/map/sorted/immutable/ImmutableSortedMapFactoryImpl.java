@@ -171,4 +171,10 @@ public class ImmutableSortedMapFactoryImpl implements ImmutableSortedMapFactory
         }
         return ImmutableTreeMap.newMap(map);
     }
+
+    @Override
+    public <K, V> ImmutableSortedMap<K, V> withAllPersistent(SortedMap<K, V> map)
+    {
+        return ImmutableBalancedTreeMap.newMap(map);
+    }
 }
@@ -34,8 +34,25 @@ public final class ParallelArrayIterate
             ProcedureFactory<BT> procedureFactory,
             Combiner<BT> combiner)
     {
-        int taskCount = Math.max(ParallelIterate.DEFAULT_PARALLEL_TASK_COUNT, array.length / ParallelIterate.DEFAULT_MIN_FORK_SIZE);
-        ParallelArrayIterate.forEach(array, procedureFactory, combiner, ParallelIterate.DEFAULT_MIN_FORK_SIZE, taskCount);
+        ParallelArrayIterate.forEach(array, procedureFactory, combiner, ParallelIterate.getDefaultContext());
+    }
+
+    /**
+     * @since 12.0
+     */
+    public static <T, BT extends Procedure<? super T>> void forEach(
+            T[] array,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            ParallelExecutionContext context)
+    {
+        ParallelArrayIterate.forEachOn(
+                array,
+                procedureFactory,
+                combiner,
+                context.getMinForkSize(),
+                context.getTaskCount(array.length),
+                context.getExecutor());
     }
 
     public static <T, BT extends Procedure<? super T>> void forEach(
@@ -45,7 +62,7 @@ public final class ParallelArrayIterate
             int minForkSize,
             int taskCount)
     {
-        ParallelArrayIterate.forEachOn(array, procedureFactory, combiner, minForkSize, taskCount, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelArrayIterate.forEachOn(array, procedureFactory, combiner, minForkSize, taskCount, ParallelIterate.getDefaultContext().getExecutor());
     }
 
     public static <T, BT extends Procedure<? super T>> void forEachOn(
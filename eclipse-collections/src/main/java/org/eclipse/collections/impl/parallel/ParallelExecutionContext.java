@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.block.function.primitive.IntToIntFunction;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * The execution parameters used by {@link ParallelIterate}, {@link ParallelArrayIterate} and
+ * {@link ParallelMapIterate}: the executor tasks are submitted to, the size below which a collection is iterated
+ * serially, and the number of tasks a collection of a given size is split into.
+ * <p>
+ * Contexts are immutable; the {@code with} methods return a new context. The context used by every entry point that
+ * does not take an explicit executor, minimum fork size or task count can be replaced with
+ * {@link ParallelIterate#setDefaultContext(ParallelExecutionContext)}, e.g. when
+ * {@link Runtime#availableProcessors()} does not reflect the CPU quota of a container, or when parallel iteration
+ * should share an application-owned pool.
+ * <pre>
+ * ParallelIterate.setDefaultContext(ParallelExecutionContext.onExecutor(applicationPool, 4).withMinForkSize(5000));
+ * </pre>
+ *
+ * @since 12.0
+ */
+public final class ParallelExecutionContext
+{
+    /**
+     * The most tasks {@link #virtualThreadPerTask()} splits a collection into by default.
+     */
+    public static final int DEFAULT_VIRTUAL_THREAD_TASK_LIMIT = 10_000;
+
+    /**
+     * The number of leading elements an adaptive context times to estimate the cost of the whole iteration.
+     */
+    static final int ADAPTIVE_SAMPLE_SIZE = 16;
+
+    /**
+     * The least work, in nanoseconds, an adaptive context hands to a task. Below roughly this much work the hand-off to
+     * a pooled thread and the combine step cost more than they save.
+     */
+    static final long ADAPTIVE_MIN_TASK_NANOS = 100_000L;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final int minForkSize;
+    private final IntToIntFunction taskCountFunction;
+    private final boolean adaptive;
+    private final boolean batchTaskCount;
+
+    private ParallelExecutionContext(
+            Executor executor,
+            int parallelism,
+            int minForkSize,
+            IntToIntFunction taskCountFunction,
+            boolean adaptive)
+    {
+        this(executor, parallelism, minForkSize, taskCountFunction, adaptive, false);
+    }
+
+    private ParallelExecutionContext(
+            Executor executor,
+            int parallelism,
+            int minForkSize,
+            IntToIntFunction taskCountFunction,
+            boolean adaptive,
+            boolean batchTaskCount)
+    {
+        if (executor == null)
+        {
+            throw new NullPointerException("executor");
+        }
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (minForkSize < 1)
+        {
+            throw new IllegalArgumentException("Minimum fork size must be positive: " + minForkSize);
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.minForkSize = minForkSize;
+        this.taskCountFunction = taskCountFunction;
+        this.adaptive = adaptive;
+        this.batchTaskCount = batchTaskCount;
+    }
+
+    /**
+     * Returns a context which submits tasks to the specified executor. The default task count is
+     * {@code parallelism * }{@link ParallelIterate#getTaskRatio()}, so {@code parallelism} should be the number of
+     * threads the executor can run at once.
+     */
+    public static ParallelExecutionContext onExecutor(Executor executor, int parallelism)
+    {
+        return new ParallelExecutionContext(executor, parallelism, ParallelIterate.DEFAULT_MIN_FORK_SIZE, null, false);
+    }
+
+    /**
+     * Returns a context which runs every task on its own virtual thread. This suits procedures that block, e.g. on
+     * I/O, where the number of tasks rather than the number of processors limits throughput. Collections of two or more
+     * elements are forked into at most {@link #DEFAULT_VIRTUAL_THREAD_TASK_LIMIT} tasks.
+     * <p>
+     * Every call returns the same context, whose executor is shared and never shut down. Virtual threads are not
+     * pooled, so the executor holds no threads while it is idle.
+     *
+     * @throws UnsupportedOperationException if the running JVM does not support virtual threads
+     */
+    public static ParallelExecutionContext virtualThreadPerTask()
+    {
+        ParallelExecutionContext context = VirtualThreadContextHolder.INSTANCE;
+        if (context == null)
+        {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+        }
+        return context;
+    }
+
+    static ParallelExecutionContext defaultContext(Executor executor)
+    {
+        return new ParallelExecutionContext(
+                executor,
+                ParallelIterate.getDefaultMaxThreadPoolSize(),
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                null,
+                false,
+                true);
+    }
+
+    public ParallelExecutionContext withExecutor(Executor newExecutor)
+    {
+        return new ParallelExecutionContext(newExecutor, this.parallelism, this.minForkSize, this.taskCountFunction, this.adaptive, this.batchTaskCount);
+    }
+
+    /**
+     * Returns a copy of this context using the specified parallelism for the default task count policy.
+     */
+    public ParallelExecutionContext withParallelism(int newParallelism)
+    {
+        return new ParallelExecutionContext(this.executor, newParallelism, this.minForkSize, this.taskCountFunction, this.adaptive);
+    }
+
+    /**
+     * Returns a copy of this context which iterates collections with fewer than {@code newMinForkSize} elements
+     * serially on the calling thread.
+     */
+    public ParallelExecutionContext withMinForkSize(int newMinForkSize)
+    {
+        return new ParallelExecutionContext(this.executor, this.parallelism, newMinForkSize, this.taskCountFunction, this.adaptive, this.batchTaskCount);
+    }
+
+    /**
+     * Returns a copy of this context which splits a collection into {@code taskCountFunction.valueOf(size)} tasks.
+     */
+    public ParallelExecutionContext withTaskCount(IntToIntFunction newTaskCountFunction)
+    {
+        if (newTaskCountFunction == null)
+        {
+            throw new NullPointerException("taskCountFunction");
+        }
+        return new ParallelExecutionContext(this.executor, this.parallelism, this.minForkSize, newTaskCountFunction, this.adaptive);
+    }
+
+    /**
+     * Returns a copy of this context which sizes each call from the measured cost of its block instead of the minimum
+     * fork size. The block is timed over the first few elements; if the whole iteration is estimated to take less than
+     * a couple of hundred microseconds it runs serially, otherwise it is split into as many tasks as keep at least
+     * about {@value #ADAPTIVE_MIN_TASK_NANOS} nanoseconds of work each, up to the task count of this context.
+     * <p>
+     * Adaptive sizing applies wherever ParallelIterate runs a ProcedureFactory with this context, directly or as the
+     * default context, which includes its forEach, select, reject, count, collect, collectIf and flatCollect methods.
+     * The sampled elements are processed on the calling thread as the first batch of the iteration, so every element is
+     * still processed exactly once.
+     *
+     * @since 12.0
+     */
+    public ParallelExecutionContext withAdaptiveSizing()
+    {
+        return new ParallelExecutionContext(this.executor, this.parallelism, this.minForkSize, this.taskCountFunction, true, this.batchTaskCount);
+    }
+
+    public boolean isAdaptive()
+    {
+        return this.adaptive;
+    }
+
+    public Executor getExecutor()
+    {
+        return this.executor;
+    }
+
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    public int getMinForkSize()
+    {
+        return this.minForkSize;
+    }
+
+    /**
+     * Returns the number of tasks a collection of the specified size is split into. Unless a policy was set with
+     * {@link #withTaskCount(IntToIntFunction)}, this is {@code parallelism * }{@link ParallelIterate#getTaskRatio()},
+     * or one task per {@code minForkSize} elements if that is more.
+     */
+    public int getTaskCount(int size)
+    {
+        if (this.taskCountFunction != null)
+        {
+            return Math.max(1, this.taskCountFunction.valueOf(size));
+        }
+        return Math.max(this.parallelism * ParallelIterate.getTaskRatio(), size / this.minForkSize);
+    }
+
+    /**
+     * Returns the number of tasks the batched methods of ParallelIterate, such as select, collect and the methods taking
+     * a ProcedureFactory, split the iterable into. The built-in default context, including copies with a different
+     * executor or minimum fork size, keeps their original policy of one task per {@code minForkSize} elements, or per
+     * batch of a {@link BatchIterable}, and at least two. Any other context uses {@link #getTaskCount(int)}.
+     */
+    int getTaskCount(Iterable<?> iterable)
+    {
+        if (this.batchTaskCount)
+        {
+            return ParallelIterate.calculateTaskCount(iterable, this.minForkSize);
+        }
+        return this.getTaskCount(Iterate.sizeOf(iterable));
+    }
+
+    /**
+     * Returns a non-adaptive context which runs {@code size} elements costing {@code nanosPerElement} each serially
+     * if they are too cheap to be worth forking, or otherwise in batches of at least
+     * {@link #ADAPTIVE_MIN_TASK_NANOS} nanoseconds of work, never more than {@link #getTaskCount(int)} of them.
+     */
+    ParallelExecutionContext forMeasuredCost(int size, long nanosPerElement)
+    {
+        double estimatedNanos = (double) size * (double) Math.max(1L, nanosPerElement);
+        int taskCount = (int) Math.min(
+                Math.min(size, this.getTaskCount(size)),
+                estimatedNanos / ADAPTIVE_MIN_TASK_NANOS);
+        if (taskCount < 2)
+        {
+            int serialForkSize = (int) Math.min(Integer.MAX_VALUE, size + 1L);
+            return new ParallelExecutionContext(this.executor, this.parallelism, serialForkSize, this.taskCountFunction, false);
+        }
+        return new ParallelExecutionContext(this.executor, this.parallelism, size / taskCount, each -> taskCount, false);
+    }
+
+    /**
+     * Creates the shared virtual thread context on first use, or holds {@code null} if the JVM has no virtual threads.
+     */
+    private static final class VirtualThreadContextHolder
+    {
+        private static final ParallelExecutionContext INSTANCE = VirtualThreadContextHolder.newContext();
+
+        private VirtualThreadContextHolder()
+        {
+            throw new AssertionError("Suppress default constructor for noninstantiability");
+        }
+
+        private static ParallelExecutionContext newContext()
+        {
+            Executor executor;
+            try
+            {
+                executor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            }
+            catch (NoSuchMethodException e)
+            {
+                return null;
+            }
+            catch (ReflectiveOperationException e)
+            {
+                throw new IllegalStateException("Could not create a virtual thread per task executor", e);
+            }
+            return new ParallelExecutionContext(
+                    executor,
+                    ParallelIterate.getDefaultMaxThreadPoolSize(),
+                    2,
+                    size -> Math.min(size, DEFAULT_VIRTUAL_THREAD_TASK_LIMIT),
+                    false);
+        }
+    }
+}
@@ -13,7 +13,10 @@ package org.eclipse.collections.impl.parallel;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.RandomAccess;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -24,20 +27,27 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.LongLongToLongFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.primitive.IntLongMaps;
 import org.eclipse.collections.api.factory.primitive.ObjectDoubleMaps;
 import org.eclipse.collections.api.factory.primitive.ObjectLongMaps;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.MutableMapIterable;
+import org.eclipse.collections.api.map.primitive.IntLongMap;
+import org.eclipse.collections.api.map.primitive.MutableIntLongMap;
 import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
 import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
 import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
@@ -48,8 +58,10 @@ import org.eclipse.collections.impl.block.factory.Functions0;
 import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -71,9 +83,10 @@ public final class ParallelIterate
     static final int DEFAULT_MIN_FORK_SIZE = 10000;
     static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
     static final int TASK_RATIO = 2;
-    static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount();
     static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
 
+    private static volatile ParallelExecutionContext defaultContext = ParallelExecutionContext.defaultContext(EXECUTOR_SERVICE);
+
     private ParallelIterate()
     {
         throw new AssertionError("Suppress default constructor for noninstantiability");
@@ -89,6 +102,32 @@ public final class ParallelIterate
         ParallelIterate.EXECUTOR_SERVICE.shutdown();
     }
 
+    /**
+     * Returns the context used by every method which does not take an explicit executor, minimum fork size or task
+     * count. Unless replaced, it submits tasks to a shared pool of {@link #getDefaultMaxThreadPoolSize()} daemon threads.
+     *
+     * @since 12.0
+     */
+    public static ParallelExecutionContext getDefaultContext()
+    {
+        return ParallelIterate.defaultContext;
+    }
+
+    /**
+     * Replaces the context used by every method of ParallelIterate, ParallelArrayIterate and ParallelMapIterate which
+     * does not take an explicit executor, minimum fork size or task count. Calls already running are not affected.
+     *
+     * @since 12.0
+     */
+    public static void setDefaultContext(ParallelExecutionContext context)
+    {
+        if (context == null)
+        {
+            throw new NullPointerException("context");
+        }
+        ParallelIterate.defaultContext = context;
+    }
+
     /**
      * Iterate over the collection specified, in parallel batches using default runtime parameter values. The
      * {@code ObjectIntProcedure} used must be stateless, or use concurrent aware objects if they are to be shared.
@@ -101,7 +140,7 @@ public final class ParallelIterate
      */
     public static <T> void forEachWithIndex(Iterable<T> iterable, ObjectIntProcedure<? super T> objectIntProcedure)
     {
-        ParallelIterate.forEachWithIndex(iterable, objectIntProcedure, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEachWithIndex(iterable, objectIntProcedure, ParallelIterate.defaultContext);
     }
 
     /**
@@ -127,6 +166,25 @@ public final class ParallelIterate
                 new PassThruCombiner<>(), executor);
     }
 
+    /**
+     * Iterate over the collection specified in parallel batches using the executor, minimum fork size and task count
+     * of the specified context. The ObjectIntProcedure used must be stateless, or use concurrent aware objects if they
+     * are to be shared.
+     *
+     * @since 12.0
+     */
+    public static <T, BT extends ObjectIntProcedure<? super T>> void forEachWithIndex(
+            Iterable<T> iterable,
+            BT procedure,
+            ParallelExecutionContext context)
+    {
+        ParallelIterate.forEachWithIndex(
+                iterable,
+                new PassThruObjectIntProcedureFactory<>(procedure),
+                new PassThruCombiner<>(),
+                context);
+    }
+
     /**
      * Iterate over the collection specified in parallel batches. The
      * ObjectIntProcedure used must be stateless, or use concurrent aware objects if they are to be shared. The
@@ -157,7 +215,7 @@ public final class ParallelIterate
             Executor executor)
     {
         int taskCount = Math.max(
-                ParallelIterate.DEFAULT_PARALLEL_TASK_COUNT,
+                ParallelIterate.getDefaultTaskCount(),
                 Iterate.sizeOf(iterable) / ParallelIterate.DEFAULT_MIN_FORK_SIZE);
         ParallelIterate.forEachWithIndex(
                 iterable,
@@ -168,6 +226,24 @@ public final class ParallelIterate
                 executor);
     }
 
+    /**
+     * @since 12.0
+     */
+    public static <T, BT extends ObjectIntProcedure<? super T>> void forEachWithIndex(
+            Iterable<T> iterable,
+            ObjectIntProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            ParallelExecutionContext context)
+    {
+        ParallelIterate.forEachWithIndex(
+                iterable,
+                procedureFactory,
+                combiner,
+                context.getMinForkSize(),
+                context.getTaskCount(Iterate.sizeOf(iterable)),
+                context.getExecutor());
+    }
+
     public static <T, BT extends ObjectIntProcedure<? super T>> void forEachWithIndex(
             Iterable<T> iterable,
             ObjectIntProcedureFactory<BT> procedureFactory,
@@ -175,7 +251,7 @@ public final class ParallelIterate
             int minForkSize,
             int taskCount)
     {
-        ParallelIterate.forEachWithIndex(iterable, procedureFactory, combiner, minForkSize, taskCount, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEachWithIndex(iterable, procedureFactory, combiner, minForkSize, taskCount, ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, BT extends ObjectIntProcedure<? super T>> void forEachWithIndex(
@@ -255,7 +331,31 @@ public final class ParallelIterate
      */
     public static <T> void forEach(Iterable<T> iterable, Procedure<? super T> procedure)
     {
-        ParallelIterate.forEach(iterable, procedure, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEach(iterable, procedure, ParallelIterate.defaultContext);
+    }
+
+    /**
+     * Iterate over the collection specified in parallel batches using the executor, minimum fork size and task count
+     * of the specified context. The {@code Procedure} used must be stateless, or use concurrent aware objects if they
+     * are to be shared.
+     * <p>
+     * e.g.
+     * <pre>
+     * ParallelIterate.<b>forEach</b>(urls, url -&gt; download(url), ParallelExecutionContext.virtualThreadPerTask());
+     * </pre>
+     *
+     * @since 12.0
+     */
+    public static <T, BT extends Procedure<? super T>> void forEach(
+            Iterable<T> iterable,
+            BT procedure,
+            ParallelExecutionContext context)
+    {
+        ParallelIterate.forEach(
+                iterable,
+                new PassThruProcedureFactory<>(procedure),
+                new PassThruCombiner<>(),
+                context);
     }
 
     /**
@@ -270,7 +370,7 @@ public final class ParallelIterate
      */
     public static <T> void forEach(Iterable<T> iterable, Procedure<? super T> procedure, int batchSize)
     {
-        ParallelIterate.forEach(iterable, procedure, batchSize, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEach(iterable, procedure, batchSize, ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T> void forEach(Iterable<T> iterable, Procedure<? super T> procedure, int batchSize, Executor executor)
@@ -313,7 +413,7 @@ public final class ParallelIterate
             int minForkSize,
             int taskCount)
     {
-        ParallelIterate.forEach(iterable, procedure, minForkSize, taskCount, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEach(iterable, procedure, minForkSize, taskCount, ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, BT extends Procedure<? super T>> void forEach(
@@ -346,7 +446,97 @@ public final class ParallelIterate
             ProcedureFactory<BT> procedureFactory,
             Combiner<BT> combiner)
     {
-        ParallelIterate.forEach(iterable, procedureFactory, combiner, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, ParallelIterate.defaultContext);
+    }
+
+    /**
+     * Iterate over the collection specified in parallel batches using the executor, minimum fork size and task count
+     * of the specified context. The ProcedureFactory can create stateful closures that will be collected and combined
+     * using the specified Combiner.
+     *
+     * @since 12.0
+     */
+    public static <T, BT extends Procedure<? super T>> void forEach(
+            Iterable<T> iterable,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            ParallelExecutionContext context)
+    {
+        if (context.isAdaptive())
+        {
+            ParallelIterate.forEachAdaptive(iterable, procedureFactory, combiner, context);
+        }
+        else
+        {
+            ParallelIterate.forEach(
+                    iterable,
+                    procedureFactory,
+                    combiner,
+                    context.getMinForkSize(),
+                    context.getTaskCount(iterable),
+                    context.getExecutor());
+        }
+    }
+
+    /**
+     * Runs a procedure created by the factory over the first few elements on the calling thread to time it, then runs
+     * the remaining elements as sized by {@link ParallelExecutionContext#forMeasuredCost(int, long)}. The sampled
+     * procedure is combined ahead of the others, so every element is processed once and ordered results keep their
+     * order. Only the second half of the sample is timed, which leaves out some of the one-off cost of the first calls.
+     */
+    private static <T, BT extends Procedure<? super T>> void forEachAdaptive(
+            Iterable<T> iterable,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            ParallelExecutionContext context)
+    {
+        int size = Iterate.sizeOf(iterable);
+        if (size == 0)
+        {
+            return;
+        }
+        int sampleSize = Math.min(size, ParallelExecutionContext.ADAPTIVE_SAMPLE_SIZE);
+        int warmUpSize = sampleSize / 2;
+        Iterator<T> iterator = iterable.iterator();
+        BT sample = procedureFactory.create();
+        for (int i = 0; i < warmUpSize; i++)
+        {
+            sample.value(iterator.next());
+        }
+        long start = System.nanoTime();
+        for (int i = warmUpSize; i < sampleSize; i++)
+        {
+            sample.value(iterator.next());
+        }
+        long nanosPerElement = (System.nanoTime() - start) / (sampleSize - warmUpSize);
+
+        List<T> remaining = ParallelIterate.remaining(iterable, iterator, sampleSize, size);
+        ParallelExecutionContext sized = context.forMeasuredCost(remaining.size(), nanosPerElement);
+        ParallelIterate.forEachInListOnExecutor(
+                remaining,
+                procedureFactory,
+                new SampledCombiner<>(combiner, sample),
+                sized.getMinForkSize(),
+                sized.getTaskCount(remaining.size()),
+                sized.getExecutor());
+    }
+
+    /**
+     * Returns the elements after the first {@code sampled}, as a view of a random access list or otherwise copied from
+     * the iterator which produced the sample.
+     */
+    private static <T> List<T> remaining(Iterable<T> iterable, Iterator<T> iterator, int sampled, int size)
+    {
+        if (iterable instanceof RandomAccess && iterable instanceof List)
+        {
+            return ((List<T>) iterable).subList(sampled, size);
+        }
+        MutableList<T> remaining = Lists.mutable.withInitialCapacity(size - sampled);
+        while (iterator.hasNext())
+        {
+            remaining.add(iterator.next());
+        }
+        return remaining;
     }
 
     /**
@@ -366,7 +556,7 @@ public final class ParallelIterate
             Combiner<BT> combiner,
             int batchSize)
     {
-        ParallelIterate.forEach(iterable, procedureFactory, combiner, batchSize, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, batchSize, ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, BT extends Procedure<? super T>> void forEach(
@@ -399,7 +589,7 @@ public final class ParallelIterate
             int minForkSize,
             int taskCount)
     {
-        ParallelIterate.forEach(iterable, procedureFactory, combiner, minForkSize, taskCount, ParallelIterate.EXECUTOR_SERVICE);
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, minForkSize, taskCount, ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, BT extends Procedure<? super T>> void forEach(
@@ -553,13 +743,37 @@ public final class ParallelIterate
             R target,
             boolean allowReorderedResult)
     {
-        return ParallelIterate.select(
-                iterable,
-                predicate,
-                target,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE,
-                allowReorderedResult);
+        return ParallelIterate.select(iterable, predicate, target, ParallelIterate.defaultContext, allowReorderedResult);
+    }
+
+    /**
+     * Same effect as {@link Iterate#select(Iterable, Predicate)}, but executed in parallel batches sized by the
+     * specified context.
+     *
+     * @return The selected elements. The Collection will be of the same type as the input (List or Set)
+     * and will be in the same order as the input (if it is an ordered collection).
+     * @see ParallelExecutionContext#withAdaptiveSizing()
+     * @since 12.0
+     */
+    public static <T> Collection<T> select(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            ParallelExecutionContext context)
+    {
+        return ParallelIterate.select(iterable, predicate, null, context, false);
+    }
+
+    private static <T, R extends Collection<T>> R select(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            R target,
+            ParallelExecutionContext context,
+            boolean allowReorderedResult)
+    {
+        FastListSelectProcedureCombiner<T> combiner = new FastListSelectProcedureCombiner<>(iterable, target, 10, allowReorderedResult);
+        FastListSelectProcedureFactory<T> procedureFactory = new FastListSelectProcedureFactory<>(predicate, context.getMinForkSize());
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, context);
+        return (R) combiner.getResult();
     }
 
     /**
@@ -579,19 +793,24 @@ public final class ParallelIterate
             Executor executor,
             boolean allowReorderedResult)
     {
-        FastListSelectProcedureCombiner<T> combiner = new FastListSelectProcedureCombiner<>(iterable, target, 10, allowReorderedResult);
-        FastListSelectProcedureFactory<T> procedureFactory = new FastListSelectProcedureFactory<>(predicate, batchSize);
-        ParallelIterate.forEach(
+        return ParallelIterate.select(
                 iterable,
-                procedureFactory,
-                combiner,
-                batchSize,
-                ParallelIterate.calculateTaskCount(iterable, batchSize),
-                executor);
-        return (R) combiner.getResult();
+                predicate,
+                target,
+                ParallelIterate.batchContext(batchSize, executor),
+                allowReorderedResult);
     }
 
-    private static <T> int calculateTaskCount(Iterable<T> iterable, int batchSize)
+    /**
+     * Returns a copy of the built-in default context with the specified executor and batch size, which splits an
+     * iterable into {@link #calculateTaskCount(Iterable, int)} tasks.
+     */
+    private static ParallelExecutionContext batchContext(int batchSize, Executor executor)
+    {
+        return ParallelExecutionContext.defaultContext(executor).withMinForkSize(batchSize);
+    }
+
+    static <T> int calculateTaskCount(Iterable<T> iterable, int batchSize)
     {
         if (iterable instanceof BatchIterable<?>)
         {
@@ -654,33 +873,36 @@ public final class ParallelIterate
             Predicate<? super T> predicate,
             R target,
             boolean allowReorderedResult)
+    {
+        return ParallelIterate.reject(iterable, predicate, target, ParallelIterate.defaultContext, allowReorderedResult);
+    }
+
+    public static <T, R extends Collection<T>> R reject(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            R target,
+            int batchSize,
+            Executor executor,
+            boolean allowReorderedResult)
     {
         return ParallelIterate.reject(
                 iterable,
                 predicate,
                 target,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE,
+                ParallelIterate.batchContext(batchSize, executor),
                 allowReorderedResult);
     }
 
-    public static <T, R extends Collection<T>> R reject(
+    private static <T, R extends Collection<T>> R reject(
             Iterable<T> iterable,
             Predicate<? super T> predicate,
             R target,
-            int batchSize,
-            Executor executor,
+            ParallelExecutionContext context,
             boolean allowReorderedResult)
     {
         FastListRejectProcedureCombiner<T> combiner = new FastListRejectProcedureCombiner<>(iterable, target, 10, allowReorderedResult);
-        FastListRejectProcedureFactory<T> procedureFactory = new FastListRejectProcedureFactory<>(predicate, batchSize);
-        ParallelIterate.forEach(
-                iterable,
-                procedureFactory,
-                combiner,
-                batchSize,
-                ParallelIterate.calculateTaskCount(iterable, batchSize),
-                executor);
+        FastListRejectProcedureFactory<T> procedureFactory = new FastListRejectProcedureFactory<>(predicate, context.getMinForkSize());
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, context);
         return (R) combiner.getResult();
     }
 
@@ -691,7 +913,9 @@ public final class ParallelIterate
      */
     public static <T> int count(Iterable<T> iterable, Predicate<? super T> predicate)
     {
-        return ParallelIterate.count(iterable, predicate, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+        CountCombiner<T> combiner = new CountCombiner<>();
+        ParallelIterate.forEach(iterable, new CountProcedureFactory<>(predicate), combiner, ParallelIterate.defaultContext);
+        return combiner.getCount();
     }
 
     /**
@@ -759,13 +983,38 @@ public final class ParallelIterate
             R target,
             boolean allowReorderedResult)
     {
-        return ParallelIterate.collect(
-                iterable,
-                function,
-                target,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE,
-                allowReorderedResult);
+        return ParallelIterate.collect(iterable, function, target, ParallelIterate.defaultContext, allowReorderedResult);
+    }
+
+    /**
+     * Same effect as {@link Iterate#collect(Iterable, Function)}, but executed in parallel batches sized by the
+     * specified context.
+     *
+     * @return The collected elements. The Collection will be of the same type as the input (List or Set)
+     * and will be in the same order as the input (if it is an ordered collection).
+     * @see ParallelExecutionContext#withAdaptiveSizing()
+     * @since 12.0
+     */
+    public static <T, V> Collection<V> collect(
+            Iterable<T> iterable,
+            Function<? super T, V> function,
+            ParallelExecutionContext context)
+    {
+        return ParallelIterate.collect(iterable, function, null, context, false);
+    }
+
+    private static <T, V, R extends Collection<V>> R collect(
+            Iterable<T> iterable,
+            Function<? super T, V> function,
+            R target,
+            ParallelExecutionContext context,
+            boolean allowReorderedResult)
+    {
+        int size = Iterate.sizeOf(iterable);
+        FastListCollectProcedureCombiner<T, V> combiner = new FastListCollectProcedureCombiner<>(iterable, target, size, allowReorderedResult);
+        FastListCollectProcedureFactory<T, V> procedureFactory = new FastListCollectProcedureFactory<>(function, size / context.getTaskCount(iterable));
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, context);
+        return (R) combiner.getResult();
     }
 
     public static <T, V, R extends Collection<V>> R collect(
@@ -776,18 +1025,12 @@ public final class ParallelIterate
             Executor executor,
             boolean allowReorderedResult)
     {
-        int size = Iterate.sizeOf(iterable);
-        FastListCollectProcedureCombiner<T, V> combiner = new FastListCollectProcedureCombiner<>(iterable, target, size, allowReorderedResult);
-        int taskCount = ParallelIterate.calculateTaskCount(iterable, batchSize);
-        FastListCollectProcedureFactory<T, V> procedureFactory = new FastListCollectProcedureFactory<>(function, size / taskCount);
-        ParallelIterate.forEach(
+        return ParallelIterate.collect(
                 iterable,
-                procedureFactory,
-                combiner,
-                batchSize,
-                taskCount,
-                executor);
-        return (R) combiner.getResult();
+                function,
+                target,
+                ParallelIterate.batchContext(batchSize, executor),
+                allowReorderedResult);
     }
 
     public static <T, V> Collection<V> flatCollect(
@@ -810,37 +1053,39 @@ public final class ParallelIterate
             Function<? super T, Collection<V>> function,
             R target,
             boolean allowReorderedResult)
+    {
+        return ParallelIterate.flatCollect(iterable, function, target, ParallelIterate.defaultContext, allowReorderedResult);
+    }
+
+    public static <T, V, R extends Collection<V>> R flatCollect(
+            Iterable<T> iterable,
+            Function<? super T, Collection<V>> function,
+            R target,
+            int batchSize,
+            Executor executor,
+            boolean allowReorderedResult)
     {
         return ParallelIterate.flatCollect(
                 iterable,
                 function,
                 target,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE,
+                ParallelIterate.batchContext(batchSize, executor),
                 allowReorderedResult);
     }
 
-    public static <T, V, R extends Collection<V>> R flatCollect(
+    private static <T, V, R extends Collection<V>> R flatCollect(
             Iterable<T> iterable,
             Function<? super T, Collection<V>> function,
             R target,
-            int batchSize,
-            Executor executor,
+            ParallelExecutionContext context,
             boolean allowReorderedResult)
     {
         int size = Iterate.sizeOf(iterable);
-        int taskCount = ParallelIterate.calculateTaskCount(iterable, batchSize);
-        int taskSize = size / taskCount;
+        int taskSize = size / context.getTaskCount(iterable);
         FlatCollectProcedureCombiner<T, V> combiner =
                 new FlatCollectProcedureCombiner<>(iterable, target, size, allowReorderedResult);
         FlatCollectProcedureFactory<T, V> procedureFactory = new FlatCollectProcedureFactory<>(function, taskSize);
-        ParallelIterate.forEach(
-                iterable,
-                procedureFactory,
-                combiner,
-                batchSize,
-                taskCount,
-                executor);
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, context);
         return (R) combiner.getResult();
     }
 
@@ -893,35 +1138,39 @@ public final class ParallelIterate
             Function<? super T, V> function,
             R target,
             boolean allowReorderedResult)
+    {
+        return ParallelIterate.collectIf(iterable, predicate, function, target, ParallelIterate.defaultContext, allowReorderedResult);
+    }
+
+    public static <T, V, R extends Collection<V>> R collectIf(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            Function<? super T, V> function,
+            R target,
+            int batchSize,
+            Executor executor,
+            boolean allowReorderedResult)
     {
         return ParallelIterate.collectIf(
                 iterable,
                 predicate,
                 function,
                 target,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE,
+                ParallelIterate.batchContext(batchSize, executor),
                 allowReorderedResult);
     }
 
-    public static <T, V, R extends Collection<V>> R collectIf(
+    private static <T, V, R extends Collection<V>> R collectIf(
             Iterable<T> iterable,
             Predicate<? super T> predicate,
             Function<? super T, V> function,
             R target,
-            int batchSize,
-            Executor executor,
+            ParallelExecutionContext context,
             boolean allowReorderedResult)
     {
         FastListCollectIfProcedureCombiner<T, V> combiner = new FastListCollectIfProcedureCombiner<>(iterable, target, 10, allowReorderedResult);
-        FastListCollectIfProcedureFactory<T, V> procedureFactory = new FastListCollectIfProcedureFactory<>(function, predicate, batchSize);
-        ParallelIterate.forEach(
-                iterable,
-                procedureFactory,
-                combiner,
-                batchSize,
-                ParallelIterate.calculateTaskCount(iterable, batchSize),
-                executor);
+        FastListCollectIfProcedureFactory<T, V> procedureFactory = new FastListCollectIfProcedureFactory<>(function, predicate, context.getMinForkSize());
+        ParallelIterate.forEach(iterable, procedureFactory, combiner, context);
         return (R) combiner.getResult();
     }
 
@@ -933,7 +1182,28 @@ public final class ParallelIterate
             Iterable<V> iterable,
             Function<? super V, ? extends K> function)
     {
-        return ParallelIterate.groupBy(iterable, function, ParallelIterate.DEFAULT_MIN_FORK_SIZE, ParallelIterate.EXECUTOR_SERVICE);
+        return ParallelIterate.groupBy(iterable, function, SynchronizedPutFastListMultimap.newMultimap(), ParallelIterate.defaultContext);
+    }
+
+    /**
+     * Same effect as {@link Iterate#groupBy(Iterable, Function)}, but executed in parallel batches using the executor,
+     * minimum fork size and task count of the specified context. Each batch writes into its own FastListMultimap, so
+     * no multimap is shared between threads, and the multimaps are then merged in the order of the batches.
+     *
+     * @since 12.0
+     */
+    public static <K, V> MutableMultimap<K, V> groupBy(
+            Iterable<V> iterable,
+            Function<? super V, ? extends K> function,
+            ParallelExecutionContext context)
+    {
+        GroupByProcedure<K, V> procedure = new GroupByProcedure<>(function);
+        return ParallelIterate.mergePartialResults(
+                iterable,
+                procedure,
+                context.getMinForkSize(),
+                context.getTaskCount(iterable),
+                context.getExecutor()).multimap;
     }
 
     public static <T, K, V> MutableMap<K, V> aggregateBy(
@@ -947,7 +1217,8 @@ public final class ParallelIterate
                 groupBy,
                 zeroValueFactory,
                 nonMutatingAggregator,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE);
+                ConcurrentHashMap.newMap(),
+                ParallelIterate.defaultContext);
     }
 
     public static <T, K, V, R extends MutableMapIterable<K, V>> R aggregateBy(
@@ -963,7 +1234,7 @@ public final class ParallelIterate
                 zeroValueFactory,
                 nonMutatingAggregator,
                 mutableMap,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE);
+                ParallelIterate.defaultContext);
     }
 
     public static <T, K, V> MutableMap<K, V> aggregateBy(
@@ -979,7 +1250,7 @@ public final class ParallelIterate
                 zeroValueFactory,
                 nonMutatingAggregator,
                 batchSize,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, K, V, R extends MutableMapIterable<K, V>> R aggregateBy(
@@ -997,7 +1268,7 @@ public final class ParallelIterate
                 nonMutatingAggregator,
                 mutableMap,
                 batchSize,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, K, V> MutableMap<K, V> aggregateBy(
@@ -1038,6 +1309,50 @@ public final class ParallelIterate
         return mutableMap;
     }
 
+    /**
+     * Same effect as {@link Iterate#aggregateBy(Iterable, Function, Function0, Function2)}, but executed in parallel
+     * batches using the executor, minimum fork size and task count of the specified context. Each batch aggregates into
+     * its own map, so no map is shared between threads, and the maps are then merged using {@code combiner}, which
+     * returns the aggregation of two values aggregated for the same key by different batches.
+     *
+     * @since 12.0
+     */
+    public static <T, K, V> MutableMap<K, V> aggregateBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> combiner,
+            ParallelExecutionContext context)
+    {
+        AggregateByProcedure<T, K, V> procedure =
+                new AggregateByProcedure<>(groupBy, zeroValueFactory, nonMutatingAggregator, combiner);
+        return ParallelIterate.mergePartialResults(
+                iterable,
+                procedure,
+                context.getMinForkSize(),
+                context.getTaskCount(iterable),
+                context.getExecutor()).map;
+    }
+
+    private static <T, K, V, R extends MutableMapIterable<K, V>> R aggregateBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            R mutableMap,
+            ParallelExecutionContext context)
+    {
+        NonMutatingAggregationProcedure<T, K, V> nonMutatingAggregationProcedure =
+                new NonMutatingAggregationProcedure<>(mutableMap, groupBy, zeroValueFactory, nonMutatingAggregator);
+        ParallelIterate.forEach(
+                iterable,
+                new PassThruProcedureFactory<>(nonMutatingAggregationProcedure),
+                Combiners.<Procedure<T>>passThru(),
+                context);
+        return mutableMap;
+    }
+
     public static <T, K, V> MutableMap<K, V> aggregateInPlaceBy(
             Iterable<T> iterable,
             Function<? super T, ? extends K> groupBy,
@@ -1049,7 +1364,8 @@ public final class ParallelIterate
                 groupBy,
                 zeroValueFactory,
                 mutatingAggregator,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE);
+                ConcurrentHashMap.newMap(),
+                ParallelIterate.defaultContext);
     }
 
     public static <T, K, V, R extends MutableMapIterable<K, V>> R aggregateInPlaceBy(
@@ -1065,7 +1381,7 @@ public final class ParallelIterate
                 zeroValueFactory,
                 mutatingAggregator,
                 mutableMap,
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE);
+                ParallelIterate.defaultContext);
     }
 
     public static <T, K, V> MutableMap<K, V> aggregateInPlaceBy(
@@ -1081,7 +1397,7 @@ public final class ParallelIterate
                 zeroValueFactory,
                 mutatingAggregator,
                 batchSize,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, K, V, R extends MutableMapIterable<K, V>> R aggregateInPlaceBy(
@@ -1099,7 +1415,7 @@ public final class ParallelIterate
                 mutatingAggregator,
                 mutableMap,
                 batchSize,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext.getExecutor());
     }
 
     public static <T, K, V> MutableMap<K, V> aggregateInPlaceBy(
@@ -1142,6 +1458,51 @@ public final class ParallelIterate
         return mutableMap;
     }
 
+    /**
+     * Same effect as {@link Iterate#aggregateInPlaceBy(Iterable, Function, Function0, Procedure2)}, but executed in
+     * parallel batches using the executor, minimum fork size and task count of the specified context. Each batch
+     * aggregates into its own map, so no map or value is shared between threads, and the maps are then merged using
+     * {@code mutatingCombiner}, which adds the second of two values aggregated for the same key by different batches
+     * into the first.
+     *
+     * @since 12.0
+     */
+    public static <T, K, V> MutableMap<K, V> aggregateInPlaceBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            Procedure2<? super V, ? super V> mutatingCombiner,
+            ParallelExecutionContext context)
+    {
+        AggregateInPlaceByProcedure<T, K, V> procedure =
+                new AggregateInPlaceByProcedure<>(groupBy, zeroValueFactory, mutatingAggregator, mutatingCombiner);
+        return ParallelIterate.mergePartialResults(
+                iterable,
+                procedure,
+                context.getMinForkSize(),
+                context.getTaskCount(iterable),
+                context.getExecutor()).map;
+    }
+
+    private static <T, K, V, R extends MutableMapIterable<K, V>> R aggregateInPlaceBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            R mutableMap,
+            ParallelExecutionContext context)
+    {
+        MutatingAggregationProcedure<T, K, V> mutatingAggregationProcedure =
+                new MutatingAggregationProcedure<>(mutableMap, groupBy, zeroValueFactory, mutatingAggregator);
+        ParallelIterate.forEach(
+                iterable,
+                new PassThruProcedureFactory<>(mutatingAggregationProcedure),
+                Combiners.<Procedure<T>>passThru(),
+                context);
+        return mutableMap;
+    }
+
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
      * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
@@ -1151,7 +1512,7 @@ public final class ParallelIterate
             Function<? super V, ? extends K> function,
             R concurrentMultimap)
     {
-        return ParallelIterate.groupBy(iterable, function, concurrentMultimap, ParallelIterate.DEFAULT_MIN_FORK_SIZE);
+        return ParallelIterate.groupBy(iterable, function, concurrentMultimap, ParallelIterate.defaultContext);
     }
 
     /**
@@ -1164,7 +1525,7 @@ public final class ParallelIterate
             R concurrentMultimap,
             int batchSize)
     {
-        return ParallelIterate.groupBy(iterable, function, concurrentMultimap, batchSize, ParallelIterate.EXECUTOR_SERVICE);
+        return ParallelIterate.groupBy(iterable, function, concurrentMultimap, batchSize, ParallelIterate.defaultContext.getExecutor());
     }
 
     /**
@@ -1176,7 +1537,7 @@ public final class ParallelIterate
             Function<? super V, ? extends K> function,
             int batchSize)
     {
-        return ParallelIterate.groupBy(iterable, function, batchSize, ParallelIterate.EXECUTOR_SERVICE);
+        return ParallelIterate.groupBy(iterable, function, batchSize, ParallelIterate.defaultContext.getExecutor());
     }
 
     /**
@@ -1192,6 +1553,22 @@ public final class ParallelIterate
         return ParallelIterate.groupBy(iterable, function, SynchronizedPutFastListMultimap.newMultimap(), batchSize, executor);
     }
 
+    /**
+     * Runs a copy of {@code prototype} over each batch of the iterable and merges their partial results, returning
+     * {@code prototype} itself, which is empty, if the iterable is empty.
+     */
+    private static <T, P extends PartialResultProcedure<T, P>> P mergePartialResults(
+            Iterable<T> iterable,
+            P prototype,
+            int minForkSize,
+            int taskCount,
+            Executor executor)
+    {
+        PartialResultCombiner<P> combiner = new PartialResultCombiner<>(minForkSize, executor);
+        ParallelIterate.forEach(iterable, prototype, combiner, minForkSize, taskCount, executor);
+        return combiner.getResult() == null ? prototype : combiner.getResult();
+    }
+
     /**
      * Same effect as {@link Iterate#groupBy(Iterable, Function)},
      * but executed in parallel batches, and writing output into a SynchronizedPutFastListMultimap.
@@ -1212,6 +1589,20 @@ public final class ParallelIterate
         return concurrentMultimap;
     }
 
+    private static <K, V, R extends MutableMultimap<K, V>> R groupBy(
+            Iterable<V> iterable,
+            Function<? super V, ? extends K> function,
+            R concurrentMultimap,
+            ParallelExecutionContext context)
+    {
+        ParallelIterate.forEach(
+                iterable,
+                new PassThruProcedureFactory<>(new MultimapPutProcedure<>(concurrentMultimap, function)),
+                Combiners.<Procedure<V>>passThru(),
+                context);
+        return concurrentMultimap;
+    }
+
     public static <T, V> ObjectDoubleMap<V> sumByDouble(
             Iterable<T> iterable,
             Function<? super T, ? extends V> groupBy,
@@ -1222,8 +1613,7 @@ public final class ParallelIterate
                 iterable,
                 new SumByDoubleProcedure<>(groupBy, function),
                 new SumByDoubleCombiner<>(result),
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext);
         return result;
     }
 
@@ -1237,8 +1627,7 @@ public final class ParallelIterate
                 iterable,
                 new SumByFloatProcedure<>(groupBy, function),
                 new SumByFloatCombiner<>(result),
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext);
         return result;
     }
 
@@ -1252,8 +1641,7 @@ public final class ParallelIterate
                 iterable,
                 new SumByLongProcedure<>(groupBy, function),
                 new SumByLongCombiner<>(result),
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext);
         return result;
     }
 
@@ -1267,11 +1655,208 @@ public final class ParallelIterate
                 iterable,
                 new SumByIntProcedure<>(groupBy, function),
                 new SumByIntCombiner<>(result),
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext);
+        return result;
+    }
+
+    /**
+     * Counts the elements of each group in parallel batches. Each batch counts into its own primitive map, and the
+     * maps are merged with {@code addToValue}, so no count is boxed.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectLongMap<V> countBy(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy)
+    {
+        return ParallelIterate.sumByLong(iterable, groupBy, each -> 1L);
+    }
+
+    /**
+     * Returns the smallest value of {@code function} for each group, computed in parallel batches which each reduce
+     * into their own primitive map.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectLongMap<V> minByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return ParallelIterate.reduceByLong(iterable, groupBy, function, Math::min, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the largest value of {@code function} for each group, computed in parallel batches which each reduce
+     * into their own primitive map.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectLongMap<V> maxByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return ParallelIterate.reduceByLong(iterable, groupBy, function, Math::max, Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the smallest value of {@code function} for each group, computed in parallel batches which each reduce
+     * into their own primitive map.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectDoubleMap<V> minByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return ParallelIterate.reduceByDouble(iterable, groupBy, function, Math::min, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Returns the largest value of {@code function} for each group, computed in parallel batches which each reduce
+     * into their own primitive map.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectDoubleMap<V> maxByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return ParallelIterate.reduceByDouble(iterable, groupBy, function, Math::max, Double.NEGATIVE_INFINITY);
+    }
+
+    private static <T, V> ObjectLongMap<V> reduceByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function,
+            LongLongToLongFunction reducer,
+            long identity)
+    {
+        MutableObjectLongMap<V> result = ObjectLongMaps.mutable.empty();
+        ParallelIterate.forEach(
+                iterable,
+                new ReduceByLongProcedure<>(groupBy, function, reducer, identity),
+                new ReduceByLongCombiner<>(result, reducer, identity),
+                ParallelIterate.defaultContext);
+        return result;
+    }
+
+    private static <T, V> ObjectDoubleMap<V> reduceByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function,
+            DoubleDoubleToDoubleFunction reducer,
+            double identity)
+    {
+        MutableObjectDoubleMap<V> result = ObjectDoubleMaps.mutable.empty();
+        ParallelIterate.forEach(
+                iterable,
+                new ReduceByDoubleProcedure<>(groupBy, function, reducer, identity),
+                new ReduceByDoubleCombiner<>(result, reducer, identity),
+                ParallelIterate.defaultContext);
+        return result;
+    }
+
+    /**
+     * Reduces {@code value} into the value of {@code key}, where {@code identity} is the value of an absent key. The
+     * map is only written when the value changes, or when the key may be absent.
+     */
+    private static <V> void reduceInto(MutableObjectLongMap<V> map, V key, long value, LongLongToLongFunction reducer, long identity)
+    {
+        long existing = map.getIfAbsent(key, identity);
+        long reduced = reducer.valueOf(existing, value);
+        if (reduced != existing || existing == identity)
+        {
+            map.put(key, reduced);
+        }
+    }
+
+    private static <V> void reduceInto(MutableObjectDoubleMap<V> map, V key, double value, DoubleDoubleToDoubleFunction reducer, double identity)
+    {
+        double existing = map.getIfAbsent(key, identity);
+        double reduced = reducer.valueOf(existing, value);
+        if (Double.compare(reduced, existing) != 0 || Double.compare(existing, identity) == 0)
+        {
+            map.put(key, reduced);
+        }
+    }
+
+    /**
+     * Returns the count, sum, minimum, average and maximum of the values of {@code function} for each group, computed
+     * in parallel batches which each accumulate their own statistics.
+     *
+     * @since 12.0
+     */
+    public static <T, V> MutableMap<V, LongSummaryStatistics> summarizeByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        MutableMap<V, LongSummaryStatistics> result = Maps.mutable.empty();
+        ParallelIterate.forEach(
+                iterable,
+                new SummarizeByLongProcedure<>(groupBy, function),
+                new SummarizeByLongCombiner<>(result),
+                ParallelIterate.defaultContext);
+        return result;
+    }
+
+    /**
+     * Returns the count, sum, minimum, average and maximum of the values of {@code function} for each group, computed
+     * in parallel batches which each accumulate their own statistics.
+     *
+     * @since 12.0
+     */
+    public static <T, V> MutableMap<V, DoubleSummaryStatistics> summarizeByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        MutableMap<V, DoubleSummaryStatistics> result = Maps.mutable.empty();
+        ParallelIterate.forEach(
+                iterable,
+                new SummarizeByDoubleProcedure<>(groupBy, function),
+                new SummarizeByDoubleCombiner<>(result),
+                ParallelIterate.defaultContext);
         return result;
     }
 
+    /**
+     * Same as {@link #sumByLong(Iterable, Function, LongFunction)}, for groups identified by an {@code int}, so that
+     * neither the keys nor the sums are boxed.
+     *
+     * @since 12.0
+     */
+    public static <T> IntLongMap sumByIntKey(
+            Iterable<T> iterable,
+            IntFunction<? super T> groupBy,
+            LongFunction<? super T> function)
+    {
+        MutableIntLongMap result = IntLongMaps.mutable.empty();
+        ParallelIterate.forEach(
+                iterable,
+                new SumByIntKeyProcedure<>(groupBy, function),
+                new SumByIntKeyCombiner<>(result),
+                ParallelIterate.defaultContext);
+        return result;
+    }
+
+    /**
+     * Same as {@link #countBy(Iterable, Function)}, for groups identified by an {@code int}, so that neither the keys
+     * nor the counts are boxed.
+     *
+     * @since 12.0
+     */
+    public static <T> IntLongMap countByIntKey(
+            Iterable<T> iterable,
+            IntFunction<? super T> groupBy)
+    {
+        return ParallelIterate.sumByIntKey(iterable, groupBy, each -> 1L);
+    }
+
     /**
      * @since 6.0
      */
@@ -1285,8 +1870,7 @@ public final class ParallelIterate
                 iterable,
                 new SumByBigDecimalProcedure<>(groupBy, function),
                 new SumByBigDecimalCombiner<>(result),
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext);
         return result;
     }
 
@@ -1303,8 +1887,7 @@ public final class ParallelIterate
                 iterable,
                 new SumByBigIntegerProcedure<>(groupBy, function),
                 new SumByBigIntegerCombiner<>(result),
-                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                ParallelIterate.defaultContext);
         return result;
     }
 
@@ -1352,6 +1935,54 @@ public final class ParallelIterate
         return TASK_RATIO;
     }
 
+    /**
+     * Combines the procedure which processed the elements sampled by an adaptive context ahead of the procedures which
+     * processed the remaining elements.
+     */
+    private static final class SampledCombiner<BT> implements Combiner<BT>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Combiner<BT> combiner;
+        private BT sample;
+
+        private SampledCombiner(Combiner<BT> combiner, BT sample)
+        {
+            this.combiner = combiner;
+            this.sample = sample;
+        }
+
+        @Override
+        public void combineAll(Iterable<BT> thingsToCombine)
+        {
+            MutableList<BT> all = Lists.mutable.empty();
+            if (this.sample != null)
+            {
+                all.add(this.sample);
+                this.sample = null;
+            }
+            all.addAllIterable(thingsToCombine);
+            this.combiner.combineAll(all);
+        }
+
+        @Override
+        public void combineOne(BT thingToCombine)
+        {
+            if (this.sample != null)
+            {
+                this.combiner.combineOne(this.sample);
+                this.sample = null;
+            }
+            this.combiner.combineOne(thingToCombine);
+        }
+
+        @Override
+        public boolean useCombineOne()
+        {
+            return this.combiner.useCombineOne();
+        }
+    }
+
     private static final class SumByDoubleProcedure<T, V> implements Procedure<T>, ProcedureFactory<SumByDoubleProcedure<T, V>>
     {
         private final MutableMap<V, DoubleDoublePair> map = Maps.mutable.of();
@@ -1715,4 +2346,510 @@ public final class ParallelIterate
             }
         }
     }
+
+    /**
+     * A procedure which accumulates the partial result of one batch, and which can merge the partial result of the
+     * next batch into its own.
+     */
+    private abstract static class PartialResultProcedure<T, P extends PartialResultProcedure<T, P>> implements Procedure<T>, ProcedureFactory<P>
+    {
+        protected abstract void merge(P next);
+
+        protected abstract int sizeDistinct();
+    }
+
+    /**
+     * Merges the partial results of the batches pairwise, each into the one before it, so that every level of the
+     * merge halves their number and the order of the batches is kept. A level is merged in parallel when the partial
+     * results hold at least {@code minForkSize} keys between them, which is when large key spaces make merging costly.
+     */
+    private static final class PartialResultCombiner<P extends PartialResultProcedure<?, P>> extends AbstractProcedureCombiner<P>
+    {
+        private final int minForkSize;
+        private final Executor executor;
+        private P result;
+
+        private PartialResultCombiner(int minForkSize, Executor executor)
+        {
+            super(false);
+            this.minForkSize = minForkSize;
+            this.executor = executor;
+        }
+
+        @Override
+        public void combineOne(P thingToCombine)
+        {
+            if (this.result == null)
+            {
+                this.result = thingToCombine;
+            }
+            else
+            {
+                this.result.merge(thingToCombine);
+            }
+        }
+
+        @Override
+        public void combineAll(Iterable<P> thingsToCombine)
+        {
+            MutableList<P> level = Lists.mutable.withAll(thingsToCombine);
+            while (level.size() > 1)
+            {
+                MutableList<P> partialResults = level;
+                int pairs = partialResults.size() / 2;
+                if (pairs > 1 && partialResults.sumOfInt(PartialResultProcedure::sizeDistinct) >= this.minForkSize)
+                {
+                    Procedure<Integer> mergePair = index -> partialResults.get(2 * index).merge(partialResults.get(2 * index + 1));
+                    ParallelIterate.forEach(Interval.zeroTo(pairs - 1), mergePair, 1, pairs, this.executor);
+                }
+                else
+                {
+                    for (int i = 0; i < pairs; i++)
+                    {
+                        partialResults.get(2 * i).merge(partialResults.get(2 * i + 1));
+                    }
+                }
+                level = Lists.mutable.withInitialCapacity(partialResults.size() - pairs);
+                for (int i = 0; i < partialResults.size(); i += 2)
+                {
+                    level.add(partialResults.get(i));
+                }
+            }
+            level.each(this::combineOne);
+        }
+
+        public P getResult()
+        {
+            return this.result;
+        }
+    }
+
+    private static final class GroupByProcedure<K, V> extends PartialResultProcedure<V, GroupByProcedure<K, V>>
+    {
+        private final FastListMultimap<K, V> multimap = FastListMultimap.newMultimap();
+        private final Function<? super V, ? extends K> function;
+
+        private GroupByProcedure(Function<? super V, ? extends K> function)
+        {
+            this.function = function;
+        }
+
+        @Override
+        public void value(V each)
+        {
+            this.multimap.put(this.function.valueOf(each), each);
+        }
+
+        @Override
+        public GroupByProcedure<K, V> create()
+        {
+            return new GroupByProcedure<>(this.function);
+        }
+
+        @Override
+        protected void merge(GroupByProcedure<K, V> next)
+        {
+            this.multimap.putAll(next.multimap);
+        }
+
+        @Override
+        protected int sizeDistinct()
+        {
+            return this.multimap.sizeDistinct();
+        }
+    }
+
+    private static final class AggregateByProcedure<T, K, V> extends PartialResultProcedure<T, AggregateByProcedure<T, K, V>>
+    {
+        private final MutableMap<K, V> map = Maps.mutable.empty();
+        private final Function<? super T, ? extends K> groupBy;
+        private final Function0<? extends V> zeroValueFactory;
+        private final Function2<? super V, ? super T, ? extends V> nonMutatingAggregator;
+        private final Function2<? super V, ? super V, ? extends V> combiner;
+
+        private AggregateByProcedure(
+                Function<? super T, ? extends K> groupBy,
+                Function0<? extends V> zeroValueFactory,
+                Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+                Function2<? super V, ? super V, ? extends V> combiner)
+        {
+            this.groupBy = groupBy;
+            this.zeroValueFactory = zeroValueFactory;
+            this.nonMutatingAggregator = nonMutatingAggregator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            this.map.updateValueWith(this.groupBy.valueOf(each), this.zeroValueFactory, this.nonMutatingAggregator, each);
+        }
+
+        @Override
+        public AggregateByProcedure<T, K, V> create()
+        {
+            return new AggregateByProcedure<>(this.groupBy, this.zeroValueFactory, this.nonMutatingAggregator, this.combiner);
+        }
+
+        @Override
+        protected void merge(AggregateByProcedure<T, K, V> next)
+        {
+            next.map.forEachKeyValue((key, value) -> this.map.put(key, this.map.containsKey(key) ? this.combiner.value(this.map.get(key), value) : value));
+        }
+
+        @Override
+        protected int sizeDistinct()
+        {
+            return this.map.size();
+        }
+    }
+
+    private static final class AggregateInPlaceByProcedure<T, K, V> extends PartialResultProcedure<T, AggregateInPlaceByProcedure<T, K, V>>
+    {
+        private final MutableMap<K, V> map = Maps.mutable.empty();
+        private final Function<? super T, ? extends K> groupBy;
+        private final Function0<? extends V> zeroValueFactory;
+        private final Procedure2<? super V, ? super T> mutatingAggregator;
+        private final Procedure2<? super V, ? super V> mutatingCombiner;
+
+        private AggregateInPlaceByProcedure(
+                Function<? super T, ? extends K> groupBy,
+                Function0<? extends V> zeroValueFactory,
+                Procedure2<? super V, ? super T> mutatingAggregator,
+                Procedure2<? super V, ? super V> mutatingCombiner)
+        {
+            this.groupBy = groupBy;
+            this.zeroValueFactory = zeroValueFactory;
+            this.mutatingAggregator = mutatingAggregator;
+            this.mutatingCombiner = mutatingCombiner;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            this.mutatingAggregator.value(this.map.getIfAbsentPut(this.groupBy.valueOf(each), this.zeroValueFactory), each);
+        }
+
+        @Override
+        public AggregateInPlaceByProcedure<T, K, V> create()
+        {
+            return new AggregateInPlaceByProcedure<>(this.groupBy, this.zeroValueFactory, this.mutatingAggregator, this.mutatingCombiner);
+        }
+
+        @Override
+        protected void merge(AggregateInPlaceByProcedure<T, K, V> next)
+        {
+            next.map.forEachKeyValue((key, value) ->
+            {
+                if (this.map.containsKey(key))
+                {
+                    this.mutatingCombiner.value(this.map.get(key), value);
+                }
+                else
+                {
+                    this.map.put(key, value);
+                }
+            });
+        }
+
+        @Override
+        protected int sizeDistinct()
+        {
+            return this.map.size();
+        }
+    }
+
+    private static final class ReduceByLongProcedure<T, V> implements Procedure<T>, ProcedureFactory<ReduceByLongProcedure<T, V>>
+    {
+        private final MutableObjectLongMap<V> map = ObjectLongMaps.mutable.empty();
+        private final Function<? super T, ? extends V> groupBy;
+        private final LongFunction<? super T> function;
+        private final LongLongToLongFunction reducer;
+        private final long identity;
+
+        private ReduceByLongProcedure(
+                Function<? super T, ? extends V> groupBy,
+                LongFunction<? super T> function,
+                LongLongToLongFunction reducer,
+                long identity)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+            this.reducer = reducer;
+            this.identity = identity;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            ParallelIterate.reduceInto(this.map, this.groupBy.valueOf(each), this.function.longValueOf(each), this.reducer, this.identity);
+        }
+
+        public MutableObjectLongMap<V> getResult()
+        {
+            return this.map;
+        }
+
+        @Override
+        public ReduceByLongProcedure<T, V> create()
+        {
+            return new ReduceByLongProcedure<>(this.groupBy, this.function, this.reducer, this.identity);
+        }
+    }
+
+    private static final class ReduceByLongCombiner<T, V> extends AbstractProcedureCombiner<ReduceByLongProcedure<T, V>>
+    {
+        private final MutableObjectLongMap<V> result;
+        private final LongLongToLongFunction reducer;
+        private final long identity;
+
+        private ReduceByLongCombiner(MutableObjectLongMap<V> result, LongLongToLongFunction reducer, long identity)
+        {
+            super(true);
+            this.result = result;
+            this.reducer = reducer;
+            this.identity = identity;
+        }
+
+        @Override
+        public void combineOne(ReduceByLongProcedure<T, V> thingToCombine)
+        {
+            if (this.result.isEmpty())
+            {
+                this.result.putAll(thingToCombine.getResult());
+            }
+            else
+            {
+                thingToCombine.getResult().forEachKeyValue((key, value) -> ParallelIterate.reduceInto(this.result, key, value, this.reducer, this.identity));
+            }
+        }
+    }
+
+    private static final class ReduceByDoubleProcedure<T, V> implements Procedure<T>, ProcedureFactory<ReduceByDoubleProcedure<T, V>>
+    {
+        private final MutableObjectDoubleMap<V> map = ObjectDoubleMaps.mutable.empty();
+        private final Function<? super T, ? extends V> groupBy;
+        private final DoubleFunction<? super T> function;
+        private final DoubleDoubleToDoubleFunction reducer;
+        private final double identity;
+
+        private ReduceByDoubleProcedure(
+                Function<? super T, ? extends V> groupBy,
+                DoubleFunction<? super T> function,
+                DoubleDoubleToDoubleFunction reducer,
+                double identity)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+            this.reducer = reducer;
+            this.identity = identity;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            ParallelIterate.reduceInto(this.map, this.groupBy.valueOf(each), this.function.doubleValueOf(each), this.reducer, this.identity);
+        }
+
+        public MutableObjectDoubleMap<V> getResult()
+        {
+            return this.map;
+        }
+
+        @Override
+        public ReduceByDoubleProcedure<T, V> create()
+        {
+            return new ReduceByDoubleProcedure<>(this.groupBy, this.function, this.reducer, this.identity);
+        }
+    }
+
+    private static final class ReduceByDoubleCombiner<T, V> extends AbstractProcedureCombiner<ReduceByDoubleProcedure<T, V>>
+    {
+        private final MutableObjectDoubleMap<V> result;
+        private final DoubleDoubleToDoubleFunction reducer;
+        private final double identity;
+
+        private ReduceByDoubleCombiner(MutableObjectDoubleMap<V> result, DoubleDoubleToDoubleFunction reducer, double identity)
+        {
+            super(true);
+            this.result = result;
+            this.reducer = reducer;
+            this.identity = identity;
+        }
+
+        @Override
+        public void combineOne(ReduceByDoubleProcedure<T, V> thingToCombine)
+        {
+            if (this.result.isEmpty())
+            {
+                this.result.putAll(thingToCombine.getResult());
+            }
+            else
+            {
+                thingToCombine.getResult().forEachKeyValue((key, value) -> ParallelIterate.reduceInto(this.result, key, value, this.reducer, this.identity));
+            }
+        }
+    }
+
+    private static final class SummarizeByLongProcedure<T, V> implements Procedure<T>, ProcedureFactory<SummarizeByLongProcedure<T, V>>
+    {
+        private final MutableMap<V, LongSummaryStatistics> map = Maps.mutable.empty();
+        private final Function<? super T, ? extends V> groupBy;
+        private final LongFunction<? super T> function;
+
+        private SummarizeByLongProcedure(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            this.map.getIfAbsentPut(this.groupBy.valueOf(each), LongSummaryStatistics::new).accept(this.function.longValueOf(each));
+        }
+
+        public MutableMap<V, LongSummaryStatistics> getResult()
+        {
+            return this.map;
+        }
+
+        @Override
+        public SummarizeByLongProcedure<T, V> create()
+        {
+            return new SummarizeByLongProcedure<>(this.groupBy, this.function);
+        }
+    }
+
+    private static final class SummarizeByLongCombiner<T, V> extends AbstractProcedureCombiner<SummarizeByLongProcedure<T, V>>
+    {
+        private final MutableMap<V, LongSummaryStatistics> result;
+
+        private SummarizeByLongCombiner(MutableMap<V, LongSummaryStatistics> result)
+        {
+            super(true);
+            this.result = result;
+        }
+
+        @Override
+        public void combineOne(SummarizeByLongProcedure<T, V> thingToCombine)
+        {
+            if (this.result.isEmpty())
+            {
+                this.result.putAll(thingToCombine.getResult());
+            }
+            else
+            {
+                thingToCombine.getResult().forEachKeyValue((key, value) -> this.result.getIfAbsentPut(key, LongSummaryStatistics::new).combine(value));
+            }
+        }
+    }
+
+    private static final class SummarizeByDoubleProcedure<T, V> implements Procedure<T>, ProcedureFactory<SummarizeByDoubleProcedure<T, V>>
+    {
+        private final MutableMap<V, DoubleSummaryStatistics> map = Maps.mutable.empty();
+        private final Function<? super T, ? extends V> groupBy;
+        private final DoubleFunction<? super T> function;
+
+        private SummarizeByDoubleProcedure(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            this.map.getIfAbsentPut(this.groupBy.valueOf(each), DoubleSummaryStatistics::new).accept(this.function.doubleValueOf(each));
+        }
+
+        public MutableMap<V, DoubleSummaryStatistics> getResult()
+        {
+            return this.map;
+        }
+
+        @Override
+        public SummarizeByDoubleProcedure<T, V> create()
+        {
+            return new SummarizeByDoubleProcedure<>(this.groupBy, this.function);
+        }
+    }
+
+    private static final class SummarizeByDoubleCombiner<T, V> extends AbstractProcedureCombiner<SummarizeByDoubleProcedure<T, V>>
+    {
+        private final MutableMap<V, DoubleSummaryStatistics> result;
+
+        private SummarizeByDoubleCombiner(MutableMap<V, DoubleSummaryStatistics> result)
+        {
+            super(true);
+            this.result = result;
+        }
+
+        @Override
+        public void combineOne(SummarizeByDoubleProcedure<T, V> thingToCombine)
+        {
+            if (this.result.isEmpty())
+            {
+                this.result.putAll(thingToCombine.getResult());
+            }
+            else
+            {
+                thingToCombine.getResult().forEachKeyValue((key, value) -> this.result.getIfAbsentPut(key, DoubleSummaryStatistics::new).combine(value));
+            }
+        }
+    }
+
+    private static final class SumByIntKeyProcedure<T> implements Procedure<T>, ProcedureFactory<SumByIntKeyProcedure<T>>
+    {
+        private final MutableIntLongMap map = IntLongMaps.mutable.empty();
+        private final IntFunction<? super T> groupBy;
+        private final LongFunction<? super T> function;
+
+        private SumByIntKeyProcedure(IntFunction<? super T> groupBy, LongFunction<? super T> function)
+        {
+            this.groupBy = groupBy;
+            this.function = function;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            this.map.addToValue(this.groupBy.intValueOf(each), this.function.longValueOf(each));
+        }
+
+        public MutableIntLongMap getResult()
+        {
+            return this.map;
+        }
+
+        @Override
+        public SumByIntKeyProcedure<T> create()
+        {
+            return new SumByIntKeyProcedure<>(this.groupBy, this.function);
+        }
+    }
+
+    private static final class SumByIntKeyCombiner<T> extends AbstractProcedureCombiner<SumByIntKeyProcedure<T>>
+    {
+        private final MutableIntLongMap result;
+
+        private SumByIntKeyCombiner(MutableIntLongMap result)
+        {
+            super(true);
+            this.result = result;
+        }
+
+        @Override
+        public void combineOne(SumByIntKeyProcedure<T> thingToCombine)
+        {
+            if (this.result.isEmpty())
+            {
+                this.result.putAll(thingToCombine.getResult());
+            }
+            else
+            {
+                thingToCombine.getResult().forEachKeyValue(this.result::addToValue);
+            }
+        }
+    }
 }
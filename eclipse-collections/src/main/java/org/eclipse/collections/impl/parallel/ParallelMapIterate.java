@@ -44,6 +44,26 @@ public final class ParallelMapIterate
         ParallelMapIterate.forEachKeyValue(map, procedure2, 2, map.size());
     }
 
+    /**
+     * A parallel form of forEachKeyValue using the executor, minimum fork size and task count of the specified context.
+     *
+     * @see MapIterate#forEachKeyValue(Map, Procedure2)
+     * @see ParallelIterate
+     * @since 12.0
+     */
+    public static <K, V> void forEachKeyValue(
+            Map<K, V> map,
+            Procedure2<? super K, ? super V> procedure,
+            ParallelExecutionContext context)
+    {
+        ParallelMapIterate.forEachKeyValue(
+                map,
+                procedure,
+                context.getMinForkSize(),
+                context.getTaskCount(map.size()),
+                context.getExecutor());
+    }
+
     /**
      * A parallel form of forEachKeyValue.
      *
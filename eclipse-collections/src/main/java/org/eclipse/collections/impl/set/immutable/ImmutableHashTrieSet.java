@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.map.immutable.ImmutableHashTrieMap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * An ImmutableSet stored as the keys of an {@link ImmutableHashTrieMap}. newWith and newWithout copy O(log32 n) nodes
+ * and share the rest with the original set, and equals between sets derived from one another skips the subtrees they
+ * share.
+ *
+ * @since 12.0
+ */
+final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableHashTrieSet<?> EMPTY = new ImmutableHashTrieSet<>(ImmutableHashTrieMap.empty());
+
+    private final ImmutableHashTrieMap<T, Boolean> map;
+
+    private ImmutableHashTrieSet(ImmutableHashTrieMap<T, Boolean> map)
+    {
+        this.map = map;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> empty()
+    {
+        return (ImmutableHashTrieSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableHashTrieSet<?>)
+        {
+            return (ImmutableHashTrieSet<T>) iterable;
+        }
+        return ImmutableHashTrieSet.<T>empty().newWithAll(iterable);
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSetWith(T... elements)
+    {
+        ImmutableHashTrieMap.Builder<T, Boolean> builder = ImmutableHashTrieMap.builder();
+        for (T element : elements)
+        {
+            builder.put(element, Boolean.TRUE);
+        }
+        return ImmutableHashTrieSet.fromMap(builder.build());
+    }
+
+    private static <T> ImmutableHashTrieSet<T> fromMap(ImmutableHashTrieMap<T, Boolean> map)
+    {
+        return map.isEmpty() ? ImmutableHashTrieSet.empty() : new ImmutableHashTrieSet<>(map);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.map.containsKey(object);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.map.keysView().iterator();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.map.keysView().getFirst();
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.map.keysView().getLast();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    @Override
+    public ImmutableSet<T> newWith(T element)
+    {
+        ImmutableHashTrieMap<T, Boolean> newMap = this.map.newWithKeyValue(element, Boolean.TRUE);
+        return newMap == this.map ? this : new ImmutableHashTrieSet<>(newMap);
+    }
+
+    @Override
+    public ImmutableSet<T> newWithout(T element)
+    {
+        ImmutableHashTrieMap<T, Boolean> newMap = this.map.newWithoutKey(element);
+        return newMap == this.map ? this : ImmutableHashTrieSet.fromMap(newMap);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieMap.Builder<T, Boolean> builder = this.map.toBuilder();
+        Iterate.forEach(elements, each -> builder.put(each, Boolean.TRUE));
+        return builder.size() == this.size() ? this : ImmutableHashTrieSet.fromMap(builder.build());
+    }
+
+    @Override
+    public ImmutableSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieMap.Builder<T, Boolean> builder = this.map.toBuilder();
+        Iterate.forEach(elements, builder::remove);
+        return builder.size() == this.size() ? this : ImmutableHashTrieSet.fromMap(builder.build());
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (other instanceof ImmutableHashTrieSet<?>)
+        {
+            return this.map.equals(((ImmutableHashTrieSet<?>) other).map);
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        return this.size() == set.size() && this.map.keysView().allSatisfy(set::contains);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.map.keysView().injectInto(0, (int hashCode, T each) -> hashCode + (each == null ? 0 : each.hashCode()));
+    }
+}
@@ -175,4 +175,10 @@ public class ImmutableSetFactoryImpl implements ImmutableSetFactory
         }
         return this.with((T[]) Iterate.toArray(items));
     }
+
+    @Override
+    public <T> ImmutableSet<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableHashTrieSet.newSet(items);
+    }
 }
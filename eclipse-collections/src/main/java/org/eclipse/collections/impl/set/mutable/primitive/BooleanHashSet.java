@@ -228,6 +228,25 @@ public class BooleanHashSet implements MutableBooleanSet, Externalizable
         return BooleanHashSet.newSetWith(source.toArray());
     }
 
+    /**
+     * Returns the state a BooleanHashSet holding the elements of {@code source} would have.
+     */
+    private static int stateOf(BooleanIterable source)
+    {
+        if (source instanceof BooleanHashSet)
+        {
+            return ((BooleanHashSet) source).state;
+        }
+        return (source.contains(false) ? 1 : 0) | (source.contains(true) ? 2 : 0);
+    }
+
+    private static BooleanHashSet withState(int state)
+    {
+        BooleanHashSet result = new BooleanHashSet();
+        result.state = state;
+        return result;
+    }
+
     /**
      * @since 11.0.
      */
@@ -266,7 +285,9 @@ public class BooleanHashSet implements MutableBooleanSet, Externalizable
     @Override
     public boolean addAll(BooleanIterable source)
     {
-        return this.addAll(source.toArray());
+        int initialState = this.state;
+        this.state |= BooleanHashSet.stateOf(source);
+        return this.state != initialState;
     }
 
     @Override
@@ -284,25 +305,9 @@ public class BooleanHashSet implements MutableBooleanSet, Externalizable
     @Override
     public boolean removeAll(BooleanIterable source)
     {
-        if (this.isEmpty() || source.isEmpty())
-        {
-            return false;
-        }
-        boolean modified = false;
-        BooleanIterator iterator = source.booleanIterator();
-        while (iterator.hasNext())
-        {
-            if (this.state == 0)
-            {
-                return modified;
-            }
-            boolean item = iterator.next();
-            if (this.remove(item))
-            {
-                modified = true;
-            }
-        }
-        return modified;
+        int initialState = this.state;
+        this.state &= ~BooleanHashSet.stateOf(source);
+        return this.state != initialState;
     }
 
     @Override
@@ -330,26 +335,9 @@ public class BooleanHashSet implements MutableBooleanSet, Externalizable
     @Override
     public boolean retainAll(BooleanIterable source)
     {
-        if (this.state == 0
-                || (source.contains(true) && source.contains(false))
-                || (this.state == 2 && source.contains(true))
-                || (this.state == 1 && source.contains(false)))
-        {
-            return false;
-        }
-        if (source.contains(true))
-        {
-            this.state -= 1;
-        }
-        else if (source.contains(false))
-        {
-            this.state -= 2;
-        }
-        else
-        {
-            this.state = 0;
-        }
-        return true;
+        int initialState = this.state;
+        this.state &= BooleanHashSet.stateOf(source);
+        return this.state != initialState;
     }
 
     @Override
@@ -358,6 +346,36 @@ public class BooleanHashSet implements MutableBooleanSet, Externalizable
         return this.retainAll(BooleanHashSet.newSetWith(source));
     }
 
+    @Override
+    public MutableBooleanSet union(BooleanSet set)
+    {
+        return BooleanHashSet.withState(this.state | BooleanHashSet.stateOf(set));
+    }
+
+    @Override
+    public MutableBooleanSet intersect(BooleanSet set)
+    {
+        return BooleanHashSet.withState(this.state & BooleanHashSet.stateOf(set));
+    }
+
+    @Override
+    public MutableBooleanSet difference(BooleanSet set)
+    {
+        return BooleanHashSet.withState(this.state & ~BooleanHashSet.stateOf(set));
+    }
+
+    @Override
+    public MutableBooleanSet symmetricDifference(BooleanSet set)
+    {
+        return BooleanHashSet.withState(this.state ^ BooleanHashSet.stateOf(set));
+    }
+
+    @Override
+    public int intersectCount(BooleanSet set)
+    {
+        return Integer.bitCount(this.state & BooleanHashSet.stateOf(set));
+    }
+
     @Override
     public void clear()
     {
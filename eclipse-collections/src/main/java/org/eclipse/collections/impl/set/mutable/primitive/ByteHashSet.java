@@ -17,10 +17,12 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.ByteIterable;
 import org.eclipse.collections.api.LazyByteIterable;
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.primitive.MutableByteBag;
 import org.eclipse.collections.api.block.function.primitive.ByteToObjectFunction;
@@ -43,6 +45,7 @@ import org.eclipse.collections.api.set.primitive.MutableByteSet;
 import org.eclipse.collections.api.tuple.primitive.ByteBytePair;
 import org.eclipse.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import org.eclipse.collections.impl.factory.primitive.ByteSets;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ByteArrayParallelIterable;
 import org.eclipse.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import org.eclipse.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
 
@@ -452,6 +455,23 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
     public boolean retainAll(ByteIterable source)
     {
         int oldSize = this.size();
+        if (source instanceof ByteHashSet)
+        {
+            this.size = 0;
+            ByteHashSet hashSet = (ByteHashSet) source;
+            this.bitGroup3 &= hashSet.bitGroup3;
+            this.size += Long.bitCount(this.bitGroup3);
+
+            this.bitGroup4 &= hashSet.bitGroup4;
+            this.size += Long.bitCount(this.bitGroup4);
+
+            this.bitGroup2 &= hashSet.bitGroup2;
+            this.size += Long.bitCount(this.bitGroup2);
+
+            this.bitGroup1 &= hashSet.bitGroup1;
+            this.size += Long.bitCount(this.bitGroup1);
+            return this.size() != oldSize;
+        }
         ByteSet sourceSet = source instanceof ByteSet ? (ByteSet) source : source.toSet();
 
         ByteHashSet retained = this.select(sourceSet::contains);
@@ -512,6 +532,91 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return this;
     }
 
+    private static ByteHashSet fromBitGroups(long bitGroup1, long bitGroup2, long bitGroup3, long bitGroup4)
+    {
+        ByteHashSet result = new ByteHashSet();
+        result.bitGroup1 = bitGroup1;
+        result.bitGroup2 = bitGroup2;
+        result.bitGroup3 = bitGroup3;
+        result.bitGroup4 = bitGroup4;
+        result.size = (short) (Long.bitCount(bitGroup1) + Long.bitCount(bitGroup2) + Long.bitCount(bitGroup3) + Long.bitCount(bitGroup4));
+        return result;
+    }
+
+    @Override
+    public MutableByteSet union(ByteSet set)
+    {
+        if (set instanceof ByteHashSet)
+        {
+            ByteHashSet hashSet = (ByteHashSet) set;
+            return ByteHashSet.fromBitGroups(
+                    this.bitGroup1 | hashSet.bitGroup1,
+                    this.bitGroup2 | hashSet.bitGroup2,
+                    this.bitGroup3 | hashSet.bitGroup3,
+                    this.bitGroup4 | hashSet.bitGroup4);
+        }
+        return new ByteHashSet(this).withAll(set);
+    }
+
+    @Override
+    public MutableByteSet intersect(ByteSet set)
+    {
+        if (set instanceof ByteHashSet)
+        {
+            ByteHashSet hashSet = (ByteHashSet) set;
+            return ByteHashSet.fromBitGroups(
+                    this.bitGroup1 & hashSet.bitGroup1,
+                    this.bitGroup2 & hashSet.bitGroup2,
+                    this.bitGroup3 & hashSet.bitGroup3,
+                    this.bitGroup4 & hashSet.bitGroup4);
+        }
+        return this.select(set::contains);
+    }
+
+    @Override
+    public MutableByteSet difference(ByteSet set)
+    {
+        if (set instanceof ByteHashSet)
+        {
+            ByteHashSet hashSet = (ByteHashSet) set;
+            return ByteHashSet.fromBitGroups(
+                    this.bitGroup1 & ~hashSet.bitGroup1,
+                    this.bitGroup2 & ~hashSet.bitGroup2,
+                    this.bitGroup3 & ~hashSet.bitGroup3,
+                    this.bitGroup4 & ~hashSet.bitGroup4);
+        }
+        return this.reject(set::contains);
+    }
+
+    @Override
+    public MutableByteSet symmetricDifference(ByteSet set)
+    {
+        if (set instanceof ByteHashSet)
+        {
+            ByteHashSet hashSet = (ByteHashSet) set;
+            return ByteHashSet.fromBitGroups(
+                    this.bitGroup1 ^ hashSet.bitGroup1,
+                    this.bitGroup2 ^ hashSet.bitGroup2,
+                    this.bitGroup3 ^ hashSet.bitGroup3,
+                    this.bitGroup4 ^ hashSet.bitGroup4);
+        }
+        return set.reject(this::contains, this.difference(set));
+    }
+
+    @Override
+    public int intersectCount(ByteSet set)
+    {
+        if (set instanceof ByteHashSet)
+        {
+            ByteHashSet hashSet = (ByteHashSet) set;
+            return Long.bitCount(this.bitGroup1 & hashSet.bitGroup1)
+                    + Long.bitCount(this.bitGroup2 & hashSet.bitGroup2)
+                    + Long.bitCount(this.bitGroup3 & hashSet.bitGroup3)
+                    + Long.bitCount(this.bitGroup4 & hashSet.bitGroup4);
+        }
+        return this.count(set::contains);
+    }
+
     @Override
     public MutableByteSet asUnmodifiable()
     {
@@ -967,6 +1072,18 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
                 this.bitGroup1, this.bitGroup2, this.size);
     }
 
+    /**
+     * Returns a parallel iterable over a snapshot of the elements of this set.
+     *
+     * @since 12.0
+     */
+    @Override
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        byte[] items = this.toArray();
+        return new ByteArrayParallelIterable(items, items.length, executorService, batchSize);
+    }
+
     @Override
     public void writeExternal(ObjectOutput out) throws IOException
     {
@@ -1640,6 +1757,13 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
             return this;
         }
 
+        @Override
+        public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+        {
+            byte[] items = this.toArray();
+            return new ByteArrayParallelIterable(items, items.length, executorService, batchSize);
+        }
+
         @Override
         public ImmutableByteSet toImmutable()
         {
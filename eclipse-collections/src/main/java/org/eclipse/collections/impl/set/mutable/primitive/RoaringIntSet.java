@@ -0,0 +1,2066 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.lazy.parallel.primitive.IntArrayParallelIterable;
+import org.eclipse.collections.impl.set.immutable.primitive.AbstractImmutableIntSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * RoaringIntSet is a {@link MutableIntSet} stored as a compressed bitmap in the style of Roaring bitmaps. The high 16
+ * bits of each element select a container, and each container holds the low 16 bits of its elements in whichever of
+ * three forms is smallest:
+ * <ul>
+ * <li>a sorted {@code char} array, for containers of up to 4096 elements;</li>
+ * <li>a bitmap of 1024 longs, for denser containers;</li>
+ * <li>a sorted list of runs of consecutive values, created by {@link #addRange(int, int)} and
+ * {@link #runOptimize()}.</li>
+ * </ul>
+ * A dense range therefore costs a little over one bit per element, and a range of consecutive values only a few bytes
+ * per run, against at least four bytes per element plus load factor slack in an {@link IntHashSet}. When both operands
+ * are RoaringIntSets, {@link #union(IntSet)}, {@link #intersect(IntSet)}, {@link #difference(IntSet)},
+ * {@link #symmetricDifference(IntSet)} and the bulk mutating methods work on whole containers, combining bitmaps a
+ * 64-bit word at a time.
+ * <p>
+ * Iteration visits the elements in ascending order.
+ *
+ * @since 12.0
+ */
+public class RoaringIntSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Containers holding more elements than this use a bitmap rather than an array.
+     */
+    private static final int MAX_ARRAY_CARDINALITY = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int INITIAL_CONTAINER_CAPACITY = 4;
+
+    /**
+     * The high 16 bits of the elements of each container, with the sign bit flipped so that the keys sort in the same
+     * order as the elements.
+     */
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringIntSet()
+    {
+        this.keys = new char[INITIAL_CONTAINER_CAPACITY];
+        this.containers = new Container[INITIAL_CONTAINER_CAPACITY];
+    }
+
+    public RoaringIntSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringIntSet(IntIterable elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    private RoaringIntSet(char[] keys, Container[] containers, int containerCount, int size)
+    {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+        this.size = size;
+    }
+
+    public static RoaringIntSet newSet(IntIterable source)
+    {
+        return new RoaringIntSet(source);
+    }
+
+    public static RoaringIntSet newSetWith(int... source)
+    {
+        return new RoaringIntSet(source);
+    }
+
+    private static char highBits(int value)
+    {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    private static int highValue(char key)
+    {
+        return (key ^ 0x8000) << 16;
+    }
+
+    private int containerIndex(char key)
+    {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int capacity = this.keys.length << 1;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.containers = Arrays.copyOf(this.containers, capacity);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index)
+    {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    /**
+     * Replaces the container at {@code index}, removing it if it is empty, and adjusts the size by the difference in
+     * cardinality.
+     */
+    private void setContainer(int index, Container container, int oldCardinality)
+    {
+        this.size += container.cardinality() - oldCardinality;
+        if (container.cardinality() == 0)
+        {
+            this.removeContainer(index);
+        }
+        else
+        {
+            this.containers[index] = container;
+        }
+    }
+
+    @Override
+    public MutableSet<Integer> boxed()
+    {
+        return new BoxedMutableIntSet(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] result = {0};
+        this.each(each -> result[0] += each);
+        return result[0];
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            IntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean add(int element)
+    {
+        char key = highBits(element);
+        int index = this.containerIndex(key);
+        if (index < 0)
+        {
+            this.insertContainer(-index - 1, key, new ArrayContainer().add((char) element));
+            this.size++;
+            return true;
+        }
+        Container container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        this.containers[index] = container.add((char) element);
+        if (this.containers[index].cardinality() != oldCardinality)
+        {
+            this.size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds every value from {@code from} to {@code to}, both inclusive. Containers which the range covers completely
+     * are stored as a single run.
+     *
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    public RoaringIntSet addRange(int from, int to)
+    {
+        if (from > to)
+        {
+            throw new IllegalArgumentException("from " + from + " is greater than to " + to);
+        }
+        char firstKey = highBits(from);
+        char lastKey = highBits(to);
+        for (int key = firstKey; key <= lastKey; key++)
+        {
+            char low = key == firstKey ? (char) from : 0;
+            char high = key == lastKey ? (char) to : Character.MAX_VALUE;
+            RunContainer range = RunContainer.range(low, high);
+            int index = this.containerIndex((char) key);
+            if (index < 0)
+            {
+                this.insertContainer(-index - 1, (char) key, range);
+                this.size += range.cardinality();
+            }
+            else
+            {
+                Container container = this.containers[index];
+                this.setContainer(index, container.or(range).runOptimize(), container.cardinality());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Converts each container to a run container if that is smaller, and runs back to an array or bitmap if not.
+     * Returns true if any container changed form.
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            Container container = this.containers[i];
+            Container optimized = container.runOptimize();
+            if (optimized != container)
+            {
+                this.containers[i] = optimized;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns an estimate of the memory used by the containers, in bytes, excluding object headers.
+     */
+    public long getSizeInBytes()
+    {
+        long result = this.keys.length * 2L + this.containers.length * 4L;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            result += this.containers[i].sizeInBytes();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean addAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.add(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean addAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            RoaringIntSet other = (RoaringIntSet) source;
+            for (int i = 0; i < other.containerCount; i++)
+            {
+                char key = other.keys[i];
+                int index = this.containerIndex(key);
+                if (index < 0)
+                {
+                    Container copy = other.containers[i].copy();
+                    this.insertContainer(-index - 1, key, copy);
+                    this.size += copy.cardinality();
+                }
+                else
+                {
+                    Container container = this.containers[index];
+                    this.setContainer(index, container.or(other.containers[i]), container.cardinality());
+                }
+            }
+        }
+        else
+        {
+            source.each(this::add);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean remove(int value)
+    {
+        int index = this.containerIndex(highBits(value));
+        if (index < 0)
+        {
+            return false;
+        }
+        Container container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        Container result = container.remove((char) value);
+        if (result.cardinality() == oldCardinality)
+        {
+            return false;
+        }
+        this.setContainer(index, result, oldCardinality);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            RoaringIntSet other = (RoaringIntSet) source;
+            for (int i = 0; i < other.containerCount; i++)
+            {
+                int index = this.containerIndex(other.keys[i]);
+                if (index >= 0)
+                {
+                    Container container = this.containers[index];
+                    this.setContainer(index, container.andNot(other.containers[i]), container.cardinality());
+                }
+            }
+        }
+        else
+        {
+            source.each(this::remove);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.remove(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            RoaringIntSet retained = this.and((RoaringIntSet) source);
+            this.keys = retained.keys;
+            this.containers = retained.containers;
+            this.containerCount = retained.containerCount;
+            this.size = retained.size;
+        }
+        else
+        {
+            IntSet sourceSet = source instanceof IntSet ? (IntSet) source : source.toSet();
+            this.removeIf(each -> !sourceSet.contains(each));
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(IntHashSet.newSetWith(source));
+    }
+
+    @Override
+    public boolean removeIf(IntPredicate predicate)
+    {
+        int oldSize = this.size;
+        RoaringIntSet retained = this.reject(predicate);
+        if (retained.size != oldSize)
+        {
+            this.keys = retained.keys;
+            this.containers = retained.containers;
+            this.containerCount = retained.containerCount;
+            this.size = retained.size;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.keys = new char[INITIAL_CONTAINER_CAPACITY];
+        this.containers = new Container[INITIAL_CONTAINER_CAPACITY];
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public RoaringIntSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    @Override
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    /**
+     * Returns an immutable copy which keeps the compressed containers.
+     */
+    @Override
+    public ImmutableIntSet toImmutable()
+    {
+        return new ImmutableRoaringIntSet(this.copy());
+    }
+
+    @Override
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    @Override
+    public int[] toArray()
+    {
+        return this.toArray(new int[this.size]);
+    }
+
+    @Override
+    public int[] toArray(int[] target)
+    {
+        if (target.length < this.size)
+        {
+            target = new int[this.size];
+        }
+        int offset = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            offset = this.containers[i].toArray(highValue(this.keys[i]), target, offset);
+        }
+        return target;
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    @Override
+    public boolean contains(int value)
+    {
+        int index = this.containerIndex(highBits(value));
+        return index >= 0 && this.containers[index].contains((char) value);
+    }
+
+    @Override
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].forEach(highValue(this.keys[i]), procedure);
+        }
+    }
+
+    @Override
+    public RoaringIntSet select(IntPredicate predicate)
+    {
+        return this.select(predicate, new RoaringIntSet());
+    }
+
+    @Override
+    public RoaringIntSet reject(IntPredicate predicate)
+    {
+        return this.reject(predicate, new RoaringIntSet());
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        return this.collect(function, UnifiedSet.newSet(this.size));
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(IntToObjectFunction<? extends V> function, R target)
+    {
+        this.each(each -> target.add(function.valueOf(each)));
+        return target;
+    }
+
+    @Override
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            int next = iterator.next();
+            if (predicate.accept(next))
+            {
+                return next;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public int count(IntPredicate predicate)
+    {
+        int[] count = {0};
+        this.each(each ->
+        {
+            if (predicate.accept(each))
+            {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Override
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public long sum()
+    {
+        long[] result = {0L};
+        this.each(each -> result[0] += each);
+        return result[0];
+    }
+
+    @Override
+    public int min()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return highValue(this.keys[0]) | this.containers[0].first();
+    }
+
+    @Override
+    public int max()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return highValue(this.keys[last]) | this.containers[last].last();
+    }
+
+    @Override
+    public RoaringIntSet union(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return this.or((RoaringIntSet) set);
+        }
+        return this.copy().withAll(set);
+    }
+
+    @Override
+    public RoaringIntSet intersect(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return this.and((RoaringIntSet) set);
+        }
+        return this.select(set::contains);
+    }
+
+    @Override
+    public RoaringIntSet difference(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return this.copy().withoutAll(set);
+        }
+        return this.reject(set::contains);
+    }
+
+    @Override
+    public RoaringIntSet symmetricDifference(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return this.xor((RoaringIntSet) set);
+        }
+        return set.reject(this::contains, this.difference(set));
+    }
+
+    @Override
+    public int intersectCount(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            RoaringIntSet other = (RoaringIntSet) set;
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.containerCount && j < other.containerCount)
+            {
+                int compare = Character.compare(this.keys[i], other.keys[j]);
+                if (compare < 0)
+                {
+                    i++;
+                }
+                else if (compare > 0)
+                {
+                    j++;
+                }
+                else
+                {
+                    count += this.containers[i].andCardinality(other.containers[j]);
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+        return super.intersectCount(set);
+    }
+
+    private RoaringIntSet copy()
+    {
+        Container[] containers = new Container[this.containers.length];
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            containers[i] = this.containers[i].copy();
+        }
+        return new RoaringIntSet(this.keys.clone(), containers, this.containerCount, this.size);
+    }
+
+    private RoaringIntSet or(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < other.containerCount)
+        {
+            int compare = i == this.containerCount ? 1 : j == other.containerCount ? -1 : Character.compare(this.keys[i], other.keys[j]);
+            if (compare < 0)
+            {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+                i++;
+            }
+            else if (compare > 0)
+            {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            }
+            else
+            {
+                result.appendContainer(this.keys[i], this.containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private RoaringIntSet and(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < other.containerCount)
+        {
+            int compare = Character.compare(this.keys[i], other.keys[j]);
+            if (compare < 0)
+            {
+                i++;
+            }
+            else if (compare > 0)
+            {
+                j++;
+            }
+            else
+            {
+                result.appendContainer(this.keys[i], this.containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private RoaringIntSet xor(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < other.containerCount)
+        {
+            int compare = i == this.containerCount ? 1 : j == other.containerCount ? -1 : Character.compare(this.keys[i], other.keys[j]);
+            if (compare < 0)
+            {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+                i++;
+            }
+            else if (compare > 0)
+            {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            }
+            else
+            {
+                result.appendContainer(this.keys[i], this.containers[i].xor(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds a container whose key is greater than every key in this set, unless it is empty.
+     */
+    private void appendContainer(char key, Container container)
+    {
+        if (container.cardinality() != 0)
+        {
+            this.insertContainer(this.containerCount, key, container);
+            this.size += container.cardinality();
+        }
+    }
+
+    /**
+     * Copies the elements into an array, which the batches of the parallel iterable are evaluated on.
+     */
+    @Override
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new IntArrayParallelIterable(this.toArray(), this.size, executorService, batchSize);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            out.writeInt(iterator.next());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.add(in.readInt());
+        }
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public RichIterable<IntIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<IntIterable> result = Lists.mutable.empty();
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            RoaringIntSet batch = new RoaringIntSet();
+            for (int i = 0; i < size && iterator.hasNext(); i++)
+            {
+                batch.add(iterator.next());
+            }
+            result.add(batch);
+        }
+        return result;
+    }
+
+    @Override
+    public RoaringIntSet newEmpty()
+    {
+        return new RoaringIntSet();
+    }
+
+    /**
+     * Iterates in ascending order. The iterator looks ahead one element, and finds it again by value after a removal,
+     * which can remove or convert its container.
+     */
+    private class InternalIntIterator implements MutableIntIterator
+    {
+        private int containerIndex;
+        private int nextLow = -1;
+        private int lastReturned;
+        private boolean canRemove;
+
+        InternalIntIterator()
+        {
+            this.seek(0);
+        }
+
+        /**
+         * Finds the first element in the container at {@code containerIndex} or later, whose low bits are at least
+         * {@code from} if it is in the container at {@code containerIndex}.
+         */
+        private void seek(int from)
+        {
+            RoaringIntSet set = RoaringIntSet.this;
+            int low = from;
+            while (this.containerIndex < set.containerCount)
+            {
+                this.nextLow = low > Character.MAX_VALUE ? -1 : set.containers[this.containerIndex].next(low);
+                if (this.nextLow >= 0)
+                {
+                    return;
+                }
+                this.containerIndex++;
+                low = 0;
+            }
+            this.nextLow = -1;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextLow >= 0;
+        }
+
+        @Override
+        public int next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            int next = highValue(RoaringIntSet.this.keys[this.containerIndex]) | this.nextLow;
+            this.seek(this.nextLow + 1);
+            this.lastReturned = next;
+            this.canRemove = true;
+            return next;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            RoaringIntSet set = RoaringIntSet.this;
+            boolean hasNext = this.hasNext();
+            char nextKey = hasNext ? set.keys[this.containerIndex] : 0;
+            set.remove(this.lastReturned);
+            this.canRemove = false;
+            this.containerIndex = hasNext ? set.containerIndex(nextKey) : set.containerCount;
+        }
+    }
+
+    private abstract static class Container
+    {
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        /**
+         * Returns the container with {@code value} added, which is this container unless it had to change form.
+         */
+        abstract Container add(char value);
+
+        /**
+         * Returns the container with {@code value} removed, which is this container unless it had to change form.
+         */
+        abstract Container remove(char value);
+
+        /**
+         * Returns the smallest value which is at least {@code from}, or -1 if there is none.
+         */
+        abstract int next(int from);
+
+        abstract int first();
+
+        abstract int last();
+
+        abstract void forEach(int high, IntProcedure procedure);
+
+        abstract int toArray(int high, int[] target, int offset);
+
+        abstract Container copy();
+
+        abstract BitmapContainer toBitmap();
+
+        abstract long sizeInBytes();
+
+        /**
+         * Sets the bits of this container's values in {@code words}.
+         */
+        abstract void orInto(long[] words);
+
+        /**
+         * Clears the bits of this container's values in {@code words}.
+         */
+        abstract void andNotInto(long[] words);
+
+        /**
+         * Flips the bits of this container's values in {@code words}.
+         */
+        abstract void xorInto(long[] words);
+
+        Container or(Container other)
+        {
+            BitmapContainer result = this.toBitmap();
+            other.orInto(result.words);
+            return result.recount();
+        }
+
+        Container and(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                return ((ArrayContainer) other).filter(this, true);
+            }
+            BitmapContainer result = this.toBitmap();
+            BitmapContainer otherBitmap = other.toBitmap();
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                result.words[i] &= otherBitmap.words[i];
+            }
+            return result.recount();
+        }
+
+        /**
+         * Returns the cardinality of {@link #and(Container)} without building it.
+         */
+        int andCardinality(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                return ((ArrayContainer) other).countContainedIn(this);
+            }
+            if (this instanceof ArrayContainer)
+            {
+                return ((ArrayContainer) this).countContainedIn(other);
+            }
+            long[] words = this.words();
+            long[] otherWords = other.words();
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                count += Long.bitCount(words[i] & otherWords[i]);
+            }
+            return count;
+        }
+
+        /**
+         * Returns the values of this container as a bitmap, which must not be modified.
+         */
+        long[] words()
+        {
+            return this.toBitmap().words;
+        }
+
+        Container andNot(Container other)
+        {
+            BitmapContainer result = this.toBitmap();
+            other.andNotInto(result.words);
+            return result.recount();
+        }
+
+        Container xor(Container other)
+        {
+            BitmapContainer result = this.toBitmap();
+            other.xorInto(result.words);
+            return result.recount();
+        }
+
+        /**
+         * Returns the smallest of this container as a run container, an array container or a bitmap container.
+         */
+        Container runOptimize()
+        {
+            int runCount = this.runCount();
+            int cardinality = this.cardinality();
+            long runBytes = runCount * 4L;
+            long otherBytes = cardinality <= MAX_ARRAY_CARDINALITY ? cardinality * 2L : BITMAP_WORDS * 8L;
+            if (runBytes < otherBytes)
+            {
+                return this instanceof RunContainer ? this : RunContainer.fromValues(this, runCount);
+            }
+            if (this instanceof RunContainer)
+            {
+                return cardinality <= MAX_ARRAY_CARDINALITY ? ArrayContainer.fromValues(this) : this.toBitmap();
+            }
+            return this;
+        }
+
+        int runCount()
+        {
+            int[] state = {0, -2};
+            this.forEach(0, each ->
+            {
+                if (each != state[1] + 1)
+                {
+                    state[0]++;
+                }
+                state[1] = each;
+            });
+            return state[0];
+        }
+    }
+
+    private static final class ArrayContainer extends Container
+    {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer()
+        {
+            this.values = new char[4];
+        }
+
+        ArrayContainer(char[] values, int cardinality)
+        {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        static ArrayContainer fromValues(Container container)
+        {
+            char[] values = new char[container.cardinality()];
+            int[] index = {0};
+            container.forEach(0, each -> values[index[0]++] = (char) each);
+            return new ArrayContainer(values, values.length);
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0)
+            {
+                return this;
+            }
+            if (this.cardinality == MAX_ARRAY_CARDINALITY)
+            {
+                return this.toBitmap().add(value);
+            }
+            int insertionPoint = -index - 1;
+            if (this.cardinality == this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, Math.min(Math.max(this.values.length << 1, 4), MAX_ARRAY_CARDINALITY));
+            }
+            System.arraycopy(this.values, insertionPoint, this.values, insertionPoint + 1, this.cardinality - insertionPoint);
+            this.values[insertionPoint] = value;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0)
+            {
+                System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+                this.cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int next(int from)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) from);
+            if (index < 0)
+            {
+                index = -index - 1;
+            }
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.values[0];
+        }
+
+        @Override
+        int last()
+        {
+            return this.values[this.cardinality - 1];
+        }
+
+        @Override
+        void forEach(int high, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                procedure.value(high | this.values[i]);
+            }
+        }
+
+        @Override
+        int toArray(int high, int[] target, int offset)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                target[offset++] = high | this.values[i];
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(this.values, Math.max(this.cardinality, 1)), this.cardinality);
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            BitmapContainer result = new BitmapContainer();
+            this.orInto(result.words);
+            result.cardinality = this.cardinality;
+            return result;
+        }
+
+        @Override
+        long sizeInBytes()
+        {
+            return this.values.length * 2L + 4L;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] &= ~(1L << value);
+            }
+        }
+
+        @Override
+        void xorInto(long[] words)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] ^= 1L << value;
+            }
+        }
+
+        int countContainedIn(Container other)
+        {
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (other.contains(this.values[i]))
+                {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns the values of this container which {@code other} contains if {@code retain}, or does not contain
+         * otherwise.
+         */
+        ArrayContainer filter(Container other, boolean retain)
+        {
+            char[] result = new char[Math.max(this.cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (other.contains(this.values[i]) == retain)
+                {
+                    result[count++] = this.values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container or(Container other)
+        {
+            if (other instanceof ArrayContainer && this.cardinality + other.cardinality() <= MAX_ARRAY_CARDINALITY)
+            {
+                ArrayContainer that = (ArrayContainer) other;
+                char[] result = new char[Math.max(this.cardinality + that.cardinality, 1)];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < this.cardinality && j < that.cardinality)
+                {
+                    char left = this.values[i];
+                    char right = that.values[j];
+                    if (left <= right)
+                    {
+                        result[count++] = left;
+                        i++;
+                        if (left == right)
+                        {
+                            j++;
+                        }
+                    }
+                    else
+                    {
+                        result[count++] = right;
+                        j++;
+                    }
+                }
+                while (i < this.cardinality)
+                {
+                    result[count++] = this.values[i++];
+                }
+                while (j < that.cardinality)
+                {
+                    result[count++] = that.values[j++];
+                }
+                return new ArrayContainer(result, count);
+            }
+            return super.or(other);
+        }
+
+        @Override
+        Container and(Container other)
+        {
+            return this.filter(other, true);
+        }
+
+        @Override
+        Container andNot(Container other)
+        {
+            return this.filter(other, false);
+        }
+    }
+
+    private static final class BitmapContainer extends Container
+    {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer()
+        {
+            this.words = new long[BITMAP_WORDS];
+        }
+
+        BitmapContainer(long[] words, int cardinality)
+        {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Recomputes the cardinality after word operations, and returns an array container instead if that is
+         * smaller.
+         */
+        Container recount()
+        {
+            int cardinality = 0;
+            for (long word : this.words)
+            {
+                cardinality += Long.bitCount(word);
+            }
+            this.cardinality = cardinality;
+            return cardinality <= MAX_ARRAY_CARDINALITY ? ArrayContainer.fromValues(this) : this;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            return (this.words[value >>> 6] & (1L << value)) != 0L;
+        }
+
+        @Override
+        Container add(char value)
+        {
+            long word = this.words[value >>> 6];
+            long newWord = word | (1L << value);
+            if (newWord != word)
+            {
+                this.words[value >>> 6] = newWord;
+                this.cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value)
+        {
+            long word = this.words[value >>> 6];
+            long newWord = word & ~(1L << value);
+            if (newWord != word)
+            {
+                this.words[value >>> 6] = newWord;
+                this.cardinality--;
+                if (this.cardinality <= MAX_ARRAY_CARDINALITY)
+                {
+                    return ArrayContainer.fromValues(this);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        int next(int from)
+        {
+            int wordIndex = from >>> 6;
+            long word = this.words[wordIndex] & (-1L << from);
+            while (word == 0L)
+            {
+                wordIndex++;
+                if (wordIndex == BITMAP_WORDS)
+                {
+                    return -1;
+                }
+                word = this.words[wordIndex];
+            }
+            return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int first()
+        {
+            return this.next(0);
+        }
+
+        @Override
+        int last()
+        {
+            int wordIndex = BITMAP_WORDS - 1;
+            while (this.words[wordIndex] == 0L)
+            {
+                wordIndex--;
+            }
+            return (wordIndex << 6) + 63 - Long.numberOfLeadingZeros(this.words[wordIndex]);
+        }
+
+        @Override
+        void forEach(int high, IntProcedure procedure)
+        {
+            for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++)
+            {
+                long word = this.words[wordIndex];
+                while (word != 0L)
+                {
+                    procedure.value(high | (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+        }
+
+        @Override
+        int toArray(int high, int[] target, int offset)
+        {
+            for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++)
+            {
+                long word = this.words[wordIndex];
+                while (word != 0L)
+                {
+                    target[offset++] = high | (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1L;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy()
+        {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        @Override
+        long[] words()
+        {
+            return this.words;
+        }
+
+        @Override
+        long sizeInBytes()
+        {
+            return BITMAP_WORDS * 8L + 4L;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] |= this.words[i];
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] &= ~this.words[i];
+            }
+        }
+
+        @Override
+        void xorInto(long[] words)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] ^= this.words[i];
+            }
+        }
+    }
+
+    /**
+     * A container of runs of consecutive values, each stored as its first value and its length minus one.
+     */
+    private static final class RunContainer extends Container
+    {
+        private final char[] runs;
+        private final int runCount;
+        private final int cardinality;
+
+        RunContainer(char[] runs, int runCount, int cardinality)
+        {
+            this.runs = runs;
+            this.runCount = runCount;
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer range(char from, char to)
+        {
+            return new RunContainer(new char[]{from, (char) (to - from)}, 1, to - from + 1);
+        }
+
+        static RunContainer fromValues(Container container, int runCount)
+        {
+            char[] runs = new char[runCount << 1];
+            int[] state = {-1, -2};
+            container.forEach(0, each ->
+            {
+                if (each == state[1] + 1)
+                {
+                    runs[(state[0] << 1) + 1]++;
+                }
+                else
+                {
+                    state[0]++;
+                    runs[state[0] << 1] = (char) each;
+                }
+                state[1] = each;
+            });
+            return new RunContainer(runs, runCount, container.cardinality());
+        }
+
+        private int start(int run)
+        {
+            return this.runs[run << 1];
+        }
+
+        private int end(int run)
+        {
+            return this.runs[run << 1] + this.runs[(run << 1) + 1];
+        }
+
+        /**
+         * Returns the index of the last run starting at or before {@code value}, or -1 if there is none.
+         */
+        private int runIndexOf(int value)
+        {
+            int low = 0;
+            int high = this.runCount - 1;
+            while (low <= high)
+            {
+                int middle = (low + high) >>> 1;
+                if (this.start(middle) <= value)
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        /**
+         * Returns this container as an array or bitmap container, which can be changed in place.
+         */
+        private Container toMutable()
+        {
+            return this.cardinality <= MAX_ARRAY_CARDINALITY ? ArrayContainer.fromValues(this) : this.toBitmap();
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            int run = this.runIndexOf(value);
+            return run >= 0 && value <= this.end(run);
+        }
+
+        @Override
+        Container add(char value)
+        {
+            return this.contains(value) ? this : this.toMutable().add(value);
+        }
+
+        @Override
+        Container remove(char value)
+        {
+            return this.contains(value) ? this.toMutable().remove(value) : this;
+        }
+
+        @Override
+        int next(int from)
+        {
+            int run = this.runIndexOf(from);
+            if (run >= 0 && from <= this.end(run))
+            {
+                return from;
+            }
+            return run + 1 < this.runCount ? this.start(run + 1) : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.start(0);
+        }
+
+        @Override
+        int last()
+        {
+            return this.end(this.runCount - 1);
+        }
+
+        @Override
+        void forEach(int high, IntProcedure procedure)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                int end = this.end(run);
+                for (int value = this.start(run); value <= end; value++)
+                {
+                    procedure.value(high | value);
+                }
+            }
+        }
+
+        @Override
+        int toArray(int high, int[] target, int offset)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                int end = this.end(run);
+                for (int value = this.start(run); value <= end; value++)
+                {
+                    target[offset++] = high | value;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy()
+        {
+            return this;
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            BitmapContainer result = new BitmapContainer();
+            this.orInto(result.words);
+            result.cardinality = this.cardinality;
+            return result;
+        }
+
+        @Override
+        long sizeInBytes()
+        {
+            return this.runs.length * 2L + 8L;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                setRange(words, this.start(run), this.end(run), 0);
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                setRange(words, this.start(run), this.end(run), 1);
+            }
+        }
+
+        @Override
+        void xorInto(long[] words)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                setRange(words, this.start(run), this.end(run), 2);
+            }
+        }
+
+        /**
+         * Sets ({@code operation} 0), clears (1) or flips (2) the bits from {@code from} to {@code to} inclusive, a
+         * whole word at a time.
+         */
+        private static void setRange(long[] words, int from, int to, int operation)
+        {
+            int firstWord = from >>> 6;
+            int lastWord = to >>> 6;
+            for (int wordIndex = firstWord; wordIndex <= lastWord; wordIndex++)
+            {
+                long mask = -1L;
+                if (wordIndex == firstWord)
+                {
+                    mask &= -1L << from;
+                }
+                if (wordIndex == lastWord)
+                {
+                    mask &= -1L >>> (63 - (to & 63));
+                }
+                if (operation == 0)
+                {
+                    words[wordIndex] |= mask;
+                }
+                else if (operation == 1)
+                {
+                    words[wordIndex] &= ~mask;
+                }
+                else
+                {
+                    words[wordIndex] ^= mask;
+                }
+            }
+        }
+
+        @Override
+        Container or(Container other)
+        {
+            if (this.cardinality == Character.MAX_VALUE + 1)
+            {
+                return this;
+            }
+            return super.or(other);
+        }
+    }
+
+    /**
+     * An ImmutableIntSet backed by a RoaringIntSet which is never changed after construction.
+     */
+    private static final class ImmutableRoaringIntSet extends AbstractImmutableIntSet implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final RoaringIntSet delegate;
+
+        private ImmutableRoaringIntSet(RoaringIntSet delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ImmutableIntSet newWith(int element)
+        {
+            return this.delegate.copy().with(element).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet newWithout(int element)
+        {
+            return this.delegate.copy().without(element).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet newWithAll(IntIterable elements)
+        {
+            return this.delegate.copy().withAll(elements).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet newWithoutAll(IntIterable elements)
+        {
+            return this.delegate.copy().withoutAll(elements).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet union(IntSet set)
+        {
+            return new ImmutableRoaringIntSet(this.delegate.union(set));
+        }
+
+        @Override
+        public ImmutableIntSet intersect(IntSet set)
+        {
+            return new ImmutableRoaringIntSet(this.delegate.intersect(set));
+        }
+
+        @Override
+        public ImmutableIntSet difference(IntSet set)
+        {
+            return new ImmutableRoaringIntSet(this.delegate.difference(set));
+        }
+
+        @Override
+        public ImmutableIntSet symmetricDifference(IntSet set)
+        {
+            return new ImmutableRoaringIntSet(this.delegate.symmetricDifference(set));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.delegate.hashCode();
+        }
+
+        @Override
+        public int size()
+        {
+            return this.delegate.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.delegate.isEmpty();
+        }
+
+        @Override
+        public boolean notEmpty()
+        {
+            return this.delegate.notEmpty();
+        }
+
+        @Override
+        public void appendString(Appendable appendable, String start, String separator, String end)
+        {
+            this.delegate.appendString(appendable, start, separator, end);
+        }
+
+        @Override
+        public IntIterator intIterator()
+        {
+            IntIterator iterator = this.delegate.intIterator();
+            return new IntIterator()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public int next()
+                {
+                    return iterator.next();
+                }
+            };
+        }
+
+        @Override
+        public int[] toArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public int[] toArray(int[] target)
+        {
+            return this.delegate.toArray(target);
+        }
+
+        @Override
+        public int[] toSortedArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public boolean contains(int value)
+        {
+            return this.delegate.contains(value);
+        }
+
+        @Override
+        public void each(IntProcedure procedure)
+        {
+            this.delegate.each(procedure);
+        }
+
+        @Override
+        public ImmutableIntSet select(IntPredicate predicate)
+        {
+            return new ImmutableRoaringIntSet(this.delegate.select(predicate));
+        }
+
+        @Override
+        public ImmutableIntSet reject(IntPredicate predicate)
+        {
+            return new ImmutableRoaringIntSet(this.delegate.reject(predicate));
+        }
+
+        @Override
+        public <V> ImmutableSet<V> collect(IntToObjectFunction<? extends V> function)
+        {
+            MutableSet<V> set = this.delegate.collect(function, UnifiedSet.newSet(this.size()));
+            return set.toImmutable();
+        }
+
+        @Override
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            return this.delegate.detectIfNone(predicate, ifNone);
+        }
+
+        @Override
+        public int count(IntPredicate predicate)
+        {
+            return this.delegate.count(predicate);
+        }
+
+        @Override
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            return this.delegate.anySatisfy(predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(IntPredicate predicate)
+        {
+            return this.delegate.allSatisfy(predicate);
+        }
+
+        @Override
+        public boolean noneSatisfy(IntPredicate predicate)
+        {
+            return this.delegate.noneSatisfy(predicate);
+        }
+
+        @Override
+        public long sum()
+        {
+            return this.delegate.sum();
+        }
+
+        @Override
+        public int min()
+        {
+            return this.delegate.min();
+        }
+
+        @Override
+        public int max()
+        {
+            return this.delegate.max();
+        }
+
+        @Override
+        public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+        {
+            return this.delegate.injectInto(injectedValue, function);
+        }
+
+        @Override
+        public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+        {
+            return this.delegate.asParallel(executorService, batchSize);
+        }
+    }
+}
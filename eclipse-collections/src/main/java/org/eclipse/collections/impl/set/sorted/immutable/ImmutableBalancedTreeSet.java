@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
+import org.eclipse.collections.impl.map.sorted.immutable.ImmutableBalancedTreeMap;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+/**
+ * An ImmutableSortedSet stored as the keys of an {@link ImmutableBalancedTreeMap}. newWith and newWithout copy
+ * O(log n) nodes and share the rest with the original set, and subSet, headSet, tailSet, take and drop return
+ * ImmutableBalancedTreeSets in O(log n) time.
+ *
+ * @since 12.0
+ */
+final class ImmutableBalancedTreeSet<T>
+        extends AbstractImmutableSortedSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableBalancedTreeSet<?> EMPTY = new ImmutableBalancedTreeSet<>(ImmutableBalancedTreeMap.empty());
+
+    private final ImmutableBalancedTreeMap<T, Boolean> map;
+
+    private ImmutableBalancedTreeSet(ImmutableBalancedTreeMap<T, Boolean> map)
+    {
+        this.map = map;
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> empty(Comparator<? super T> comparator)
+    {
+        return comparator == null
+                ? (ImmutableBalancedTreeSet<T>) EMPTY
+                : new ImmutableBalancedTreeSet<>(ImmutableBalancedTreeMap.empty(comparator));
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> newSetWith(T... elements)
+    {
+        return ImmutableBalancedTreeSet.newSet(null, Arrays.asList(elements));
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    {
+        return ImmutableBalancedTreeSet.newSet(comparator, Arrays.asList(elements));
+    }
+
+    public static <T> ImmutableBalancedTreeSet<T> newSet(Comparator<? super T> comparator, Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableBalancedTreeSet<?>
+                && Objects.equals(comparator, ((ImmutableBalancedTreeSet<?>) iterable).comparator()))
+        {
+            return (ImmutableBalancedTreeSet<T>) iterable;
+        }
+        return ImmutableBalancedTreeSet.<T>empty(comparator).newWithAll(iterable);
+    }
+
+    private ImmutableBalancedTreeSet<T> newSetWithMap(ImmutableBalancedTreeMap<T, Boolean> newMap)
+    {
+        if (newMap == this.map)
+        {
+            return this;
+        }
+        return newMap.isEmpty() ? ImmutableBalancedTreeSet.empty(this.comparator()) : new ImmutableBalancedTreeSet<>(newMap);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.map.containsKey(object);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.map.keysView().iterator();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    @Override
+    public T first()
+    {
+        return this.map.firstKey();
+    }
+
+    @Override
+    public T last()
+    {
+        return this.map.lastKey();
+    }
+
+    @Override
+    public Comparator<? super T> comparator()
+    {
+        return this.map.comparator();
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWith(T element)
+    {
+        return this.newSetWithMap(this.map.newWithKeyValue(element, Boolean.TRUE));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWithout(T element)
+    {
+        return this.newSetWithMap(this.map.newWithoutKey(element));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.newSetWithMap(this.map.newWithAllKeyValues(LazyIterate.collect(elements, each -> Tuples.pair(each, Boolean.TRUE))));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        return this.newSetWithMap(this.map.newWithoutAllKeys(elements));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> subSet(T fromElement, T toElement)
+    {
+        return this.newSetWithMap(this.map.subMap(fromElement, toElement));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> headSet(T toElement)
+    {
+        return this.newSetWithMap(this.map.headMap(toElement));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> tailSet(T fromElement)
+    {
+        return this.newSetWithMap(this.map.tailMap(fromElement));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> take(int count)
+    {
+        return this.newSetWithMap(this.map.take(count));
+    }
+
+    @Override
+    public ImmutableBalancedTreeSet<T> drop(int count)
+    {
+        return this.newSetWithMap(this.map.drop(count));
+    }
+
+    @Override
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        this.map.drop(fromIndex).take(toIndex - fromIndex + 1).forEachKey(procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        int[] index = {fromIndex};
+        this.map.drop(fromIndex).take(toIndex - fromIndex + 1).forEachKey(each -> objectIntProcedure.value(each, index[0]++));
+    }
+
+    @Override
+    public int compareTo(SortedSetIterable<T> otherSet)
+    {
+        Comparator<? super T> comparator = this.comparator();
+        Iterator<T> iterator = otherSet.iterator();
+        for (T eachInThis : this)
+        {
+            if (!iterator.hasNext())
+            {
+                return 1;
+            }
+
+            T eachInOther = iterator.next();
+
+            int compare = comparator == null
+                    ? ((Comparable<T>) eachInThis).compareTo(eachInOther)
+                    : comparator.compare(eachInThis, eachInOther);
+            if (compare != 0)
+            {
+                return compare;
+            }
+        }
+
+        return iterator.hasNext() ? -1 : 0;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (obj == this)
+        {
+            return true;
+        }
+        if (obj instanceof ImmutableBalancedTreeSet<?>)
+        {
+            return this.map.equals(((ImmutableBalancedTreeSet<?>) obj).map);
+        }
+        if (!(obj instanceof Set))
+        {
+            return false;
+        }
+        Set<?> otherSet = (Set<?>) obj;
+        if (otherSet.size() != this.size())
+        {
+            return false;
+        }
+        try
+        {
+            return this.containsAll(otherSet);
+        }
+        catch (ClassCastException ignored)
+        {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.map.forEachKey(each -> hashCode[0] += each.hashCode());
+        return hashCode[0];
+    }
+}
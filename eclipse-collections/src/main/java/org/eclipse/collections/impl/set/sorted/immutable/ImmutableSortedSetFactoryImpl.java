@@ -131,6 +131,12 @@ public class ImmutableSortedSetFactoryImpl implements ImmutableSortedSetFactory
         return ImmutableTreeSet.newSetFromIterable(comparator, iterable);
     }
 
+    @Override
+    public <T> ImmutableSortedSet<T> withAllPersistent(Comparator<? super T> comparator, Iterable<? extends T> items)
+    {
+        return ImmutableBalancedTreeSet.newSet(comparator, items);
+    }
+
     @Override
     public <T> ImmutableSortedSet<T> ofSortedSet(SortedSet<T> set)
     {
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.sketch;
+
+import org.eclipse.collections.api.factory.sketch.CardinalitySketchFactory;
+
+@aQute.bnd.annotation.spi.ServiceProvider(CardinalitySketchFactory.class)
+public class CardinalitySketchFactoryImpl implements CardinalitySketchFactory
+{
+    public static final CardinalitySketchFactory INSTANCE = new CardinalitySketchFactoryImpl();
+
+    @Override
+    public HyperLogLog empty()
+    {
+        return new HyperLogLog();
+    }
+
+    @Override
+    public HyperLogLog withPrecision(int precision)
+    {
+        return new HyperLogLog(precision);
+    }
+}
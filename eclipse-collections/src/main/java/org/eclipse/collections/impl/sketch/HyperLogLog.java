@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.sketch;
+
+import org.eclipse.collections.api.sketch.CardinalitySketch;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct elements added to it in a fixed amount of memory.
+ * A sketch of precision {@code p} holds {@code 2^p} one byte registers and has a relative standard error of about
+ * {@code 1.04 / sqrt(2^p)}, so the default precision of 14 uses 16KB and is typically within 1% of the exact count.
+ * <p>
+ * The estimator expects uniformly distributed 64-bit hashes. {@link CharSequence}s, {@link Long}s and {@link Double}s
+ * are therefore hashed over all of their bits, so that for example strings which share a hash code are still counted
+ * separately, while other elements are hashed from {@link Object#hashCode()}, so that elements which are not equal but
+ * have the same hash code are counted once. Either hash is then mixed over all 64 bits. Sketches of the same precision
+ * can be merged, which allows the elements to be counted in parallel. This class is not thread-safe.
+ *
+ * @see org.eclipse.collections.api.RichIterable#approximateDistinct()
+ * @see CardinalitySketchFactoryImpl
+ * @since 12.0
+ */
+public final class HyperLogLog implements CardinalitySketch
+{
+    public static final int DEFAULT_PRECISION = 14;
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog()
+    {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision)
+    {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION)
+        {
+            throw new IllegalArgumentException("Precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION + ": " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision()
+    {
+        return this.precision;
+    }
+
+    @Override
+    public void add(Object item)
+    {
+        long hash = HyperLogLog.mix(HyperLogLog.hash(item));
+        int index = (int) (hash >>> (Long.SIZE - this.precision));
+        long remaining = (hash << this.precision) | (1L << (this.precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (this.registers[index] < rank)
+        {
+            this.registers[index] = rank;
+        }
+    }
+
+    /**
+     * Adds the elements counted by {@code other} to this sketch, which is then the sketch of the union of both sets of
+     * elements.
+     *
+     * @throws IllegalArgumentException if the other sketch is not a HyperLogLog or has a different precision
+     */
+    @Override
+    public HyperLogLog merge(CardinalitySketch other)
+    {
+        if (!(other instanceof HyperLogLog))
+        {
+            throw new IllegalArgumentException("Cannot merge a " + other.getClass().getSimpleName() + " into a HyperLogLog");
+        }
+        HyperLogLog otherSketch = (HyperLogLog) other;
+        if (this.precision != otherSketch.precision)
+        {
+            throw new IllegalArgumentException("Cannot merge a sketch of precision " + otherSketch.precision + " into a sketch of precision " + this.precision);
+        }
+        for (int i = 0; i < this.registers.length; i++)
+        {
+            if (this.registers[i] < otherSketch.registers[i])
+            {
+                this.registers[i] = otherSketch.registers[i];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the estimated number of distinct elements added to this sketch. This uses the improved estimator of
+     * Otmar Ertl, "New cardinality estimation algorithms for HyperLogLog sketches" (2017), which unlike the original
+     * estimator is unbiased for small as well as large cardinalities.
+     */
+    @Override
+    public long estimate()
+    {
+        int maxRank = Long.SIZE - this.precision;
+        int[] histogram = new int[maxRank + 2];
+        for (byte register : this.registers)
+        {
+            histogram[register]++;
+        }
+        double registerCount = this.registers.length;
+        double z = registerCount * HyperLogLog.tau(1.0 - histogram[maxRank + 1] / registerCount);
+        for (int rank = maxRank; rank >= 1; rank--)
+        {
+            z = 0.5 * (z + histogram[rank]);
+        }
+        z += registerCount * HyperLogLog.sigma(histogram[0] / registerCount);
+        return Math.round(registerCount * registerCount / (2.0 * Math.log(2.0) * z));
+    }
+
+    private static double sigma(double x)
+    {
+        if (x == 1.0)
+        {
+            return Double.POSITIVE_INFINITY;
+        }
+        double power = x;
+        double y = 1.0;
+        double z = x;
+        double previous;
+        do
+        {
+            power *= power;
+            previous = z;
+            z += power * y;
+            y += y;
+        }
+        while (z != previous);
+        return z;
+    }
+
+    private static double tau(double x)
+    {
+        if (x == 0.0 || x == 1.0)
+        {
+            return 0.0;
+        }
+        double root = x;
+        double y = 1.0;
+        double z = 1.0 - x;
+        double previous;
+        do
+        {
+            root = Math.sqrt(root);
+            previous = z;
+            y *= 0.5;
+            z -= (1.0 - root) * (1.0 - root) * y;
+        }
+        while (z != previous);
+        return z / 3.0;
+    }
+
+    /**
+     * Returns a hash of {@code item} which uses as many of its bits as possible, up to 64.
+     */
+    private static long hash(Object item)
+    {
+        if (item == null)
+        {
+            return 0L;
+        }
+        if (item instanceof CharSequence)
+        {
+            // 64-bit FNV-1a
+            CharSequence chars = (CharSequence) item;
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < chars.length(); i++)
+            {
+                hash = (hash ^ chars.charAt(i)) * 0x100000001B3L;
+            }
+            return hash;
+        }
+        if (item instanceof Long)
+        {
+            return (Long) item;
+        }
+        if (item instanceof Double)
+        {
+            return Double.doubleToLongBits((Double) item);
+        }
+        return item.hashCode();
+    }
+
+    /**
+     * Spreads the bits of a 64-bit hash over all 64 bits with SplitMix64, whose increment ensures that a hash of zero is
+     * not mapped to zero.
+     */
+    private static long mix(long hash)
+    {
+        long z = hash + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
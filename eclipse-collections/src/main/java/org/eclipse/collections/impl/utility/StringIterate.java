@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Goldman Sachs and others.
+ * Copyright (c) 2024 Goldman Sachs and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * and Eclipse Distribution License v. 1.0 which accompany this distribution.
@@ -22,11 +22,16 @@ import org.eclipse.collections.api.block.function.primitive.CharToCharFunction;
 import org.eclipse.collections.api.block.predicate.primitive.CharPredicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.primitive.CharProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.IntIntProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
 import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.collection.primitive.MutableLongCollection;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.tuple.Twin;
@@ -37,6 +42,7 @@ import org.eclipse.collections.impl.block.function.primitive.CodePointFunction;
 import org.eclipse.collections.impl.block.predicate.CodePointPredicate;
 import org.eclipse.collections.impl.block.procedure.primitive.CodePointProcedure;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.eclipse.collections.impl.string.immutable.CharAdapter;
 import org.eclipse.collections.impl.string.immutable.CodePointAdapter;
 import org.eclipse.collections.impl.string.immutable.CodePointList;
@@ -317,6 +323,109 @@ public final class StringIterate
         }
     }
 
+    /**
+     * For each token in a {@code sequence} separated by any of the characters of the specified {@code separator},
+     * execute the specified {@link IntIntProcedure} with the offset and the length of the token. Tokens are the same
+     * as those of {@link #forEachToken(String, String, Procedure)}, so empty tokens are skipped, but no String is
+     * created for them.
+     *
+     * @since 12.0
+     */
+    public static void forEachTokenRange(CharSequence sequence, String separator, IntIntProcedure procedure)
+    {
+        int length = sequence.length();
+        int start = 0;
+        for (int i = 0; i < length; i++)
+        {
+            if (StringIterate.isSeparator(separator, sequence.charAt(i)))
+            {
+                if (i > start)
+                {
+                    procedure.value(start, i - start);
+                }
+                start = i + 1;
+            }
+        }
+        if (length > start)
+        {
+            procedure.value(start, length - start);
+        }
+    }
+
+    /**
+     * For each token in a {@code sequence} separated by any of the characters of the specified {@code separator},
+     * execute the specified {@link Procedure} with a view of the token. The same view is reused for every token, so
+     * it is only valid during the call to the procedure, and must be copied with {@link CharSequence#toString()} to be
+     * kept.
+     *
+     * @since 12.0
+     */
+    public static void forEachTokenView(CharSequence sequence, String separator, Procedure<? super CharSequence> procedure)
+    {
+        TokenView view = new TokenView(sequence);
+        StringIterate.forEachTokenRange(sequence, separator, (offset, length) -> procedure.value(view.moveTo(offset, length)));
+    }
+
+    /**
+     * For each token in a {@code sequence} separated by any of the characters of the specified {@code separator},
+     * execute the specified {@link IntProcedure} with the token parsed as a decimal int, without creating a String.
+     *
+     * @throws NumberFormatException if a token is not a decimal int
+     * @since 12.0
+     */
+    public static void forEachIntToken(CharSequence sequence, String separator, IntProcedure procedure)
+    {
+        StringIterate.forEachTokenRange(
+                sequence,
+                separator,
+                (offset, length) -> procedure.value(Integer.parseInt(sequence, offset, offset + length, 10)));
+    }
+
+    /**
+     * For each token in a {@code sequence} separated by any of the characters of the specified {@code separator},
+     * execute the specified {@link LongProcedure} with the token parsed as a decimal long, without creating a String.
+     *
+     * @throws NumberFormatException if a token is not a decimal long
+     * @since 12.0
+     */
+    public static void forEachLongToken(CharSequence sequence, String separator, LongProcedure procedure)
+    {
+        StringIterate.forEachTokenRange(
+                sequence,
+                separator,
+                (offset, length) -> procedure.value(Long.parseLong(sequence, offset, offset + length, 10)));
+    }
+
+    /**
+     * Converts a sequence of decimal long tokens separated by any of the characters of the specified
+     * {@code separator} to a {@link MutableLongList}.
+     *
+     * @throws NumberFormatException if a token is not a decimal long
+     * @since 12.0
+     */
+    public static MutableLongList collectLongTokens(CharSequence sequence, String separator)
+    {
+        return StringIterate.collectLongTokens(sequence, separator, new LongArrayList());
+    }
+
+    /**
+     * Adds the decimal long tokens of a {@code sequence} separated by any of the characters of the specified
+     * {@code separator} to the {@code target} collection, which can be reused from one sequence to the next.
+     *
+     * @throws NumberFormatException if a token is not a decimal long
+     * @since 12.0
+     */
+    public static <R extends MutableLongCollection> R collectLongTokens(CharSequence sequence, String separator, R target)
+    {
+        StringIterate.forEachLongToken(sequence, separator, target::add);
+        return target;
+    }
+
+    private static boolean isSeparator(String separator, char character)
+    {
+        return separator.length() == 1 ? separator.charAt(0) == character : separator.indexOf(character) >= 0;
+    }
+
     /**
      * For each character in the {@code string}, execute the {@link CharProcedure}.
      *
@@ -1296,4 +1405,59 @@ public final class StringIterate
             this.characters.add(Character.valueOf(Character.toUpperCase(character)));
         }
     }
+
+    /**
+     * A view of a range of a {@link CharSequence}, which is moved from one token to the next instead of creating a
+     * String for each token.
+     */
+    private static final class TokenView implements CharSequence
+    {
+        private final CharSequence sequence;
+        private int offset;
+        private int length;
+
+        private TokenView(CharSequence sequence)
+        {
+            this.sequence = sequence;
+        }
+
+        private TokenView moveTo(int offset, int length)
+        {
+            this.offset = offset;
+            this.length = length;
+            return this;
+        }
+
+        @Override
+        public int length()
+        {
+            return this.length;
+        }
+
+        @Override
+        public char charAt(int index)
+        {
+            if (index < 0 || index >= this.length)
+            {
+                throw new StringIndexOutOfBoundsException("index: " + index + ", length: " + this.length);
+            }
+            return this.sequence.charAt(this.offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end)
+        {
+            if (start < 0 || end > this.length || start > end)
+            {
+                throw new StringIndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + this.length);
+            }
+            return this.sequence.subSequence(this.offset + start, this.offset + end);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.sequence.subSequence(this.offset, this.offset + this.length).toString();
+        }
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A fixed size block of memory outside of the Java heap, addressed by a {@code long} byte offset. The memory is split
+ * into pages of at most 1GB so that the capacity is not limited by the {@code int} indexing of {@link ByteBuffer}.
+ * Pages are either allocated with {@link ByteBuffer#allocateDirect(int)} or mapped from a file with
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)}. All values are stored in little endian byte order.
+ * <p>
+ * Values are expected to be accessed at offsets aligned to their own size, so a single value never spans two pages.
+ * <p>
+ * This class is not thread-safe. Calling {@link #close()} frees the memory of the pages, or unmaps them, right away
+ * where the JVM gives access to {@code sun.misc.Unsafe.invokeCleaner}, rather than when the garbage collector gets to
+ * the pages. Direct memory is limited by {@code -XX:MaxDirectMemorySize} rather than by the heap, so a large table
+ * that is closed and replaced would otherwise hold on to its memory until the next collection. Elsewhere the pages
+ * are left to the garbage collector. Either way any access after {@link #close()} throws an
+ * {@link IllegalStateException}, and the pages are never handed out, so released memory cannot be read.
+ *
+ * @since 12.0
+ */
+public final class PagedByteBuffer implements AutoCloseable
+{
+    private static final int PAGE_SHIFT = 30;
+    private static final long PAGE_SIZE = 1L << PAGE_SHIFT;
+    private static final long PAGE_MASK = PAGE_SIZE - 1L;
+
+    /**
+     * {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)} bound to the {@code Unsafe} instance, or null if it cannot be
+     * accessed.
+     */
+    private static final MethodHandle INVOKE_CLEANER = PagedByteBuffer.findInvokeCleaner();
+
+    private final long byteSize;
+    private ByteBuffer[] pages;
+
+    private PagedByteBuffer(long byteSize, ByteBuffer[] pages)
+    {
+        this.byteSize = byteSize;
+        this.pages = pages;
+    }
+
+    private static MethodHandle findInvokeCleaner()
+    {
+        try
+        {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        }
+        catch (ReflectiveOperationException | RuntimeException ignored)
+        {
+            // The pages will be released when they are garbage collected
+            return null;
+        }
+    }
+
+    /**
+     * Allocates {@code byteSize} bytes of zeroed memory outside of the Java heap.
+     */
+    public static PagedByteBuffer allocateDirect(long byteSize)
+    {
+        ByteBuffer[] pages = new ByteBuffer[PagedByteBuffer.pageCount(byteSize)];
+        for (int i = 0; i < pages.length; i++)
+        {
+            int pageSize = PagedByteBuffer.pageSize(byteSize, i);
+            pages[i] = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new PagedByteBuffer(byteSize, pages);
+    }
+
+    /**
+     * Maps {@code byteSize} bytes of {@code channel} starting at {@code position} into memory. The mapping remains valid
+     * after the channel has been closed.
+     */
+    public static PagedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long byteSize) throws IOException
+    {
+        ByteBuffer[] pages = new ByteBuffer[PagedByteBuffer.pageCount(byteSize)];
+        for (int i = 0; i < pages.length; i++)
+        {
+            int pageSize = PagedByteBuffer.pageSize(byteSize, i);
+            pages[i] = channel.map(mode, position + ((long) i << PAGE_SHIFT), pageSize).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new PagedByteBuffer(byteSize, pages);
+    }
+
+    private static int pageCount(long byteSize)
+    {
+        if (byteSize < 0L)
+        {
+            throw new IllegalArgumentException("byteSize cannot be less than 0: " + byteSize);
+        }
+        long pageCount = (byteSize + PAGE_MASK) >>> PAGE_SHIFT;
+        if (pageCount > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("byteSize is too large: " + byteSize);
+        }
+        return (int) pageCount;
+    }
+
+    private static int pageSize(long byteSize, int page)
+    {
+        return (int) Math.min(PAGE_SIZE, byteSize - ((long) page << PAGE_SHIFT));
+    }
+
+    public long byteSize()
+    {
+        return this.byteSize;
+    }
+
+    public boolean isClosed()
+    {
+        return this.pages == null;
+    }
+
+    private ByteBuffer page(long offset)
+    {
+        if (this.pages == null)
+        {
+            throw new IllegalStateException("Memory has already been released by close()");
+        }
+        return this.pages[(int) (offset >>> PAGE_SHIFT)];
+    }
+
+    public byte getByte(long offset)
+    {
+        return this.page(offset).get((int) (offset & PAGE_MASK));
+    }
+
+    public void putByte(long offset, byte value)
+    {
+        this.page(offset).put((int) (offset & PAGE_MASK), value);
+    }
+
+    public short getShort(long offset)
+    {
+        return this.page(offset).getShort((int) (offset & PAGE_MASK));
+    }
+
+    public void putShort(long offset, short value)
+    {
+        this.page(offset).putShort((int) (offset & PAGE_MASK), value);
+    }
+
+    public char getChar(long offset)
+    {
+        return this.page(offset).getChar((int) (offset & PAGE_MASK));
+    }
+
+    public void putChar(long offset, char value)
+    {
+        this.page(offset).putChar((int) (offset & PAGE_MASK), value);
+    }
+
+    public int getInt(long offset)
+    {
+        return this.page(offset).getInt((int) (offset & PAGE_MASK));
+    }
+
+    public void putInt(long offset, int value)
+    {
+        this.page(offset).putInt((int) (offset & PAGE_MASK), value);
+    }
+
+    public long getLong(long offset)
+    {
+        return this.page(offset).getLong((int) (offset & PAGE_MASK));
+    }
+
+    public void putLong(long offset, long value)
+    {
+        this.page(offset).putLong((int) (offset & PAGE_MASK), value);
+    }
+
+    public float getFloat(long offset)
+    {
+        return this.page(offset).getFloat((int) (offset & PAGE_MASK));
+    }
+
+    public void putFloat(long offset, float value)
+    {
+        this.page(offset).putFloat((int) (offset & PAGE_MASK), value);
+    }
+
+    public double getDouble(long offset)
+    {
+        return this.page(offset).getDouble((int) (offset & PAGE_MASK));
+    }
+
+    public void putDouble(long offset, double value)
+    {
+        this.page(offset).putDouble((int) (offset & PAGE_MASK), value);
+    }
+
+    /**
+     * Returns a copy of this buffer in newly allocated memory outside of the Java heap. This is typically used to get a
+     * writable copy of a read-only mapped file.
+     */
+    public PagedByteBuffer copyToDirect()
+    {
+        if (this.pages == null)
+        {
+            throw new IllegalStateException("Memory has already been released by close()");
+        }
+        PagedByteBuffer copy = PagedByteBuffer.allocateDirect(this.byteSize);
+        for (int i = 0; i < this.pages.length; i++)
+        {
+            ByteBuffer source = this.pages[i].duplicate();
+            source.clear();
+            ByteBuffer target = copy.pages[i].duplicate();
+            target.clear();
+            target.put(source);
+        }
+        return copy;
+    }
+
+    /**
+     * Writes the full contents of this buffer to {@code channel}, page by page, without copying onto the Java heap.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException
+    {
+        if (this.pages == null)
+        {
+            throw new IllegalStateException("Memory has already been released by close()");
+        }
+        for (ByteBuffer page : this.pages)
+        {
+            ByteBuffer source = page.duplicate();
+            source.clear();
+            while (source.hasRemaining())
+            {
+                channel.write(source);
+            }
+        }
+    }
+
+    /**
+     * Releases the memory held by this buffer, immediately where the JVM allows it and otherwise once the pages are
+     * garbage collected. Subsequent calls have no effect.
+     */
+    @Override
+    public void close()
+    {
+        ByteBuffer[] released = this.pages;
+        this.pages = null;
+        if (released != null && INVOKE_CLEANER != null)
+        {
+            for (ByteBuffer page : released)
+            {
+                PagedByteBuffer.release(page);
+            }
+        }
+    }
+
+    private static void release(ByteBuffer page)
+    {
+        try
+        {
+            INVOKE_CLEANER.invokeExact(page);
+        }
+        catch (Throwable ignored)
+        {
+            // The page will be released when it is garbage collected
+        }
+    }
+}
@@ -13,7 +13,7 @@
  * <p>
  *     All the iteration patterns in this package are internal. It is used by iterators specialized for various collections.
  * <p>
- *     This package contains 10 Iteration implementations:
+ *     This package contains 11 Iteration implementations:
  * <ul>
  *     <li>
  *          {@link org.eclipse.collections.impl.utility.internal.DefaultSpeciesNewStrategy} - creates a new instance of a collection based on the class type of collection.
@@ -31,6 +31,9 @@
  *          {@link org.eclipse.collections.impl.utility.internal.MutableCollectionIterate} - a final class used to chunk {@link org.eclipse.collections.api.collection.MutableCollection}.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.impl.utility.internal.PagedByteBuffer} - a block of memory outside of the Java heap, addressed by a long offset.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.utility.internal.RandomAccessListIterate} - provides methods from the Smalltalk Collection Protocol for use with {@link java.util.ArrayList}.
  *     </li>
  *     <li>
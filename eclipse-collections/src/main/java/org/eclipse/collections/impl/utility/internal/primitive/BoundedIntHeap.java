@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal.primitive;
+
+/**
+ * Retains the {@code capacity} smallest of the {@code int} values offered to it, in a binary max-heap, so that the
+ * k-th smallest of n values is found in O(n log k) time and O(k) space. It is used to select the top and bottom
+ * occurrences of bags without sorting all of their distinct elements.
+ *
+ * @since 12.0
+ */
+public final class BoundedIntHeap
+{
+    private final int[] heap;
+    private int size;
+
+    public BoundedIntHeap(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.heap = new int[capacity];
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Retains {@code value} if fewer than {@code capacity} values have been retained, or if it is smaller than the
+     * largest retained value, which is then discarded.
+     */
+    public void offer(int value)
+    {
+        if (this.size < this.heap.length)
+        {
+            this.siftUp(this.size++, value);
+        }
+        else if (value < this.heap[0])
+        {
+            this.siftDown(value);
+        }
+    }
+
+    /**
+     * Returns the largest retained value, which is the {@code capacity}-th smallest value offered once the heap is
+     * full.
+     *
+     * @throws IllegalStateException if no value has been offered
+     */
+    public int max()
+    {
+        if (this.size == 0)
+        {
+            throw new IllegalStateException("No values have been offered");
+        }
+        return this.heap[0];
+    }
+
+    private void siftUp(int index, int value)
+    {
+        int child = index;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (this.heap[parent] >= value)
+            {
+                break;
+            }
+            this.heap[child] = this.heap[parent];
+            child = parent;
+        }
+        this.heap[child] = value;
+    }
+
+    private void siftDown(int value)
+    {
+        int parent = 0;
+        int half = this.size >>> 1;
+        while (parent < half)
+        {
+            int child = (parent << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && this.heap[right] > this.heap[child])
+            {
+                child = right;
+            }
+            if (value >= this.heap[child])
+            {
+                break;
+            }
+            this.heap[parent] = this.heap[child];
+            parent = child;
+        }
+        this.heap[parent] = value;
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal.primitive;
+
+/**
+ * Reductions and searches over the first {@code size} elements of {@code int}, {@code long} and {@code double} arrays,
+ * used by the primitive array lists. On Java 17 and above, when the {@code jdk.incubator.vector} module has been added
+ * to the runtime with {@code --add-modules jdk.incubator.vector}, arrays of at least {@link #VECTOR_THRESHOLD} elements
+ * are processed with SIMD instructions. Otherwise, and on older runtimes, the scalar loops below are used.
+ * <p>
+ * The results are the same on both paths, except that the floating point sums may differ in the last bits because
+ * the vectorized loops add the elements in a different order.
+ *
+ * @since 12.0
+ */
+public final class PrimitiveArrayIterate
+{
+    /**
+     * Arrays shorter than this are always processed with the scalar loops, where setting up the vectors costs more
+     * than it saves.
+     */
+    public static final int VECTOR_THRESHOLD = 64;
+
+    private PrimitiveArrayIterate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns {@code true} if this runtime processes large arrays with SIMD instructions.
+     */
+    public static boolean isVectorized()
+    {
+        return VectorizedArrayIterate.ENABLED;
+    }
+
+    private static boolean useVectors(int size)
+    {
+        return VectorizedArrayIterate.ENABLED && size >= VECTOR_THRESHOLD;
+    }
+
+    public static long sum(int[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.sum(items, size);
+        }
+        return PrimitiveArrayIterate.scalarSum(items, size);
+    }
+
+    static long scalarSum(int[] items, int size)
+    {
+        long result = 0L;
+        for (int i = 0; i < size; i++)
+        {
+            result += items[i];
+        }
+        return result;
+    }
+
+    public static long sum(long[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.sum(items, size);
+        }
+        return PrimitiveArrayIterate.scalarSum(items, size);
+    }
+
+    static long scalarSum(long[] items, int size)
+    {
+        long result = 0L;
+        for (int i = 0; i < size; i++)
+        {
+            result += items[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Kahan compensated sum of the elements. The vectorized path keeps a separate compensated sum in each
+     * lane and adds the lanes at the end, so its result may differ from the scalar path in the last bits.
+     */
+    public static double sum(double[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.sum(items, size);
+        }
+        return PrimitiveArrayIterate.scalarSum(items, size);
+    }
+
+    static double scalarSum(double[] items, int size)
+    {
+        double result = 0.0;
+        double compensation = 0.0;
+        for (int i = 0; i < size; i++)
+        {
+            double adjustedValue = items[i] - compensation;
+            double nextSum = result + adjustedValue;
+            compensation = nextSum - result - adjustedValue;
+            result = nextSum;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the smallest element, {@code size} must be greater than zero.
+     */
+    public static int min(int[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.min(items, size);
+        }
+        return PrimitiveArrayIterate.scalarMin(items, size);
+    }
+
+    static int scalarMin(int[] items, int size)
+    {
+        int min = items[0];
+        for (int i = 1; i < size; i++)
+        {
+            int value = items[i];
+            if (value < min)
+            {
+                min = value;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the smallest element, {@code size} must be greater than zero.
+     */
+    public static long min(long[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.min(items, size);
+        }
+        return PrimitiveArrayIterate.scalarMin(items, size);
+    }
+
+    static long scalarMin(long[] items, int size)
+    {
+        long min = items[0];
+        for (int i = 1; i < size; i++)
+        {
+            long value = items[i];
+            if (value < min)
+            {
+                min = value;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the smallest element in the order of {@link Double#compare(double, double)}, so {@code NaN} is only
+     * returned if all the elements are {@code NaN}. {@code size} must be greater than zero.
+     */
+    public static double min(double[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            double min = VectorizedArrayIterate.min(items, size);
+            if (!Double.isNaN(min))
+            {
+                return min;
+            }
+        }
+        return PrimitiveArrayIterate.scalarMin(items, size);
+    }
+
+    static double scalarMin(double[] items, int size)
+    {
+        double min = items[0];
+        for (int i = 1; i < size; i++)
+        {
+            double value = items[i];
+            if (Double.compare(value, min) < 0)
+            {
+                min = value;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the largest element, {@code size} must be greater than zero.
+     */
+    public static int max(int[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.max(items, size);
+        }
+        return PrimitiveArrayIterate.scalarMax(items, size);
+    }
+
+    static int scalarMax(int[] items, int size)
+    {
+        int max = items[0];
+        for (int i = 1; i < size; i++)
+        {
+            int value = items[i];
+            if (max < value)
+            {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the largest element, {@code size} must be greater than zero.
+     */
+    public static long max(long[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.max(items, size);
+        }
+        return PrimitiveArrayIterate.scalarMax(items, size);
+    }
+
+    static long scalarMax(long[] items, int size)
+    {
+        long max = items[0];
+        for (int i = 1; i < size; i++)
+        {
+            long value = items[i];
+            if (max < value)
+            {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the largest element in the order of {@link Double#compare(double, double)}, so {@code NaN} is returned if
+     * any element is {@code NaN}. {@code size} must be greater than zero.
+     */
+    public static double max(double[] items, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.max(items, size);
+        }
+        return PrimitiveArrayIterate.scalarMax(items, size);
+    }
+
+    static double scalarMax(double[] items, int size)
+    {
+        double max = items[0];
+        for (int i = 1; i < size; i++)
+        {
+            double value = items[i];
+            if (Double.compare(max, value) < 0)
+            {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    public static int indexOf(int[] items, int size, int value)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.indexOf(items, size, value);
+        }
+        return PrimitiveArrayIterate.scalarIndexOf(items, size, value);
+    }
+
+    static int scalarIndexOf(int[] items, int size, int value)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (items[i] == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int indexOf(long[] items, int size, long value)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.indexOf(items, size, value);
+        }
+        return PrimitiveArrayIterate.scalarIndexOf(items, size, value);
+    }
+
+    static int scalarIndexOf(long[] items, int size, long value)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (items[i] == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to {@code value} according to
+     * {@link Double#compare(double, double)}, so {@code NaN} is found and {@code -0.0} does not match {@code 0.0}.
+     */
+    public static int indexOf(double[] items, int size, double value)
+    {
+        if (PrimitiveArrayIterate.useVectors(size) && !Double.isNaN(value))
+        {
+            return VectorizedArrayIterate.indexOf(items, size, value);
+        }
+        return PrimitiveArrayIterate.scalarIndexOf(items, size, value);
+    }
+
+    static int scalarIndexOf(double[] items, int size, double value)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (Double.compare(items[i], value) == 0)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static long dotProduct(int[] left, int[] right, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.dotProduct(left, right, size);
+        }
+        return PrimitiveArrayIterate.scalarDotProduct(left, right, size);
+    }
+
+    static long scalarDotProduct(int[] left, int[] right, int size)
+    {
+        long sum = 0L;
+        for (int i = 0; i < size; i++)
+        {
+            sum += (long) left[i] * right[i];
+        }
+        return sum;
+    }
+
+    public static long dotProduct(long[] left, long[] right, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.dotProduct(left, right, size);
+        }
+        return PrimitiveArrayIterate.scalarDotProduct(left, right, size);
+    }
+
+    static long scalarDotProduct(long[] left, long[] right, int size)
+    {
+        long sum = 0L;
+        for (int i = 0; i < size; i++)
+        {
+            sum += left[i] * right[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the products of the elements at the same index. The vectorized path accumulates the products
+     * in each lane and adds the lanes at the end, so its result may differ from the scalar path, which adds them in
+     * index order, in the last bits.
+     */
+    public static double dotProduct(double[] left, double[] right, int size)
+    {
+        if (PrimitiveArrayIterate.useVectors(size))
+        {
+            return VectorizedArrayIterate.dotProduct(left, right, size);
+        }
+        return PrimitiveArrayIterate.scalarDotProduct(left, right, size);
+    }
+
+    static double scalarDotProduct(double[] left, double[] right, int size)
+    {
+        double sum = 0.0;
+        for (int i = 0; i < size; i++)
+        {
+            sum += left[i] * right[i];
+        }
+        return sum;
+    }
+}
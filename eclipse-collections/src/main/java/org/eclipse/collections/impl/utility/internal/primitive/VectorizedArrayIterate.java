@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal.primitive;
+
+/**
+ * The SIMD kernels behind {@link PrimitiveArrayIterate}. This is the version used before Java 17, which is never
+ * enabled and falls back to the scalar loops if it is called anyway. The multi-release jar replaces it on Java 17 and
+ * above with the version in {@code src/main/java17}, which uses the {@code jdk.incubator.vector} module when it is
+ * present.
+ */
+final class VectorizedArrayIterate
+{
+    /**
+     * Not a compile time constant, so that {@link PrimitiveArrayIterate} reads the value of whichever version of this
+     * class is loaded.
+     */
+    static final boolean ENABLED = VectorizedArrayIterate.isAvailable();
+
+    private VectorizedArrayIterate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    private static boolean isAvailable()
+    {
+        return false;
+    }
+
+    static long sum(int[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarSum(items, size);
+    }
+
+    static long sum(long[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarSum(items, size);
+    }
+
+    static double sum(double[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarSum(items, size);
+    }
+
+    static int min(int[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarMin(items, size);
+    }
+
+    static long min(long[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarMin(items, size);
+    }
+
+    static double min(double[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarMin(items, size);
+    }
+
+    static int max(int[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarMax(items, size);
+    }
+
+    static long max(long[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarMax(items, size);
+    }
+
+    static double max(double[] items, int size)
+    {
+        return PrimitiveArrayIterate.scalarMax(items, size);
+    }
+
+    static int indexOf(int[] items, int size, int value)
+    {
+        return PrimitiveArrayIterate.scalarIndexOf(items, size, value);
+    }
+
+    static int indexOf(long[] items, int size, long value)
+    {
+        return PrimitiveArrayIterate.scalarIndexOf(items, size, value);
+    }
+
+    static int indexOf(double[] items, int size, double value)
+    {
+        return PrimitiveArrayIterate.scalarIndexOf(items, size, value);
+    }
+
+    static long dotProduct(int[] left, int[] right, int size)
+    {
+        return PrimitiveArrayIterate.scalarDotProduct(left, right, size);
+    }
+
+    static long dotProduct(long[] left, long[] right, int size)
+    {
+        return PrimitiveArrayIterate.scalarDotProduct(left, right, size);
+    }
+
+    static double dotProduct(double[] left, double[] right, int size)
+    {
+        return PrimitiveArrayIterate.scalarDotProduct(left, right, size);
+    }
+}
@@ -0,0 +1,555 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.primitive;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The binary format shared by the generated primitive codecs such as {@link IntCollectionsCodec} and
+ * {@link LongLongMapCodec}. Unlike {@link java.io.Externalizable} serialization, which writes every element through
+ * {@link java.io.ObjectOutput}, the codecs copy whole arrays of elements to and from a {@link ByteBuffer} and transfer
+ * the buffer to a {@link WritableByteChannel} or from a {@link ReadableByteChannel}, such as a
+ * {@link java.nio.channels.FileChannel}.
+ * <p>
+ * A record starts with a 16 byte header, in little endian byte order:
+ * <pre>
+ *  0  int   magic number 0x43504345 ("ECPC")
+ *  4  byte  format version, currently 1
+ *  5  byte  kind: 1 list, 2 set, 3 bag, 4 map
+ *  6  byte  element or key type: 1 byte, 2 short, 3 char, 4 int, 5 long, 6 float, 7 double
+ *  7  byte  value type of a map, using the same codes, or 0
+ *  8  byte  encoding of the element or key column: 0 {@link Encoding#RAW}, 1 {@link Encoding#DELTA_VARINT}
+ *  9  byte  reserved, 0
+ * 10  short reserved, 0
+ * 12  int   number of elements, distinct elements of a bag, or keys of a map
+ * </pre>
+ * The header is followed by the elements of a list or set, the distinct elements of a bag followed by their int
+ * occurrences, or the keys of a map followed by their values. Only the element or key column uses the encoding in the
+ * header, the occurrences and values are always {@link Encoding#RAW}. Sets, bags and maps are written in ascending key
+ * order when they are delta encoded, and in iteration order otherwise.
+ *
+ * @since 12.0
+ */
+public final class PrimitiveCollectionsCodec
+{
+    static final byte LIST = 1;
+    static final byte SET = 2;
+    static final byte BAG = 3;
+    static final byte MAP = 4;
+
+    static final byte NO_TYPE = 0;
+
+    private static final int MAGIC = 0x43504345;
+    private static final byte VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int HEADER_BYTES = 16;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private static final String[] KIND_NAMES = {"unknown", "list", "set", "bag", "map"};
+    private static final String[] TYPE_NAMES = {"none", "byte", "short", "char", "int", "long", "float", "double"};
+
+    private PrimitiveCollectionsCodec()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * How the elements of a list or set, the distinct elements of a bag, or the keys of a map are encoded.
+     */
+    public enum Encoding
+    {
+        /**
+         * Every element is written in its fixed width little endian form. Floating point elements are written as the
+         * bits returned by {@link Float#floatToRawIntBits(float)} and {@link Double#doubleToRawLongBits(double)}.
+         */
+        RAW,
+
+        /**
+         * Every element is written as the difference from the previous element, zig-zag encoded so that small negative
+         * differences stay small, as an unsigned LEB128 variable length integer of one to ten bytes. Sets, bags and maps
+         * are sorted first, so a set of n longs within a range of r takes about n * log128(r / n) bytes. Lists keep
+         * their order, and are only smaller than {@link #RAW} if neighbouring elements are close to each other. Only
+         * supported for integral element types.
+         */
+        DELTA_VARINT
+    }
+
+    static void checkEncoding(Encoding encoding, boolean integral)
+    {
+        if (encoding == null)
+        {
+            throw new NullPointerException("encoding");
+        }
+        if (encoding == Encoding.DELTA_VARINT && !integral)
+        {
+            throw new IllegalArgumentException("DELTA_VARINT encoding requires an integral element type");
+        }
+    }
+
+    static void writeHeader(Sink sink, byte kind, byte keyType, byte valueType, Encoding encoding) throws IOException
+    {
+        sink.putInt(MAGIC);
+        sink.putByte(VERSION);
+        sink.putByte(kind);
+        sink.putByte(keyType);
+        sink.putByte(valueType);
+        sink.putByte((byte) encoding.ordinal());
+        sink.putByte((byte) 0);
+        sink.putShort((short) 0);
+    }
+
+    /**
+     * Reads and validates a header written by {@link #writeHeader(Sink, byte, byte, byte, Encoding)}, and returns the
+     * encoding of the element or key column.
+     */
+    static Encoding readHeader(Source source, byte kind, byte keyType, byte valueType, boolean integral) throws IOException
+    {
+        if (source.getInt() != MAGIC)
+        {
+            throw new IOException("Not a record written by a primitive collections codec");
+        }
+        byte version = source.getByte();
+        if (version != VERSION)
+        {
+            throw new IOException("Unsupported primitive collections codec version " + version);
+        }
+        byte actualKind = source.getByte();
+        byte actualKeyType = source.getByte();
+        byte actualValueType = source.getByte();
+        if (actualKind != kind || actualKeyType != keyType || actualValueType != valueType)
+        {
+            throw new IOException("Expected " + PrimitiveCollectionsCodec.describe(kind, keyType, valueType)
+                    + " but found " + PrimitiveCollectionsCodec.describe(actualKind, actualKeyType, actualValueType));
+        }
+        byte encoding = source.getByte();
+        if (encoding < 0 || encoding >= Encoding.values().length)
+        {
+            throw new IOException("Unknown primitive collections codec encoding " + encoding);
+        }
+        if (encoding == Encoding.DELTA_VARINT.ordinal() && !integral)
+        {
+            throw new IOException("DELTA_VARINT encoding is not supported for " + TYPE_NAMES[keyType] + " elements");
+        }
+        source.getByte();
+        source.getShort();
+        return Encoding.values()[encoding];
+    }
+
+    /**
+     * Reads the number of entries of the record, grows the buffer of the source to the length of the record and lets
+     * the source read the columns of the record. A delta encoded key takes at least one byte.
+     */
+    static int readSize(Source source, Encoding encoding, int keyBytes, int valueBytes) throws IOException
+    {
+        int size = source.getInt();
+        if (size < 0)
+        {
+            throw new IOException("Negative size " + size);
+        }
+        source.reserve(PrimitiveCollectionsCodec.bufferSize(size, encoding, keyBytes, valueBytes));
+        int keyColumnBytes = encoding == Encoding.DELTA_VARINT ? Byte.BYTES : keyBytes;
+        source.expect((long) size * (keyColumnBytes + valueBytes));
+        return size;
+    }
+
+    /**
+     * Returns the length of a record of {@code size} entries, or an upper bound of it when the key column is delta
+     * encoded, capped at {@link #BUFFER_SIZE}. Small records are then written and read without allocating and zeroing
+     * a full size buffer.
+     */
+    static int bufferSize(int size, Encoding encoding, int keyBytes, int valueBytes)
+    {
+        int keyColumnBytes = encoding == Encoding.DELTA_VARINT ? MAX_VARINT_BYTES : keyBytes;
+        return (int) Math.min(BUFFER_SIZE, HEADER_BYTES + (long) size * (keyColumnBytes + valueBytes));
+    }
+
+    private static String describe(byte kind, byte keyType, byte valueType)
+    {
+        String kindName = kind > 0 && kind < KIND_NAMES.length ? KIND_NAMES[kind] : KIND_NAMES[0];
+        String keyTypeName = keyType > 0 && keyType < TYPE_NAMES.length ? TYPE_NAMES[keyType] : "unknown";
+        if (valueType == NO_TYPE)
+        {
+            return keyTypeName + ' ' + kindName;
+        }
+        String valueTypeName = valueType > 0 && valueType < TYPE_NAMES.length ? TYPE_NAMES[valueType] : "unknown";
+        return keyTypeName + '-' + valueTypeName + ' ' + kindName;
+    }
+
+    static long zigZag(long value)
+    {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value)
+    {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /**
+     * Collects the bytes of a record in a heap buffer and writes the buffer to the channel whenever it fills up. Bulk
+     * puts copy an array range with a single view buffer put per buffer full. The buffer is sized by
+     * {@link #bufferSize(int, Encoding, int, int)}, so a record that fits is written with a single channel write.
+     */
+    static final class Sink
+    {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        Sink(WritableByteChannel channel, int capacity)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private void ensure(int bytes) throws IOException
+        {
+            if (this.buffer.remaining() < bytes)
+            {
+                this.flush();
+            }
+        }
+
+        void flush() throws IOException
+        {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining())
+            {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        /**
+         * Returns how many elements of {@code width} bytes can be put before the buffer has to be flushed, flushing it
+         * first if there is no room for any.
+         */
+        private int room(int length, int width) throws IOException
+        {
+            this.ensure(width);
+            return Math.min(length, this.buffer.remaining() / width);
+        }
+
+        private void advance(int count, int width)
+        {
+            this.buffer.position(this.buffer.position() + count * width);
+        }
+
+        void putByte(byte value) throws IOException
+        {
+            this.ensure(Byte.BYTES);
+            this.buffer.put(value);
+        }
+
+        void putShort(short value) throws IOException
+        {
+            this.ensure(Short.BYTES);
+            this.buffer.putShort(value);
+        }
+
+        void putInt(int value) throws IOException
+        {
+            this.ensure(Integer.BYTES);
+            this.buffer.putInt(value);
+        }
+
+        void putVarLong(long value) throws IOException
+        {
+            this.ensure(10);
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0L)
+            {
+                this.buffer.put((byte) ((remaining & 0x7FL) | 0x80L));
+                remaining >>>= 7;
+            }
+            this.buffer.put((byte) remaining);
+        }
+
+        void putBytes(byte[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.room(remaining, Byte.BYTES);
+                this.buffer.put(array, from, count);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void putShorts(short[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.room(remaining, Short.BYTES);
+                this.buffer.asShortBuffer().put(array, from, count);
+                this.advance(count, Short.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void putChars(char[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.room(remaining, Character.BYTES);
+                this.buffer.asCharBuffer().put(array, from, count);
+                this.advance(count, Character.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void putInts(int[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.room(remaining, Integer.BYTES);
+                this.buffer.asIntBuffer().put(array, from, count);
+                this.advance(count, Integer.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void putLongs(long[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.room(remaining, Long.BYTES);
+                this.buffer.asLongBuffer().put(array, from, count);
+                this.advance(count, Long.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void putFloats(float[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.room(remaining, Float.BYTES);
+                this.buffer.asFloatBuffer().put(array, from, count);
+                this.advance(count, Float.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void putDoubles(double[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.room(remaining, Double.BYTES);
+                this.buffer.asDoubleBuffer().put(array, from, count);
+                this.advance(count, Double.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+    }
+
+    /**
+     * Reads a record through a heap buffer, refilling it from the channel whenever it runs out. The buffer starts out
+     * large enough for the header, and {@link #readSize(Source, Encoding, int, int)} grows it to the length of the
+     * record once that is known. The source keeps count of the bytes of the record it has not read yet, and limits every
+     * read to them, so it never reads past the end of the record. Records written one after another to any channel can
+     * therefore be read back in turn. The count starts at the header, grows by the least length of the columns once
+     * the size is known, and grows by one byte for every further byte of a variable length integer.
+     */
+    static final class Source
+    {
+        private final ReadableByteChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private long unread = HEADER_BYTES;
+
+        Source(ReadableByteChannel channel)
+        {
+            this.channel = channel;
+            this.buffer.flip();
+        }
+
+        private void reserve(int capacity)
+        {
+            if (capacity > this.buffer.capacity())
+            {
+                ByteBuffer larger = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+                larger.put(this.buffer);
+                larger.flip();
+                this.buffer = larger;
+            }
+        }
+
+        private void expect(long bytes)
+        {
+            this.unread += bytes;
+        }
+
+        private void require(int bytes) throws IOException
+        {
+            if (this.buffer.remaining() < bytes)
+            {
+                if (bytes > this.buffer.remaining() + this.unread)
+                {
+                    throw new IllegalStateException("Cannot read " + bytes + " bytes, the record has "
+                            + (this.buffer.remaining() + this.unread) + " left");
+                }
+                this.buffer.compact();
+                this.buffer.limit((int) Math.min(this.buffer.capacity(), this.buffer.position() + this.unread));
+                while (this.buffer.position() < bytes)
+                {
+                    int read = this.channel.read(this.buffer);
+                    if (read < 0)
+                    {
+                        throw new EOFException("Unexpected end of primitive collections codec record");
+                    }
+                    this.unread -= read;
+                }
+                this.buffer.flip();
+            }
+        }
+
+        private int available(int length, int width) throws IOException
+        {
+            if (this.buffer.remaining() < width)
+            {
+                this.require((int) Math.min((long) length * width, this.buffer.capacity() / width * width));
+            }
+            return Math.min(length, this.buffer.remaining() / width);
+        }
+
+        private void advance(int count, int width)
+        {
+            this.buffer.position(this.buffer.position() + count * width);
+        }
+
+        byte getByte() throws IOException
+        {
+            this.require(Byte.BYTES);
+            return this.buffer.get();
+        }
+
+        short getShort() throws IOException
+        {
+            this.require(Short.BYTES);
+            return this.buffer.getShort();
+        }
+
+        int getInt() throws IOException
+        {
+            this.require(Integer.BYTES);
+            return this.buffer.getInt();
+        }
+
+        long getVarLong() throws IOException
+        {
+            long result = 0L;
+            for (int shift = 0; shift < Long.SIZE; shift += 7)
+            {
+                byte next = this.getByte();
+                result |= (long) (next & 0x7F) << shift;
+                if (next >= 0)
+                {
+                    return result;
+                }
+                this.expect(Byte.BYTES);
+            }
+            throw new IOException("Variable length integer is longer than ten bytes");
+        }
+
+        void getBytes(byte[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.available(remaining, Byte.BYTES);
+                this.buffer.get(array, from, count);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void getShorts(short[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.available(remaining, Short.BYTES);
+                this.buffer.asShortBuffer().get(array, from, count);
+                this.advance(count, Short.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void getChars(char[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.available(remaining, Character.BYTES);
+                this.buffer.asCharBuffer().get(array, from, count);
+                this.advance(count, Character.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void getInts(int[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.available(remaining, Integer.BYTES);
+                this.buffer.asIntBuffer().get(array, from, count);
+                this.advance(count, Integer.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void getLongs(long[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.available(remaining, Long.BYTES);
+                this.buffer.asLongBuffer().get(array, from, count);
+                this.advance(count, Long.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void getFloats(float[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.available(remaining, Float.BYTES);
+                this.buffer.asFloatBuffer().get(array, from, count);
+                this.advance(count, Float.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+
+        void getDoubles(double[] array, int offset, int length) throws IOException
+        {
+            for (int from = offset, remaining = length; remaining > 0; )
+            {
+                int count = this.available(remaining, Double.BYTES);
+                this.buffer.asDoubleBuffer().get(array, from, count);
+                this.advance(count, Double.BYTES);
+                from += count;
+                remaining -= count;
+            }
+        }
+    }
+}
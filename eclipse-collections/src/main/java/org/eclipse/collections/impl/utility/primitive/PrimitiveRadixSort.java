@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.primitive;
+
+import java.util.Arrays;
+
+/**
+ * Least significant digit radix sorts for {@code int}, {@code long}, {@code float} and {@code double} arrays. The
+ * elements are distributed one byte at a time, so an {@code int} array takes at most four passes and a {@code long}
+ * array at most eight, whatever its length. Passes over a byte that is the same in every element are skipped, which
+ * makes arrays of values in a narrow range, such as sequential ids, cheaper still.
+ * <p>
+ * The sorts need a buffer as large as the range being sorted, and are faster than {@link Arrays#sort(long[])} for
+ * large arrays. Ranges shorter than {@link #RADIX_THRESHOLD} are sorted with {@link Arrays} instead. The order is the
+ * same as the one of {@link Arrays#sort(double[])}, so {@code -0.0} comes before {@code 0.0} and {@code NaN} comes
+ * last.
+ * <p>
+ * The {@code sortBy} methods sort an array of objects by a parallel array of keys. They are stable, so objects with
+ * equal keys keep their relative order, which is the same result as a merge sort with a comparator of the keys but
+ * without calling the comparator or boxing the keys.
+ *
+ * @since 12.0
+ */
+public final class PrimitiveRadixSort
+{
+    /**
+     * Ranges shorter than this are sorted with {@link Arrays}, which is faster than clearing and scanning the counts of
+     * every byte.
+     */
+    public static final int RADIX_THRESHOLD = 1024;
+
+    private static final int RADIX = 256;
+    private static final int MASK = RADIX - 1;
+
+    private PrimitiveRadixSort()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a key which orders {@code value} in the order of {@link Float#compare(float, float)} when the keys are
+     * compared as signed {@code int}s.
+     */
+    public static int sortableKey(float value)
+    {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a key which orders {@code value} in the order of {@link Double#compare(double, double)} when the keys are
+     * compared as signed {@code long}s.
+     */
+    public static long sortableKey(double value)
+    {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    public static void sort(int[] array, int fromIndex, int toIndex)
+    {
+        PrimitiveRadixSort.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            int key = array[i] ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < Integer.BYTES; digit++)
+            {
+                counts[digit][(key >>> (digit << 3)) & MASK]++;
+            }
+        }
+        int[] source = array;
+        int sourceOffset = fromIndex;
+        int[] target = new int[length];
+        int targetOffset = 0;
+        for (int digit = 0; digit < Integer.BYTES; digit++)
+        {
+            int shift = digit << 3;
+            int[] offsets = counts[digit];
+            if (offsets[((source[sourceOffset] ^ Integer.MIN_VALUE) >>> shift) & MASK] == length)
+            {
+                continue;
+            }
+            PrimitiveRadixSort.toOffsets(offsets, targetOffset);
+            for (int i = sourceOffset; i < sourceOffset + length; i++)
+            {
+                int value = source[i];
+                target[offsets[((value ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, 0, array, fromIndex, length);
+        }
+    }
+
+    public static void sort(long[] array, int fromIndex, int toIndex)
+    {
+        PrimitiveRadixSort.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            long key = array[i] ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++)
+            {
+                counts[digit][(int) (key >>> (digit << 3)) & MASK]++;
+            }
+        }
+        long[] source = array;
+        int sourceOffset = fromIndex;
+        long[] target = new long[length];
+        int targetOffset = 0;
+        for (int digit = 0; digit < Long.BYTES; digit++)
+        {
+            int shift = digit << 3;
+            int[] offsets = counts[digit];
+            if (offsets[(int) ((source[sourceOffset] ^ Long.MIN_VALUE) >>> shift) & MASK] == length)
+            {
+                continue;
+            }
+            PrimitiveRadixSort.toOffsets(offsets, targetOffset);
+            for (int i = sourceOffset; i < sourceOffset + length; i++)
+            {
+                long value = source[i];
+                target[offsets[(int) ((value ^ Long.MIN_VALUE) >>> shift) & MASK]++] = value;
+            }
+            long[] swap = source;
+            source = target;
+            target = swap;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, 0, array, fromIndex, length);
+        }
+    }
+
+    public static void sort(float[] array, int fromIndex, int toIndex)
+    {
+        PrimitiveRadixSort.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        // NaN has many bit patterns, which are kept as they are at the end of the range
+        int end = toIndex;
+        for (int i = end - 1; i >= fromIndex; i--)
+        {
+            float value = array[i];
+            if (value != value)
+            {
+                array[i] = array[--end];
+                array[end] = value;
+            }
+        }
+        int length = end - fromIndex;
+        if (length == 0)
+        {
+            return;
+        }
+        int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int i = fromIndex; i < end; i++)
+        {
+            int key = PrimitiveRadixSort.unsignedKey(array[i]);
+            for (int digit = 0; digit < Integer.BYTES; digit++)
+            {
+                counts[digit][(key >>> (digit << 3)) & MASK]++;
+            }
+        }
+        float[] source = array;
+        int sourceOffset = fromIndex;
+        float[] target = new float[length];
+        int targetOffset = 0;
+        for (int digit = 0; digit < Integer.BYTES; digit++)
+        {
+            int shift = digit << 3;
+            int[] offsets = counts[digit];
+            if (offsets[(PrimitiveRadixSort.unsignedKey(source[sourceOffset]) >>> shift) & MASK] == length)
+            {
+                continue;
+            }
+            PrimitiveRadixSort.toOffsets(offsets, targetOffset);
+            for (int i = sourceOffset; i < sourceOffset + length; i++)
+            {
+                float value = source[i];
+                target[offsets[(PrimitiveRadixSort.unsignedKey(value) >>> shift) & MASK]++] = value;
+            }
+            float[] swap = source;
+            source = target;
+            target = swap;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, 0, array, fromIndex, length);
+        }
+    }
+
+    public static void sort(double[] array, int fromIndex, int toIndex)
+    {
+        PrimitiveRadixSort.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        // NaN has many bit patterns, which are kept as they are at the end of the range
+        int end = toIndex;
+        for (int i = end - 1; i >= fromIndex; i--)
+        {
+            double value = array[i];
+            if (value != value)
+            {
+                array[i] = array[--end];
+                array[end] = value;
+            }
+        }
+        int length = end - fromIndex;
+        if (length == 0)
+        {
+            return;
+        }
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (int i = fromIndex; i < end; i++)
+        {
+            long key = PrimitiveRadixSort.unsignedKey(array[i]);
+            for (int digit = 0; digit < Long.BYTES; digit++)
+            {
+                counts[digit][(int) (key >>> (digit << 3)) & MASK]++;
+            }
+        }
+        double[] source = array;
+        int sourceOffset = fromIndex;
+        double[] target = new double[length];
+        int targetOffset = 0;
+        for (int digit = 0; digit < Long.BYTES; digit++)
+        {
+            int shift = digit << 3;
+            int[] offsets = counts[digit];
+            if (offsets[(int) (PrimitiveRadixSort.unsignedKey(source[sourceOffset]) >>> shift) & MASK] == length)
+            {
+                continue;
+            }
+            PrimitiveRadixSort.toOffsets(offsets, targetOffset);
+            for (int i = sourceOffset; i < sourceOffset + length; i++)
+            {
+                double value = source[i];
+                target[offsets[(int) (PrimitiveRadixSort.unsignedKey(value) >>> shift) & MASK]++] = value;
+            }
+            double[] swap = source;
+            source = target;
+            target = swap;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, 0, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Sorts {@code values} between {@code fromIndex} and {@code toIndex} by the signed order of the {@code keys} at the
+     * same indexes, which are sorted as well. The sort is stable.
+     */
+    public static void sortBy(int[] keys, Object[] values, int fromIndex, int toIndex)
+    {
+        PrimitiveRadixSort.checkRange(Math.min(keys.length, values.length), fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < 2)
+        {
+            return;
+        }
+        int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            int key = keys[i] ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < Integer.BYTES; digit++)
+            {
+                counts[digit][(key >>> (digit << 3)) & MASK]++;
+            }
+        }
+        int[] sourceKeys = keys;
+        Object[] sourceValues = values;
+        int sourceOffset = fromIndex;
+        int[] targetKeys = new int[length];
+        Object[] targetValues = new Object[length];
+        int targetOffset = 0;
+        for (int digit = 0; digit < Integer.BYTES; digit++)
+        {
+            int shift = digit << 3;
+            int[] offsets = counts[digit];
+            if (offsets[((sourceKeys[sourceOffset] ^ Integer.MIN_VALUE) >>> shift) & MASK] == length)
+            {
+                continue;
+            }
+            PrimitiveRadixSort.toOffsets(offsets, targetOffset);
+            for (int i = sourceOffset; i < sourceOffset + length; i++)
+            {
+                int key = sourceKeys[i];
+                int index = offsets[((key ^ Integer.MIN_VALUE) >>> shift) & MASK]++;
+                targetKeys[index] = key;
+                targetValues[index] = sourceValues[i];
+            }
+            int[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            Object[] swapValues = sourceValues;
+            sourceValues = targetValues;
+            targetValues = swapValues;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (sourceKeys != keys)
+        {
+            System.arraycopy(sourceKeys, 0, keys, fromIndex, length);
+            System.arraycopy(sourceValues, 0, values, fromIndex, length);
+        }
+    }
+
+    /**
+     * Sorts {@code values} between {@code fromIndex} and {@code toIndex} by the signed order of the {@code keys} at the
+     * same indexes, which are sorted as well. The sort is stable.
+     */
+    public static void sortBy(long[] keys, Object[] values, int fromIndex, int toIndex)
+    {
+        PrimitiveRadixSort.checkRange(Math.min(keys.length, values.length), fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < 2)
+        {
+            return;
+        }
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            long key = keys[i] ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++)
+            {
+                counts[digit][(int) (key >>> (digit << 3)) & MASK]++;
+            }
+        }
+        long[] sourceKeys = keys;
+        Object[] sourceValues = values;
+        int sourceOffset = fromIndex;
+        long[] targetKeys = new long[length];
+        Object[] targetValues = new Object[length];
+        int targetOffset = 0;
+        for (int digit = 0; digit < Long.BYTES; digit++)
+        {
+            int shift = digit << 3;
+            int[] offsets = counts[digit];
+            if (offsets[(int) ((sourceKeys[sourceOffset] ^ Long.MIN_VALUE) >>> shift) & MASK] == length)
+            {
+                continue;
+            }
+            PrimitiveRadixSort.toOffsets(offsets, targetOffset);
+            for (int i = sourceOffset; i < sourceOffset + length; i++)
+            {
+                long key = sourceKeys[i];
+                int index = offsets[(int) ((key ^ Long.MIN_VALUE) >>> shift) & MASK]++;
+                targetKeys[index] = key;
+                targetValues[index] = sourceValues[i];
+            }
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            Object[] swapValues = sourceValues;
+            sourceValues = targetValues;
+            targetValues = swapValues;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (sourceKeys != keys)
+        {
+            System.arraycopy(sourceKeys, 0, keys, fromIndex, length);
+            System.arraycopy(sourceValues, 0, values, fromIndex, length);
+        }
+    }
+
+    /**
+     * Returns the bits of a value which is not {@code NaN}, in an order where the unsigned comparison of the keys is the
+     * order of {@link Float#compare(float, float)}.
+     */
+    private static int unsignedKey(float value)
+    {
+        int bits = Float.floatToRawIntBits(value);
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the bits of a value which is not {@code NaN}, in an order where the unsigned comparison of the keys is the
+     * order of {@link Double#compare(double, double)}.
+     */
+    private static long unsignedKey(double value)
+    {
+        long bits = Double.doubleToRawLongBits(value);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Replaces the counts of every byte with the index where the first element with that byte goes.
+     */
+    private static void toOffsets(int[] counts, int start)
+    {
+        int offset = start;
+        for (int i = 0; i < RADIX; i++)
+        {
+            int count = counts[i];
+            counts[i] = offset;
+            offset += count;
+        }
+    }
+
+    private static void checkRange(int length, int fromIndex, int toIndex)
+    {
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ')');
+        }
+        if (fromIndex < 0)
+        {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length)
+        {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal.primitive;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The SIMD kernels behind {@link PrimitiveArrayIterate}, for Java 17 and above. They are enabled when the
+ * {@code jdk.incubator.vector} module is in the boot layer, which requires {@code --add-modules jdk.incubator.vector}.
+ * The kernels are in a nested class, so that the vector classes are only loaded when the module is present.
+ * <p>
+ * Every kernel processes whole vectors up to {@link VectorSpecies#loopBound(int)} and finishes the remaining elements
+ * with a scalar loop. The callers guarantee that {@code size} is at least {@link PrimitiveArrayIterate#VECTOR_THRESHOLD},
+ * which is larger than any vector length, so the min and max kernels can start from the first vector.
+ */
+final class VectorizedArrayIterate
+{
+    static final boolean ENABLED = VectorizedArrayIterate.isAvailable();
+
+    private VectorizedArrayIterate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    private static boolean isAvailable()
+    {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    static long sum(int[] items, int size)
+    {
+        return Kernels.sum(items, size);
+    }
+
+    static long sum(long[] items, int size)
+    {
+        return Kernels.sum(items, size);
+    }
+
+    static double sum(double[] items, int size)
+    {
+        return Kernels.sum(items, size);
+    }
+
+    static int min(int[] items, int size)
+    {
+        return Kernels.min(items, size);
+    }
+
+    static long min(long[] items, int size)
+    {
+        return Kernels.min(items, size);
+    }
+
+    static double min(double[] items, int size)
+    {
+        return Kernels.min(items, size);
+    }
+
+    static int max(int[] items, int size)
+    {
+        return Kernels.max(items, size);
+    }
+
+    static long max(long[] items, int size)
+    {
+        return Kernels.max(items, size);
+    }
+
+    static double max(double[] items, int size)
+    {
+        return Kernels.max(items, size);
+    }
+
+    static int indexOf(int[] items, int size, int value)
+    {
+        return Kernels.indexOf(items, size, value);
+    }
+
+    static int indexOf(long[] items, int size, long value)
+    {
+        return Kernels.indexOf(items, size, value);
+    }
+
+    static int indexOf(double[] items, int size, double value)
+    {
+        return Kernels.indexOf(items, size, value);
+    }
+
+    static long dotProduct(int[] left, int[] right, int size)
+    {
+        return Kernels.dotProduct(left, right, size);
+    }
+
+    static long dotProduct(long[] left, long[] right, int size)
+    {
+        return Kernels.dotProduct(left, right, size);
+    }
+
+    static double dotProduct(double[] left, double[] right, int size)
+    {
+        return Kernels.dotProduct(left, right, size);
+    }
+
+    private static final class Kernels
+    {
+        private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+        // Same shape as INT_SPECIES, so an int vector widens into exactly two of these
+        private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+        private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+        private Kernels()
+        {
+            throw new AssertionError("Suppress default constructor for noninstantiability");
+        }
+
+        private static LongVector widen(IntVector vector, int part)
+        {
+            return (LongVector) vector.convertShape(VectorOperators.I2L, LONG_SPECIES, part);
+        }
+
+        static long sum(int[] items, int size)
+        {
+            LongVector accumulator = LongVector.zero(LONG_SPECIES);
+            int bound = INT_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += INT_SPECIES.length())
+            {
+                IntVector vector = IntVector.fromArray(INT_SPECIES, items, i);
+                accumulator = accumulator.add(Kernels.widen(vector, 0)).add(Kernels.widen(vector, 1));
+            }
+            long result = accumulator.reduceLanes(VectorOperators.ADD);
+            for (; i < size; i++)
+            {
+                result += items[i];
+            }
+            return result;
+        }
+
+        static long sum(long[] items, int size)
+        {
+            LongVector accumulator = LongVector.zero(LONG_SPECIES);
+            int bound = LONG_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += LONG_SPECIES.length())
+            {
+                accumulator = accumulator.add(LongVector.fromArray(LONG_SPECIES, items, i));
+            }
+            long result = accumulator.reduceLanes(VectorOperators.ADD);
+            for (; i < size; i++)
+            {
+                result += items[i];
+            }
+            return result;
+        }
+
+        /**
+         * Keeps a Kahan compensated sum in every lane, then adds the lanes and the remaining elements with the scalar
+         * Kahan summation.
+         */
+        static double sum(double[] items, int size)
+        {
+            DoubleVector sum = DoubleVector.zero(DOUBLE_SPECIES);
+            DoubleVector compensation = DoubleVector.zero(DOUBLE_SPECIES);
+            int bound = DOUBLE_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += DOUBLE_SPECIES.length())
+            {
+                DoubleVector adjustedValue = DoubleVector.fromArray(DOUBLE_SPECIES, items, i).sub(compensation);
+                DoubleVector nextSum = sum.add(adjustedValue);
+                compensation = nextSum.sub(sum).sub(adjustedValue);
+                sum = nextSum;
+            }
+            double[] sums = sum.toArray();
+            double[] compensations = compensation.toArray();
+            double result = 0.0;
+            double resultCompensation = 0.0;
+            for (int lane = 0; lane < sums.length; lane++)
+            {
+                double adjustedValue = sums[lane] - compensations[lane] - resultCompensation;
+                double nextSum = result + adjustedValue;
+                resultCompensation = nextSum - result - adjustedValue;
+                result = nextSum;
+            }
+            for (; i < size; i++)
+            {
+                double adjustedValue = items[i] - resultCompensation;
+                double nextSum = result + adjustedValue;
+                resultCompensation = nextSum - result - adjustedValue;
+                result = nextSum;
+            }
+            return result;
+        }
+
+        static int min(int[] items, int size)
+        {
+            IntVector accumulator = IntVector.fromArray(INT_SPECIES, items, 0);
+            int bound = INT_SPECIES.loopBound(size);
+            int i = INT_SPECIES.length();
+            for (; i < bound; i += INT_SPECIES.length())
+            {
+                accumulator = accumulator.min(IntVector.fromArray(INT_SPECIES, items, i));
+            }
+            int result = accumulator.reduceLanes(VectorOperators.MIN);
+            for (; i < size; i++)
+            {
+                result = Math.min(result, items[i]);
+            }
+            return result;
+        }
+
+        static long min(long[] items, int size)
+        {
+            LongVector accumulator = LongVector.fromArray(LONG_SPECIES, items, 0);
+            int bound = LONG_SPECIES.loopBound(size);
+            int i = LONG_SPECIES.length();
+            for (; i < bound; i += LONG_SPECIES.length())
+            {
+                accumulator = accumulator.min(LongVector.fromArray(LONG_SPECIES, items, i));
+            }
+            long result = accumulator.reduceLanes(VectorOperators.MIN);
+            for (; i < size; i++)
+            {
+                result = Math.min(result, items[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Follows {@link Math#min(double, double)}, so any {@code NaN} makes the result {@code NaN}, which the caller
+         * handles with the scalar loop.
+         */
+        static double min(double[] items, int size)
+        {
+            DoubleVector accumulator = DoubleVector.fromArray(DOUBLE_SPECIES, items, 0);
+            int bound = DOUBLE_SPECIES.loopBound(size);
+            int i = DOUBLE_SPECIES.length();
+            for (; i < bound; i += DOUBLE_SPECIES.length())
+            {
+                accumulator = accumulator.min(DoubleVector.fromArray(DOUBLE_SPECIES, items, i));
+            }
+            double result = accumulator.reduceLanes(VectorOperators.MIN);
+            for (; i < size; i++)
+            {
+                result = Math.min(result, items[i]);
+            }
+            return result;
+        }
+
+        static int max(int[] items, int size)
+        {
+            IntVector accumulator = IntVector.fromArray(INT_SPECIES, items, 0);
+            int bound = INT_SPECIES.loopBound(size);
+            int i = INT_SPECIES.length();
+            for (; i < bound; i += INT_SPECIES.length())
+            {
+                accumulator = accumulator.max(IntVector.fromArray(INT_SPECIES, items, i));
+            }
+            int result = accumulator.reduceLanes(VectorOperators.MAX);
+            for (; i < size; i++)
+            {
+                result = Math.max(result, items[i]);
+            }
+            return result;
+        }
+
+        static long max(long[] items, int size)
+        {
+            LongVector accumulator = LongVector.fromArray(LONG_SPECIES, items, 0);
+            int bound = LONG_SPECIES.loopBound(size);
+            int i = LONG_SPECIES.length();
+            for (; i < bound; i += LONG_SPECIES.length())
+            {
+                accumulator = accumulator.max(LongVector.fromArray(LONG_SPECIES, items, i));
+            }
+            long result = accumulator.reduceLanes(VectorOperators.MAX);
+            for (; i < size; i++)
+            {
+                result = Math.max(result, items[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Follows {@link Math#max(double, double)}, which orders {@code -0.0} before {@code 0.0} and {@code NaN} after
+         * everything else, the same as {@link Double#compare(double, double)}.
+         */
+        static double max(double[] items, int size)
+        {
+            DoubleVector accumulator = DoubleVector.fromArray(DOUBLE_SPECIES, items, 0);
+            int bound = DOUBLE_SPECIES.loopBound(size);
+            int i = DOUBLE_SPECIES.length();
+            for (; i < bound; i += DOUBLE_SPECIES.length())
+            {
+                accumulator = accumulator.max(DoubleVector.fromArray(DOUBLE_SPECIES, items, i));
+            }
+            double result = accumulator.reduceLanes(VectorOperators.MAX);
+            for (; i < size; i++)
+            {
+                result = Math.max(result, items[i]);
+            }
+            return result;
+        }
+
+        static int indexOf(int[] items, int size, int value)
+        {
+            IntVector target = IntVector.broadcast(INT_SPECIES, value);
+            int bound = INT_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += INT_SPECIES.length())
+            {
+                VectorMask<Integer> mask = IntVector.fromArray(INT_SPECIES, items, i).eq(target);
+                if (mask.anyTrue())
+                {
+                    return i + mask.firstTrue();
+                }
+            }
+            for (; i < size; i++)
+            {
+                if (items[i] == value)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        static int indexOf(long[] items, int size, long value)
+        {
+            LongVector target = LongVector.broadcast(LONG_SPECIES, value);
+            int bound = LONG_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += LONG_SPECIES.length())
+            {
+                VectorMask<Long> mask = LongVector.fromArray(LONG_SPECIES, items, i).eq(target);
+                if (mask.anyTrue())
+                {
+                    return i + mask.firstTrue();
+                }
+            }
+            for (; i < size; i++)
+            {
+                if (items[i] == value)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Compares the raw bits, which matches {@link Double#compare(double, double)} for any {@code value} other than
+         * {@code NaN}. The caller searches for {@code NaN} with the scalar loop.
+         */
+        static int indexOf(double[] items, int size, double value)
+        {
+            long bits = Double.doubleToRawLongBits(value);
+            int bound = DOUBLE_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += DOUBLE_SPECIES.length())
+            {
+                VectorMask<Long> mask = DoubleVector.fromArray(DOUBLE_SPECIES, items, i)
+                        .reinterpretAsLongs()
+                        .eq(bits);
+                if (mask.anyTrue())
+                {
+                    return i + mask.firstTrue();
+                }
+            }
+            for (; i < size; i++)
+            {
+                if (Double.doubleToRawLongBits(items[i]) == bits)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        static long dotProduct(int[] left, int[] right, int size)
+        {
+            LongVector accumulator = LongVector.zero(LONG_SPECIES);
+            int bound = INT_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += INT_SPECIES.length())
+            {
+                IntVector leftVector = IntVector.fromArray(INT_SPECIES, left, i);
+                IntVector rightVector = IntVector.fromArray(INT_SPECIES, right, i);
+                accumulator = accumulator
+                        .add(Kernels.widen(leftVector, 0).mul(Kernels.widen(rightVector, 0)))
+                        .add(Kernels.widen(leftVector, 1).mul(Kernels.widen(rightVector, 1)));
+            }
+            long result = accumulator.reduceLanes(VectorOperators.ADD);
+            for (; i < size; i++)
+            {
+                result += (long) left[i] * right[i];
+            }
+            return result;
+        }
+
+        static long dotProduct(long[] left, long[] right, int size)
+        {
+            LongVector accumulator = LongVector.zero(LONG_SPECIES);
+            int bound = LONG_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += LONG_SPECIES.length())
+            {
+                LongVector product = LongVector.fromArray(LONG_SPECIES, left, i)
+                        .mul(LongVector.fromArray(LONG_SPECIES, right, i));
+                accumulator = accumulator.add(product);
+            }
+            long result = accumulator.reduceLanes(VectorOperators.ADD);
+            for (; i < size; i++)
+            {
+                result += left[i] * right[i];
+            }
+            return result;
+        }
+
+        static double dotProduct(double[] left, double[] right, int size)
+        {
+            DoubleVector accumulator = DoubleVector.zero(DOUBLE_SPECIES);
+            int bound = DOUBLE_SPECIES.loopBound(size);
+            int i = 0;
+            for (; i < bound; i += DOUBLE_SPECIES.length())
+            {
+                DoubleVector product = DoubleVector.fromArray(DOUBLE_SPECIES, left, i)
+                        .mul(DoubleVector.fromArray(DOUBLE_SPECIES, right, i));
+                accumulator = accumulator.add(product);
+            }
+            double result = accumulator.reduceLanes(VectorOperators.ADD);
+            for (; i < size; i++)
+            {
+                result += left[i] * right[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Keys 1 and 15 share a slot of the default table, and 15 is in front of 1 in the chain. One actor increments 15 in
+ * place while the other removes 1, which copies the entry for 15, so the increment has to survive the copy.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentIntIntHashMapAddToValueDuringRemoveTest
+{
+    private final ConcurrentIntIntHashMap map = ConcurrentIntIntHashMap.newMap().withKeyValue(1, 1).withKeyValue(15, 0);
+
+    @Actor
+    public void increment()
+    {
+        this.map.addToValue(15, 1);
+    }
+
+    @Actor
+    public void remove()
+    {
+        this.map.removeKey(1);
+    }
+
+    @Arbiter
+    public void after(II_Result r)
+    {
+        r.r1 = this.map.get(15);
+        r.r2 = this.map.size();
+    }
+}
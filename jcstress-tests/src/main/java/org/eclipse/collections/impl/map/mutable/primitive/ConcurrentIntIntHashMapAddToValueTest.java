@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+@JCStressTest
+@Outcome(id = "3", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentIntIntHashMapAddToValueTest
+{
+    private final ConcurrentIntIntHashMap map = new ConcurrentIntIntHashMap();
+
+    @Actor
+    public void addOne()
+    {
+        this.map.addToValue(1, 1);
+    }
+
+    @Actor
+    public void addTwo()
+    {
+        this.map.addToValue(1, 2);
+    }
+
+    @Arbiter
+    public void after(I_Result r)
+    {
+        r.r1 = this.map.get(1);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * One actor increments an existing key while the other inserts enough keys to resize the table, so the increment has to
+ * survive the entry being copied to the new table.
+ */
+@JCStressTest
+@Outcome(id = "2, 16", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentIntIntHashMapUpdateValueDuringResizeTest
+{
+    private final ConcurrentIntIntHashMap map = ConcurrentIntIntHashMap.newWithKeysValues(0, 1);
+
+    @Actor
+    public void increment()
+    {
+        this.map.updateValue(0, 0, value -> value + 1);
+    }
+
+    @Actor
+    public void grow()
+    {
+        for (int i = 1; i < 16; i++)
+        {
+            this.map.put(i, i);
+        }
+    }
+
+    @Arbiter
+    public void after(II_Result r)
+    {
+        r.r1 = this.map.get(0);
+        r.r2 = this.map.size();
+    }
+}
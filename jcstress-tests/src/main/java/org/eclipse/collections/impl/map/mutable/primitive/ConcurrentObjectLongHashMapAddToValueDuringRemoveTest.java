@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+/**
+ * Keys 1 and 35 share a slot of the default table, and 35 is in front of 1 in the chain. One actor increments 35 in
+ * place while the other removes 1, which copies the entry for 35, so the increment has to survive the copy.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentObjectLongHashMapAddToValueDuringRemoveTest
+{
+    private final ConcurrentObjectLongHashMap<Integer> map = ConcurrentObjectLongHashMap.<Integer>newMap().withKeyValue(1, 1L).withKeyValue(35, 0L);
+
+    @Actor
+    public void increment()
+    {
+        this.map.addToValue(35, 1L);
+    }
+
+    @Actor
+    public void remove()
+    {
+        this.map.removeKey(1);
+    }
+
+    @Arbiter
+    public void after(JJ_Result r)
+    {
+        r.r1 = this.map.get(35);
+        r.r2 = this.map.size();
+    }
+}
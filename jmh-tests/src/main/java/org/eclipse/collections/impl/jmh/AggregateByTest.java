@@ -300,6 +300,36 @@ public class AggregateByTest
         return result;
     }
 
+    @Benchmark
+    public MutableMap<Product, ImmutableMarketValueStatistics> aggregateByProduct_parallel_eager_merging_ec()
+    {
+        MutableMap<Product, ImmutableMarketValueStatistics> result =
+                ParallelIterate.aggregateBy(
+                        this.ecPositions,
+                        Position::getProduct,
+                        ImmutableMarketValueStatistics::new,
+                        ImmutableMarketValueStatistics::add,
+                        ImmutableMarketValueStatistics::merge,
+                        ParallelIterate.getDefaultContext());
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    @Benchmark
+    public MutableMap<Account, ImmutableMarketValueStatistics> aggregateByAccount_parallel_eager_merging_ec()
+    {
+        MutableMap<Account, ImmutableMarketValueStatistics> result =
+                ParallelIterate.aggregateBy(
+                        this.ecPositions,
+                        Position::getAccount,
+                        ImmutableMarketValueStatistics::new,
+                        ImmutableMarketValueStatistics::add,
+                        ImmutableMarketValueStatistics::merge,
+                        ParallelIterate.getDefaultContext());
+        Assert.assertNotNull(result);
+        return result;
+    }
+
     @Benchmark
     public MapIterable<Product, ImmutableMarketValueStatistics> aggregateByProduct_serial_lazy_ec()
     {
@@ -477,6 +507,36 @@ public class AggregateByTest
         return result;
     }
 
+    @Benchmark
+    public MutableMap<Product, MarketValueStatistics> aggregateInPlaceByProduct_parallel_eager_merging_ec()
+    {
+        MutableMap<Product, MarketValueStatistics> result =
+                ParallelIterate.aggregateInPlaceBy(
+                        this.ecPositions,
+                        Position::getProduct,
+                        MarketValueStatistics::new,
+                        MarketValueStatistics::accept,
+                        MarketValueStatistics::combine,
+                        ParallelIterate.getDefaultContext());
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    @Benchmark
+    public MutableMap<Account, MarketValueStatistics> aggregateInPlaceByAccount_parallel_eager_merging_ec()
+    {
+        MutableMap<Account, MarketValueStatistics> result =
+                ParallelIterate.aggregateInPlaceBy(
+                        this.ecPositions,
+                        Position::getAccount,
+                        MarketValueStatistics::new,
+                        MarketValueStatistics::accept,
+                        MarketValueStatistics::combine,
+                        ParallelIterate.getDefaultContext());
+        Assert.assertNotNull(result);
+        return result;
+    }
+
     @Benchmark
     public MapIterable<Product, MarketValueStatistics> aggregateInPlaceByProduct_parallel_lazy_ec()
     {
@@ -580,6 +640,15 @@ public class AggregateByTest
                     Math.max(this.max, marketValue));
         }
 
+        public ImmutableMarketValueStatistics merge(ImmutableMarketValueStatistics other)
+        {
+            return new ImmutableMarketValueStatistics(
+                    this.count + other.count,
+                    this.sum + other.sum,
+                    Math.min(this.min, other.min),
+                    Math.max(this.max, other.max));
+        }
+
         public static ImmutableMarketValueStatistics getZero()
         {
             return ZERO;
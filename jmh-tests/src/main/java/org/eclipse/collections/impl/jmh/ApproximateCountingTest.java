@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.api.tuple.primitive.ObjectLongPair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.bag.sketch.HeavyHitterBag;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.sketch.HyperLogLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares counting a skewed stream of keys exactly, with a {@link HashBag} and a {@link UnifiedSet}, and
+ * approximately, with a {@link HeavyHitterBag} and a {@link HyperLogLog}. The accuracy of the sketches on the same
+ * kind of stream is checked by their unit tests.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ApproximateCountingTest
+{
+    @Param({"10000", "1000000"})
+    public int distinct;
+
+    private final MutableList<String> keys = FastList.newList();
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 1_000_000; i++)
+        {
+            this.keys.add("/page/" + (int) (this.distinct * Math.pow(random.nextDouble(), 4)));
+        }
+    }
+
+    @Benchmark
+    public MutableList<ObjectIntPair<String>> topOccurrences_hashBag()
+    {
+        HashBag<String> bag = HashBag.newBag();
+        this.keys.each(bag::add);
+        return bag.topOccurrences(10);
+    }
+
+    @Benchmark
+    public MutableList<ObjectLongPair<String>> topOccurrences_heavyHitterBag()
+    {
+        HeavyHitterBag<String> bag = HeavyHitterBag.newBag(1000);
+        this.keys.each(bag::add);
+        return bag.topOccurrences(10);
+    }
+
+    @Benchmark
+    public MutableList<ObjectLongPair<String>> topOccurrences_heavyHitterBag_merged()
+    {
+        HeavyHitterBag<String> left = HeavyHitterBag.newBag(1000);
+        HeavyHitterBag<String> right = HeavyHitterBag.newBag(1000);
+        this.keys.forEachWithIndex((each, index) -> (index % 2 == 0 ? left : right).add(each));
+        return left.merge(right).topOccurrences(10);
+    }
+
+    @Benchmark
+    public long distinct_unifiedSet()
+    {
+        return this.keys.toSet().size();
+    }
+
+    @Benchmark
+    public long distinct_hyperLogLog()
+    {
+        return this.keys.approximateDistinct();
+    }
+}
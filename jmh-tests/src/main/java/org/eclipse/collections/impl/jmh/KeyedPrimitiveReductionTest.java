@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.IntLongMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
+import org.eclipse.collections.impl.jmh.domain.Account;
+import org.eclipse.collections.impl.jmh.domain.Position;
+import org.eclipse.collections.impl.jmh.domain.Positions;
+import org.eclipse.collections.impl.jmh.domain.Product;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the keyed primitive reductions of {@link ParallelIterate}, which reduce into a primitive map per batch,
+ * with the equivalent parallel streams and {@link ParallelIterate#aggregateBy}. See also {@link SumByDoubleTest} and
+ * {@link AggregateByTest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class KeyedPrimitiveReductionTest
+{
+    private final Positions positions = new Positions().shuffle();
+
+    @Benchmark
+    public Map<Account, Long> countByAccount_parallel_lazy_jdk()
+    {
+        return this.positions.getJdkPositions().parallelStream().collect(
+                Collectors.groupingBy(Position::getAccount, Collectors.counting()));
+    }
+
+    @Benchmark
+    public MutableMap<Account, Long> countByAccount_parallel_eager_aggregateBy_ec()
+    {
+        return ParallelIterate.aggregateBy(
+                this.positions.getEcPositions(),
+                Position::getAccount,
+                () -> 0L,
+                (count, each) -> count + 1L);
+    }
+
+    @Benchmark
+    public ObjectLongMap<Account> countByAccount_parallel_eager_ec()
+    {
+        return ParallelIterate.countBy(this.positions.getEcPositions(), Position::getAccount);
+    }
+
+    @Test
+    public void countByAccount_ec()
+    {
+        ObjectLongMap<Account> counts = this.countByAccount_parallel_eager_ec();
+        Map<Account, Long> expected = this.countByAccount_parallel_lazy_jdk();
+        Assert.assertEquals(expected.size(), counts.size());
+        expected.forEach((account, count) -> Assert.assertEquals(count.longValue(), counts.get(account)));
+    }
+
+    @Benchmark
+    public Map<Product, Optional<Position>> maxByProduct_parallel_lazy_jdk()
+    {
+        return this.positions.getJdkPositions().parallelStream().collect(
+                Collectors.groupingBy(
+                        Position::getProduct,
+                        Collectors.maxBy((left, right) -> Double.compare(left.getMarketValue(), right.getMarketValue()))));
+    }
+
+    @Benchmark
+    public MutableMap<Product, Double> maxByProduct_parallel_eager_aggregateBy_ec()
+    {
+        return ParallelIterate.aggregateBy(
+                this.positions.getEcPositions(),
+                Position::getProduct,
+                () -> Double.NEGATIVE_INFINITY,
+                (max, each) -> Math.max(max, each.getMarketValue()));
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<Product> maxByProduct_parallel_eager_ec()
+    {
+        return ParallelIterate.maxByDouble(this.positions.getEcPositions(), Position::getProduct, Position::getMarketValue);
+    }
+
+    @Test
+    public void maxByProduct_ec()
+    {
+        ObjectDoubleMap<Product> maxima = this.maxByProduct_parallel_eager_ec();
+        MutableMap<Product, Double> expected = this.maxByProduct_parallel_eager_aggregateBy_ec();
+        Assert.assertEquals(expected.size(), maxima.size());
+        expected.forEachKeyValue((product, max) -> Assert.assertEquals(max, maxima.get(product), 0.0));
+    }
+
+    @Benchmark
+    public Map<Account, DoubleSummaryStatistics> summarizeByAccount_parallel_lazy_jdk()
+    {
+        return this.positions.getJdkPositions().parallelStream().collect(
+                Collectors.groupingBy(
+                        Position::getAccount,
+                        Collectors.summarizingDouble(Position::getMarketValue)));
+    }
+
+    @Benchmark
+    public MutableMap<Account, DoubleSummaryStatistics> summarizeByAccount_parallel_eager_ec()
+    {
+        return ParallelIterate.summarizeByDouble(this.positions.getEcPositions(), Position::getAccount, Position::getMarketValue);
+    }
+
+    @Test
+    public void summarizeByAccount_ec()
+    {
+        MutableMap<Account, DoubleSummaryStatistics> statistics = this.summarizeByAccount_parallel_eager_ec();
+        Map<Account, DoubleSummaryStatistics> expected = this.summarizeByAccount_parallel_lazy_jdk();
+        Assert.assertEquals(expected.size(), statistics.size());
+        expected.forEach((account, each) ->
+        {
+            Assert.assertEquals(each.getCount(), statistics.get(account).getCount());
+            Assert.assertEquals(each.getSum(), statistics.get(account).getSum(), 0.001);
+            Assert.assertEquals(each.getMax(), statistics.get(account).getMax(), 0.0);
+        });
+    }
+
+    @Benchmark
+    public ObjectLongMap<Integer> countByQuantity_parallel_eager_boxed_ec()
+    {
+        return ParallelIterate.countBy(this.positions.getEcPositions(), Position::getQuantity);
+    }
+
+    @Benchmark
+    public IntLongMap countByQuantity_parallel_eager_ec()
+    {
+        return ParallelIterate.countByIntKey(this.positions.getEcPositions(), Position::getQuantity);
+    }
+
+    @Test
+    public void countByQuantity_ec()
+    {
+        IntLongMap counts = this.countByQuantity_parallel_eager_ec();
+        ObjectLongMap<Integer> expected = this.countByQuantity_parallel_eager_boxed_ec();
+        Assert.assertEquals(expected.size(), counts.size());
+        expected.forEachKeyValue((quantity, count) -> Assert.assertEquals(count, counts.get(quantity)));
+    }
+}
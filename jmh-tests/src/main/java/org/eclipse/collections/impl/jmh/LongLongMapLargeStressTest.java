@@ -21,6 +21,7 @@ import org.eclipse.collections.api.set.primitive.MutableLongSet;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.RobinHoodLongLongHashMap;
 import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -50,6 +51,7 @@ public class LongLongMapLargeStressTest
     public boolean fullyRandom;
     private LongLongMap longLongKoloboke;
     private MutableLongLongMap longLongEc;
+    private MutableLongLongMap longLongRobinHood;
     private long[] ecLongKeysForMap;
     private long[] kolobokeLongKeysForMap;
 
@@ -75,6 +77,7 @@ public class LongLongMapLargeStressTest
     {
         this.longLongKoloboke = HashLongLongMaps.newMutableMap(MAP_SIZE);
         this.longLongEc = new LongLongHashMap(MAP_SIZE);
+        this.longLongRobinHood = new RobinHoodLongLongHashMap(MAP_SIZE);
 
         Random random = new Random(0x123456789ABCDL);
 
@@ -95,6 +98,7 @@ public class LongLongMapLargeStressTest
         {
             this.longLongKoloboke.put(this.kolobokeLongKeysForMap[i], 5);
             this.longLongEc.put(this.ecLongKeysForMap[i], 5);
+            this.longLongRobinHood.put(this.ecLongKeysForMap[i], 5);
         }
 
         this.shuffle(this.ecLongKeysForMap, random);
@@ -259,6 +263,96 @@ public class LongLongMapLargeStressTest
         }
     }
 
+    @Benchmark
+    public void robinHoodGet()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                if (this.longLongRobinHood.get(this.ecLongKeysForMap[i]) == 0)
+                {
+                    throw new AssertionError(this.ecLongKeysForMap[i] + " not in map");
+                }
+            }
+            if (this.longLongRobinHood.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + this.longLongRobinHood.size());
+            }
+        }
+    }
+
+    @Benchmark
+    public void robinHoodPut()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            MutableLongLongMap newMap = new RobinHoodLongLongHashMap(MAP_SIZE);
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                newMap.put(this.ecLongKeysForMap[i], 4);
+            }
+            if (newMap.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + newMap.size());
+            }
+        }
+    }
+
+    @Benchmark
+    public void robinHoodRemove()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            MutableLongLongMap newMap = new RobinHoodLongLongHashMap(this.longLongRobinHood);
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                newMap.remove(this.ecLongKeysForMap[i]);
+            }
+            if (newMap.notEmpty())
+            {
+                throw new AssertionError("size is " + newMap.size());
+            }
+        }
+    }
+
+    @Benchmark
+    public void ecChurn()
+    {
+        this.churn(new LongLongHashMap(this.longLongEc));
+    }
+
+    @Benchmark
+    public void robinHoodChurn()
+    {
+        this.churn(new RobinHoodLongLongHashMap(this.longLongRobinHood));
+    }
+
+    /**
+     * Removes every key and puts it back straight away, interleaved with lookups of the keys still in the map, which is
+     * the pattern that fills a linear probing table with removed sentinels.
+     */
+    private void churn(MutableLongLongMap map)
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                long key = this.ecLongKeysForMap[i];
+                map.remove(key);
+                if (map.get(this.ecLongKeysForMap[KEY_COUNT - 1 - i]) == 0)
+                {
+                    throw new AssertionError(this.ecLongKeysForMap[KEY_COUNT - 1 - i] + " not in map");
+                }
+                map.put(key, 6);
+            }
+            if (map.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + map.size());
+            }
+        }
+    }
+
     public void shuffle(long[] array, Random rnd)
     {
         for (int i = array.length; i > 1; i--)
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.RobinHoodLongHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class LongSetLargeStressTest
+{
+    private static final int LOOP_COUNT = 1;
+    private static final int KEY_COUNT = 400_000;
+    private static final int SET_SIZE = 1_000_000;
+
+    @Param({"true", "false"})
+    public boolean fullyRandom;
+    private MutableLongSet longEc;
+    private MutableLongSet longRobinHood;
+    private long[] ecLongKeysForSet;
+
+    private int ecIndex(int element)
+    {
+        return this.mask(element);
+    }
+
+    private int mask(int spread)
+    {
+        return spread & ((1 << 20) - 1);
+    }
+
+    @Setup
+    public void setUp()
+    {
+        this.longEc = new LongHashSet(SET_SIZE);
+        this.longRobinHood = new RobinHoodLongHashSet(SET_SIZE);
+
+        Random random = new Random(0x123456789ABCDL);
+
+        int number = 23;
+        int lower = Integer.MIN_VALUE;
+        int upper = Integer.MAX_VALUE;
+
+        this.ecLongKeysForSet = this.fullyRandom
+                ? this.getRandomKeys(random).toArray()
+                : this.getECArray(number, lower, upper, random);
+
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.longEc.add(this.ecLongKeysForSet[i]);
+            this.longRobinHood.add(this.ecLongKeysForSet[i]);
+        }
+
+        this.shuffle(this.ecLongKeysForSet, random);
+    }
+
+    private MutableLongSet getRandomKeys(Random random)
+    {
+        MutableLongSet set = new LongHashSet(KEY_COUNT);
+        while (set.size() < KEY_COUNT)
+        {
+            set.add(random.nextLong());
+        }
+        return set;
+    }
+
+    protected long[] getECArray(int number, int lower, int upper, Random random)
+    {
+        long[] ecCollisions = this.getECSequenceCollisions(number, lower, upper).toArray();
+        this.shuffle(ecCollisions, random);
+        return ecCollisions;
+    }
+
+    private MutableLongList getECSequenceCollisions(int number, int lower, int upper)
+    {
+        MutableLongList ecCollidingNumbers = new LongArrayList();
+        for (int i = lower; i < upper && ecCollidingNumbers.size() < KEY_COUNT; i++)
+        {
+            int index = this.ecIndex(i);
+            if (index >= number && index <= number + 100)
+            {
+                ecCollidingNumbers.add(i);
+            }
+        }
+        return ecCollidingNumbers;
+    }
+
+    @Benchmark
+    public void ecContains()
+    {
+        this.contains(this.longEc);
+    }
+
+    @Benchmark
+    public void robinHoodContains()
+    {
+        this.contains(this.longRobinHood);
+    }
+
+    private void contains(MutableLongSet set)
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                if (!set.contains(this.ecLongKeysForSet[i]))
+                {
+                    throw new AssertionError(this.ecLongKeysForSet[i] + " not in set");
+                }
+            }
+            if (set.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + set.size());
+            }
+        }
+    }
+
+    @Benchmark
+    public void ecAdd()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            this.add(new LongHashSet(SET_SIZE));
+        }
+    }
+
+    @Benchmark
+    public void robinHoodAdd()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            this.add(new RobinHoodLongHashSet(SET_SIZE));
+        }
+    }
+
+    private void add(MutableLongSet newSet)
+    {
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            newSet.add(this.ecLongKeysForSet[i]);
+        }
+        if (newSet.size() != KEY_COUNT)
+        {
+            throw new AssertionError("size is " + newSet.size());
+        }
+    }
+
+    @Benchmark
+    public void ecRemove()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            this.remove(new LongHashSet(this.longEc));
+        }
+    }
+
+    @Benchmark
+    public void robinHoodRemove()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            this.remove(new RobinHoodLongHashSet(this.longRobinHood));
+        }
+    }
+
+    private void remove(MutableLongSet newSet)
+    {
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            newSet.remove(this.ecLongKeysForSet[i]);
+        }
+        if (newSet.notEmpty())
+        {
+            throw new AssertionError("size is " + newSet.size());
+        }
+    }
+
+    @Benchmark
+    public void ecChurn()
+    {
+        this.churn(new LongHashSet(this.longEc));
+    }
+
+    @Benchmark
+    public void robinHoodChurn()
+    {
+        this.churn(new RobinHoodLongHashSet(this.longRobinHood));
+    }
+
+    /**
+     * Removes every element and adds it back straight away, interleaved with lookups of the elements still in the set,
+     * which is the pattern that fills a linear probing table with removed sentinels.
+     */
+    private void churn(MutableLongSet set)
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                long element = this.ecLongKeysForSet[i];
+                set.remove(element);
+                if (!set.contains(this.ecLongKeysForSet[KEY_COUNT - 1 - i]))
+                {
+                    throw new AssertionError(this.ecLongKeysForSet[KEY_COUNT - 1 - i] + " not in set");
+                }
+                set.add(element);
+            }
+            if (set.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + set.size());
+            }
+        }
+    }
+
+    public void shuffle(long[] array, Random rnd)
+    {
+        for (int i = array.length; i > 1; i--)
+        {
+            LongSetLargeStressTest.swap(array, i - 1, rnd.nextInt(i));
+        }
+    }
+
+    private static void swap(long[] arr, int i, int j)
+    {
+        long tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+}
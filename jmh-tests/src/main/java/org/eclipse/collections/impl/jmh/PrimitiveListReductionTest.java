@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.IntSummaryStatistics;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reductions and searches of the primitive array lists with the equivalent scalar loops over an array.
+ * The lists use SIMD instructions on Java 17 and above when the benchmarks are run from the shaded jar with
+ * {@code -jvmArgsAppend --add-modules=jdk.incubator.vector}. Without that option both variants run the same scalar
+ * loops, which gives the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PrimitiveListReductionTest
+{
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private IntArrayList intList;
+    private LongArrayList longList;
+    private DoubleArrayList doubleList;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.ints = new int[this.size];
+        this.longs = new long[this.size];
+        this.doubles = new double[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.ints[i] = random.nextInt(1_000_000);
+            this.longs[i] = random.nextLong();
+            this.doubles[i] = random.nextDouble();
+        }
+        this.intList = IntArrayList.newListWith(this.ints);
+        this.longList = LongArrayList.newListWith(this.longs);
+        this.doubleList = DoubleArrayList.newListWith(this.doubles);
+    }
+
+    @Benchmark
+    public long sumInt_scalar()
+    {
+        long result = 0L;
+        for (int each : this.ints)
+        {
+            result += each;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long sumInt_list()
+    {
+        return this.intList.sum();
+    }
+
+    @Benchmark
+    public long sumLong_scalar()
+    {
+        long result = 0L;
+        for (long each : this.longs)
+        {
+            result += each;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long sumLong_list()
+    {
+        return this.longList.sum();
+    }
+
+    @Benchmark
+    public double sumDouble_scalar()
+    {
+        double result = 0.0;
+        double compensation = 0.0;
+        for (double each : this.doubles)
+        {
+            double adjustedValue = each - compensation;
+            double nextSum = result + adjustedValue;
+            compensation = nextSum - result - adjustedValue;
+            result = nextSum;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double sumDouble_list()
+    {
+        return this.doubleList.sum();
+    }
+
+    @Benchmark
+    public int maxInt_scalar()
+    {
+        int max = this.ints[0];
+        for (int each : this.ints)
+        {
+            if (max < each)
+            {
+                max = each;
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int maxInt_list()
+    {
+        return this.intList.max();
+    }
+
+    @Benchmark
+    public double minDouble_scalar()
+    {
+        double min = this.doubles[0];
+        for (double each : this.doubles)
+        {
+            if (Double.compare(each, min) < 0)
+            {
+                min = each;
+            }
+        }
+        return min;
+    }
+
+    @Benchmark
+    public double minDouble_list()
+    {
+        return this.doubleList.min();
+    }
+
+    @Benchmark
+    public IntSummaryStatistics summaryStatisticsInt_scalar()
+    {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        for (int each : this.ints)
+        {
+            statistics.accept(each);
+        }
+        return statistics;
+    }
+
+    @Benchmark
+    public IntSummaryStatistics summaryStatisticsInt_list()
+    {
+        return this.intList.summaryStatistics();
+    }
+
+    @Benchmark
+    public boolean containsInt_scalar()
+    {
+        for (int each : this.ints)
+        {
+            if (each == -1)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean containsInt_list()
+    {
+        return this.intList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsLong_list()
+    {
+        return this.longList.contains(0L);
+    }
+
+    @Benchmark
+    public boolean containsDouble_list()
+    {
+        return this.doubleList.contains(-1.0);
+    }
+
+    @Benchmark
+    public long dotProductInt_scalar()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.ints.length; i++)
+        {
+            result += (long) this.ints[i] * this.ints[i];
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long dotProductInt_list()
+    {
+        return this.intList.dotProduct(this.intList);
+    }
+
+    @Benchmark
+    public double dotProductDouble_scalar()
+    {
+        double result = 0.0;
+        for (int i = 0; i < this.doubles.length; i++)
+        {
+            result += this.doubles[i] * this.doubles[i];
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double dotProductDouble_list()
+    {
+        return this.doubleList.dotProduct(this.doubleList);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs asParallel select/collect/flatCollect pipelines whose per-element cost is concentrated in the first tenth of the
+ * list, on a fixed thread pool and on a ForkJoinPool of the same parallelism.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class SkewedParallelLazyTest
+{
+    private static final int SIZE = 100_000;
+    private static final int SKEWED_SIZE = SIZE / 10;
+    private final MutableList<Integer> integers = FastList.newList(Interval.oneTo(SIZE));
+
+    @Param({"fixed", "forkJoin"})
+    public String pool;
+
+    @Param({"100", "10000"})
+    public int batchSize;
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        this.executorService = "forkJoin".equals(this.pool)
+                ? new ForkJoinPool(parallelism)
+                : Executors.newFixedThreadPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    private static int cost(int each)
+    {
+        int iterations = each <= SKEWED_SIZE ? 2_000 : 20;
+        int hash = each;
+        for (int i = 0; i < iterations; i++)
+        {
+            hash = hash * 31 + i;
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public void select()
+    {
+        MutableList<Integer> result = this.integers.asParallel(this.executorService, this.batchSize)
+                .select(each -> SkewedParallelLazyTest.cost(each) != 0 || each > 0)
+                .toList();
+        Verify.assertSize(SIZE, result);
+    }
+
+    @Benchmark
+    public void collect()
+    {
+        MutableList<Integer> result = this.integers.asParallel(this.executorService, this.batchSize)
+                .collect(SkewedParallelLazyTest::cost)
+                .toList();
+        Verify.assertSize(SIZE, result);
+    }
+
+    @Benchmark
+    public void flatCollect()
+    {
+        MutableList<Integer> result = this.integers.asParallel(this.executorService, this.batchSize)
+                .flatCollect(each -> FastList.newListWith(each, SkewedParallelLazyTest.cost(each)))
+                .toList();
+        Verify.assertSize(SIZE * 2, result);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares updates of the array backed ImmutableList returned by Lists.immutable.withAll with the persistent one
+ * returned by Lists.immutable.withAllPersistent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ImmutableListUpdateTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ImmutableList<Integer> arrayList;
+    private ImmutableList<Integer> persistentList;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        this.arrayList = Lists.immutable.withAll(Interval.zeroTo(this.size - 1));
+        this.persistentList = Lists.immutable.withAllPersistent(Interval.zeroTo(this.size - 1));
+    }
+
+    private int nextIndex()
+    {
+        this.index = (this.index + 7_919) % this.size;
+        return this.index;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWith_array()
+    {
+        return this.arrayList.newWith(-1);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWith_persistent()
+    {
+        return this.persistentList.newWith(-1);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWithIndexValue_array()
+    {
+        return this.arrayList.newWithIndexValue(this.nextIndex(), -1);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWithIndexValue_persistent()
+    {
+        return this.persistentList.newWithIndexValue(this.nextIndex(), -1);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWithoutIndex_array()
+    {
+        return this.arrayList.newWithoutIndex(this.nextIndex());
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWithoutIndex_persistent()
+    {
+        return this.persistentList.newWithoutIndex(this.nextIndex());
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWithAll_array()
+    {
+        return this.arrayList.newWithAll(this.arrayList);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWithAll_persistent()
+    {
+        return this.persistentList.newWithAll(this.persistentList);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> subListNewWith_array()
+    {
+        return this.arrayList.subList(1, this.size / 2).newWith(-1);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> subListNewWith_persistent()
+    {
+        return this.persistentList.subList(1, this.size / 2).newWith(-1);
+    }
+
+    @Benchmark
+    public long get_array()
+    {
+        return this.arrayList.get(this.nextIndex());
+    }
+
+    @Benchmark
+    public long get_persistent()
+    {
+        return this.persistentList.get(this.nextIndex());
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> appendThousand_array()
+    {
+        ImmutableList<Integer> result = this.arrayList;
+        for (int i = 0; i < 1_000; i++)
+        {
+            result = result.newWith(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> appendThousand_persistent()
+    {
+        ImmutableList<Integer> result = this.persistentList;
+        for (int i = 0; i < 1_000; i++)
+        {
+            result = result.newWith(i);
+        }
+        return result;
+    }
+}
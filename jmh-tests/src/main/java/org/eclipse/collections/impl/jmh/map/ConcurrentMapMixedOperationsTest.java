@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ConcurrentHashMap}, {@link ConcurrentHashMapUnsafe} and {@link java.util.concurrent.ConcurrentHashMap}
+ * under contended mixes of get, put, remove and getIfAbsentPut. The map is shared by all benchmark threads and keys are
+ * drawn from a range twice the initial size of the map, so about half of the lookups miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Threads(4)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ConcurrentMapMixedOperationsTest
+{
+    private static final int OPERATION_COUNT = 1_000;
+
+    @Param({"ec", "ecUnsafe", "jdk"})
+    public String mapType;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    /**
+     * Percentage of operations in {@link #mixed()} that are reads; the remainder is split evenly between put and remove.
+     */
+    @Param({"50", "90"})
+    public int readPercent;
+
+    private ConcurrentMap<Integer, Integer> map;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp()
+    {
+        this.map = this.newMap();
+        this.keys = new Integer[this.size * 2];
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            this.keys[i] = i;
+        }
+        Random random = new Random(123456789012345L);
+        for (int i = 0; i < this.size; i++)
+        {
+            Integer key = this.keys[random.nextInt(this.keys.length)];
+            this.map.put(key, key);
+        }
+    }
+
+    private ConcurrentMap<Integer, Integer> newMap()
+    {
+        switch (this.mapType)
+        {
+            case "ec":
+                return ConcurrentHashMap.newMap(this.size);
+            case "ecUnsafe":
+                return ConcurrentHashMapUnsafe.newMap(this.size);
+            case "jdk":
+                return new java.util.concurrent.ConcurrentHashMap<>(this.size);
+            default:
+                throw new IllegalArgumentException(this.mapType);
+        }
+    }
+
+    private Integer randomKey(ThreadLocalRandom random)
+    {
+        return this.keys[random.nextInt(this.keys.length)];
+    }
+
+    @Benchmark
+    public int get()
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ConcurrentMap<Integer, Integer> localMap = this.map;
+        int hits = 0;
+        for (int i = 0; i < OPERATION_COUNT; i++)
+        {
+            if (localMap.get(this.randomKey(random)) != null)
+            {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int putRemove()
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ConcurrentMap<Integer, Integer> localMap = this.map;
+        int removed = 0;
+        for (int i = 0; i < OPERATION_COUNT; i++)
+        {
+            Integer key = this.randomKey(random);
+            if (random.nextBoolean())
+            {
+                localMap.put(key, key);
+            }
+            else if (localMap.remove(key) != null)
+            {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Benchmark
+    public int getIfAbsentPut()
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ConcurrentMap<Integer, Integer> localMap = this.map;
+        int sum = 0;
+        for (int i = 0; i < OPERATION_COUNT; i++)
+        {
+            Integer key = this.randomKey(random);
+            Integer value = localMap instanceof ConcurrentMutableMap
+                    ? ((ConcurrentMutableMap<Integer, Integer>) localMap).getIfAbsentPut(key, () -> key)
+                    : localMap.computeIfAbsent(key, each -> each);
+            sum += value;
+            if (random.nextInt(4) == 0)
+            {
+                localMap.remove(key);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int mixed()
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ConcurrentMap<Integer, Integer> localMap = this.map;
+        int localReadPercent = this.readPercent;
+        int writePercent = 100 - localReadPercent;
+        int hits = 0;
+        for (int i = 0; i < OPERATION_COUNT; i++)
+        {
+            Integer key = this.randomKey(random);
+            int operation = random.nextInt(100);
+            if (operation < localReadPercent)
+            {
+                if (localMap.get(key) != null)
+                {
+                    hits++;
+                }
+            }
+            else if (operation < localReadPercent + writePercent / 2)
+            {
+                localMap.put(key, key);
+            }
+            else
+            {
+                localMap.remove(key);
+            }
+        }
+        return hits;
+    }
+}
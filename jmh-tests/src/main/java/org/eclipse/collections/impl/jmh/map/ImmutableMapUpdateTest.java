@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares updates of the hash table backed ImmutableMap returned by Maps.immutable.withAll with the persistent one
+ * returned by Maps.immutable.withAllPersistent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ImmutableMapUpdateTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ImmutableMap<Integer, Integer> hashMap;
+    private ImmutableMap<Integer, Integer> persistentMap;
+    private ImmutableMap<Integer, Integer> hashMapCopy;
+    private ImmutableMap<Integer, Integer> persistentMapCopy;
+    private int key;
+
+    @Setup
+    public void setUp()
+    {
+        Map<Integer, Integer> source = Interval.zeroTo(this.size - 1).toMap(each -> each, each -> each);
+        this.hashMap = Maps.immutable.withAll(source);
+        this.persistentMap = Maps.immutable.withAllPersistent(source);
+        this.hashMapCopy = this.hashMap.newWithKeyValue(0, -1).newWithKeyValue(0, 0);
+        this.persistentMapCopy = this.persistentMap.newWithKeyValue(0, -1).newWithKeyValue(0, 0);
+    }
+
+    private int nextKey()
+    {
+        this.key = (this.key + 7_919) % this.size;
+        return this.key;
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithKeyValue_hash()
+    {
+        return this.hashMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithKeyValue_persistent()
+    {
+        return this.persistentMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithoutKey_hash()
+    {
+        return this.hashMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithoutKey_persistent()
+    {
+        return this.persistentMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public Integer get_hash()
+    {
+        return this.hashMap.get(this.nextKey());
+    }
+
+    @Benchmark
+    public Integer get_persistent()
+    {
+        return this.persistentMap.get(this.nextKey());
+    }
+
+    @Benchmark
+    public boolean equalsUpdatedCopy_hash()
+    {
+        return this.hashMap.equals(this.hashMapCopy);
+    }
+
+    @Benchmark
+    public boolean equalsUpdatedCopy_persistent()
+    {
+        return this.persistentMap.equals(this.persistentMapCopy);
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> updateThousand_hash()
+    {
+        ImmutableMap<Integer, Integer> result = this.hashMap;
+        for (int i = 0; i < 1_000; i++)
+        {
+            result = result.newWithKeyValue(this.nextKey(), i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> updateThousand_persistent()
+    {
+        ImmutableMap<Integer, Integer> result = this.persistentMap;
+        for (int i = 0; i < 1_000; i++)
+        {
+            result = result.newWithKeyValue(this.nextKey(), i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the array backed ImmutableSortedMap returned by SortedMaps.immutable.withSortedMap with the persistent one
+ * returned by SortedMaps.immutable.withAllPersistent. The sizes are chosen to show where O(log n) path copying
+ * overtakes copying the arrays, which happens at a few dozen entries for updates. The array backed map does not
+ * support subMap, so its slice is taken with select.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ImmutableSortedMapUpdateTest
+{
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int size;
+
+    private ImmutableSortedMap<Integer, Integer> arrayMap;
+    private ImmutableSortedMap<Integer, Integer> persistentMap;
+    private int key;
+
+    @Setup
+    public void setUp()
+    {
+        TreeSortedMap<Integer, Integer> source = TreeSortedMap.newMap();
+        Interval.zeroTo(this.size - 1).each(each -> source.put(each, each));
+        this.arrayMap = SortedMaps.immutable.withSortedMap(source);
+        this.persistentMap = SortedMaps.immutable.withAllPersistent(source);
+    }
+
+    private int nextKey()
+    {
+        this.key = (this.key + 7_919) % this.size;
+        return this.key;
+    }
+
+    @Benchmark
+    public ImmutableSortedMap<Integer, Integer> newWithKeyValue_array()
+    {
+        return this.arrayMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableSortedMap<Integer, Integer> newWithKeyValue_persistent()
+    {
+        return this.persistentMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Benchmark
+    public ImmutableSortedMap<Integer, Integer> newWithoutKey_array()
+    {
+        return this.arrayMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public ImmutableSortedMap<Integer, Integer> newWithoutKey_persistent()
+    {
+        return this.persistentMap.newWithoutKey(this.nextKey());
+    }
+
+    @Benchmark
+    public Integer get_array()
+    {
+        return this.arrayMap.get(this.nextKey());
+    }
+
+    @Benchmark
+    public Integer get_persistent()
+    {
+        return this.persistentMap.get(this.nextKey());
+    }
+
+    @Benchmark
+    public int subMap_array()
+    {
+        int from = this.nextKey();
+        int to = from + this.size / 4;
+        return this.arrayMap.select((key, value) -> key >= from && key < to).size();
+    }
+
+    @Benchmark
+    public int subMap_persistent()
+    {
+        int from = this.nextKey();
+        return this.persistentMap.castToSortedMap().subMap(from, from + this.size / 4).size();
+    }
+
+    @Benchmark
+    public ImmutableSortedMap<Integer, Integer> updateHundred_array()
+    {
+        ImmutableSortedMap<Integer, Integer> result = this.arrayMap;
+        for (int i = 0; i < 100; i++)
+        {
+            result = result.newWithKeyValue(this.nextKey(), i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableSortedMap<Integer, Integer> updateHundred_persistent()
+    {
+        ImmutableSortedMap<Integer, Integer> result = this.persistentMap;
+        for (int i = 0; i < 100; i++)
+        {
+            result = result.newWithKeyValue(this.nextKey(), i);
+        }
+        return result;
+    }
+}
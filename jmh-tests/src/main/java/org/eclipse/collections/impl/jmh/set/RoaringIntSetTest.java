@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.set;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.RoaringIntSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares RoaringIntSet with IntHashSet on two sets drawn from the same range, which is either dense, so that most
+ * containers are bitmaps, or sparse, so that they are arrays. The set algebra on RoaringIntSets combines whole
+ * containers, while IntHashSet probes the other set once per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class RoaringIntSetTest
+{
+    @Param({"10000", "1000000"})
+    public int size;
+
+    /**
+     * The range the elements are drawn from, as a multiple of the size.
+     */
+    @Param({"2", "64"})
+    public int spread;
+
+    private IntHashSet hashSet1;
+    private IntHashSet hashSet2;
+    private RoaringIntSet roaringSet1;
+    private RoaringIntSet roaringSet2;
+    private int[] probes;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        int range = this.size * this.spread;
+        this.hashSet1 = new IntHashSet();
+        this.hashSet2 = new IntHashSet();
+        while (this.hashSet1.size() < this.size)
+        {
+            this.hashSet1.add(random.nextInt(range));
+        }
+        while (this.hashSet2.size() < this.size)
+        {
+            this.hashSet2.add(random.nextInt(range));
+        }
+        this.roaringSet1 = RoaringIntSet.newSet(this.hashSet1);
+        this.roaringSet2 = RoaringIntSet.newSet(this.hashSet2);
+        this.probes = new int[1024];
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            this.probes[i] = random.nextInt(range);
+        }
+    }
+
+    @Benchmark
+    public MutableIntSet union_hash()
+    {
+        return this.hashSet1.union(this.hashSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet union_roaring()
+    {
+        return this.roaringSet1.union(this.roaringSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet intersect_hash()
+    {
+        return this.hashSet1.intersect(this.hashSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet intersect_roaring()
+    {
+        return this.roaringSet1.intersect(this.roaringSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet difference_hash()
+    {
+        return this.hashSet1.difference(this.hashSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet difference_roaring()
+    {
+        return this.roaringSet1.difference(this.roaringSet2);
+    }
+
+    @Benchmark
+    public int contains_hash()
+    {
+        int count = 0;
+        for (int probe : this.probes)
+        {
+            if (this.hashSet1.contains(probe))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int contains_roaring()
+    {
+        int count = 0;
+        for (int probe : this.probes)
+        {
+            if (this.roaringSet1.contains(probe))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long sum_hash()
+    {
+        return this.hashSet1.sum();
+    }
+
+    @Benchmark
+    public long sum_roaring()
+    {
+        return this.roaringSet1.sum();
+    }
+}
@@ -262,6 +262,7 @@ public class SerialParallelPerformanceTest
         MutableList<Runnable> runnables = FastList.newList();
         runnables.add(() -> this.basicSerialCollectPerformance(collection, SERIAL_RUN_COUNT));
         runnables.add(() -> this.basicParallelCollectPerformance(collection, PARALLEL_RUN_COUNT));
+        runnables.add(() -> this.basicAdaptiveCollectPerformance(collection, PARALLEL_RUN_COUNT));
         runnables.add(() -> this.basicForkJoinCollectPerformance(collection, PARALLEL_RUN_COUNT));
         this.shuffleAndRun(runnables);
     }
@@ -303,6 +304,7 @@ public class SerialParallelPerformanceTest
         MutableList<Runnable> runnables = FastList.newList();
         runnables.add(() -> this.basicSerialSelectPerformance(collection, PREDICATES, SERIAL_RUN_COUNT));
         runnables.add(() -> this.basicParallelSelectPerformance(collection, PREDICATES, PARALLEL_RUN_COUNT));
+        runnables.add(() -> this.basicAdaptiveSelectPerformance(collection, PREDICATES, PARALLEL_RUN_COUNT));
         runnables.add(() -> this.basicForkJoinSelectPerformance(collection, PREDICATES, PARALLEL_RUN_COUNT));
         this.shuffleAndRun(runnables);
     }
@@ -362,6 +364,26 @@ public class SerialParallelPerformanceTest
                 WARM_UP_COUNT);
     }
 
+    private double basicAdaptiveSelectPerformance(
+            Iterable<Integer> iterable,
+            MutableList<Predicate<Integer>> predicateList,
+            int count)
+    {
+        ParallelExecutionContext context = ParallelIterate.getDefaultContext().withAdaptiveSizing();
+        Runnable runnable = () ->
+        {
+            Verify.assertNotEmpty(ParallelIterate.select(iterable, predicateList.get(0), context));
+            Verify.assertNotEmpty(ParallelIterate.select(iterable, predicateList.get(1), context));
+            Verify.assertNotEmpty(ParallelIterate.select(iterable, predicateList.get(2), context));
+        };
+
+        return TimeKeeper.logAverageMillisecondsToRun(
+                "Adaptive Select: " + this.getSimpleName(iterable) + " size: " + this.formatSizeOf(iterable),
+                runnable,
+                count,
+                WARM_UP_COUNT);
+    }
+
     private double basicForkJoinSelectPerformance(
             Iterable<Integer> iterable,
             MutableList<Predicate<Integer>> predicateList,
@@ -760,6 +782,23 @@ public class SerialParallelPerformanceTest
                 WARM_UP_COUNT);
     }
 
+    private double basicAdaptiveCollectPerformance(Iterable<Integer> iterable, int count)
+    {
+        ParallelExecutionContext context = ParallelIterate.getDefaultContext().withAdaptiveSizing();
+        Runnable runnable = () ->
+        {
+            Verify.assertNotEmpty(ParallelIterate.collect(iterable, PAIR_FUNCTION, context));
+            Verify.assertNotEmpty(ParallelIterate.collect(iterable, Integer::longValue, context));
+            Verify.assertNotEmpty(ParallelIterate.collect(iterable, Integer::shortValue, context));
+        };
+
+        return TimeKeeper.logAverageMillisecondsToRun(
+                "Adaptive Collect: " + this.getSimpleName(iterable) + " size: " + this.formatSizeOf(iterable),
+                runnable,
+                count,
+                WARM_UP_COUNT);
+    }
+
     private double basicForkJoinCollectPerformance(Iterable<Integer> iterable, int count)
     {
         Runnable runnable = () ->
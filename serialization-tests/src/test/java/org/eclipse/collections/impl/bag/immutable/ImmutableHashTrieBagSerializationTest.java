@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.immutable;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+public class ImmutableHashTrieBagSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD9vcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmJhZy5pbW11dGFibGUuSW1tdXRh\n"
+                        + "YmxlSGFzaFRyaWVCYWcAAAAAAAAAAQIAAkkABHNpemVMAAtvY2N1cnJlbmNlc3QAQUxvcmcvZWNs\n"
+                        + "aXBzZS9jb2xsZWN0aW9ucy9pbXBsL21hcC9pbW11dGFibGUvSW1tdXRhYmxlSGFzaFRyaWVNYXA7\n"
+                        + "eHAAAAAEc3IAUW9yZy5lY2xpcHNlLmNvbGxlY3Rpb25zLmltcGwubWFwLmltbXV0YWJsZS5JbW11\n"
+                        + "dGFibGVIYXNoVHJpZU1hcFNlcmlhbGl6YXRpb25Qcm94eQAAAAAAAAABDAAAeHB3BAAAAANzcgAR\n"
+                        + "amF2YS5sYW5nLkludGVnZXIS4qCk94GHOAIAAUkABXZhbHVleHIAEGphdmEubGFuZy5OdW1iZXKG\n"
+                        + "rJUdC5TgiwIAAHhwAAAAAXEAfgAHc3EAfgAFAAAAAnEAfgAIc3EAfgAFAAAAA3EAfgAHeA==",
+                ImmutableHashTrieBag.newBagWith(1, 2, 2, 3));
+    }
+
+    @Test
+    public void serializedForm_empty()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD9vcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmJhZy5pbW11dGFibGUuSW1tdXRh\n"
+                        + "YmxlSGFzaFRyaWVCYWcAAAAAAAAAAQIAAkkABHNpemVMAAtvY2N1cnJlbmNlc3QAQUxvcmcvZWNs\n"
+                        + "aXBzZS9jb2xsZWN0aW9ucy9pbXBsL21hcC9pbW11dGFibGUvSW1tdXRhYmxlSGFzaFRyaWVNYXA7\n"
+                        + "eHAAAAAAc3IAUW9yZy5lY2xpcHNlLmNvbGxlY3Rpb25zLmltcGwubWFwLmltbXV0YWJsZS5JbW11\n"
+                        + "dGFibGVIYXNoVHJpZU1hcFNlcmlhbGl6YXRpb25Qcm94eQAAAAAAAAABDAAAeHB3BAAAAAB4",
+                ImmutableHashTrieBag.empty());
+    }
+}
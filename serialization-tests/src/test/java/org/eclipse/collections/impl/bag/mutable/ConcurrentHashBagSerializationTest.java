@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentHashBagSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADpvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmJhZy5tdXRhYmxlLkNvbmN1cnJl\n"
+                        + "bnRIYXNoQmFnAAAAAAAAAAEMAAB4cHcEAAAAAXNyABFqYXZhLmxhbmcuSW50ZWdlchLioKT3gYc4\n"
+                        + "AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAAAAABdwQAAAADeA==",
+                ConcurrentHashBag.newBagWith(1, 1, 1));
+    }
+
+    @Test
+    public void serializedForm_empty()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADpvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmJhZy5tdXRhYmxlLkNvbmN1cnJl\n"
+                        + "bnRIYXNoQmFnAAAAAAAAAAEMAAB4cHcEAAAAAHg=",
+                ConcurrentHashBag.newBag());
+    }
+}
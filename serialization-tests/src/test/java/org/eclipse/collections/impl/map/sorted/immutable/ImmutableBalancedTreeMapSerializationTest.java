@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.immutable;
+
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+public class ImmutableBalancedTreeMapSerializationTest
+{
+    @Test
+    public void serializedForm_no_comparator()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFxvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5zb3J0ZWQuaW1tdXRhYmxl\n"
+                        + "LkltbXV0YWJsZUJhbGFuY2VkVHJlZU1hcFNlcmlhbGl6YXRpb25Qcm94eQAAAAAAAAABDAAAeHBw\n"
+                        + "dwQAAAADc3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxh\n"
+                        + "bmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAF0AAFhc3EAfgACAAAAAnQAAWJzcQB+AAIAAAADdAAB\n"
+                        + "Y3g=",
+                ImmutableBalancedTreeMap.newMap(TreeSortedMap.newMapWith(1, "a", 2, "b", 3, "c")));
+    }
+
+    @Test
+    public void serializedForm_comparator()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFxvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5zb3J0ZWQuaW1tdXRhYmxl\n"
+                        + "LkltbXV0YWJsZUJhbGFuY2VkVHJlZU1hcFNlcmlhbGl6YXRpb25Qcm94eQAAAAAAAAABDAAAeHBz\n"
+                        + "cgBYb3JnLmVjbGlwc2UuY29sbGVjdGlvbnMuYXBpLmJsb2NrLmZhY3RvcnkuU2VyaWFsaXphYmxl\n"
+                        + "Q29tcGFyYXRvcnMkTmF0dXJhbE9yZGVyQ29tcGFyYXRvcgAAAAAAAAABAgAAeHB3BAAAAANzcgAR\n"
+                        + "amF2YS5sYW5nLkludGVnZXIS4qCk94GHOAIAAUkABXZhbHVleHIAEGphdmEubGFuZy5OdW1iZXKG\n"
+                        + "rJUdC5TgiwIAAHhwAAAAAXQAAWFzcQB+AAQAAAACdAABYnNxAH4ABAAAAAN0AAFjeA==",
+                ImmutableBalancedTreeMap.newMap(TreeSortedMap.newMapWith(Comparators.naturalOrder(), 1, "a", 2, "b", 3, "c")));
+    }
+
+    @Test
+    public void serializedForm_empty()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAFxvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5zb3J0ZWQuaW1tdXRhYmxl\n"
+                        + "LkltbXV0YWJsZUJhbGFuY2VkVHJlZU1hcFNlcmlhbGl6YXRpb25Qcm94eQAAAAAAAAABDAAAeHBw\n"
+                        + "dwQAAAAAeA==",
+                ImmutableBalancedTreeMap.empty());
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+public class ImmutableHashTrieSetSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD9vcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnNldC5pbW11dGFibGUuSW1tdXRh\n"
+                        + "YmxlSGFzaFRyaWVTZXQAAAAAAAAAAQIAAUwAA21hcHQAQUxvcmcvZWNsaXBzZS9jb2xsZWN0aW9u\n"
+                        + "cy9pbXBsL21hcC9pbW11dGFibGUvSW1tdXRhYmxlSGFzaFRyaWVNYXA7eHBzcgBRb3JnLmVjbGlw\n"
+                        + "c2UuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLkltbXV0YWJsZUhhc2hUcmllTWFwU2Vy\n"
+                        + "aWFsaXphdGlvblByb3h5AAAAAAAAAAEMAAB4cHcEAAAAA3NyABFqYXZhLmxhbmcuSW50ZWdlchLi\n"
+                        + "oKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAAAAABc3IA\n"
+                        + "EWphdmEubGFuZy5Cb29sZWFuzSBygNWc+u4CAAFaAAV2YWx1ZXhwAXNxAH4ABQAAAAJxAH4ACXNx\n"
+                        + "AH4ABQAAAANxAH4ACXg=",
+                ImmutableHashTrieSet.newSetWith(1, 2, 3));
+    }
+
+    @Test
+    public void serializedForm_empty()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD9vcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnNldC5pbW11dGFibGUuSW1tdXRh\n"
+                        + "YmxlSGFzaFRyaWVTZXQAAAAAAAAAAQIAAUwAA21hcHQAQUxvcmcvZWNsaXBzZS9jb2xsZWN0aW9u\n"
+                        + "cy9pbXBsL21hcC9pbW11dGFibGUvSW1tdXRhYmxlSGFzaFRyaWVNYXA7eHBzcgBRb3JnLmVjbGlw\n"
+                        + "c2UuY29sbGVjdGlvbnMuaW1wbC5tYXAuaW1tdXRhYmxlLkltbXV0YWJsZUhhc2hUcmllTWFwU2Vy\n"
+                        + "aWFsaXphdGlvblByb3h5AAAAAAAAAAEMAAB4cHcEAAAAAHg=",
+                ImmutableHashTrieSet.empty());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.immutable;
+
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+public class ImmutableBalancedTreeSetSerializationTest
+{
+    @Test
+    public void serializedForm_no_comparator()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAEpvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnNldC5zb3J0ZWQuaW1tdXRhYmxl\n"
+                        + "LkltbXV0YWJsZUJhbGFuY2VkVHJlZVNldAAAAAAAAAABAgABTAADbWFwdABMTG9yZy9lY2xpcHNl\n"
+                        + "L2NvbGxlY3Rpb25zL2ltcGwvbWFwL3NvcnRlZC9pbW11dGFibGUvSW1tdXRhYmxlQmFsYW5jZWRU\n"
+                        + "cmVlTWFwO3hwc3IAXG9yZy5lY2xpcHNlLmNvbGxlY3Rpb25zLmltcGwubWFwLnNvcnRlZC5pbW11\n"
+                        + "dGFibGUuSW1tdXRhYmxlQmFsYW5jZWRUcmVlTWFwU2VyaWFsaXphdGlvblByb3h5AAAAAAAAAAEM\n"
+                        + "AAB4cHB3BAAAAANzcgARamF2YS5sYW5nLkludGVnZXIS4qCk94GHOAIAAUkABXZhbHVleHIAEGph\n"
+                        + "dmEubGFuZy5OdW1iZXKGrJUdC5TgiwIAAHhwAAAAAXNyABFqYXZhLmxhbmcuQm9vbGVhbs0gcoDV\n"
+                        + "nPruAgABWgAFdmFsdWV4cAFzcQB+AAUAAAACcQB+AAlzcQB+AAUAAAADcQB+AAl4",
+                ImmutableBalancedTreeSet.newSetWith(1, 2, 3));
+    }
+
+    @Test
+    public void serializedForm_comparator()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAEpvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnNldC5zb3J0ZWQuaW1tdXRhYmxl\n"
+                        + "LkltbXV0YWJsZUJhbGFuY2VkVHJlZVNldAAAAAAAAAABAgABTAADbWFwdABMTG9yZy9lY2xpcHNl\n"
+                        + "L2NvbGxlY3Rpb25zL2ltcGwvbWFwL3NvcnRlZC9pbW11dGFibGUvSW1tdXRhYmxlQmFsYW5jZWRU\n"
+                        + "cmVlTWFwO3hwc3IAXG9yZy5lY2xpcHNlLmNvbGxlY3Rpb25zLmltcGwubWFwLnNvcnRlZC5pbW11\n"
+                        + "dGFibGUuSW1tdXRhYmxlQmFsYW5jZWRUcmVlTWFwU2VyaWFsaXphdGlvblByb3h5AAAAAAAAAAEM\n"
+                        + "AAB4cHNyAFhvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5hcGkuYmxvY2suZmFjdG9yeS5TZXJpYWxp\n"
+                        + "emFibGVDb21wYXJhdG9ycyROYXR1cmFsT3JkZXJDb21wYXJhdG9yAAAAAAAAAAECAAB4cHcEAAAA\n"
+                        + "A3NyABFqYXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51\n"
+                        + "bWJlcoaslR0LlOCLAgAAeHAAAAABc3IAEWphdmEubGFuZy5Cb29sZWFuzSBygNWc+u4CAAFaAAV2\n"
+                        + "YWx1ZXhwAXNxAH4ABwAAAAJxAH4AC3NxAH4ABwAAAANxAH4AC3g=",
+                ImmutableBalancedTreeSet.newSetWith(Comparators.naturalOrder(), 1, 2, 3));
+    }
+}
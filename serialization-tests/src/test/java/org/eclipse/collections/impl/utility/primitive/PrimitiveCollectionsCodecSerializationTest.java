@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.primitive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Base64;
+
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.map.primitive.MutableLongDoubleMap;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.CharBags;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.eclipse.collections.impl.factory.primitive.LongDoubleMaps;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.eclipse.collections.impl.utility.primitive.PrimitiveCollectionsCodec.Encoding;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Locks down the binary format written by the primitive collections codecs. Sets, bags and maps are delta encoded so
+ * that they are written in ascending order regardless of their iteration order.
+ */
+public class PrimitiveCollectionsCodecSerializationTest
+{
+    private static String write(ChannelWriter writer) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(Channels.newChannel(out));
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    private static ReadableByteChannel read(String base64)
+    {
+        return Channels.newChannel(new ByteArrayInputStream(Base64.getDecoder().decode(base64)));
+    }
+
+    @Test
+    public void intListRaw() throws IOException
+    {
+        String expected = "RUNQQwEBBAAAAAAAAwAAAAEAAAD+////AwAAAA==";
+        MutableIntList list = IntLists.mutable.with(1, -2, 3);
+        assertEquals(expected, write(channel -> IntCollectionsCodec.writeList(list, channel)));
+        assertEquals(list, IntCollectionsCodec.readList(read(expected)));
+    }
+
+    @Test
+    public void longListDeltaVarint() throws IOException
+    {
+        String expected = "RUNQQwEBBQABAAAABAAAAMgBAgO6h3o=";
+        MutableLongList list = LongLists.mutable.with(100L, 101L, 99L, 1_000_000L);
+        assertEquals(expected, write(channel -> LongCollectionsCodec.writeList(list, channel, Encoding.DELTA_VARINT)));
+        assertEquals(list, LongCollectionsCodec.readList(read(expected)));
+    }
+
+    @Test
+    public void doubleListRaw() throws IOException
+    {
+        String expected = "RUNQQwEBBwAAAAAAAgAAAAAAAAAAAPg/AAAAAAAAAIA=";
+        MutableDoubleList list = DoubleLists.mutable.with(1.5, -0.0);
+        assertEquals(expected, write(channel -> DoubleCollectionsCodec.writeList(list, channel)));
+        assertEquals(list, DoubleCollectionsCodec.readList(read(expected)));
+    }
+
+    @Test
+    public void intSetDeltaVarint() throws IOException
+    {
+        String expected = "RUNQQwECBAABAAAAAwAAABQUFA==";
+        MutableIntSet set = IntSets.mutable.with(30, 10, 20);
+        assertEquals(expected, write(channel -> IntCollectionsCodec.writeSet(set, channel, Encoding.DELTA_VARINT)));
+        assertEquals(set, IntCollectionsCodec.readSet(read(expected)));
+    }
+
+    @Test
+    public void charBagDeltaVarint() throws IOException
+    {
+        String expected = "RUNQQwEDAwABAAAAAgAAAMIBAgEAAAACAAAA";
+        MutableCharBag bag = CharBags.mutable.with('b', 'a', 'b');
+        assertEquals(expected, write(channel -> CharCollectionsCodec.writeBag(bag, channel, Encoding.DELTA_VARINT)));
+        assertEquals(bag, CharCollectionsCodec.readBag(read(expected)));
+    }
+
+    @Test
+    public void longDoubleMapDeltaVarint() throws IOException
+    {
+        String expected = "RUNQQwEEBQcBAAAAAgAAAAICAAAAAAAAAEAAAAAAAADgPw==";
+        MutableLongDoubleMap map = LongDoubleMaps.mutable.empty().withKeyValue(2L, 0.5).withKeyValue(1L, 2.0);
+        assertEquals(expected, write(channel -> LongDoubleMapCodec.writeMap(map, channel, Encoding.DELTA_VARINT)));
+        assertEquals(map, LongDoubleMapCodec.readMap(read(expected)));
+    }
+
+    private interface ChannelWriter
+    {
+        void write(WritableByteChannel channel) throws IOException;
+    }
+}
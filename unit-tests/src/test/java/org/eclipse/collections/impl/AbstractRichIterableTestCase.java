@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.DoubleSummaryStatistics;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -1692,6 +1693,28 @@ public abstract class AbstractRichIterableTestCase
         assertEquals(Lists.mutable.with(1, 2, 3, 4), list);
     }
 
+    @Test
+    public void topN()
+    {
+        RichIterable<Integer> integers = this.newWith(2, 4, 1, 3, 6, 5);
+        assertEquals(Lists.mutable.with(6, 5, 4), integers.topN(3, Comparators.naturalOrder()));
+        assertEquals(Lists.mutable.with(1, 2), integers.topN(2, Comparators.reverseNaturalOrder()));
+        assertEquals(integers.toSortedList(Comparators.reverseNaturalOrder()), integers.topN(10, Comparators.naturalOrder()));
+
+        Comparator<Integer> byParity = Comparators.byFunction(each -> each % 2);
+        assertEquals(integers.toSortedList(byParity.reversed()).take(4), integers.topN(4, byParity));
+
+        Verify.assertEmpty(integers.topN(0, Comparators.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> integers.topN(-1, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void topNBy()
+    {
+        RichIterable<Integer> integers = this.newWith(2, 4, 1, 3);
+        assertEquals(Lists.mutable.with(1, 2), integers.topNBy(2, each -> -each));
+    }
+
     @Test
     public void toImmutableSortedListBy()
     {
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.immutable;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.collections.impl.factory.Iterables.iBag;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieBag}.
+ */
+public class ImmutableHashTrieBagTest extends ImmutableBagTestCase
+{
+    private static final int LARGE_SIZE = 20_000;
+
+    @Override
+    protected ImmutableBag<String> newBag()
+    {
+        return ImmutableHashTrieBag.newBagWith("1", "2", "2", "3", "3", "3", "4", "4", "4", "4");
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <T> ImmutableBag<T> newWith(T... littleElements)
+    {
+        return ImmutableHashTrieBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected int numKeys()
+    {
+        return 4;
+    }
+
+    @Override
+    @Test
+    public void testSize()
+    {
+        Verify.assertIterableSize(10, this.newBag());
+    }
+
+    @Override
+    public void toStringOfItemToCount()
+    {
+        assertEquals("{}", ImmutableHashTrieBag.newBagWith().toStringOfItemToCount());
+        assertEquals("{1=3}", ImmutableHashTrieBag.newBagWith("1", "1", "1").toStringOfItemToCount());
+        String actual = ImmutableHashTrieBag.newBagWith("1", "2", "2").toStringOfItemToCount();
+        assertTrue("{1=1, 2=2}".equals(actual) || "{2=2, 1=1}".equals(actual));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableHashTrieBag.newBagWith(1, 2, 3);
+        assertEquals(Maps.immutable.of(1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey_target()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableHashTrieBag.newBagWith(1, 2, 3);
+        assertEquals(Maps.immutable.of(0, 0, 1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id, UnifiedMap.newWithKeysValues(0, 0)));
+    }
+
+    @Override
+    @Test
+    public void selectInstancesOf()
+    {
+        super.selectInstancesOf();
+
+        ImmutableBag<Number> numbers = ImmutableHashTrieBag.newBagWith(1, 2.0, 2.0, 3, 3, 3, 4.0, 4.0, 4.0, 4.0);
+        assertEquals(iBag(1, 3, 3, 3), numbers.selectInstancesOf(Integer.class));
+        assertEquals(iBag(2.0, 2.0, 4.0, 4.0, 4.0, 4.0), numbers.selectInstancesOf(Double.class));
+    }
+
+    @Override
+    @Test
+    public void distinctView()
+    {
+        ImmutableBag<String> bag = this.newBag();
+        RichIterable<String> expected = bag.toSet();
+        RichIterable<String> actual = bag.distinctView();
+        // this assertion is a reminder to get rid of this test override once distinctView returns a set
+        assertNotEquals(expected, actual);
+        Verify.assertIterablesEqual(expected, actual);
+    }
+
+    @Test
+    public void factory()
+    {
+        ImmutableBag<Integer> bag = Bags.immutable.withAllPersistent(Interval.oneTo(100).toList().withAll(Interval.oneTo(50)));
+        assertInstanceOf(ImmutableHashTrieBag.class, bag);
+        Verify.assertSize(150, bag);
+        assertEquals(2, bag.occurrencesOf(50));
+        assertEquals(1, bag.occurrencesOf(51));
+        assertSame(bag, Bags.immutable.withAllPersistent(bag));
+        Verify.assertEmpty(Bags.immutable.withAllPersistent(HashBag.newBag()));
+    }
+
+    @Test
+    public void persistentUpdates()
+    {
+        ImmutableBag<Integer> bag = ImmutableHashTrieBag.newBag(Interval.zeroTo(LARGE_SIZE - 1));
+        ImmutableBag<Integer> with = bag.newWith(0).newWith(0);
+        ImmutableBag<Integer> without = with.newWithout(0);
+
+        Verify.assertSize(LARGE_SIZE, bag);
+        Verify.assertSize(LARGE_SIZE + 2, with);
+        assertEquals(1, bag.occurrencesOf(0));
+        assertEquals(3, with.occurrencesOf(0));
+        assertEquals(2, without.occurrencesOf(0));
+        assertEquals(LARGE_SIZE, without.sizeDistinct());
+        assertEquals(LARGE_SIZE - 1, bag.newWithout(0).sizeDistinct());
+        assertSame(bag, bag.newWithout(-1));
+        assertInstanceOf(ImmutableHashTrieBag.class, with);
+    }
+
+    @Test
+    public void equalsSharedStructure()
+    {
+        ImmutableBag<Integer> bag = ImmutableHashTrieBag.newBag(Interval.zeroTo(LARGE_SIZE - 1));
+        ImmutableBag<Integer> same = bag.newWith(7).newWithout(7);
+        Verify.assertEqualsAndHashCode(bag, same);
+        Verify.assertEqualsAndHashCode(bag, HashBag.newBag(bag));
+        assertNotEquals(bag, bag.newWith(7));
+        assertEquals(HashBag.newBag(bag).hashCode(), bag.newWith(7).newWithout(7).hashCode());
+    }
+
+    @Test
+    public void largeSerialization()
+    {
+        ImmutableBag<Integer> bag = ImmutableHashTrieBag.newBag(Interval.zeroTo(LARGE_SIZE - 1)).newWith(0);
+        ImmutableBag<Integer> deserialized = SerializeTestHelper.serializeDeserialize(bag);
+        assertInstanceOf(ImmutableHashTrieBag.class, deserialized);
+        Verify.assertEqualsAndHashCode(bag, deserialized);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ConcurrentHashBag}.
+ */
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.executor = Executors.newFixedThreadPool(20);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (ObjectIntPair<T> itemToAdd : elementsWithOccurrences)
+        {
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void newBagFromIterable()
+    {
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(FastList.newListWith(1, 2, 2, 3, 3, 3)));
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(HashBag.newBagWith(1, 2, 2, 3, 3, 3)));
+    }
+
+    @Test
+    public void removeLastOccurrenceThenAdd()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "b");
+        assertTrue(bag.removeOccurrences("a", 5));
+        assertFalse(bag.contains("a"));
+        Verify.assertSize(1, bag);
+        assertEquals(1, bag.sizeDistinct());
+        bag.add("a");
+        assertEquals(1, bag.occurrencesOf("a"));
+        assertFalse(bag.setOccurrences("a", 1));
+        assertTrue(bag.setOccurrences("a", 0));
+        assertBagsEqual(HashBag.newBagWith("b"), bag);
+    }
+
+    @Test
+    public void concurrentAdd()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(10_000), each ->
+        {
+            bag.add(each % 10);
+            bag.addOccurrences(each % 7, 2);
+        }, 1, this.executor);
+        Verify.assertSize(30_000, bag);
+        assertEquals(1_000, bag.occurrencesOf(8));
+        assertEquals(1_000 + 2 * 1_428, bag.occurrencesOf(0));
+        assertEquals(30_000, bag.toImmutable().size());
+        assertEquals(bag.toMapOfItemToCount(), HashBag.newBag(bag).toMapOfItemToCount());
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(10_000), each ->
+        {
+            bag.addOccurrences(each % 10, 3);
+            assertTrue(bag.remove(each % 10));
+            assertTrue(bag.removeOccurrences(each % 10, 2));
+        }, 1, this.executor);
+        Verify.assertEmpty(bag);
+        assertEquals(0, bag.sizeDistinct());
+    }
+}
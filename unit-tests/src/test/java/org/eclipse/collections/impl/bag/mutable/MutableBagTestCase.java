@@ -621,6 +621,37 @@ public abstract class MutableBagTestCase extends AbstractCollectionTestCase
         assertThrows(IllegalArgumentException.class, () -> this.newWith().bottomOccurrences(-1));
     }
 
+    @Test
+    public void topAndBottomOccurrencesOfManyDistinctElements()
+    {
+        MutableList<Integer> elements = Lists.mutable.empty();
+        for (int i = 0; i < 200; i++)
+        {
+            for (int j = 0; j <= i * 7 % 13; j++)
+            {
+                elements.add(i);
+            }
+        }
+        MutableBagIterable<Integer> bag = this.newWith(elements.toArray(new Integer[0]));
+
+        // 15 elements occur 13 times and 15 occur 12 times, the ties with the 20th are included
+        MutableList<ObjectIntPair<Integer>> top = bag.topOccurrences(20);
+        Verify.assertSize(30, top);
+        assertEquals(13, top.getFirst().getTwo());
+        assertEquals(12, top.getLast().getTwo());
+        assertEquals(top.collectInt(ObjectIntPair::getTwo).toSortedList().reverseThis(), top.collectInt(ObjectIntPair::getTwo));
+
+        // 16 elements occur once and 16 occur twice
+        MutableList<ObjectIntPair<Integer>> bottom = bag.bottomOccurrences(20);
+        Verify.assertSize(32, bottom);
+        assertEquals(1, bottom.getFirst().getTwo());
+        assertEquals(2, bottom.getLast().getTwo());
+        assertEquals(bottom.collectInt(ObjectIntPair::getTwo).toSortedList(), bottom.collectInt(ObjectIntPair::getTwo));
+
+        Verify.assertSize(200, bag.topOccurrences(200));
+        Verify.assertSize(200, bag.bottomOccurrences(1000));
+    }
+
     @Test
     public void selectUnique()
     {
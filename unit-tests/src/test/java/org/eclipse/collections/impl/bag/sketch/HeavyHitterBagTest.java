@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sketch;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.tuple.primitive.ObjectLongPair;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeavyHitterBagTest
+{
+    @Test
+    public void addOccurrences()
+    {
+        HeavyHitterBag<String> bag = HeavyHitterBag.newBag(3);
+        assertTrue(bag.isEmpty());
+        bag.add("one");
+        bag.addOccurrences("two", 2);
+        assertEquals(4L, bag.addOccurrences("three", 4));
+        bag.add(null);
+        bag.add(null);
+
+        assertFalse(bag.isEmpty());
+        assertEquals(9L, bag.totalOccurrences());
+        assertEquals(3, bag.sizeDistinct());
+        assertEquals(0L, bag.occurrencesOf("one"));
+        assertEquals(2L, bag.occurrencesOf("two"));
+        assertEquals(4L, bag.occurrencesOf("three"));
+        assertEquals(3L, bag.occurrencesOf(null));
+        assertEquals(2L, bag.guaranteedOccurrencesOf(null));
+        assertEquals(2L, bag.guaranteedOccurrencesOf("two"));
+        assertEquals(
+                Lists.mutable.with(PrimitiveTuples.pair("three", 4L), PrimitiveTuples.pair(null, 3L)),
+                bag.topOccurrences(2));
+        assertEquals(2L, bag.addOccurrences("two", 0));
+        assertThrows(IllegalArgumentException.class, () -> bag.addOccurrences("two", -1));
+        assertThrows(IllegalArgumentException.class, () -> bag.topOccurrences(-1));
+        assertThrows(IllegalArgumentException.class, () -> HeavyHitterBag.newBag(0));
+    }
+
+    @Test
+    public void occurrencesBeyondIntRange()
+    {
+        HeavyHitterBag<String> bag = HeavyHitterBag.newBag(1);
+        bag.addOccurrences("one", Integer.MAX_VALUE);
+        assertEquals(2L * Integer.MAX_VALUE, bag.addOccurrences("one", Integer.MAX_VALUE));
+        assertEquals(2L * Integer.MAX_VALUE + 1L, bag.addOccurrences("two", 1));
+        assertEquals(1L, bag.guaranteedOccurrencesOf("two"));
+        assertEquals(bag.totalOccurrences(), bag.occurrencesOf("two"));
+    }
+
+    @Test
+    public void topOccurrencesOfSkewedStream()
+    {
+        HeavyHitterBag<String> sketch = HeavyHitterBag.newBag(100);
+        MutableBag<String> exact = Bags.mutable.empty();
+        Random random = new Random(42L);
+        for (int i = 0; i < 100_000; i++)
+        {
+            String url = "/page/" + (int) (1000 * Math.pow(random.nextDouble(), 4));
+            sketch.add(url);
+            exact.add(url);
+        }
+
+        assertEquals(100_000L, sketch.totalOccurrences());
+        Verify.assertSize(100, sketch.topOccurrences(100));
+        assertEquals(
+                exact.topOccurrences(10).collect(ObjectLongPair::getOne).toSet(),
+                sketch.topOccurrences(10).collect(ObjectLongPair::getOne).toSet());
+        sketch.forEachWithOccurrences((each, count) ->
+        {
+            assertTrue(count >= exact.occurrencesOf(each));
+            assertTrue(sketch.guaranteedOccurrencesOf(each) <= exact.occurrencesOf(each));
+        });
+        exact.forEachWithOccurrences((each, count) ->
+        {
+            if (count > sketch.totalOccurrences() / sketch.capacity())
+            {
+                assertTrue(sketch.occurrencesOf(each) >= count, each);
+            }
+        });
+    }
+
+    @Test
+    public void merge()
+    {
+        HeavyHitterBag<String> left = HeavyHitterBag.newBag(100);
+        HeavyHitterBag<String> right = HeavyHitterBag.newBag(100);
+        MutableBag<String> exact = Bags.mutable.empty();
+        Random random = new Random(42L);
+        for (int i = 0; i < 100_000; i++)
+        {
+            String url = "/page/" + (int) (1000 * Math.pow(random.nextDouble(), 4));
+            (i % 2 == 0 ? left : right).add(url);
+            exact.add(url);
+        }
+
+        HeavyHitterBag<String> merged = left.merge(right);
+        assertEquals(100_000L, merged.totalOccurrences());
+        assertEquals(100, merged.sizeDistinct());
+        assertEquals(
+                exact.topOccurrences(10).collect(ObjectLongPair::getOne).toSet(),
+                merged.topOccurrences(10).collect(ObjectLongPair::getOne).toSet());
+        merged.forEachWithOccurrences((each, count) ->
+        {
+            assertTrue(count >= exact.occurrencesOf(each));
+            assertTrue(merged.guaranteedOccurrencesOf(each) <= exact.occurrencesOf(each));
+        });
+    }
+}
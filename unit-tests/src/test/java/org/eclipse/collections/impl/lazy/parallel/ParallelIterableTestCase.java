@@ -852,6 +852,28 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt));
     }
 
+    @Test
+    public void aggregateByWithCombiner()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        assertEquals(
+                this.getExpected().aggregateBy(isOddFunction, () -> 0, (integer11, integer21) -> integer11 + integer21),
+                this.classUnderTest().aggregateBy(isOddFunction, () -> 0, (integer1, integer2) -> integer1 + integer2, Integer::sum));
+    }
+
+    @Test
+    public void aggregateInPlaceByWithCombiner()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Function2<Boolean, AtomicInteger, Pair<Boolean, Integer>> atomicIntToInt = (argument1, argument2) -> Tuples.pair(argument1, argument2.get());
+
+        assertEquals(
+                this.getExpected().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt),
+                this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet, (total, each) -> total.addAndGet(each.get())).collect(atomicIntToInt));
+    }
+
     @Test
     public void sumOfInt()
     {
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ForkJoinParallelListIterableTest extends ParallelListIterableTestCase
+{
+    @Override
+    @BeforeEach
+    public void setUp()
+    {
+        super.setUp();
+        this.executorService.shutdownNow();
+        this.executorService = new ForkJoinPool(10);
+    }
+
+    @Override
+    protected ParallelListIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected ParallelListIterable<Integer> newWith(Integer... littleElements)
+    {
+        return FastList.newListWith(littleElements).asParallel(this.executorService, this.batchSize);
+    }
+
+    @Test
+    public void skewedPipeline()
+    {
+        MutableList<Integer> list = Interval.oneTo(1000).toList();
+        ParallelListIterable<String> parallel = list.asParallel(this.executorService, 1)
+                .select(each -> each % 100 != 0 || ForkJoinParallelListIterableTest.sleep())
+                .collect(String::valueOf);
+        assertEquals(list.collect(String::valueOf), parallel.toList());
+        assertEquals(Integer.valueOf(700), list.asParallel(this.executorService, 1).detect(Predicates.greaterThan(699)));
+    }
+
+    @Test
+    public void splitsSingleBatch()
+    {
+        MutableList<Integer> list = Interval.oneTo(320).toList();
+        MutableSet<Thread> threads = Sets.mutable.<Thread>empty().asSynchronized();
+        MutableList<Integer> result = list.asParallel(this.executorService, list.size())
+                .select(each -> threads.add(Thread.currentThread()) | ForkJoinParallelListIterableTest.sleep())
+                .toList();
+        assertEquals(list, result);
+        assertTrue(threads.size() > 1, threads::toString);
+    }
+
+    @Test
+    public void invokedFromWorkerOfSamePool() throws InterruptedException, ExecutionException
+    {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try
+        {
+            MutableList<Integer> list = Interval.oneTo(100).toList();
+            assertEquals(list, pool.submit(() -> list.asParallel(pool, 10).collect(each -> each).toList()).get());
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    private static boolean sleep()
+    {
+        try
+        {
+            Thread.sleep(10L);
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
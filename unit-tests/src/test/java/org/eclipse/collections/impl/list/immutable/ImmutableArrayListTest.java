@@ -99,6 +99,24 @@ public class ImmutableArrayListTest extends AbstractImmutableListTestCase
         assertEquals(FastList.newListWith(20), largeWithoutAll3);
     }
 
+    @Test
+    public void newWithIndexValue()
+    {
+        ImmutableList<Integer> list = this.newList(1, 2, 3);
+        assertEquals(FastList.newListWith(1, 4, 3), list.newWithIndexValue(1, 4));
+        assertEquals(FastList.newListWith(1, 2, 3), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.newWithIndexValue(3, 4));
+    }
+
+    @Test
+    public void newWithoutIndex()
+    {
+        ImmutableList<Integer> list = this.newList(1, 2, 3);
+        assertEquals(FastList.newListWith(1, 3), list.newWithoutIndex(1));
+        assertEquals(FastList.newListWith(1, 2, 3), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.newWithoutIndex(3));
+    }
+
     private ImmutableArrayList<Integer> newList(Integer... elements)
     {
         return ImmutableArrayList.newListWith(elements);
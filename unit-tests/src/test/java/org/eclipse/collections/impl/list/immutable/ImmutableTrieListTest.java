@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    private static final int LARGE_SIZE = 50_000;
+
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableTrieList.newListWith(1, 2, 3);
+    }
+
+    private static ImmutableList<Integer> newLargeList()
+    {
+        return ImmutableTrieList.newList(Interval.zeroTo(LARGE_SIZE - 1));
+    }
+
+    @Test
+    public void factory()
+    {
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.oneTo(100));
+        assertInstanceOf(ImmutableTrieList.class, list);
+        assertEquals(Interval.oneTo(100), list);
+        assertSame(list, Lists.immutable.withAllPersistent(list));
+        assertEquals(Lists.immutable.empty(), Lists.immutable.withAllPersistent(Lists.mutable.empty()));
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 1_000; i++)
+        {
+            ImmutableList<Integer> with = list.newWith(i);
+            assertEquals(i, list.size());
+            list = with;
+            expected.add(i);
+        }
+        assertEquals(expected, list);
+        assertInstanceOf(ImmutableTrieList.class, list);
+    }
+
+    @Test
+    public void newWithIndexValue()
+    {
+        ImmutableList<Integer> list = ImmutableTrieListTest.newLargeList();
+        ImmutableList<Integer> first = list.newWithIndexValue(0, -1);
+        ImmutableList<Integer> middle = list.newWithIndexValue(LARGE_SIZE / 2, -1);
+        ImmutableList<Integer> last = list.newWithIndexValue(LARGE_SIZE - 1, -1);
+
+        assertEquals(Interval.zeroTo(LARGE_SIZE - 1), list);
+        assertEquals(Integer.valueOf(-1), first.get(0));
+        assertEquals(Integer.valueOf(-1), middle.get(LARGE_SIZE / 2));
+        assertEquals(Integer.valueOf(-1), last.get(LARGE_SIZE - 1));
+        assertEquals(Integer.valueOf(LARGE_SIZE / 2 + 1), middle.get(LARGE_SIZE / 2 + 1));
+        Verify.assertSize(LARGE_SIZE, middle);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.newWithIndexValue(LARGE_SIZE, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.newWithIndexValue(-1, 0));
+    }
+
+    @Test
+    public void newWithoutIndex()
+    {
+        ImmutableList<Integer> list = ImmutableTrieListTest.newLargeList();
+        MutableList<Integer> expected = Interval.zeroTo(LARGE_SIZE - 1).toList();
+        ImmutableList<Integer> result = list;
+        for (int i = 0; i < 2_000; i++)
+        {
+            int index = (i * 7_919) % expected.size();
+            result = result.newWithoutIndex(index);
+            expected.remove(index);
+        }
+        assertEquals(expected, result);
+        assertEquals(Interval.zeroTo(LARGE_SIZE - 1), list);
+
+        ImmutableList<Integer> emptied = ImmutableTrieList.newListWith(1, 2, 3);
+        emptied = emptied.newWithoutIndex(1).newWithoutIndex(1).newWithoutIndex(0);
+        Verify.assertEmpty(emptied);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.newWithoutIndex(LARGE_SIZE));
+    }
+
+    @Test
+    public void newWithOut()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith(1, 2, 3, 4);
+        assertEquals(FastList.newListWith(1, 2, 3), list.newWithout(4));
+        assertEquals(FastList.newListWith(2, 3, 4), list.newWithout(1));
+        assertSame(list, list.newWithout(5));
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableList<Integer> list = ImmutableTrieListTest.newLargeList();
+        ImmutableList<Integer> small = ImmutableTrieList.newListWith(-1, -2, -3);
+
+        MutableList<Integer> expected = Interval.zeroTo(LARGE_SIZE - 1).toList();
+        expected.addAll(FastList.newListWith(-1, -2, -3));
+        assertEquals(expected, list.newWithAll(small));
+
+        MutableList<Integer> prepended = FastList.newListWith(-1, -2, -3);
+        prepended.addAll(Interval.zeroTo(LARGE_SIZE - 1));
+        assertEquals(prepended, small.newWithAll(list));
+
+        MutableList<Integer> doubled = Interval.zeroTo(LARGE_SIZE - 1).toList();
+        doubled.addAll(Interval.zeroTo(LARGE_SIZE - 1));
+        assertEquals(doubled, list.newWithAll(list));
+        assertEquals(doubled, list.newWithAll(Interval.zeroTo(LARGE_SIZE - 1)));
+
+        assertSame(list, list.newWithAll(Lists.immutable.empty()));
+        assertSame(list, ImmutableTrieList.<Integer>empty().newWithAll(list));
+    }
+
+    @Test
+    public void newWithoutAll()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(20));
+        assertEquals(Interval.fromTo(11, 20), list.newWithoutAll(Interval.oneTo(10)));
+        assertInstanceOf(ImmutableTrieList.class, list.newWithoutAll(Interval.oneTo(10)));
+    }
+
+    @Test
+    public void largeSubList()
+    {
+        ImmutableList<Integer> list = ImmutableTrieListTest.newLargeList().newWith(LARGE_SIZE);
+        ImmutableList<Integer> subList = list.subList(1_000, 40_000);
+        assertEquals(Interval.fromTo(1_000, 39_999), subList);
+        assertEquals(Interval.fromTo(1_500, 1_999), subList.subList(500, 1_000));
+
+        ImmutableList<Integer> with = subList.newWith(-1);
+        assertInstanceOf(ImmutableTrieList.class, with);
+        assertEquals(Integer.valueOf(-1), with.getLast());
+        Verify.assertSize(39_001, with);
+
+        assertEquals(Interval.zeroTo(9_999), list.take(10_000));
+        assertEquals(Interval.fromTo(10_000, LARGE_SIZE), list.drop(10_000));
+        Verify.assertEmpty(list.drop(LARGE_SIZE + 1));
+    }
+
+    @Test
+    public void iterator()
+    {
+        ImmutableList<Integer> list = ImmutableTrieListTest.newLargeList().newWith(LARGE_SIZE);
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i <= LARGE_SIZE; i++)
+        {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        MutableList<Integer> forEachWithIndex = FastList.newList();
+        list.forEachWithIndex((each, index) ->
+        {
+            assertEquals(each, Integer.valueOf(index));
+            forEachWithIndex.add(each);
+        });
+        assertEquals(list, forEachWithIndex);
+    }
+
+    @Test
+    public void randomUpdates()
+    {
+        Random random = new Random(42L);
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(5_000));
+        MutableList<Integer> expected = Interval.oneTo(5_000).toList();
+        for (int i = 0; i < 2_000; i++)
+        {
+            int operation = random.nextInt(5);
+            int value = random.nextInt();
+            if (operation == 0 || expected.isEmpty())
+            {
+                list = list.newWith(value);
+                expected.add(value);
+            }
+            else if (operation == 1)
+            {
+                int index = random.nextInt(expected.size());
+                list = list.newWithoutIndex(index);
+                expected.remove(index);
+            }
+            else if (operation == 2)
+            {
+                int index = random.nextInt(expected.size());
+                list = list.newWithIndexValue(index, value);
+                expected.set(index, value);
+            }
+            else if (operation == 3)
+            {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(expected.size() - from + 1);
+                list = list.subList(from, to).newWithAll(list.take(from));
+                MutableList<Integer> rotated = FastList.newList(expected.subList(from, to));
+                rotated.addAll(expected.subList(0, from));
+                expected = rotated;
+            }
+            else
+            {
+                ImmutableList<Integer> other = ImmutableTrieList.newList(Interval.oneTo(random.nextInt(100)));
+                list = other.newWithAll(list);
+                MutableList<Integer> concatenated = FastList.newList(other);
+                concatenated.addAll(expected);
+                expected = concatenated;
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableList<Integer> list = ImmutableTrieListTest.newLargeList().newWith(LARGE_SIZE);
+        ImmutableList<Integer> deserialized = SerializeTestHelper.serializeDeserialize(list);
+        assertInstanceOf(ImmutableTrieList.class, deserialized);
+        Verify.assertEqualsAndHashCode(list, deserialized);
+
+        ImmutableList<Integer> subList = list.subList(10, 20);
+        ImmutableList<Integer> deserializedSubList = SerializeTestHelper.serializeDeserialize(subList);
+        assertInstanceOf(ImmutableTrieList.class, deserializedSubList);
+        assertEquals(Interval.fromTo(10, 19), deserializedSubList);
+    }
+
+    @Test
+    public void getOnly()
+    {
+        assertEquals(Integer.valueOf(2), ImmutableTrieList.newListWith(2).getOnly());
+        assertThrows(IllegalStateException.class, () -> ImmutableTrieList.newListWith().getOnly());
+        assertThrows(IllegalStateException.class, () -> this.classUnderTest().getOnly());
+    }
+
+    @Test
+    public void equalsToArrayList()
+    {
+        ImmutableList<Integer> list = ImmutableTrieListTest.newLargeList();
+        assertEquals(ImmutableArrayList.newList(Interval.zeroTo(LARGE_SIZE - 1)), list);
+        assertNotEquals(list.newWithIndexValue(5, -5), list);
+    }
+}
@@ -14,14 +14,18 @@ import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.factory.Bags;
@@ -1235,6 +1239,28 @@ public class FastListTest extends AbstractListTestCase
         assertThrows(NoSuchElementException.class, () -> this.newWith().max());
     }
 
+    @Test
+    public void sortThisByPrimitiveKeysOnLargeList()
+    {
+        FastList<Integer> list = FastList.newList(Interval.zeroTo(4_999));
+        Collections.shuffle(list, new Random(42L));
+
+        assertEquals(
+                FastList.newList(list).sortThis(Comparator.comparingInt((Integer each) -> each % 100 - 50)),
+                FastList.newList(list).sortThisByInt(each -> each % 100 - 50));
+        assertEquals(
+                FastList.newList(list).sortThis(Comparator.comparingLong((Integer each) -> each * -1_000_003L % 97)),
+                FastList.newList(list).sortThisByLong(each -> each * -1_000_003L % 97));
+        FloatFunction<Integer> floatKey = each -> each % 7 == 0 ? Float.NaN : each % 41 == 1 ? 0.0f : (each % 41) * -0.5f;
+        assertEquals(
+                FastList.newList(list).sortThis((left, right) -> Float.compare(floatKey.floatValueOf(left), floatKey.floatValueOf(right))),
+                FastList.newList(list).sortThisByFloat(floatKey));
+        DoubleFunction<Integer> doubleKey = each -> each % 7 == 0 ? Double.NaN : each % 41 == 1 ? 0.0 : (each % 41) * -0.5;
+        assertEquals(
+                FastList.newList(list).sortThis(Comparator.comparingDouble(doubleKey::doubleValueOf)),
+                FastList.newList(list).sortThisByDouble(doubleKey));
+    }
+
     @Test
     public void testNegativeInitialCapacity()
     {
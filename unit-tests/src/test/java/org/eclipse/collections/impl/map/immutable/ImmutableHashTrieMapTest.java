@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieMap}.
+ */
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    private static final int LARGE_SIZE = 20_000;
+
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    private static ImmutableHashTrieMap<Integer, Integer> newLargeMap()
+    {
+        ImmutableHashTrieMap.Builder<Integer, Integer> builder = ImmutableHashTrieMap.builder();
+        Interval.zeroTo(LARGE_SIZE - 1).each(each -> builder.put(each, each));
+        return builder.build();
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void factory()
+    {
+        Map<Integer, String> source = Interval.oneTo(100).toMap(each -> each, Object::toString);
+        ImmutableMap<Integer, String> map = Maps.immutable.withAllPersistent(source);
+        assertInstanceOf(ImmutableHashTrieMap.class, map);
+        assertEquals(source, map);
+        assertSame(map, Maps.immutable.withAllPersistent(map.castToMap()));
+        Verify.assertEmpty(Maps.immutable.withAllPersistent(new HashMap<>()));
+    }
+
+    @Test
+    public void newWithKeyValueIsPersistent()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMapTest.newLargeMap();
+        ImmutableHashTrieMap<Integer, Integer> updated = map.newWithKeyValue(5, -5);
+        ImmutableHashTrieMap<Integer, Integer> added = map.newWithKeyValue(LARGE_SIZE, LARGE_SIZE);
+
+        assertEquals(Integer.valueOf(5), map.get(5));
+        assertEquals(Integer.valueOf(-5), updated.get(5));
+        Verify.assertSize(LARGE_SIZE, updated);
+        Verify.assertSize(LARGE_SIZE + 1, added);
+        assertFalse(map.containsKey(LARGE_SIZE));
+        assertSame(map, map.newWithKeyValue(5, map.get(5)));
+    }
+
+    @Test
+    public void newWithoutKeyIsPersistent()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMapTest.newLargeMap();
+        ImmutableHashTrieMap<Integer, Integer> removed = map;
+        for (int i = 0; i < LARGE_SIZE; i += 2)
+        {
+            removed = removed.newWithoutKey(i);
+        }
+        Verify.assertSize(LARGE_SIZE / 2, removed);
+        Verify.assertSize(LARGE_SIZE, map);
+        assertTrue(removed.keysView().allSatisfy(each -> each % 2 == 1));
+        assertSame(removed, removed.newWithoutKey(0));
+        assertSame(ImmutableHashTrieMap.empty(), ImmutableHashTrieMap.empty().newWithKeyValue(1, 1).newWithoutKey(1));
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        ImmutableHashTrieMap<Object, Integer> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i), i);
+        }
+        map = map.newWithKeyValue(null, -1);
+        Verify.assertSize(101, map);
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+        assertEquals(Integer.valueOf(-1), map.get(null));
+        for (int i = 0; i < 99; i++)
+        {
+            map = map.newWithoutKey(new CollidingKey(i));
+        }
+        assertEquals(ImmutableHashTrieMap.empty().newWithKeyValue(new CollidingKey(99), 99).newWithKeyValue(null, -1), map);
+    }
+
+    @Test
+    public void randomUpdates()
+    {
+        Random random = new Random(42L);
+        ImmutableHashTrieMap<Object, Integer> map = ImmutableHashTrieMap.empty();
+        Map<Object, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++)
+        {
+            int id = random.nextInt(2_000);
+            Object key = id % 3 == 0 ? new CollidingKey(id) : Integer.valueOf(id);
+            if (random.nextInt(3) == 0)
+            {
+                map = map.newWithoutKey(key);
+                expected.remove(key);
+            }
+            else
+            {
+                map = map.newWithKeyValue(key, i);
+                expected.put(key, i);
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        ImmutableHashTrieMap.Builder<Object, Integer> builder = ImmutableHashTrieMap.builder();
+        expected.forEach(builder::put);
+        assertEquals(builder.build(), map);
+        assertEquals(map, builder.build());
+    }
+
+    @Test
+    public void equalsSharedStructure()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMapTest.newLargeMap();
+        ImmutableHashTrieMap<Integer, Integer> same = map.newWithKeyValue(7, -7).newWithKeyValue(7, 7);
+        Verify.assertEqualsAndHashCode(map, same);
+        assertNotEquals(map, map.newWithKeyValue(7, -7));
+        assertNotEquals(map, map.newWithoutKey(7));
+        Verify.assertEqualsAndHashCode(map, UnifiedMap.newMap(map));
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableHashTrieMap.Builder<Integer, String> builder = ImmutableHashTrieMap.builder();
+        builder.put(1, "1").put(2, "2").put(3, "3");
+        ImmutableHashTrieMap<Integer, String> first = builder.build();
+        builder.put(1, "one").put(4, "4").remove(2);
+        ImmutableHashTrieMap<Integer, String> second = builder.build();
+
+        assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3"), first);
+        assertEquals(UnifiedMap.newWithKeysValues(1, "one", 3, "3", 4, "4"), second);
+        assertEquals("3", builder.get(3));
+        assertNull(builder.get(2));
+
+        ImmutableHashTrieMap.Builder<Integer, String> fromMap = first.toBuilder().remove(1).remove(2).remove(3);
+        Verify.assertEmpty(fromMap.build());
+        Verify.assertSize(3, first);
+    }
+
+    @Test
+    public void bulkUpdates()
+    {
+        ImmutableHashTrieMap<Integer, String> map = (ImmutableHashTrieMap<Integer, String>) this.classUnderTest();
+        assertEquals(
+                UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "four", 5, "5"),
+                map.newWithAllKeyValues(Interval.fromTo(4, 5).collect(each -> Tuples.pair(each, each == 4 ? "four" : "5"))));
+        assertEquals(UnifiedMap.newWithKeysValues(1, "1", 4, "4"), map.newWithoutAllKeys(Interval.fromTo(2, 3)));
+        assertEquals(
+                UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4", 5, "5"),
+                map.newWithMap(UnifiedMap.newWithKeysValues(5, "5")));
+        assertInstanceOf(ImmutableHashTrieMap.class, map.newWithoutAllKeys(Interval.fromTo(2, 3)));
+    }
+
+    @Test
+    public void iterator()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMapTest.newLargeMap();
+        Iterator<Integer> iterator = map.iterator();
+        long sum = 0L;
+        while (iterator.hasNext())
+        {
+            sum += iterator.next();
+        }
+        assertEquals((long) LARGE_SIZE * (LARGE_SIZE - 1) / 2, sum);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals(map.keysView().toList(), map.keyValuesView().collect(each -> each.getOne()).toList());
+    }
+
+    @Test
+    public void serializationRoundTrip()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMapTest.newLargeMap();
+        ImmutableMap<Integer, Integer> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        assertInstanceOf(ImmutableHashTrieMap.class, deserialized);
+        Verify.assertEqualsAndHashCode(map, deserialized);
+    }
+
+    private static final class CollidingKey implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value & 3;
+        }
+    }
+}
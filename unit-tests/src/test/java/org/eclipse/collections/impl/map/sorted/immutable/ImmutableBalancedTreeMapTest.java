@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.immutable;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.SortedMaps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ImmutableBalancedTreeMapTest extends ImmutableSortedMapTestCase
+{
+    private static final int LARGE_SIZE = 10_000;
+
+    @Override
+    protected ImmutableSortedMap<Integer, String> classUnderTest()
+    {
+        return ImmutableBalancedTreeMap.newMap(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected ImmutableSortedMap<Integer, String> classUnderTest(Comparator<? super Integer> comparator)
+    {
+        return ImmutableBalancedTreeMap.newMap(SortedMaps.mutable.of(comparator, 1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMap()
+    {
+        return ImmutableBalancedTreeMap.empty();
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeyValue(K key1, V value1)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithKeyValue(key1, value1);
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithKeyValue(key1, value1).newWithKeyValue(key2, value2);
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithAllKeyValueArguments(
+                Tuples.pair(key1, value1),
+                Tuples.pair(key2, value2),
+                Tuples.pair(key3, value3));
+    }
+
+    @Override
+    protected <K, V> MapIterable<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return ImmutableBalancedTreeMap.<K, V>empty().newWithAllKeyValueArguments(
+                Tuples.pair(key1, value1),
+                Tuples.pair(key2, value2),
+                Tuples.pair(key3, value3),
+                Tuples.pair(key4, value4));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    private static ImmutableBalancedTreeMap<Integer, Integer> newLargeMap()
+    {
+        return ImmutableBalancedTreeMap.newMap(Interval.zeroTo(LARGE_SIZE - 1).toSortedMap(each -> each, each -> each));
+    }
+
+    @Override
+    @Test
+    public void testToString()
+    {
+        assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+        assertEquals("{4=4, 3=3, 2=2, 1=1}", this.classUnderTest(Comparators.reverseNaturalOrder()).toString());
+        assertEquals("{}", ImmutableBalancedTreeMap.empty().toString());
+    }
+
+    @Test
+    public void factory()
+    {
+        MutableSortedMap<Integer, String> source = TreeSortedMap.newMap(Comparators.reverseNaturalOrder());
+        Interval.oneTo(100).each(each -> source.put(each, each.toString()));
+        ImmutableSortedMap<Integer, String> map = SortedMaps.immutable.withAllPersistent(source);
+        assertInstanceOf(ImmutableBalancedTreeMap.class, map);
+        assertEquals(source, map);
+        assertSame(source.comparator(), map.comparator());
+        Verify.assertListsEqual(source.keysView().toList(), map.keysView().toList());
+        assertSame(map, SortedMaps.immutable.withAllPersistent(map.castToSortedMap()));
+        assertThrows(NullPointerException.class, () -> ImmutableBalancedTreeMap.newMap(null));
+    }
+
+    @Test
+    public void firstKeyAndLastKey()
+    {
+        assertEquals(Integer.valueOf(1), this.classUnderTest().firstKey());
+        assertEquals(Integer.valueOf(4), this.classUnderTest().castToSortedMap().lastKey());
+        assertEquals(Integer.valueOf(4), this.classUnderTest(Comparators.reverseNaturalOrder()).castToSortedMap().firstKey());
+        assertThrows(NoSuchElementException.class, () -> ImmutableBalancedTreeMap.empty().firstKey());
+        assertThrows(NoSuchElementException.class, () -> ImmutableBalancedTreeMap.empty().lastKey());
+    }
+
+    @Test
+    public void persistentUpdates()
+    {
+        ImmutableBalancedTreeMap<Integer, Integer> map = ImmutableBalancedTreeMapTest.newLargeMap();
+        ImmutableBalancedTreeMap<Integer, Integer> updated = map.newWithKeyValue(5, -5);
+        ImmutableBalancedTreeMap<Integer, Integer> added = map.newWithKeyValue(-1, -1);
+        ImmutableBalancedTreeMap<Integer, Integer> removed = map.newWithoutKey(5);
+
+        assertEquals(Integer.valueOf(5), map.get(5));
+        assertEquals(Integer.valueOf(-5), updated.get(5));
+        Verify.assertSize(LARGE_SIZE, map.castToSortedMap());
+        Verify.assertSize(LARGE_SIZE + 1, added.castToSortedMap());
+        Verify.assertSize(LARGE_SIZE - 1, removed.castToSortedMap());
+        assertEquals(Integer.valueOf(-1), added.firstKey());
+        assertFalse(removed.containsKey(5));
+        assertSame(map, map.newWithKeyValue(5, map.get(5)));
+        assertSame(map, map.newWithoutKey(LARGE_SIZE));
+    }
+
+    @Test
+    public void randomUpdates()
+    {
+        Random random = new Random(42L);
+        ImmutableBalancedTreeMap<Integer, Integer> map = ImmutableBalancedTreeMap.empty(Comparators.reverseNaturalOrder());
+        TreeMap<Integer, Integer> expected = new TreeMap<>(Comparators.reverseNaturalOrder());
+        for (int i = 0; i < 20_000; i++)
+        {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0)
+            {
+                map = map.newWithoutKey(key);
+                expected.remove(key);
+            }
+            else
+            {
+                map = map.newWithKeyValue(key, i);
+                expected.put(key, i);
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        Verify.assertListsEqual(Interval.fromTo(1_999, 0).select(expected::containsKey).toList(), map.keysView().toList());
+        assertEquals(ImmutableBalancedTreeMap.newMap(expected), map);
+    }
+
+    @Test
+    public void headMapTailMapAndSubMap()
+    {
+        ImmutableBalancedTreeMap<Integer, Integer> map = ImmutableBalancedTreeMapTest.newLargeMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>(map.castToSortedMap());
+
+        assertEquals(expected.headMap(2_500), map.headMap(2_500));
+        assertEquals(expected.tailMap(2_500), map.tailMap(2_500));
+        assertEquals(expected.subMap(100, 9_000), map.subMap(100, 9_000));
+        assertEquals(expected.subMap(100, 9_000).headMap(500), map.subMap(100, 9_000).headMap(500));
+        Verify.assertEmpty(map.subMap(5, 5).castToSortedMap());
+        assertSame(map, map.headMap(LARGE_SIZE));
+        assertSame(map, map.tailMap(-1));
+        assertEquals(Integer.valueOf(2_500), map.tailMap(2_500).firstKey());
+        assertEquals(Integer.valueOf(2_499), map.headMap(2_500).lastKey());
+        assertThrows(IllegalArgumentException.class, () -> map.subMap(9_000, 100));
+
+        ImmutableBalancedTreeMap<Integer, Integer> reversed =
+                ImmutableBalancedTreeMap.<Integer, Integer>empty(Comparators.reverseNaturalOrder()).newWithMap(expected);
+        assertEquals(Interval.fromTo(9_999, 7_501).toList(), reversed.headMap(7_500).keysView().toList());
+    }
+
+    @Test
+    public void takeAndDrop()
+    {
+        ImmutableBalancedTreeMap<Integer, Integer> map = ImmutableBalancedTreeMapTest.newLargeMap();
+        Verify.assertListsEqual(Interval.zeroTo(2_999).toList(), map.take(3_000).keysView().toList());
+        Verify.assertListsEqual(Interval.fromTo(3_000, LARGE_SIZE - 1).toList(), map.drop(3_000).keysView().toList());
+        assertEquals(map, map.take(4_000).newWithMap(map.drop(4_000)));
+    }
+
+    @Test
+    public void selectAndReject()
+    {
+        ImmutableBalancedTreeMap<Integer, Integer> map = ImmutableBalancedTreeMapTest.newLargeMap();
+        ImmutableBalancedTreeMap<Integer, Integer> even = map.select((key, value) -> key % 2 == 0);
+        Verify.assertSize(LARGE_SIZE / 2, even.castToSortedMap());
+        assertEquals(even, map.reject((key, value) -> key % 2 == 1));
+        assertSame(map, map.select((key, value) -> true));
+        assertEquals(Integer.valueOf(LARGE_SIZE - 2), even.lastKey());
+    }
+
+    @Test
+    public void equalsWithDifferentShapes()
+    {
+        ImmutableBalancedTreeMap<Integer, Integer> map = ImmutableBalancedTreeMapTest.newLargeMap();
+        ImmutableBalancedTreeMap<Integer, Integer> inserted = ImmutableBalancedTreeMap.empty();
+        for (int i = LARGE_SIZE - 1; i >= 0; i--)
+        {
+            inserted = inserted.newWithKeyValue(i, i);
+        }
+        Verify.assertEqualsAndHashCode(map, inserted);
+        assertNotEquals(map, inserted.newWithKeyValue(0, -1));
+        assertNotEquals(map, inserted.newWithoutKey(0));
+    }
+
+    @Test
+    public void nullKey()
+    {
+        assertThrows(NullPointerException.class, () -> ImmutableBalancedTreeMap.empty().newWithKeyValue(null, 1));
+        ImmutableBalancedTreeMap<Integer, String> nullsFirst = ImmutableBalancedTreeMap.<Integer, String>empty(Comparators.safeNullsLow(Comparators.<Integer>naturalOrder()))
+                .newWithKeyValue(1, "1")
+                .newWithKeyValue(null, "null");
+        assertEquals("null", nullsFirst.get(null));
+        assertNull(nullsFirst.firstKey());
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableBalancedTreeMap<Integer, Integer> map = ImmutableBalancedTreeMapTest.newLargeMap();
+        ImmutableSortedMap<Integer, Integer> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        assertInstanceOf(ImmutableBalancedTreeMap.class, deserialized);
+        Verify.assertEqualsAndHashCode(map, deserialized);
+
+        ImmutableSortedMap<Integer, String> reversed = SerializeTestHelper.serializeDeserialize(this.classUnderTest(Comparators.reverseNaturalOrder()));
+        assertEquals(this.classUnderTest(), reversed);
+        assertEquals(Integer.valueOf(4), reversed.castToSortedMap().firstKey());
+    }
+}
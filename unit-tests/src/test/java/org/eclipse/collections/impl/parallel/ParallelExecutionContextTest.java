@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelExecutionContextTest
+{
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger executions = new AtomicInteger();
+    private final Executor countingExecutor = command ->
+    {
+        this.executions.incrementAndGet();
+        this.executor.execute(command);
+    };
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void defaultTaskCount()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.executor, 3);
+        assertSame(this.executor, context.getExecutor());
+        assertEquals(3, context.getParallelism());
+        assertEquals(ParallelIterate.DEFAULT_MIN_FORK_SIZE, context.getMinForkSize());
+        assertEquals(3 * ParallelIterate.getTaskRatio(), context.getTaskCount(100));
+        assertEquals(100, context.getTaskCount(100 * ParallelIterate.DEFAULT_MIN_FORK_SIZE));
+
+        ParallelExecutionContext smallForks = context.withMinForkSize(10);
+        assertEquals(10, smallForks.getMinForkSize());
+        assertEquals(10, smallForks.getTaskCount(100));
+        assertEquals(8, smallForks.withParallelism(4).getTaskCount(50));
+    }
+
+    @Test
+    public void builtInContextKeepsBatchTaskCount()
+    {
+        ParallelExecutionContext builtIn = ParallelExecutionContext.defaultContext(this.executor);
+        assertEquals(2, builtIn.getTaskCount(Interval.oneTo(100)));
+        assertEquals(5, builtIn.getTaskCount(new ArrayList<>(Interval.oneTo(5 * ParallelIterate.DEFAULT_MIN_FORK_SIZE))));
+        assertEquals(10, builtIn.withMinForkSize(10).getTaskCount(new ArrayList<>(Interval.oneTo(100))));
+        assertEquals(2, builtIn.withExecutor(this.countingExecutor).getTaskCount(new ArrayList<>(Interval.oneTo(100))));
+        UnifiedMap<Integer, Integer> sparse = UnifiedMap.newMap(1000);
+        sparse.put(1, 1);
+        assertEquals(sparse.getBatchCount(10), builtIn.withMinForkSize(10).getTaskCount(sparse.values()));
+        assertTrue(sparse.getBatchCount(10) > 2);
+
+        ParallelExecutionContext custom = ParallelExecutionContext.onExecutor(this.executor, 3);
+        assertEquals(3 * ParallelIterate.getTaskRatio(), custom.getTaskCount(new ArrayList<>(Interval.oneTo(100))));
+        assertEquals(3 * ParallelIterate.getTaskRatio(), builtIn.withParallelism(3).getTaskCount(new ArrayList<>(Interval.oneTo(100))));
+    }
+
+    @Test
+    public void withTaskCount()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.executor, 3).withTaskCount(size -> size / 2);
+        assertEquals(50, context.getTaskCount(100));
+        assertEquals(1, context.getTaskCount(1));
+        assertEquals(50, context.withMinForkSize(5).getTaskCount(100));
+    }
+
+    @Test
+    public void illegalArguments()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.executor, 3);
+        assertThrows(NullPointerException.class, () -> ParallelExecutionContext.onExecutor(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> ParallelExecutionContext.onExecutor(this.executor, 0));
+        assertThrows(IllegalArgumentException.class, () -> context.withMinForkSize(0));
+        assertThrows(NullPointerException.class, () -> context.withTaskCount(null));
+        assertThrows(NullPointerException.class, () -> ParallelIterate.setDefaultContext(null));
+    }
+
+    @Test
+    public void forEachWithContext()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.countingExecutor, 2)
+                .withMinForkSize(10)
+                .withTaskCount(size -> 5);
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEach(Interval.oneTo(100), each -> sum.add(each), context);
+        assertEquals(5050L, sum.sum());
+        assertEquals(5, this.executions.get());
+
+        ParallelIterate.forEach(Interval.oneTo(9), each -> sum.add(each), context);
+        assertEquals(5095L, sum.sum());
+        assertEquals(5, this.executions.get());
+    }
+
+    @Test
+    public void forEachWithIndexWithContext()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.countingExecutor, 2)
+                .withMinForkSize(10)
+                .withTaskCount(size -> 4);
+        Map<Integer, Integer> indexes = new ConcurrentHashMap<>();
+        ParallelIterate.forEachWithIndex(Interval.oneTo(100).toList(), (each, index) -> indexes.put(index, each), context);
+        Verify.assertSize(100, indexes);
+        assertEquals(Integer.valueOf(100), indexes.get(99));
+        assertEquals(4, this.executions.get());
+    }
+
+    @Test
+    public void forEachKeyValueWithContext()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.countingExecutor, 2)
+                .withMinForkSize(10)
+                .withTaskCount(size -> 3);
+        MutableMap<Integer, Integer> map = Interval.oneTo(50).toMap(each -> each, each -> each * 2);
+        Map<Integer, Integer> copy = new ConcurrentHashMap<>();
+        ParallelMapIterate.forEachKeyValue(map, copy::put, context);
+        Verify.assertMapsEqual(map, copy);
+        assertEquals(3, this.executions.get());
+    }
+
+    @Test
+    public void defaultContextIsHonored()
+    {
+        ParallelExecutionContext original = ParallelIterate.getDefaultContext();
+        try
+        {
+            ParallelIterate.setDefaultContext(ParallelExecutionContext.onExecutor(this.countingExecutor, 2)
+                    .withMinForkSize(10)
+                    .withTaskCount(size -> 4));
+            MutableList<Integer> list = Interval.oneTo(100).toList();
+
+            Collection<Integer> evens = ParallelIterate.select(list, each -> each % 2 == 0);
+            assertEquals(Interval.evensFromTo(2, 100), evens);
+            assertEquals(4, this.executions.get());
+
+            assertEquals(50, ParallelIterate.count(list, Predicates.greaterThan(50)));
+            assertEquals(8, this.executions.get());
+
+            assertEquals(list.collect(String::valueOf), ParallelIterate.collect(list, String::valueOf));
+            assertEquals(12, this.executions.get());
+
+            assertEquals(2, ParallelIterate.groupBy(list, each -> each % 2).sizeDistinct());
+            assertEquals(16, this.executions.get());
+
+            ParallelIterate.forEach(list, Procedures.noop());
+            assertEquals(20, this.executions.get());
+
+            ParallelArrayIterate.forEach(list.toArray(new Integer[0]), new PassThruProcedureFactory<>(Procedures.noop()), new PassThruCombiner<>());
+            assertEquals(24, this.executions.get());
+        }
+        finally
+        {
+            ParallelIterate.setDefaultContext(original);
+        }
+        assertSame(original, ParallelIterate.getDefaultContext());
+    }
+
+    @Test
+    public void forMeasuredCost()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.executor, 2).withAdaptiveSizing();
+        assertTrue(context.isAdaptive());
+        assertFalse(ParallelExecutionContext.onExecutor(this.executor, 2).isAdaptive());
+
+        ParallelExecutionContext cheap = context.forMeasuredCost(1_000, 10L);
+        assertFalse(cheap.isAdaptive());
+        assertEquals(1_001, cheap.getMinForkSize());
+
+        ParallelExecutionContext expensive = context.forMeasuredCost(1_000, 1_000_000L);
+        assertEquals(context.getTaskCount(1_000), expensive.getTaskCount(1_000));
+        assertEquals(1_000 / context.getTaskCount(1_000), expensive.getMinForkSize());
+
+        ParallelExecutionContext moderate = context.withTaskCount(size -> 50).forMeasuredCost(1_000, 1_000L);
+        assertEquals(1_000 / 100, moderate.getMinForkSize());
+        assertEquals(10, moderate.getTaskCount(1_000));
+    }
+
+    @Test
+    public void adaptiveForEach()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.countingExecutor, 2)
+                .withTaskCount(size -> 4)
+                .withAdaptiveSizing();
+        LongAdder sum = new LongAdder();
+        ParallelIterate.forEach(Interval.oneTo(50), each -> sum.add(each), context);
+        assertEquals(1275L, sum.sum());
+        assertEquals(0, this.executions.get());
+
+        LongAdder slowSum = new LongAdder();
+        ParallelIterate.forEach(Interval.oneTo(100).toSet(), each ->
+        {
+            ParallelExecutionContextTest.sleep();
+            slowSum.add(each);
+        }, context);
+        assertEquals(5050L, slowSum.sum());
+        assertEquals(4, this.executions.get());
+    }
+
+    @Test
+    public void adaptiveSelectAndCollect()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.countingExecutor, 2)
+                .withTaskCount(size -> 4)
+                .withAdaptiveSizing();
+        MutableList<Integer> list = Interval.oneTo(50).toList();
+        assertEquals(Interval.evensFromTo(2, 50), ParallelIterate.select(list, each -> each % 2 == 0, context));
+        assertEquals(list.collect(String::valueOf), ParallelIterate.collect(list, String::valueOf, context));
+        assertEquals(0, this.executions.get());
+
+        assertEquals(list.collect(String::valueOf), ParallelIterate.collect(list, each ->
+        {
+            ParallelExecutionContextTest.sleep();
+            return String.valueOf(each);
+        }, context));
+        assertEquals(4, this.executions.get());
+    }
+
+    @Test
+    public void adaptiveSizingEvaluatesEachElementOnce()
+    {
+        ParallelExecutionContext context = ParallelExecutionContext.onExecutor(this.countingExecutor, 2)
+                .withTaskCount(size -> 4)
+                .withAdaptiveSizing();
+        AtomicInteger calls = new AtomicInteger();
+        MutableList<Integer> list = Interval.oneTo(100).toList();
+        assertEquals(list.collect(String::valueOf), ParallelIterate.collect(list, each ->
+        {
+            calls.incrementAndGet();
+            ParallelExecutionContextTest.sleep();
+            return String.valueOf(each);
+        }, context));
+        assertEquals(100, calls.get());
+        assertEquals(4, this.executions.get());
+
+        calls.set(0);
+        assertEquals(Interval.evensFromTo(2, 100), ParallelIterate.select(new LinkedList<>(list), each ->
+        {
+            calls.incrementAndGet();
+            ParallelExecutionContextTest.sleep();
+            return each % 2 == 0;
+        }, context));
+        assertEquals(100, calls.get());
+        assertEquals(8, this.executions.get());
+    }
+
+    private static void sleep()
+    {
+        try
+        {
+            Thread.sleep(1L);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void virtualThreadPerTask()
+    {
+        if (Runtime.version().feature() < 21)
+        {
+            assertThrows(UnsupportedOperationException.class, ParallelExecutionContext::virtualThreadPerTask);
+            return;
+        }
+        ParallelExecutionContext context = ParallelExecutionContext.virtualThreadPerTask();
+        assertSame(context, ParallelExecutionContext.virtualThreadPerTask());
+        assertEquals(2, context.getMinForkSize());
+        assertEquals(100, context.getTaskCount(100));
+        assertEquals(ParallelExecutionContext.DEFAULT_VIRTUAL_THREAD_TASK_LIMIT, context.getTaskCount(1_000_000));
+
+        Map<Thread, Boolean> threads = new ConcurrentHashMap<>();
+        ParallelIterate.forEach(Interval.oneTo(100), each -> threads.put(Thread.currentThread(), Boolean.TRUE), context);
+        assertTrue(threads.size() > 1);
+    }
+}
@@ -16,8 +16,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,10 +34,12 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntLongMaps;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.IntLongMap;
 import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
 import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.multimap.Multimap;
@@ -55,6 +59,7 @@ import org.eclipse.collections.impl.list.mutable.ListAdapter;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
+import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 import org.eclipse.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
@@ -546,6 +551,55 @@ public class ParallelIterateTest
         assertEquals(20000, aggregation.get("Odd").intValue());
     }
 
+    @Test
+    public void groupByWithoutTargetReturnsSynchronizedPutMultimap()
+    {
+        Interval interval = Interval.oneTo(20000);
+        Verify.assertInstanceOf(SynchronizedPutFastListMultimap.class, ParallelIterate.groupBy(interval, i -> i % 3));
+        Verify.assertInstanceOf(SynchronizedPutFastListMultimap.class, ParallelIterate.groupBy(interval, i -> i % 3, 100));
+        Verify.assertInstanceOf(
+                SynchronizedPutFastListMultimap.class,
+                ParallelIterate.groupBy(interval, i -> i % 3, 100, this.executor));
+    }
+
+    @Test
+    public void groupByWithContext()
+    {
+        ParallelExecutionContext context = ParallelIterate.getDefaultContext().withMinForkSize(100);
+        Interval interval = Interval.oneTo(20000);
+        assertEquals(interval.groupBy(i -> i % 5000), ParallelIterate.groupBy(interval, i -> i % 5000, context));
+        assertEquals(interval.groupBy(i -> i % 3), ParallelIterate.groupBy(interval, i -> i % 3, context));
+        assertTrue(ParallelIterate.groupBy(Lists.mutable.<Integer>empty(), String::valueOf, context).isEmpty());
+    }
+
+    @Test
+    public void aggregateByWithCombiner()
+    {
+        ParallelExecutionContext context = ParallelIterate.getDefaultContext().withMinForkSize(100);
+        Interval interval = Interval.oneTo(20000);
+        MutableMap<Integer, Integer> aggregation =
+                ParallelIterate.aggregateBy(interval, i -> i % 5000, () -> 0, Integer::sum, Integer::sum, context);
+        assertEquals(interval.aggregateBy(i -> i % 5000, () -> 0, Integer::sum), aggregation);
+        assertTrue(ParallelIterate.aggregateBy(Lists.mutable.<Integer>empty(), i -> i, () -> 0, Integer::sum, Integer::sum, context).isEmpty());
+    }
+
+    @Test
+    public void aggregateInPlaceByWithCombiner()
+    {
+        ParallelExecutionContext context = ParallelIterate.getDefaultContext().withMinForkSize(100);
+        Interval interval = Interval.oneTo(20000);
+        MutableMap<Integer, AtomicInteger> aggregation = ParallelIterate.aggregateInPlaceBy(
+                interval,
+                i -> i % 5000,
+                AtomicInteger::new,
+                AtomicInteger::addAndGet,
+                (total, each) -> total.addAndGet(each.get()),
+                context);
+        assertEquals(
+                interval.aggregateBy(i -> i % 5000, () -> 0, Integer::sum),
+                aggregation.collectValues((key, value) -> value.get()));
+    }
+
     @Test
     public void sumByDouble()
     {
@@ -690,6 +744,101 @@ public class ParallelIterateTest
         assertEquals(6.0, smallSumByCount.get("Odd"), 0.0);
     }
 
+    @Test
+    public void countBy()
+    {
+        Interval interval = Interval.oneTo(100000);
+        ObjectLongMap<String> countByEvenOrOdd = ParallelIterate.countBy(interval, EVEN_OR_ODD);
+        assertEquals(50000L, countByEvenOrOdd.get("Even"));
+        assertEquals(50000L, countByEvenOrOdd.get("Odd"));
+        ObjectLongMap<Integer> countByMod7 = ParallelIterate.countBy(interval, i -> i % 7);
+        Bag<Integer> expected = interval.countBy(i -> i % 7);
+        Verify.assertSize(7, countByMod7);
+        countByMod7.forEachKeyValue((key, count) -> assertEquals(expected.occurrencesOf(key), count));
+        ObjectLongMap<String> smallCountBy = ParallelIterate.countBy(Interval.oneTo(11), EVEN_OR_ODD);
+        assertEquals(5L, smallCountBy.get("Even"));
+        assertEquals(6L, smallCountBy.get("Odd"));
+    }
+
+    @Test
+    public void minAndMaxByLong()
+    {
+        Interval interval = Interval.oneTo(100000);
+        ObjectLongMap<Integer> minByMod1000 = ParallelIterate.minByLong(interval, i -> i % 1000, Integer::longValue);
+        ObjectLongMap<Integer> maxByMod1000 = ParallelIterate.maxByLong(interval, i -> i % 1000, Integer::longValue);
+        Verify.assertSize(1000, minByMod1000);
+        Verify.assertSize(1000, maxByMod1000);
+        for (int key = 0; key < 1000; key++)
+        {
+            assertEquals(key == 0 ? 1000L : key, minByMod1000.get(key));
+            assertEquals(99000L + (key == 0 ? 1000L : key), maxByMod1000.get(key));
+        }
+        ObjectLongMap<String> maxOfNegated = ParallelIterate.maxByLong(interval, EVEN_OR_ODD, i -> -i);
+        assertEquals(-2L, maxOfNegated.get("Even"));
+        assertEquals(-1L, maxOfNegated.get("Odd"));
+        ObjectLongMap<String> minOfMaxValue = ParallelIterate.minByLong(Interval.oneTo(11), EVEN_OR_ODD, i -> Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, minOfMaxValue.get("Even"));
+        assertTrue(minOfMaxValue.containsKey("Odd"));
+    }
+
+    @Test
+    public void minAndMaxByDouble()
+    {
+        Interval interval = Interval.oneTo(100000);
+        ObjectDoubleMap<String> minByEvenOrOdd = ParallelIterate.minByDouble(interval, EVEN_OR_ODD, i -> i / 2.0);
+        ObjectDoubleMap<String> maxByEvenOrOdd = ParallelIterate.maxByDouble(interval, EVEN_OR_ODD, i -> i / 2.0);
+        assertEquals(1.0, minByEvenOrOdd.get("Even"), 0.0);
+        assertEquals(0.5, minByEvenOrOdd.get("Odd"), 0.0);
+        assertEquals(50000.0, maxByEvenOrOdd.get("Even"), 0.0);
+        assertEquals(49999.5, maxByEvenOrOdd.get("Odd"), 0.0);
+        ObjectDoubleMap<Integer> minByMod1000 = ParallelIterate.minByDouble(interval, i -> i % 1000, Integer::doubleValue);
+        Verify.assertSize(1000, minByMod1000);
+        assertEquals(1000.0, minByMod1000.get(0), 0.0);
+        assertEquals(999.0, minByMod1000.get(999), 0.0);
+    }
+
+    @Test
+    public void summarizeByLongAndDouble()
+    {
+        Interval interval = Interval.oneTo(100000);
+        MutableMap<Integer, LongSummaryStatistics> longStatistics = ParallelIterate.summarizeByLong(interval, i -> i % 1000, Integer::longValue);
+        ObjectLongMap<Integer> sums = interval.sumByLong(i -> i % 1000, Integer::longValue);
+        Verify.assertSize(1000, longStatistics);
+        longStatistics.forEachKeyValue((key, statistics) ->
+        {
+            assertEquals(100L, statistics.getCount());
+            assertEquals(sums.get(key), statistics.getSum());
+            assertEquals(key == 0 ? 1000L : key, statistics.getMin());
+            assertEquals(99000L + (key == 0 ? 1000L : key), statistics.getMax());
+        });
+
+        MutableMap<String, DoubleSummaryStatistics> doubleStatistics = ParallelIterate.summarizeByDouble(interval, EVEN_OR_ODD, Integer::doubleValue);
+        DoubleSummaryStatistics even = doubleStatistics.get("Even");
+        assertEquals(50000L, even.getCount());
+        assertEquals(interval.sumByDouble(EVEN_OR_ODD, Integer::doubleValue).get("Even"), even.getSum(), 0.0);
+        assertEquals(2.0, even.getMin(), 0.0);
+        assertEquals(100000.0, even.getMax(), 0.0);
+        assertEquals(50000.0, doubleStatistics.get("Odd").getAverage(), 0.0);
+    }
+
+    @Test
+    public void sumAndCountByIntKey()
+    {
+        Interval interval = Interval.oneTo(100000);
+        IntLongMap sumByMod1000 = ParallelIterate.sumByIntKey(interval, i -> i % 1000, Integer::longValue);
+        ObjectLongMap<Integer> expectedSums = interval.sumByLong(i -> i % 1000, Integer::longValue);
+        Verify.assertSize(1000, sumByMod1000);
+        expectedSums.forEachKeyValue((key, sum) -> assertEquals(sum, sumByMod1000.get(key)));
+
+        IntLongMap countByMod7 = ParallelIterate.countByIntKey(interval, i -> i % 7);
+        Bag<Integer> expectedCounts = interval.countBy(i -> i % 7);
+        Verify.assertSize(7, countByMod7);
+        countByMod7.forEachKeyValue((key, count) -> assertEquals(expectedCounts.occurrencesOf(key), count));
+        assertEquals(
+                IntLongMaps.mutable.with(0, 5L, 1, 6L),
+                ParallelIterate.countByIntKey(Interval.oneTo(11), i -> i % 2));
+    }
+
     @Test
     public void sumByBigDecimal()
     {
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    private static final int LARGE_SIZE = 20_000;
+
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableHashTrieSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableHashTrieSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void factory()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.withAllPersistent(Interval.oneTo(100));
+        assertInstanceOf(ImmutableHashTrieSet.class, set);
+        assertEquals(UnifiedSet.newSet(Interval.oneTo(100)), set);
+        assertSame(set, Sets.immutable.withAllPersistent(set));
+        Verify.assertEmpty(Sets.immutable.withAllPersistent(UnifiedSet.newSet()));
+    }
+
+    @Test
+    public void persistentUpdates()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSet(Interval.zeroTo(LARGE_SIZE - 1));
+        ImmutableSet<Integer> with = set.newWith(LARGE_SIZE);
+        ImmutableSet<Integer> without = set.newWithout(0);
+
+        Verify.assertSize(LARGE_SIZE, set);
+        Verify.assertSize(LARGE_SIZE + 1, with);
+        Verify.assertSize(LARGE_SIZE - 1, without);
+        assertFalse(set.contains(LARGE_SIZE));
+        assertTrue(set.contains(0));
+        assertFalse(without.contains(0));
+        assertInstanceOf(ImmutableHashTrieSet.class, with);
+        assertInstanceOf(ImmutableHashTrieSet.class, without);
+        assertSame(set, set.newWithAll(Interval.oneTo(10)));
+        assertSame(set, set.newWithoutAll(Interval.fromTo(LARGE_SIZE, LARGE_SIZE + 10)));
+    }
+
+    @Test
+    public void equalsSharedStructure()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSet(Interval.zeroTo(LARGE_SIZE - 1));
+        ImmutableSet<Integer> same = set.newWithout(7).newWith(7);
+        Verify.assertEqualsAndHashCode(set, same);
+        Verify.assertEqualsAndHashCode(set, UnifiedSet.newSet(set));
+        Verify.assertEqualsAndHashCode(UnifiedSet.newSet(set), set);
+        assertNotEquals(set, set.newWithout(7));
+        assertNotEquals(set, set.newWith(-7));
+    }
+
+    @Test
+    public void nullElement()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSetWith(1, null, 3);
+        Verify.assertSize(3, set);
+        assertTrue(set.contains(null));
+        MutableSet<Integer> expected = UnifiedSet.newSetWith(1, null, 3);
+        assertEquals(expected, set);
+        assertEquals(UnifiedSet.newSetWith(1, 3), set.newWithout(null));
+    }
+
+    @Test
+    public void largeSerialization()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSet(Interval.zeroTo(LARGE_SIZE - 1));
+        ImmutableSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        assertInstanceOf(ImmutableHashTrieSet.class, deserialized);
+        Verify.assertEqualsAndHashCode(set, deserialized);
+    }
+}
@@ -25,6 +25,7 @@ import org.eclipse.collections.api.tuple.primitive.BooleanBooleanPair;
 import org.eclipse.collections.impl.bag.mutable.primitive.BooleanHashBag;
 import org.eclipse.collections.impl.block.factory.primitive.BooleanPredicates;
 import org.eclipse.collections.impl.collection.mutable.primitive.AbstractMutableBooleanCollectionTestCase;
+import org.eclipse.collections.impl.factory.primitive.BooleanSets;
 import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
 import org.eclipse.collections.impl.math.MutableInteger;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
@@ -971,6 +972,26 @@ public abstract class AbstractBooleanSetTestCase extends AbstractMutableBooleanC
         assertEquals(this.emptySet, actual6);
     }
 
+    @Test
+    public void intersectCount()
+    {
+        assertEquals(0, this.newWith(true).intersectCount(this.newWith(false)));
+        assertEquals(1, this.newWith(true).intersectCount(this.newWith(true, false)));
+        assertEquals(2, this.setWithTrueFalse.intersectCount(this.newWith(true, false)));
+        assertEquals(0, this.emptySet.intersectCount(this.setWithTrueFalse));
+        assertEquals(1, this.setWithTrueFalse.intersectCount(BooleanSets.immutable.with(false)));
+    }
+
+    @Test
+    public void setAlgebraWithOtherSetTypes()
+    {
+        assertEquals(this.setWithTrueFalse, this.newWith(true).union(BooleanSets.immutable.with(false)));
+        assertEquals(this.setWithFalse, this.setWithTrueFalse.intersect(BooleanSets.immutable.with(false)));
+        assertEquals(this.setWithTrue, this.setWithTrueFalse.difference(BooleanSets.immutable.with(false)));
+        assertEquals(this.setWithTrue, this.newWith(false).symmetricDifference(BooleanSets.immutable.with(true, false)));
+        assertEquals(this.emptySet, this.emptySet.intersect(BooleanSets.immutable.with(true, false)));
+    }
+
     @Test
     public void isSubsetOf()
     {
@@ -553,6 +553,57 @@ public abstract class AbstractByteSetTestCase extends AbstractMutableByteCollect
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void intersectCount()
+    {
+        assertEquals(1, this.newWith((byte) 1, (byte) 2, (byte) 3).intersectCount(this.newWith((byte) 3, (byte) 4, (byte) 5)));
+        assertEquals(3, this.newWith((byte) 1, (byte) 2, (byte) 3).intersectCount(this.newWith((byte) 1, (byte) 2, (byte) 3)));
+        assertEquals(0, this.newWith().intersectCount(this.newWith((byte) 3, (byte) 4, (byte) 5)));
+        assertEquals(2, this.newWith((byte) -128, (byte) -1, (byte) 0, (byte) 127).intersectCount(ByteSets.immutable.with((byte) -128, (byte) 127, (byte) 1)));
+    }
+
+    @Test
+    public void setAlgebraAcrossAllValues()
+    {
+        ByteArrayList evenValues = new ByteArrayList();
+        ByteArrayList multiplesOfThreeValues = new ByteArrayList();
+        for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++)
+        {
+            if (i % 2 == 0)
+            {
+                evenValues.add((byte) i);
+            }
+            if (i % 3 == 0)
+            {
+                multiplesOfThreeValues.add((byte) i);
+            }
+        }
+        MutableByteSet evens = this.newWith(evenValues.toArray());
+        MutableByteSet multiplesOfThree = this.newWith(multiplesOfThreeValues.toArray());
+        Verify.assertSize(128, evens);
+        Verify.assertSize(85, multiplesOfThree);
+
+        MutableByteSet intersection = evens.intersect(multiplesOfThree);
+        Verify.assertSize(43, intersection);
+        assertTrue(intersection.allSatisfy(each -> each % 6 == 0));
+        assertEquals(intersection, evens.intersect(ByteSets.immutable.withAll(multiplesOfThree)));
+        assertEquals(43, evens.intersectCount(multiplesOfThree));
+        assertEquals(43, evens.intersectCount(ByteSets.immutable.withAll(multiplesOfThree)));
+
+        MutableByteSet union = evens.union(multiplesOfThree);
+        Verify.assertSize(170, union);
+        assertEquals(union, evens.union(ByteSets.immutable.withAll(multiplesOfThree)));
+
+        MutableByteSet difference = evens.difference(multiplesOfThree);
+        Verify.assertSize(85, difference);
+        assertTrue(difference.noneSatisfy(each -> each % 3 == 0));
+        assertEquals(difference, evens.difference(ByteSets.immutable.withAll(multiplesOfThree)));
+
+        MutableByteSet symmetricDifference = evens.symmetricDifference(multiplesOfThree);
+        Verify.assertSize(127, symmetricDifference);
+        assertEquals(symmetricDifference, evens.symmetricDifference(ByteSets.immutable.withAll(multiplesOfThree)));
+    }
+
     @Test
     public void isSubsetOf()
     {
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link RoaringIntSet}.
+ */
+public class RoaringIntSetTest extends AbstractIntSetTestCase
+{
+    @Override
+    protected final RoaringIntSet classUnderTest()
+    {
+        return RoaringIntSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected RoaringIntSet newWith(int... elements)
+    {
+        return RoaringIntSet.newSetWith(elements);
+    }
+
+    @Test
+    public void iteratesInAscendingOrder()
+    {
+        RoaringIntSet set = this.newWith(65536, -1, 31, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, -65537);
+        int[] expected = {Integer.MIN_VALUE, -65537, -1, 0, 31, 65536, Integer.MAX_VALUE};
+        assertArrayEquals(expected, set.toArray());
+        assertEquals(IntArrayList.newListWith(expected), set.toList());
+        assertEquals(Integer.MIN_VALUE, set.min());
+        assertEquals(Integer.MAX_VALUE, set.max());
+    }
+
+    @Test
+    public void denseContainers()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        IntHashSet expected = new IntHashSet();
+        for (int i = 0; i < 200_000; i += 3)
+        {
+            assertTrue(set.add(i));
+            expected.add(i);
+        }
+        assertFalse(set.add(3));
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertTrue(set.getSizeInBytes() < expected.size() * 4L);
+
+        for (int i = 0; i < 200_000; i += 6)
+        {
+            assertTrue(set.remove(i));
+            expected.remove(i);
+        }
+        assertFalse(set.remove(0));
+        assertEquals(expected, set);
+        assertEquals(3, set.min());
+        assertEquals(199_995, set.max());
+    }
+
+    @Test
+    public void addRange()
+    {
+        RoaringIntSet set = new RoaringIntSet().addRange(-70_000, 70_000);
+        Verify.assertSize(140_001, set);
+        assertTrue(set.contains(-70_000));
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(70_000));
+        assertFalse(set.contains(70_001));
+        assertTrue(set.getSizeInBytes() < 256);
+
+        set.remove(0);
+        set.add(100_000);
+        Verify.assertSize(140_001, set);
+        assertFalse(set.contains(0));
+        assertTrue(set.contains(1));
+        assertEquals(100_000, set.max());
+
+        set.addRange(-5, 5);
+        assertTrue(set.contains(0));
+        assertThrows(IllegalArgumentException.class, () -> set.addRange(1, 0));
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 0; i < 100_000; i++)
+        {
+            set.add(i);
+        }
+        long bitmapSize = set.getSizeInBytes();
+        assertTrue(set.runOptimize());
+        assertTrue(set.getSizeInBytes() < bitmapSize);
+        assertFalse(set.runOptimize());
+        Verify.assertSize(100_000, set);
+        assertTrue(set.contains(99_999));
+        assertEquals(RoaringIntSet.newSet(set), set);
+    }
+
+    @Test
+    public void setAlgebraAgainstHashSet()
+    {
+        Random random = new Random(42L);
+        RoaringIntSet left = new RoaringIntSet().addRange(1_000, 9_000);
+        RoaringIntSet right = new RoaringIntSet();
+        IntHashSet leftHash = IntHashSet.newSet(left);
+        IntHashSet rightHash = new IntHashSet();
+        for (int i = 0; i < 20_000; i++)
+        {
+            int value = random.nextInt(300_000) - 100_000;
+            left.add(value);
+            leftHash.add(value);
+            value = random.nextInt(20_000);
+            right.add(value);
+            rightHash.add(value);
+        }
+
+        assertEquals(leftHash.union(rightHash), left.union(right));
+        assertEquals(leftHash.intersect(rightHash), left.intersect(right));
+        assertEquals(leftHash.difference(rightHash), left.difference(right));
+        assertEquals(leftHash.symmetricDifference(rightHash), left.symmetricDifference(right));
+
+        assertEquals(leftHash.union(rightHash), left.union(rightHash));
+        assertEquals(leftHash.intersect(rightHash), left.intersect(rightHash));
+        assertEquals(leftHash.difference(rightHash), left.difference(rightHash));
+        assertEquals(leftHash.symmetricDifference(rightHash), left.symmetricDifference(rightHash));
+
+        RoaringIntSet retained = RoaringIntSet.newSet(left);
+        assertTrue(retained.retainAll(right));
+        assertEquals(leftHash.intersect(rightHash), retained);
+        RoaringIntSet removed = RoaringIntSet.newSet(left);
+        assertTrue(removed.removeAll(right));
+        assertEquals(leftHash.difference(rightHash), removed);
+        RoaringIntSet added = RoaringIntSet.newSet(left);
+        assertTrue(added.addAll(right));
+        assertEquals(leftHash.union(rightHash), added);
+        assertEquals(leftHash, left);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossContainers()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 0; i < 300_000; i += 7)
+        {
+            set.add(i);
+        }
+        int size = set.size();
+        MutableIntIterator iterator = set.intIterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 != 0)
+            {
+                iterator.remove();
+            }
+            count++;
+        }
+        assertEquals(size, count);
+        assertTrue(set.allSatisfy(each -> each % 14 == 0));
+        assertEquals((size + 1) / 2, set.size());
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    public void toImmutable()
+    {
+        RoaringIntSet set = new RoaringIntSet().addRange(0, 100_000);
+        ImmutableIntSet immutable = set.toImmutable();
+        set.clear();
+        Verify.assertSize(100_001, immutable);
+        assertEquals(new RoaringIntSet().addRange(0, 100_000), immutable);
+        assertEquals(100_002, immutable.newWith(-1).size());
+        assertEquals(100_001, immutable.size());
+        assertEquals(IntHashSet.newSetWith(5, 6), immutable.intersect(IntHashSet.newSetWith(-1, 5, 6)));
+        Verify.assertPostSerializedEqualsAndHashCode(immutable);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.immutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.factory.SortedSets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.CharArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.FloatArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ImmutableBalancedTreeSetTest
+        extends AbstractImmutableSortedSetTestCase
+{
+    @Override
+    protected ImmutableSortedSet<Integer> classUnderTest()
+    {
+        return ImmutableBalancedTreeSet.newSetWith(1, 2, 3, 4);
+    }
+
+    @Override
+    protected ImmutableSortedSet<Integer> classUnderTest(Comparator<? super Integer> comparator)
+    {
+        return ImmutableBalancedTreeSet.newSetWith(comparator, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void factory()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAllPersistent(Interval.oneTo(100));
+        Verify.assertInstanceOf(ImmutableBalancedTreeSet.class, set);
+        assertEquals(TreeSortedSet.newSet(Interval.oneTo(100)), set);
+        assertSame(set, SortedSets.immutable.withAllPersistent(set));
+
+        ImmutableSortedSet<Integer> reversed = SortedSets.immutable.withAllPersistent(Comparators.reverseNaturalOrder(), Interval.oneTo(100));
+        assertEquals(Interval.fromToBy(100, 1, -1), reversed.toList());
+        assertEquals(Integer.valueOf(100), reversed.first());
+    }
+
+    @Test
+    public void persistentUpdates()
+    {
+        Random random = new Random(42L);
+        TreeSet<Integer> expected = new TreeSet<>();
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAllPersistent(Collections.emptyList());
+        for (int i = 0; i < 5_000; i++)
+        {
+            Integer element = random.nextInt(1_000);
+            ImmutableSortedSet<Integer> previous = set;
+            TreeSet<Integer> previousExpected = new TreeSet<>(expected);
+            if (random.nextBoolean())
+            {
+                expected.add(element);
+                set = set.newWith(element);
+            }
+            else
+            {
+                expected.remove(element);
+                set = set.newWithout(element);
+            }
+            assertEquals(previousExpected, previous);
+        }
+        assertEquals(expected, set);
+        assertEquals(expected.first(), set.first());
+        assertEquals(expected.last(), set.last());
+    }
+
+    @Test
+    public void serialization()
+    {
+        Verify.assertPostSerializedEqualsAndHashCode(this.classUnderTest());
+        Verify.assertPostSerializedEqualsAndHashCode(this.classUnderTest(Comparators.reverseNaturalOrder()));
+    }
+
+    @Override
+    @Test
+    public void subSet()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAllPersistent(Interval.oneTo(10));
+        assertEquals(TreeSortedSet.newSetWith(3, 4, 5, 6), set.castToSortedSet().subSet(3, 7));
+        Verify.assertEmpty(set.castToSortedSet().subSet(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> set.castToSortedSet().subSet(7, 3));
+    }
+
+    @Override
+    @Test
+    public void headSet()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAllPersistent(Interval.oneTo(10));
+        assertEquals(TreeSortedSet.newSetWith(1, 2, 3), set.castToSortedSet().headSet(4));
+        Verify.assertEmpty(set.castToSortedSet().headSet(1));
+    }
+
+    @Override
+    @Test
+    public void tailSet()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAllPersistent(Interval.oneTo(10));
+        assertEquals(TreeSortedSet.newSetWith(8, 9, 10), set.castToSortedSet().tailSet(8));
+        assertEquals(set, set.castToSortedSet().tailSet(1));
+    }
+
+    @Test
+    public void compareTo()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAllPersistent(Interval.oneTo(3));
+        assertEquals(0, set.compareTo(set));
+        assertEquals(-1, set.compareTo(SortedSets.immutable.of(1, 2, 3, 4)));
+        assertEquals(1, set.compareTo(SortedSets.immutable.of(1, 2)));
+        assertEquals(-1, set.compareTo(SortedSets.immutable.of(1, 2, 4)));
+    }
+
+    @Override
+    @Test
+    public void collectBoolean()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(BooleanArrayList.newListWith(true, true, true, true), integers.collectBoolean(PrimitiveFunctions.integerIsPositive()));
+    }
+
+    @Override
+    @Test
+    public void collectByte()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(ByteArrayList.newListWith((byte) 4, (byte) 3, (byte) 2, (byte) 1), integers.collectByte(PrimitiveFunctions.unboxIntegerToByte()));
+    }
+
+    @Override
+    @Test
+    public void collectChar()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(CharArrayList.newListWith('D', 'C', 'B', 'A'), integers.collectChar(integer -> (char) (integer.intValue() + 64)));
+    }
+
+    @Override
+    @Test
+    public void collectDouble()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(DoubleArrayList.newListWith(4.0d, 3.0d, 2.0d, 1.0d), integers.collectDouble(PrimitiveFunctions.unboxIntegerToDouble()));
+    }
+
+    @Override
+    @Test
+    public void collectFloat()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(FloatArrayList.newListWith(4.0f, 3.0f, 2.0f, 1.0f), integers.collectFloat(PrimitiveFunctions.unboxIntegerToFloat()));
+    }
+
+    @Override
+    @Test
+    public void collectInt()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(IntArrayList.newListWith(4, 3, 2, 1), integers.collectInt(PrimitiveFunctions.unboxIntegerToInt()));
+    }
+
+    @Override
+    @Test
+    public void collectLong()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(LongArrayList.newListWith(4, 3, 2, 1), integers.collectLong(PrimitiveFunctions.unboxIntegerToLong()));
+    }
+
+    @Override
+    @Test
+    public void collectShort()
+    {
+        ImmutableSortedSet<Integer> integers = this.classUnderTest(Collections.reverseOrder());
+        assertEquals(ShortArrayList.newListWith((short) 4, (short) 3, (short) 2, (short) 1), integers.collectShort(PrimitiveFunctions.unboxIntegerToShort()));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.sketch;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sketches;
+import org.eclipse.collections.api.sketch.CardinalitySketch;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HyperLogLogTest
+{
+    @Test
+    public void estimate()
+    {
+        assertEquals(0L, new HyperLogLog().estimate());
+
+        HyperLogLog small = new HyperLogLog();
+        small.add("one");
+        small.add("two");
+        small.add("two");
+        small.add(null);
+        assertEquals(3L, small.estimate());
+
+        for (int size : new int[]{1_000, 40_000, 1_000_000})
+        {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < size; i++)
+            {
+                sketch.add("key" + i);
+                sketch.add("key" + i / 2);
+            }
+            assertWithinError(size, sketch.estimate(), 0.03);
+        }
+    }
+
+    @Test
+    public void hashCodeCollisions()
+    {
+        // Every one of these longs has a hash code of zero
+        HyperLogLog longs = new HyperLogLog();
+        Interval.oneTo(10_000).each(each -> longs.add((long) each << 32 | each));
+        assertWithinError(10_000, longs.estimate(), 0.03);
+
+        // "Aa" and "BB" have the same hash code, and so do all strings made of them
+        HyperLogLog strings = new HyperLogLog();
+        Interval.zeroTo((1 << 12) - 1).each(each ->
+        {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 12; bit++)
+            {
+                builder.append((each & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            strings.add(builder.toString());
+        });
+        assertWithinError(1 << 12, strings.estimate(), 0.03);
+    }
+
+    @Test
+    public void precision()
+    {
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.MIN_PRECISION);
+        assertEquals(4, sketch.getPrecision());
+        Interval.oneTo(10_000).each(sketch::add);
+        assertWithinError(10_000, sketch.estimate(), 0.5);
+
+        assertEquals(HyperLogLog.DEFAULT_PRECISION, new HyperLogLog().getPrecision());
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MIN_PRECISION - 1));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MAX_PRECISION + 1));
+    }
+
+    @Test
+    public void merge()
+    {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        Interval.oneTo(60_000).each(left::add);
+        Interval.fromTo(30_001, 100_000).each(right::add);
+        assertWithinError(100_000, left.merge(right).estimate(), 0.03);
+
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new HyperLogLog(12)));
+    }
+
+    @Test
+    public void factory()
+    {
+        CardinalitySketch sketch = Sketches.cardinality.empty();
+        assertEquals(HyperLogLog.DEFAULT_PRECISION, ((HyperLogLog) sketch).getPrecision());
+        assertEquals(10, ((HyperLogLog) Sketches.cardinality.withPrecision(10)).getPrecision());
+        Interval.oneTo(1_000).each(sketch::add);
+        assertWithinError(1_000, sketch.merge(Sketches.cardinality.empty()).estimate(), 0.03);
+    }
+
+    @Test
+    public void approximateDistinct()
+    {
+        assertWithinError(50_000, Interval.oneTo(100_000).collect(each -> each % 50_000).approximateDistinct(), 0.03);
+        assertWithinError(50_000, Interval.oneTo(100_000).asLazy().collect(each -> each % 50_000).approximateDistinct(), 0.03);
+        assertEquals(0L, Lists.mutable.empty().approximateDistinct());
+    }
+
+    private static void assertWithinError(long expected, long actual, double error)
+    {
+        assertTrue(Math.abs(actual - expected) <= expected * error, () -> "Expected " + expected + " +/- " + error * 100 + "% but was " + actual);
+    }
+}
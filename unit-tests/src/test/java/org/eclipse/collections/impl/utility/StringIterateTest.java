@@ -35,6 +35,8 @@ import org.eclipse.collections.impl.factory.primitive.CharSets;
 import org.eclipse.collections.impl.factory.primitive.IntSets;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.list.mutable.primitive.CharArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.string.immutable.CharAdapter;
 import org.eclipse.collections.impl.string.immutable.CodePointAdapter;
@@ -735,6 +737,67 @@ public class StringIterateTest
         assertEquals("123", StringIterate.injectIntoTokens("1,2,3", ",", null, AddFunction.STRING));
     }
 
+    @Test
+    public void forEachTokenRange()
+    {
+        String tokens = ",ab,,c d,";
+        MutableList<String> list = Lists.mutable.empty();
+        StringIterate.forEachTokenRange(tokens, ", ", (offset, length) -> list.add(tokens.substring(offset, offset + length)));
+        assertEquals(Lists.mutable.with("ab", "c", "d"), list);
+        assertEquals(StringIterate.tokensToList(tokens, ", "), list);
+        StringIterate.forEachTokenRange("", ",", (offset, length) -> fail());
+        StringIterate.forEachTokenRange(",,", ",", (offset, length) -> fail());
+    }
+
+    @Test
+    public void forEachTokenView()
+    {
+        StringBuilder tokens = new StringBuilder("one,two,,three");
+        MutableList<String> list = Lists.mutable.empty();
+        MutableList<CharSequence> views = Lists.mutable.empty();
+        StringIterate.forEachTokenView(tokens, ",", each ->
+        {
+            views.add(each);
+            list.add(each.toString());
+            assertEquals(each.toString().charAt(1), each.charAt(1));
+            assertEquals(each.toString().substring(1), each.subSequence(1, each.length()).toString());
+            assertThrows(StringIndexOutOfBoundsException.class, () -> each.charAt(each.length()));
+            assertThrows(StringIndexOutOfBoundsException.class, () -> each.subSequence(0, each.length() + 1));
+        });
+        assertEquals(Lists.mutable.with("one", "two", "three"), list);
+        assertSame(views.getFirst(), views.getLast());
+    }
+
+    @Test
+    public void forEachIntToken()
+    {
+        IntArrayList list = new IntArrayList();
+        StringIterate.forEachIntToken(new StringBuilder("1,-2, +3,,2147483647"), ", ", list::add);
+        assertEquals(IntArrayList.newListWith(1, -2, 3, Integer.MAX_VALUE), list);
+        assertThrows(NumberFormatException.class, () -> StringIterate.forEachIntToken("1,a", ",", each -> { }));
+        assertThrows(NumberFormatException.class, () -> StringIterate.forEachIntToken("2147483648", ",", each -> { }));
+    }
+
+    @Test
+    public void forEachLongToken()
+    {
+        LongArrayList list = new LongArrayList();
+        StringIterate.forEachLongToken("1|-9223372036854775808", "|", list::add);
+        assertEquals(LongArrayList.newListWith(1L, Long.MIN_VALUE), list);
+        assertThrows(NumberFormatException.class, () -> StringIterate.forEachLongToken("1.5", ",", each -> { }));
+    }
+
+    @Test
+    public void collectLongTokens()
+    {
+        assertEquals(LongArrayList.newListWith(1L, 22L, 333L), StringIterate.collectLongTokens("1,22,333", ","));
+        assertEquals(new LongArrayList(), StringIterate.collectLongTokens("", ","));
+
+        LongArrayList target = LongArrayList.newListWith(0L);
+        assertSame(target, StringIterate.collectLongTokens(new StringBuilder("4\t5"), "\t", target));
+        assertEquals(LongArrayList.newListWith(0L, 4L, 5L), target);
+    }
+
     @Test
     public void getLastToken()
     {
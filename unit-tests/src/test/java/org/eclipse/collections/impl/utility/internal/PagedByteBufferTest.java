@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PagedByteBufferTest
+{
+    private static final long BYTE_SIZE = 64L << 20;
+
+    private static long directMemoryUsed()
+    {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)
+                .stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    @Test
+    public void putAndGet()
+    {
+        try (PagedByteBuffer buffer = PagedByteBuffer.allocateDirect(64L))
+        {
+            buffer.putLong(0L, Long.MIN_VALUE);
+            buffer.putInt(8L, 42);
+            buffer.putDouble(16L, 1.5);
+            assertEquals(Long.MIN_VALUE, buffer.getLong(0L));
+            assertEquals(42, buffer.getInt(8L));
+            assertEquals(1.5, buffer.getDouble(16L));
+            assertEquals(0L, buffer.getLong(24L));
+        }
+    }
+
+    @Test
+    public void closeReleasesMemory()
+    {
+        long before = PagedByteBufferTest.directMemoryUsed();
+        PagedByteBuffer buffer = PagedByteBuffer.allocateDirect(BYTE_SIZE);
+        assertTrue(PagedByteBufferTest.directMemoryUsed() - before >= BYTE_SIZE);
+
+        buffer.close();
+        assertTrue(PagedByteBufferTest.directMemoryUsed() - before < BYTE_SIZE);
+        assertTrue(buffer.isClosed());
+    }
+
+    @Test
+    public void accessAfterCloseThrows()
+    {
+        PagedByteBuffer buffer = PagedByteBuffer.allocateDirect(16L);
+        assertFalse(buffer.isClosed());
+        buffer.close();
+        buffer.close();
+        assertThrows(IllegalStateException.class, () -> buffer.getLong(0L));
+        assertThrows(IllegalStateException.class, () -> buffer.putLong(0L, 1L));
+        assertThrows(IllegalStateException.class, buffer::copyToDirect);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal.primitive;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares every public method against the scalar loops. The build runs this test a second time with
+ * {@code --add-modules jdk.incubator.vector} on Java 17 and above, setting the {@code vectorized} system property, so
+ * that the vectorized kernels are compared as well.
+ */
+public class PrimitiveArrayIterateTest
+{
+    private static final int[] SIZES = {1, 2, 7, 63, 64, 65, 127, 128, 129, 1000, 1003};
+
+    private final Random random = new Random(42L);
+
+    @Test
+    public void vectorizedWhenRequested()
+    {
+        if (Boolean.getBoolean("vectorized"))
+        {
+            assertTrue(PrimitiveArrayIterate.isVectorized());
+        }
+    }
+
+    @Test
+    public void intArrays()
+    {
+        for (int size : SIZES)
+        {
+            int[] items = this.random.ints(size + 3).toArray();
+            int[] other = this.random.ints(size + 3).toArray();
+            assertEquals(PrimitiveArrayIterate.scalarSum(items, size), PrimitiveArrayIterate.sum(items, size));
+            assertEquals(PrimitiveArrayIterate.scalarMin(items, size), PrimitiveArrayIterate.min(items, size));
+            assertEquals(PrimitiveArrayIterate.scalarMax(items, size), PrimitiveArrayIterate.max(items, size));
+            assertEquals(
+                    PrimitiveArrayIterate.scalarDotProduct(items, other, size),
+                    PrimitiveArrayIterate.dotProduct(items, other, size));
+            for (int index : new int[]{0, size / 2, size - 1})
+            {
+                assertEquals(index, PrimitiveArrayIterate.indexOf(items, size, items[index]));
+            }
+            assertEquals(-1, PrimitiveArrayIterate.indexOf(items, size, items[size + 1]));
+        }
+    }
+
+    @Test
+    public void longArrays()
+    {
+        for (int size : SIZES)
+        {
+            long[] items = this.random.longs(size + 3).toArray();
+            long[] other = this.random.longs(size + 3).toArray();
+            assertEquals(PrimitiveArrayIterate.scalarSum(items, size), PrimitiveArrayIterate.sum(items, size));
+            assertEquals(PrimitiveArrayIterate.scalarMin(items, size), PrimitiveArrayIterate.min(items, size));
+            assertEquals(PrimitiveArrayIterate.scalarMax(items, size), PrimitiveArrayIterate.max(items, size));
+            assertEquals(
+                    PrimitiveArrayIterate.scalarDotProduct(items, other, size),
+                    PrimitiveArrayIterate.dotProduct(items, other, size));
+            for (int index : new int[]{0, size / 2, size - 1})
+            {
+                assertEquals(index, PrimitiveArrayIterate.indexOf(items, size, items[index]));
+            }
+            assertEquals(-1, PrimitiveArrayIterate.indexOf(items, size, items[size + 1]));
+        }
+    }
+
+    @Test
+    public void doubleArrays()
+    {
+        for (int size : SIZES)
+        {
+            double[] items = this.random.doubles(size + 3, -1000.0, 1000.0).toArray();
+            double[] other = this.random.doubles(size + 3, -1000.0, 1000.0).toArray();
+            // The vectorized sums add the elements in a different order, so each addition may round differently
+            assertEquals(
+                    PrimitiveArrayIterate.scalarSum(items, size),
+                    PrimitiveArrayIterate.sum(items, size),
+                    Math.ulp(1000.0 * size) * size);
+            assertEquals(
+                    PrimitiveArrayIterate.scalarDotProduct(items, other, size),
+                    PrimitiveArrayIterate.dotProduct(items, other, size),
+                    Math.ulp(1000000.0 * size) * size);
+            assertEquals(PrimitiveArrayIterate.scalarMin(items, size), PrimitiveArrayIterate.min(items, size));
+            assertEquals(PrimitiveArrayIterate.scalarMax(items, size), PrimitiveArrayIterate.max(items, size));
+            for (int index : new int[]{0, size / 2, size - 1})
+            {
+                assertEquals(index, PrimitiveArrayIterate.indexOf(items, size, items[index]));
+            }
+            assertEquals(-1, PrimitiveArrayIterate.indexOf(items, size, items[size + 1]));
+        }
+    }
+
+    @Test
+    public void doubleSpecialValues()
+    {
+        for (int size : SIZES)
+        {
+            double[] items = this.random.doubles(size, 1.0, 2.0).toArray();
+            items[size / 2] = -0.0;
+            assertEquals(PrimitiveArrayIterate.scalarMin(items, size), PrimitiveArrayIterate.min(items, size));
+            assertEquals(size / 2, PrimitiveArrayIterate.indexOf(items, size, -0.0));
+            assertEquals(PrimitiveArrayIterate.scalarIndexOf(items, size, 0.0), PrimitiveArrayIterate.indexOf(items, size, 0.0));
+
+            items[size - 1] = Double.NaN;
+            assertEquals(PrimitiveArrayIterate.scalarMin(items, size), PrimitiveArrayIterate.min(items, size));
+            assertEquals(PrimitiveArrayIterate.scalarMax(items, size), PrimitiveArrayIterate.max(items, size));
+            assertEquals(size - 1, PrimitiveArrayIterate.indexOf(items, size, Double.NaN));
+        }
+    }
+}